@@ -8,6 +8,8 @@
 
 package org.opendaylight.openflowplugin.applications.lldpspeaker;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
@@ -32,17 +34,28 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Objects of this class send LLDP frames over all flow-capable ports that can
- * be discovered through inventory.
+ * be discovered through inventory. Each flood period is divided into
+ * {@link #FLOOD_SLOTS} slots and every port is assigned to one of them by hash
+ * of its identifier, so that frames are spread uniformly across the period
+ * instead of being sent in a single burst. Within a slot, frames for the same
+ * switch are sent back to back.
  */
 public class LLDPSpeaker implements AutoCloseable, NodeConnectorEventsObserver, Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(LLDPSpeaker.class);
     private static final long LLDP_FLOOD_PERIOD = 5;
+    /**
+     * Number of slots each flood period is divided into.
+     */
+    static final int FLOOD_SLOTS = 50;
     private long currentFloodPeriod = LLDP_FLOOD_PERIOD;
 
     private final PacketProcessingService packetProcessingService;
     private final ScheduledExecutorService scheduledExecutorService;
-    private final Map<InstanceIdentifier<NodeConnector>, TransmitPacketInput> nodeConnectorMap = new
-            ConcurrentHashMap<>();
+    // Slot -> switch -> port -> prebuilt packet
+    private final List<Map<InstanceIdentifier<Node>, Map<InstanceIdentifier<NodeConnector>, TransmitPacketInput>>>
+            floodSlots = new ArrayList<>(FLOOD_SLOTS);
+    // Accessed from the speaker task only
+    private int currentSlot;
     private ScheduledFuture<?> scheduledSpeakerTask;
     private final MacAddress addressDestionation;
     private volatile OperStatus operationalStatus = OperStatus.RUN;
@@ -55,7 +68,7 @@ public class LLDPSpeaker implements AutoCloseable, NodeConnectorEventsObserver,
         LOG.info("Setting operational status to {}", operationalStatus);
         this.operationalStatus = operationalStatus;
         if (operationalStatus.equals(OperStatus.STANDBY)) {
-            nodeConnectorMap.clear();
+            floodSlots.forEach(Map::clear);
         }
     }
 
@@ -66,7 +79,7 @@ public class LLDPSpeaker implements AutoCloseable, NodeConnectorEventsObserver,
     public void setLldpFloodInterval(long time) {
         this.currentFloodPeriod = time;
         scheduledSpeakerTask.cancel(false);
-        scheduledSpeakerTask = this.scheduledExecutorService.scheduleAtFixedRate(this, time, time, TimeUnit.SECONDS);
+        scheduledSpeakerTask = scheduleSpeakerTask(time);
         LOG.info("LLDPSpeaker restarted, it will send LLDP frames each {} seconds", time);
     }
 
@@ -78,8 +91,10 @@ public class LLDPSpeaker implements AutoCloseable, NodeConnectorEventsObserver,
                        final ScheduledExecutorService scheduledExecutorService, final MacAddress addressDestionation) {
         this.addressDestionation = addressDestionation;
         this.scheduledExecutorService = scheduledExecutorService;
-        scheduledSpeakerTask = this.scheduledExecutorService.scheduleAtFixedRate(this, LLDP_FLOOD_PERIOD,
-                LLDP_FLOOD_PERIOD, TimeUnit.SECONDS);
+        for (int i = 0; i < FLOOD_SLOTS; i++) {
+            floodSlots.add(new ConcurrentHashMap<>());
+        }
+        scheduledSpeakerTask = scheduleSpeakerTask(LLDP_FLOOD_PERIOD);
         this.packetProcessingService = packetProcessingService;
         LOG.info("LLDPSpeaker started, it will send LLDP frames each {} seconds", LLDP_FLOOD_PERIOD);
     }
@@ -89,23 +104,31 @@ public class LLDPSpeaker implements AutoCloseable, NodeConnectorEventsObserver,
      */
     @Override
     public void close() {
-        nodeConnectorMap.clear();
+        floodSlots.forEach(Map::clear);
         scheduledExecutorService.shutdown();
         scheduledSpeakerTask.cancel(true);
         LOG.trace("LLDPSpeaker stopped sending LLDP frames.");
     }
 
     /**
-     * Send LLDPDU frames to all known openflow switch ports.
+     * Send LLDPDU frames to known openflow switch ports assigned to the next slot. Each port is visited once
+     * per {@link #FLOOD_SLOTS} invocations.
      */
     @Override
     public void run() {
-        if (OperStatus.RUN.equals(operationalStatus)) {
-            LOG.debug("Sending LLDP frames to {} ports...", nodeConnectorMap.keySet().size());
-            for (InstanceIdentifier<NodeConnector> nodeConnectorInstanceId : nodeConnectorMap.keySet()) {
-                NodeConnectorId nodeConnectorId = InstanceIdentifier.keyOf(nodeConnectorInstanceId).getId();
-                LOG.trace("Sending LLDP through port {}", nodeConnectorId.getValue());
-                packetProcessingService.transmitPacket(nodeConnectorMap.get(nodeConnectorInstanceId));
+        final Map<InstanceIdentifier<Node>, Map<InstanceIdentifier<NodeConnector>, TransmitPacketInput>> slot =
+                floodSlots.get(currentSlot);
+        currentSlot = (currentSlot + 1) % FLOOD_SLOTS;
+
+        if (OperStatus.RUN.equals(operationalStatus) && !slot.isEmpty()) {
+            LOG.debug("Sending LLDP frames to ports of {} switches...", slot.size());
+            for (Map<InstanceIdentifier<NodeConnector>, TransmitPacketInput> switchPorts : slot.values()) {
+                for (Map.Entry<InstanceIdentifier<NodeConnector>, TransmitPacketInput> entry
+                        : switchPorts.entrySet()) {
+                    LOG.trace("Sending LLDP through port {}",
+                            InstanceIdentifier.keyOf(entry.getKey()).getId().getValue());
+                    packetProcessingService.transmitPacket(entry.getValue());
+                }
             }
         }
     }
@@ -121,14 +144,16 @@ public class LLDPSpeaker implements AutoCloseable, NodeConnectorEventsObserver,
         // nodeConnectorAdded can be called even if we already sending LLDP
         // frames to
         // port, so first we check if we actually need to perform any action
-        if (nodeConnectorMap.containsKey(nodeConnectorInstanceId)) {
-            LOG.trace("Port {} already in LLDPSpeaker.nodeConnectorMap, no need for additional processing",
+        final InstanceIdentifier<Node> nodeInstanceId = nodeConnectorInstanceId.firstIdentifierOf(Node.class);
+        final Map<InstanceIdentifier<NodeConnector>, TransmitPacketInput> switchPorts =
+                floodSlot(nodeConnectorInstanceId).get(nodeInstanceId);
+        if (switchPorts != null && switchPorts.containsKey(nodeConnectorInstanceId)) {
+            LOG.trace("Port {} already in LLDPSpeaker flood slots, no need for additional processing",
                     nodeConnectorId.getValue());
             return;
         }
 
         // Prepare to build LLDP payload
-        InstanceIdentifier<Node> nodeInstanceId = nodeConnectorInstanceId.firstIdentifierOf(Node.class);
         NodeId nodeId = InstanceIdentifier.keyOf(nodeInstanceId).getId();
         MacAddress srcMacAddress = flowConnector.getHardwareAddress();
         Long outputPortNo = flowConnector.getPortNumber().getUint32();
@@ -145,10 +170,14 @@ public class LLDPSpeaker implements AutoCloseable, NodeConnectorEventsObserver,
                 .setNode(new NodeRef(nodeInstanceId)).setPayload(LLDPUtil.buildLldpFrame(nodeId,
                         nodeConnectorId, srcMacAddress, outputPortNo, addressDestionation)).build();
 
-        // Save packet to node connector id -> packet map to transmit it every 5
-        // seconds
-        nodeConnectorMap.put(nodeConnectorInstanceId, packet);
-        LOG.trace("Port {} added to LLDPSpeaker.nodeConnectorMap", nodeConnectorId.getValue());
+        // Save packet to its flood slot to transmit it once every flood period
+        floodSlot(nodeConnectorInstanceId).compute(nodeInstanceId, (node, ports) -> {
+            final Map<InstanceIdentifier<NodeConnector>, TransmitPacketInput> ret =
+                    ports != null ? ports : new ConcurrentHashMap<>();
+            ret.put(nodeConnectorInstanceId, packet);
+            return ret;
+        });
+        LOG.trace("Port {} added to LLDPSpeaker flood slots", nodeConnectorId.getValue());
 
         // Transmit packet for first time immediately
         packetProcessingService.transmitPacket(packet);
@@ -159,9 +188,23 @@ public class LLDPSpeaker implements AutoCloseable, NodeConnectorEventsObserver,
      */
     @Override
     public void nodeConnectorRemoved(final InstanceIdentifier<NodeConnector> nodeConnectorInstanceId) {
-        nodeConnectorMap.remove(nodeConnectorInstanceId);
+        floodSlot(nodeConnectorInstanceId).computeIfPresent(nodeConnectorInstanceId.firstIdentifierOf(Node.class),
+            (node, ports) -> {
+                ports.remove(nodeConnectorInstanceId);
+                return ports.isEmpty() ? null : ports;
+            });
         NodeConnectorId nodeConnectorId = InstanceIdentifier.keyOf(nodeConnectorInstanceId).getId();
-        LOG.trace("Port {} removed from LLDPSpeaker.nodeConnectorMap", nodeConnectorId.getValue());
+        LOG.trace("Port {} removed from LLDPSpeaker flood slots", nodeConnectorId.getValue());
+    }
+
+    private Map<InstanceIdentifier<Node>, Map<InstanceIdentifier<NodeConnector>, TransmitPacketInput>> floodSlot(
+            final InstanceIdentifier<NodeConnector> nodeConnectorInstanceId) {
+        return floodSlots.get(Math.floorMod(nodeConnectorInstanceId.hashCode(), FLOOD_SLOTS));
+    }
+
+    private ScheduledFuture<?> scheduleSpeakerTask(final long floodPeriod) {
+        final long slotPeriod = Math.max(1, TimeUnit.SECONDS.toMillis(floodPeriod) / FLOOD_SLOTS);
+        return scheduledExecutorService.scheduleAtFixedRate(this, slotPeriod, slotPeriod, TimeUnit.MILLISECONDS);
     }
 
 }
@@ -10,6 +10,7 @@ package org.opendaylight.openflowplugin.applications.lldpspeaker;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -89,7 +90,7 @@ public class LLDPSpeakerTest {
 
         // Execute one iteration of periodic task - LLDP packet should be
         // transmitted second time
-        lldpSpeaker.run();
+        runFloodPeriod();
 
         // Check packet transmission
         verify(packetProcessingService, times(1)).transmitPacket(PACKET_INPUT);
@@ -108,7 +109,7 @@ public class LLDPSpeakerTest {
 
         // Execute one iteration of periodic task - LLDP packet should be
         // transmitted second time
-        lldpSpeaker.run();
+        runFloodPeriod();
 
         // Check packet transmission
         verify(packetProcessingService, times(2)).transmitPacket(PACKET_INPUT);
@@ -128,7 +129,7 @@ public class LLDPSpeakerTest {
         lldpSpeaker.nodeConnectorRemoved(ID);
 
         // Run one iteration of LLDP flood
-        lldpSpeaker.run();
+        runFloodPeriod();
 
         // Verify that LLDP frame sent only once (by nodeConnectorAdded),
         // e.g. no flood after removal
@@ -163,6 +164,33 @@ public class LLDPSpeakerTest {
         verify(scheduledExecutorService, times(1)).shutdown();
     }
 
+    /**
+     * Test that LLDP frames are spread across the flood period, with each port visited once per period.
+     */
+    @Test
+    public void testPacedFlood() {
+        verify(scheduledExecutorService).scheduleAtFixedRate(lldpSpeaker,
+                TimeUnit.SECONDS.toMillis(5) / LLDPSpeaker.FLOOD_SLOTS,
+                TimeUnit.SECONDS.toMillis(5) / LLDPSpeaker.FLOOD_SLOTS, TimeUnit.MILLISECONDS);
+
+        final int ports = 2 * LLDPSpeaker.FLOOD_SLOTS;
+        for (int i = 1; i <= ports; i++) {
+            lldpSpeaker.nodeConnectorAdded(TestUtils.createNodeConnectorId("openflow:1", "openflow:1:" + i),
+                    TestUtils.createFlowCapableNodeConnector(MAC_ADDRESS, (long) i).build());
+        }
+        verify(packetProcessingService, times(ports)).transmitPacket(any(TransmitPacketInput.class));
+
+        // A single slot does not flood all ports at once
+        lldpSpeaker.run();
+        verify(packetProcessingService, atMost(2 * ports - 1)).transmitPacket(any(TransmitPacketInput.class));
+
+        // Full period transmits every port exactly once more
+        for (int i = 1; i < LLDPSpeaker.FLOOD_SLOTS; i++) {
+            lldpSpeaker.run();
+        }
+        verify(packetProcessingService, times(2 * ports)).transmitPacket(any(TransmitPacketInput.class));
+    }
+
     /**
      * Test that checks if LLDPSpeaker working fine with local ports.
      */
@@ -178,4 +206,10 @@ public class LLDPSpeakerTest {
         verify(packetProcessingService, never()).transmitPacket(
                 any(TransmitPacketInput.class));
     }
+
+    private void runFloodPeriod() {
+        for (int i = 0; i < LLDPSpeaker.FLOOD_SLOTS; i++) {
+            lldpSpeaker.run();
+        }
+    }
 }
@@ -8,72 +8,133 @@
 package org.opendaylight.openflowplugin.applications.topology.lldp;
 
 import com.google.common.annotations.VisibleForTesting;
-import java.util.Date;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.opendaylight.controller.sal.binding.api.NotificationProviderService;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.topology.discovery.rev130819.LinkDiscovered;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.topology.discovery.rev130819.LinkRemovedBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-
+/**
+ * Ages out discovered links which were not seen again within link expiration time. Time is divided into ticks
+ * of lldp interval and links are kept in a wheel of buckets, one per tick, so that each tick only visits links
+ * due to expire in it. Refreshing a link only moves its deadline and adds it to the bucket of that deadline;
+ * the stale entry in the older bucket is skipped once its tick comes.
+ */
 public class LLDPLinkAger implements AutoCloseable {
-    private final long linkExpirationTime;
-    private final Map<LinkDiscovered, Date> linkToDate;
+    private static final Logger LOG = LoggerFactory.getLogger(LLDPLinkAger.class);
+
+    private final long expirationTicks;
+    private final Map<LinkDiscovered, Long> linkToDeadline;
+    private final Set<LinkDiscovered>[] wheel;
     private final Timer timer;
     private final NotificationProviderService notificationService;
+    private final AtomicLong agedLinks = new AtomicLong();
+    private volatile long currentTick;
+    private volatile int lastAgedLinks;
 
     /**
      * default ctor - start timer
      */
     public LLDPLinkAger(final long lldpInterval, final long linkExpirationTime,
             final NotificationProviderService notificationService) {
-        this.linkExpirationTime = linkExpirationTime;
         this.notificationService = notificationService;
-        linkToDate = new ConcurrentHashMap<>();
+        // Round up, links must not expire before linkExpirationTime passes
+        expirationTicks = Math.max(1, (linkExpirationTime + lldpInterval - 1) / lldpInterval);
+        linkToDeadline = new ConcurrentHashMap<>();
+        // Deadlines stay within (currentTick, currentTick + expirationTicks + 1], so buckets do not overlap
+        @SuppressWarnings("unchecked")
+        final Set<LinkDiscovered>[] buckets = new Set[(int) expirationTicks + 2];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = ConcurrentHashMap.newKeySet();
+        }
+        wheel = buckets;
         timer = new Timer();
-        timer.schedule(new LLDPAgingTask(), 0, lldpInterval);
+        timer.schedule(new LLDPAgingTask(), lldpInterval, lldpInterval);
     }
 
     public void put(LinkDiscovered link) {
-        Date expires = new Date();
-        expires.setTime(expires.getTime() + linkExpirationTime);
-        linkToDate.put(link, expires);
+        // Link put in the middle of a tick is given the rest of this tick on top of expiration time
+        final long deadline = currentTick + 1 + expirationTicks;
+        if (!Long.valueOf(deadline).equals(linkToDeadline.put(link, deadline))) {
+            bucket(deadline).add(link);
+        }
     }
 
     @Override
     public void close() {
         timer.cancel();
-        linkToDate.clear();
+        linkToDeadline.clear();
+        for (Set<LinkDiscovered> bucket : wheel) {
+            bucket.clear();
+        }
     }
 
-    private class LLDPAgingTask extends TimerTask {
+    /**
+     * Advance to the next tick and remove links which expire in it.
+     */
+    @VisibleForTesting
+    void ageLinks() {
+        final long tick = currentTick + 1;
+        currentTick = tick;
 
-        @Override
-        public void run() {
-            for (Entry<LinkDiscovered,Date> entry : linkToDate.entrySet()) {
-                LinkDiscovered link = entry.getKey();
-                Date expires = entry.getValue();
-                Date now = new Date();
-                if(now.after(expires)) {
-                    if (notificationService != null) {
-                        LinkRemovedBuilder lrb = new LinkRemovedBuilder(link);
-                        notificationService.publish(lrb.build());
-                        linkToDate.remove(link);
-                    }
+        int aged = 0;
+        final Set<LinkDiscovered> bucket = bucket(tick);
+        for (LinkDiscovered link : bucket) {
+            final Long deadline = linkToDeadline.get(link);
+            // Links refreshed since they were put in this bucket are waiting in a later one
+            if (deadline != null && deadline <= tick && linkToDeadline.remove(link, deadline)) {
+                if (notificationService != null) {
+                    LinkRemovedBuilder lrb = new LinkRemovedBuilder(link);
+                    notificationService.publish(lrb.build());
                 }
+                aged++;
             }
+        }
+        bucket.clear();
 
+        lastAgedLinks = aged;
+        if (aged > 0) {
+            agedLinks.addAndGet(aged);
+            LOG.debug("Aged out {} links, {} links remain", aged, linkToDeadline.size());
+        }
+    }
+
+    private Set<LinkDiscovered> bucket(final long tick) {
+        return wheel[(int) (tick % wheel.length)];
+    }
+
+    private class LLDPAgingTask extends TimerTask {
+
+        @Override
+        public void run() {
+            ageLinks();
         }
 
     }
 
     @VisibleForTesting
     public boolean isLinkToDateEmpty() {
-        return linkToDate.isEmpty();
+        return linkToDeadline.isEmpty();
     }
 
-}
+    /**
+     * @return number of links aged out in the last tick
+     */
+    public int getLastAgedLinks() {
+        return lastAgedLinks;
+    }
 
+    /**
+     * @return number of links aged out since start
+     */
+    public long getAgedLinks() {
+        return agedLinks.get();
+    }
+
+}
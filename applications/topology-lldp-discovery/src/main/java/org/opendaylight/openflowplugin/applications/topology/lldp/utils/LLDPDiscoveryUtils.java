@@ -7,23 +7,14 @@
  */
 package org.opendaylight.openflowplugin.applications.topology.lldp.utils;
 
-import com.google.common.hash.HashCode;
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hasher;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.hash.Hashing;
 import java.lang.management.ManagementFactory;
-import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
-import java.util.Objects;
-import org.apache.commons.lang3.ArrayUtils;
-import org.opendaylight.controller.liblldp.BitBufferHelper;
-import org.opendaylight.controller.liblldp.CustomTLVKey;
-import org.opendaylight.controller.liblldp.Ethernet;
-import org.opendaylight.controller.liblldp.LLDP;
 import org.opendaylight.controller.liblldp.LLDPTLV;
-import org.opendaylight.controller.liblldp.NetUtils;
 import org.opendaylight.openflowplugin.applications.topology.lldp.LLDPActivator;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorRef;
@@ -46,6 +37,17 @@ public class LLDPDiscoveryUtils {
     public static final short ETHERNET_TYPE_LLDP = (short) 0x88cc;
     private static final short ETHERNET_TYPE_OFFSET = 12;
     private static final short ETHERNET_VLAN_OFFSET = ETHERNET_TYPE_OFFSET + 4;
+    private static final short ETHERNET_TYPE_LENGTH = 2;
+    private static final int LLDP_TLV_HEADER_LENGTH = 2;
+    private static final int LLDP_TLV_TYPE_END = 0;
+    private static final int LLDP_TLV_TYPE_SYSTEM_NAME = 5;
+    private static final int LLDP_TLV_TYPE_CUSTOM = 127;
+    // OUI followed by subtype
+    private static final int CUSTOM_TLV_VALUE_OFFSET = LLDPTLV.OFOUI.length + 1;
+    private static final int MAX_CACHED_AUTHENTICATORS = 65536;
+    private static final String RUNTIME_NAME = ManagementFactory.getRuntimeMXBean().getName();
+
+    private static volatile AuthenticatorCache authenticatorCache = new AuthenticatorCache(RUNTIME_NAME);
 
     public static String macToString(byte[] mac) {
         StringBuilder b = new StringBuilder();
@@ -66,63 +68,85 @@ public class LLDPDiscoveryUtils {
     }
 
     /**
+     * Scans TLVs of given LLDP frame directly at their byte offsets, picking up system name and custom node
+     * connector TLVs without decoding the frame into liblldp packet objects.
+     *
      * @param payload
      * @param useExtraAuthenticatorCheck make it more secure (CVE-2015-1611 CVE-2015-1612)
      * @return nodeConnectorId - encoded in custom TLV of given lldp
      */
     public static NodeConnectorRef lldpToNodeConnectorRef(byte[] payload, boolean useExtraAuthenticatorCheck)  {
-        NodeConnectorRef nodeConnectorRef = null;
-
-        if (isLLDP(payload)) {
-            Ethernet ethPkt = new Ethernet();
-            try {
-                ethPkt.deserialize(payload, 0, payload.length * NetUtils.NumBitsInAByte);
-            } catch (Exception e) {
-                LOG.warn("Failed to decode LLDP packet {}", e);
-                return nodeConnectorRef;
-            }
-
-            LLDP lldp = (LLDP) ethPkt.getPayload();
+        int offset = lldpOffset(payload);
+        if (offset < 0) {
+            return null;
+        }
 
-            try {
-                NodeId srcNodeId = null;
-                NodeConnectorId srcNodeConnectorId = null;
+        int systemNameOffset = -1;
+        int systemNameLength = 0;
+        int nodeConnectorIdOffset = -1;
+        int nodeConnectorIdLength = 0;
+        int hashOffset = -1;
+        int hashLength = 0;
+
+        while (offset + LLDP_TLV_HEADER_LENGTH <= payload.length) {
+            // 7 bits of type followed by 9 bits of length
+            final int header = (payload[offset] & 0xff) << 8 | payload[offset + 1] & 0xff;
+            final int type = header >>> 9;
+            final int length = header & 0x1ff;
+            final int valueOffset = offset + LLDP_TLV_HEADER_LENGTH;
+            if (type == LLDP_TLV_TYPE_END) {
+                break;
+            }
+            if (valueOffset + length > payload.length) {
+                LOG.debug("Failed to decode LLDP packet, TLV type {} length {} exceeds the packet", type, length);
+                return null;
+            }
 
-                final LLDPTLV systemIdTLV = lldp.getSystemNameId();
-                if (systemIdTLV != null) {
-                    String srcNodeIdString = new String(systemIdTLV.getValue(), Charset.defaultCharset());
-                    srcNodeId = new NodeId(srcNodeIdString);
-                } else {
-                    throw new Exception("Node id wasn't specified via systemNameId in LLDP packet.");
+            if (type == LLDP_TLV_TYPE_SYSTEM_NAME) {
+                systemNameOffset = valueOffset;
+                systemNameLength = length;
+            } else if (type == LLDP_TLV_TYPE_CUSTOM && length >= CUSTOM_TLV_VALUE_OFFSET
+                    && payload[valueOffset] == LLDPTLV.OFOUI[0]
+                    && payload[valueOffset + 1] == LLDPTLV.OFOUI[1]
+                    && payload[valueOffset + 2] == LLDPTLV.OFOUI[2]) {
+                final byte subType = payload[valueOffset + 3];
+                if (subType == LLDPTLV.CUSTOM_TLV_SUB_TYPE_NODE_CONNECTOR_ID[0]) {
+                    nodeConnectorIdOffset = valueOffset + CUSTOM_TLV_VALUE_OFFSET;
+                    nodeConnectorIdLength = length - CUSTOM_TLV_VALUE_OFFSET;
+                } else if (subType == LLDPTLV.CUSTOM_TLV_SUB_TYPE_CUSTOM_SEC[0]) {
+                    hashOffset = valueOffset + CUSTOM_TLV_VALUE_OFFSET;
+                    hashLength = length - CUSTOM_TLV_VALUE_OFFSET;
                 }
+            }
+            offset = valueOffset + length;
+        }
 
-                final LLDPTLV nodeConnectorIdLldptlv = lldp.getCustomTLV(
-                        new CustomTLVKey(BitBufferHelper.getInt(LLDPTLV.OFOUI), LLDPTLV.CUSTOM_TLV_SUB_TYPE_NODE_CONNECTOR_ID[0]));
-                if (nodeConnectorIdLldptlv != null) {
-                    srcNodeConnectorId = new NodeConnectorId(LLDPTLV.getCustomString(
-                            nodeConnectorIdLldptlv.getValue(), nodeConnectorIdLldptlv.getLength()));
-                } else {
-                    throw new Exception("Node connector wasn't specified via Custom TLV in LLDP packet.");
-                }
+        if (systemNameOffset < 0) {
+            LOG.debug("Node id wasn't specified via systemNameId in LLDP packet.");
+            return null;
+        }
+        if (nodeConnectorIdOffset < 0) {
+            LOG.debug("Node connector wasn't specified via Custom TLV in LLDP packet.");
+            return null;
+        }
 
-                if (useExtraAuthenticatorCheck) {
-                    boolean secure = checkExtraAuthenticator(lldp, srcNodeConnectorId);
-                    if (!secure) {
-                        LOG.warn("SECURITY ALERT: there is probably a LLDP spoofing attack in progress.");
-                        throw new Exception("Attack. LLDP packet with inconsistent extra authenticator field was received.");
-                    }
-                }
+        final NodeConnectorId srcNodeConnectorId = new NodeConnectorId(
+                new String(payload, nodeConnectorIdOffset, nodeConnectorIdLength, Charset.defaultCharset()));
 
-                InstanceIdentifier<NodeConnector> srcInstanceId = InstanceIdentifier.builder(Nodes.class)
-                        .child(Node.class, new NodeKey(srcNodeId))
-                        .child(NodeConnector.class, new NodeConnectorKey(srcNodeConnectorId))
-                        .toInstance();
-                nodeConnectorRef = new NodeConnectorRef(srcInstanceId);
-            } catch (Exception e) {
-                LOG.debug("Caught exception while parsing out lldp optional and custom fields: {}", e.getMessage(), e);
-            }
+        if (useExtraAuthenticatorCheck
+                && !checkExtraAuthenticator(payload, hashOffset, hashLength, srcNodeConnectorId)) {
+            LOG.warn("SECURITY ALERT: there is probably a LLDP spoofing attack in progress.");
+            LOG.debug("Attack. LLDP packet with inconsistent extra authenticator field was received.");
+            return null;
         }
-        return nodeConnectorRef;
+
+        final NodeId srcNodeId = new NodeId(
+                new String(payload, systemNameOffset, systemNameLength, Charset.defaultCharset()));
+        InstanceIdentifier<NodeConnector> srcInstanceId = InstanceIdentifier.builder(Nodes.class)
+                .child(Node.class, new NodeKey(srcNodeId))
+                .child(NodeConnector.class, new NodeConnectorKey(srcNodeConnectorId))
+                .build();
+        return new NodeConnectorRef(srcInstanceId);
     }
 
     /**
@@ -131,55 +155,85 @@ public class LLDPDiscoveryUtils {
      * @throws NoSuchAlgorithmException
      */
     public static byte[] getValueForLLDPPacketIntegrityEnsuring(final NodeConnectorId nodeConnectorId) throws NoSuchAlgorithmException {
-        String finalKey;
-        if(LLDPActivator.getLldpSecureKey() !=null && !LLDPActivator.getLldpSecureKey().isEmpty()) {
-            finalKey = LLDPActivator.getLldpSecureKey();
-        } else {
-            finalKey = ManagementFactory.getRuntimeMXBean().getName();
-        }
-        final String pureValue = nodeConnectorId + finalKey;
-
-        final byte[] pureBytes = pureValue.getBytes();
-        HashFunction hashFunction = Hashing.md5();
-        Hasher hasher = hashFunction.newHasher();
-        HashCode hashedValue = hasher.putBytes(pureBytes).hash();
-        return hashedValue.asBytes();
+        return authenticator(nodeConnectorId).clone();
     }
 
     /**
-     * @param lldp
-     * @param srcNodeConnectorId
-     * @throws NoSuchAlgorithmException
+     * Authenticators are cached per node connector, as long as the secure key does not change.
+     *
+     * @param nodeConnectorId
+     * @return cached extra authenticator, must not be modified
      */
-    private static boolean checkExtraAuthenticator(LLDP lldp, NodeConnectorId srcNodeConnectorId) throws NoSuchAlgorithmException {
-        final LLDPTLV hashLldptlv = lldp.getCustomTLV(
-                new CustomTLVKey(BitBufferHelper.getInt(LLDPTLV.OFOUI), LLDPTLV.CUSTOM_TLV_SUB_TYPE_CUSTOM_SEC[0]));
-        boolean secAuthenticatorOk = false;
-        if (hashLldptlv != null) {
-            byte[] rawTlvValue = hashLldptlv.getValue();
-            byte[] lldpCustomSecurityHash = ArrayUtils.subarray(rawTlvValue, 4, rawTlvValue.length);
-            byte[] calculatedHash = getValueForLLDPPacketIntegrityEnsuring(srcNodeConnectorId);
-            secAuthenticatorOk = Arrays.equals(calculatedHash, lldpCustomSecurityHash);
-        } else {
-            LOG.debug("Custom security hint wasn't specified via Custom TLV in LLDP packet.");
+    private static byte[] authenticator(final NodeConnectorId nodeConnectorId) {
+        final String lldpSecureKey = LLDPActivator.getLldpSecureKey();
+        final String finalKey = lldpSecureKey != null && !lldpSecureKey.isEmpty() ? lldpSecureKey : RUNTIME_NAME;
+
+        AuthenticatorCache cache = authenticatorCache;
+        if (!cache.key.equals(finalKey)) {
+            cache = new AuthenticatorCache(finalKey);
+            authenticatorCache = cache;
         }
-
-        return secAuthenticatorOk;
+        return cache.authenticators.getUnchecked(nodeConnectorId);
     }
 
-    private static boolean isLLDP(final byte[] packet) {
-        if (Objects.isNull(packet) || packet.length < MINIMUM_LLDP_SIZE) {
+    private static boolean checkExtraAuthenticator(final byte[] payload, final int hashOffset, final int hashLength,
+                                                   final NodeConnectorId srcNodeConnectorId) {
+        if (hashOffset < 0) {
+            LOG.debug("Custom security hint wasn't specified via Custom TLV in LLDP packet.");
             return false;
         }
 
-        final ByteBuffer bb = ByteBuffer.wrap(packet);
+        final byte[] calculatedHash = authenticator(srcNodeConnectorId);
+        if (calculatedHash.length != hashLength) {
+            return false;
+        }
+        for (int i = 0; i < hashLength; i++) {
+            if (calculatedHash[i] != payload[hashOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        short ethernetType = bb.getShort(ETHERNET_TYPE_OFFSET);
+    /**
+     * @param packet
+     * @return offset of the first LLDP TLV, or -1 if given packet is not LLDP
+     */
+    private static int lldpOffset(final byte[] packet) {
+        if (packet == null || packet.length < MINIMUM_LLDP_SIZE) {
+            return -1;
+        }
+
+        int typeOffset = ETHERNET_TYPE_OFFSET;
+        short ethernetType = getShort(packet, typeOffset);
 
         if (ethernetType == ETHERNET_TYPE_VLAN) {
-            ethernetType = bb.getShort(ETHERNET_VLAN_OFFSET);
+            typeOffset = ETHERNET_VLAN_OFFSET;
+            ethernetType = getShort(packet, typeOffset);
         }
 
-        return (ethernetType == ETHERNET_TYPE_LLDP);
+        return ethernetType == ETHERNET_TYPE_LLDP ? typeOffset + ETHERNET_TYPE_LENGTH : -1;
+    }
+
+    private static short getShort(final byte[] packet, final int offset) {
+        return (short) ((packet[offset] & 0xff) << 8 | packet[offset + 1] & 0xff);
+    }
+
+    private static final class AuthenticatorCache {
+        private final String key;
+        private final LoadingCache<NodeConnectorId, byte[]> authenticators;
+
+        AuthenticatorCache(final String key) {
+            this.key = key;
+            this.authenticators = CacheBuilder.newBuilder()
+                    .maximumSize(MAX_CACHED_AUTHENTICATORS)
+                    .build(new CacheLoader<NodeConnectorId, byte[]>() {
+                        @Override
+                        public byte[] load(final NodeConnectorId nodeConnectorId) {
+                            final String pureValue = nodeConnectorId + key;
+                            return Hashing.md5().newHasher().putBytes(pureValue.getBytes()).hash().asBytes();
+                        }
+                    });
+        }
     }
 }
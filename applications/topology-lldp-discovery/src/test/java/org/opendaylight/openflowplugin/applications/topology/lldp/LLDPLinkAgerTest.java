@@ -8,8 +8,10 @@
 
 package org.opendaylight.openflowplugin.applications.topology.lldp;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.Date;
@@ -83,4 +85,34 @@ public class LLDPLinkAgerTest {
         Thread.sleep(SLEEP);
         verify(notificationService).publish(Matchers.any(LinkRemoved.class));
     }
-}
\ No newline at end of file
+
+    /**
+     * Links are aged out only once their deadline tick comes, refreshing a link postpones it
+     */
+    @Test
+    public void testAgeLinks() {
+        final long hour = 3600000L;
+        final LLDPLinkAger ager = new LLDPLinkAger(hour, 2 * hour, notificationService);
+        try {
+            ager.put(link);
+            ager.ageLinks();
+            ager.ageLinks();
+            ager.put(link);
+            ager.ageLinks();
+            ager.ageLinks();
+            verify(notificationService, never()).publish(Matchers.any(LinkRemoved.class));
+            assertFalse(ager.isLinkToDateEmpty());
+
+            ager.ageLinks();
+            verify(notificationService).publish(Matchers.any(LinkRemoved.class));
+            assertTrue(ager.isLinkToDateEmpty());
+            assertEquals(1, ager.getLastAgedLinks());
+            assertEquals(1, ager.getAgedLinks());
+
+            ager.ageLinks();
+            assertEquals(0, ager.getLastAgedLinks());
+        } finally {
+            ager.close();
+        }
+    }
+}
@@ -8,12 +8,16 @@
 
 package org.opendaylight.openflowplugin.applications.topology.lldp.utils;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 
+import java.util.Arrays;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorRef;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.node.NodeConnector;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.node.NodeConnectorKey;
@@ -30,23 +34,23 @@ public class LLDPDiscoveryUtilsTest {
 
     private static final Logger LOG = LoggerFactory.getLogger(LLDPDiscoveryUtilsTest.class);
 
+    private static final byte[] PACKET_LLDP = {
+            0x01, 0x23, 0x00, 0x00, 0x00, 0x01, (byte) 0x8a, (byte) 0x8e,
+            (byte) 0xcc, (byte) 0x85, (byte) 0xeb, 0x27,
+            /* ethernet type LLDP 0x88cc */(byte) 0x88, (byte) 0xcc,
+            0x02, 0x07, 0x04, 0x00, 0x00, 0x00, 0x00, 0x00, 0x02, 0x04,
+            0x02, 0x07, 0x32, 0x06, 0x02, 0x13, 0x37, 0x0a, 0x0a,
+            /* openflow:2 */0x6f, 0x70, 0x65, 0x6e, 0x66, 0x6c, 0x6f, 0x77, 0x3a, 0x32,
+            (byte) 0xfe, 0x10, 0x00, 0x26, (byte) 0xe1, 0x00,
+            /* openflow:2:2 */0x6f, 0x70, 0x65, 0x6e, 0x66, 0x6c, 0x6f, 0x77, 0x3a, 0x32, 0x3a, 0x32,
+            (byte) 0xfe, 0x14, 0x00, 0x26, (byte) 0xe1, 0x01, 0x62, (byte) 0xc8, 0x2b, 0x67, (byte) 0xce,
+            (byte) 0xbe, 0x7c, 0x2b, 0x47, (byte) 0xbe, 0x2b, (byte) 0xe7, (byte) 0xbc,
+            (byte) 0xe9, 0x75, 0x3d, 0x00, 0x00
+    };
+
     @Test
     public void testLldpToNodeConnectorRefLLDP() throws Exception {
-        byte[] packetLLDP = {
-                0x01, 0x23, 0x00, 0x00, 0x00, 0x01, (byte) 0x8a, (byte) 0x8e,
-                (byte) 0xcc, (byte) 0x85, (byte) 0xeb, 0x27,
-                /* ethernet type LLDP 0x88cc */(byte) 0x88, (byte) 0xcc,
-                0x02, 0x07, 0x04, 0x00, 0x00, 0x00, 0x00, 0x00, 0x02, 0x04,
-                0x02, 0x07, 0x32, 0x06, 0x02, 0x13, 0x37, 0x0a, 0x0a,
-                /* openflow:2 */0x6f, 0x70, 0x65, 0x6e, 0x66, 0x6c, 0x6f, 0x77, 0x3a, 0x32,
-                (byte) 0xfe, 0x10, 0x00, 0x26, (byte) 0xe1, 0x00,
-                /* openflow:2:2 */0x6f, 0x70, 0x65, 0x6e, 0x66, 0x6c, 0x6f, 0x77, 0x3a, 0x32, 0x3a, 0x32,
-                (byte) 0xfe, 0x14, 0x00, 0x26, (byte) 0xe1, 0x01, 0x62, (byte) 0xc8, 0x2b, 0x67, (byte) 0xce,
-                (byte) 0xbe, 0x7c, 0x2b, 0x47, (byte) 0xbe, 0x2b, (byte) 0xe7, (byte) 0xbc,
-                (byte) 0xe9, 0x75, 0x3d, 0x00, 0x00
-        };
-
-        NodeConnectorRef nodeConnectorRef = LLDPDiscoveryUtils.lldpToNodeConnectorRef(packetLLDP, false);
+        NodeConnectorRef nodeConnectorRef = LLDPDiscoveryUtils.lldpToNodeConnectorRef(PACKET_LLDP, false);
 
         NodeKey nodeKey = nodeConnectorRef.getValue().firstKeyOf(Node.class, NodeKey.class);
         NodeConnectorKey nodeConnectorKey = nodeConnectorRef.getValue().firstKeyOf(NodeConnector.class,
@@ -77,4 +81,53 @@ public class LLDPDiscoveryUtilsTest {
 
         assertNull(nodeConnectorRef);
     }
-}
\ No newline at end of file
+    @Test
+    public void testLldpToNodeConnectorRefVlanLLDP() throws Exception {
+        final byte[] packetVlanLLDP = new byte[PACKET_LLDP.length + 4];
+        System.arraycopy(PACKET_LLDP, 0, packetVlanLLDP, 0, 12);
+        /* 802.1Q tag, vlan 1 */
+        packetVlanLLDP[12] = (byte) 0x81;
+        packetVlanLLDP[15] = 0x01;
+        System.arraycopy(PACKET_LLDP, 12, packetVlanLLDP, 16, PACKET_LLDP.length - 12);
+
+        NodeConnectorRef nodeConnectorRef = LLDPDiscoveryUtils.lldpToNodeConnectorRef(packetVlanLLDP, false);
+
+        assertEquals("openflow:2:2", nodeConnectorRef.getValue().firstKeyOf(NodeConnector.class,
+                NodeConnectorKey.class).getId().getValue());
+    }
+
+    @Test
+    public void testLldpToNodeConnectorRefTruncated() throws Exception {
+        final byte[] packetTruncated = Arrays.copyOf(PACKET_LLDP, 70);
+
+        assertNull(LLDPDiscoveryUtils.lldpToNodeConnectorRef(packetTruncated, false));
+    }
+
+    @Test
+    public void testLldpToNodeConnectorRefAuthenticator() throws Exception {
+        // Packet carries authenticator created with another key
+        assertNull(LLDPDiscoveryUtils.lldpToNodeConnectorRef(PACKET_LLDP, true));
+
+        final byte[] authenticator = LLDPDiscoveryUtils.getValueForLLDPPacketIntegrityEnsuring(
+                new NodeConnectorId("openflow:2:2"));
+        final byte[] packetAuthenticated = PACKET_LLDP.clone();
+        // Authenticator is followed by end of LLDPDU TLV
+        System.arraycopy(authenticator, 0, packetAuthenticated,
+                packetAuthenticated.length - 2 - authenticator.length, authenticator.length);
+
+        NodeConnectorRef nodeConnectorRef = LLDPDiscoveryUtils.lldpToNodeConnectorRef(packetAuthenticated, true);
+
+        assertEquals("openflow:2", nodeConnectorRef.getValue().firstKeyOf(Node.class, NodeKey.class)
+                .getId().getValue());
+    }
+
+    @Test
+    public void testGetValueForLLDPPacketIntegrityEnsuring() throws Exception {
+        final NodeConnectorId nodeConnectorId = new NodeConnectorId("openflow:2:2");
+        final byte[] authenticator = LLDPDiscoveryUtils.getValueForLLDPPacketIntegrityEnsuring(nodeConnectorId);
+        final byte[] cached = LLDPDiscoveryUtils.getValueForLLDPPacketIntegrityEnsuring(nodeConnectorId);
+
+        assertArrayEquals(authenticator, cached);
+        assertNotSame(authenticator, cached);
+    }
+}
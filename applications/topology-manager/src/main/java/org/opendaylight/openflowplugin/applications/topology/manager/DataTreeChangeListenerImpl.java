@@ -58,7 +58,9 @@ public abstract class DataTreeChangeListenerImpl<T extends DataObject> implement
     }
 
     <T extends DataObject> void sendToTransactionChain(final T node, final InstanceIdentifier<T> iiToTopologyNode) {
-        operationProcessor.enqueueOperation(
+        final NodeId nodeId = iiToTopologyNode.firstKeyOf(org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang
+                .network.topology.rev131021.network.topology.topology.Node.class).getNodeId();
+        operationProcessor.enqueueWrite(nodeId, iiToTopologyNode,
             manager -> manager.mergeToTransaction(LogicalDatastoreType.OPERATIONAL, iiToTopologyNode, node, true));
     }
 
@@ -39,11 +39,11 @@ class FlowCapableTopologyExporter implements FlowTopologyDiscoveryListener {
 
     @Override
     public void onLinkDiscovered(final LinkDiscovered notification) {
-        processor.enqueueOperation(new TopologyOperation() {
+        final Link link = toTopologyLink(notification);
+        final InstanceIdentifier<Link> path = TopologyManagerUtil.linkPath(link, iiToTopology);
+        processor.enqueueLinkWrite(path, new TopologyOperation() {
             @Override
             public void applyOperation(final TransactionChainManager manager) {
-                final Link link = toTopologyLink(notification);
-                final InstanceIdentifier<Link> path = TopologyManagerUtil.linkPath(link, iiToTopology);
                 manager.mergeToTransaction(LogicalDatastoreType.OPERATIONAL, path, link, true);
             }
 
@@ -61,21 +61,21 @@ class FlowCapableTopologyExporter implements FlowTopologyDiscoveryListener {
 
     @Override
     public void onLinkRemoved(final LinkRemoved notification) {
-        processor.enqueueOperation(new TopologyOperation() {
+        final Link link = toTopologyLink(notification);
+        final InstanceIdentifier<Link> path = TopologyManagerUtil.linkPath(link, iiToTopology);
+        processor.enqueueLinkRemoval(path, new TopologyOperation() {
             @Override
             public void applyOperation(final TransactionChainManager manager) {
                 Optional<Link> linkOptional = Optional.absent();
                 try {
                     // read that checks if link exists (if we do not do this we might get an exception on delete)
-                    linkOptional = manager.readFromTransaction(LogicalDatastoreType.OPERATIONAL,
-                            TopologyManagerUtil.linkPath(toTopologyLink(notification), iiToTopology)).checkedGet();
+                    linkOptional = manager.readFromTransaction(LogicalDatastoreType.OPERATIONAL, path).checkedGet();
                 } catch (ReadFailedException e) {
                     LOG.warn("Error occurred when trying to read Link: {}", e.getMessage());
                     LOG.debug("Error occurred when trying to read Link.. ", e);
                 }
                 if (linkOptional.isPresent()) {
-                    manager.addDeleteOperationToTxChain(LogicalDatastoreType.OPERATIONAL,
-                            TopologyManagerUtil.linkPath(toTopologyLink(notification), iiToTopology));
+                    manager.addDeleteOperationToTxChain(LogicalDatastoreType.OPERATIONAL, path);
                 }
             }
 
@@ -61,10 +61,11 @@ public class NodeChangeListenerImpl extends DataTreeChangeListenerImpl<FlowCapab
                 .rev131021.network.topology.topology.Node>
                 iiToTopologyRemovedNode = provideIIToTopologyNode(nodeId);
         if (iiToTopologyRemovedNode != null) {
-            operationProcessor.enqueueOperation(manager -> {
-                manager.addDeleteOperationToTxChain(LogicalDatastoreType.OPERATIONAL, iiToTopologyRemovedNode);
-                TopologyManagerUtil.removeAffectedLinks(nodeId, manager, II_TO_TOPOLOGY);
-            });
+            operationProcessor.enqueueRemoval(nodeId, iiToTopologyRemovedNode, manager ->
+                    manager.addDeleteOperationToTxChain(LogicalDatastoreType.OPERATIONAL, iiToTopologyRemovedNode));
+            // Links of the node may have been written by any node, they are removed in link order
+            operationProcessor.enqueueLinkOperation(manager ->
+                    TopologyManagerUtil.removeAffectedLinks(nodeId, manager, II_TO_TOPOLOGY));
         } else {
             LOG.debug("Instance identifier to inventory wasn't translated to topology while deleting node.");
         }
@@ -7,99 +7,247 @@
  */
 package org.opendaylight.openflowplugin.applications.topology.manager;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.openflowplugin.common.txchain.TransactionChainManager;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public final class OperationProcessor implements AutoCloseable, Runnable {
+/**
+ * Exports topology operations to the data store. Operations are partitioned by topology node into shards, each
+ * with its own queue, thread and transaction chain, so that operations of one node are applied in the order they
+ * were enqueued while different nodes are exported in parallel. Links connect two nodes, so all operations which
+ * write or remove links, including removal of links affected by a removed node or termination point, go through
+ * a single link shard and are applied in the order they were enqueued. Operations which write or remove a known
+ * path are coalesced within a transaction: a write followed by another write or by a removal of the same path is
+ * dropped.
+ */
+public final class OperationProcessor implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(OperationProcessor.class);
     private static final int MAX_TRANSACTION_OPERATIONS = 100;
     private static final int OPERATION_QUEUE_DEPTH = 500;
+    private static final int DEFAULT_SHARDS = 4;
     private static final String TOPOLOGY_MANAGER = "topology-manager";
 
-    private final BlockingQueue<TopologyOperation> queue = new LinkedBlockingQueue<>(OPERATION_QUEUE_DEPTH);
-    private final Thread thread;
-    private TransactionChainManager transactionChainManager;
-    private volatile boolean finishing = false;
+    private final Shard[] shards;
+    private final Shard linkShard;
 
     public OperationProcessor(final DataBroker dataBroker) {
-        transactionChainManager = new TransactionChainManager(dataBroker, TOPOLOGY_MANAGER);
-        transactionChainManager.activateTransactionManager();
-        transactionChainManager.initialSubmitWriteTransaction();
-
-        thread = new Thread(this);
-        thread.setDaemon(true);
-        thread.setName("FlowCapableTopologyExporter-" + FlowCapableTopologyProvider.TOPOLOGY_ID);
+        this(dataBroker, DEFAULT_SHARDS);
     }
 
-    void enqueueOperation(final TopologyOperation task) {
-        try {
-            queue.put(task);
-        } catch (InterruptedException e) {
-            LOG.warn("Interrupted while submitting task {}", task, e);
+    @VisibleForTesting
+    OperationProcessor(final DataBroker dataBroker, final int shardCount) {
+        Preconditions.checkArgument(shardCount > 0, "Shard count %s must be positive", shardCount);
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(dataBroker, String.valueOf(i));
         }
+        linkShard = new Shard(dataBroker, "links");
     }
 
-    public void start() {
-        thread.start();
+    /**
+     * Enqueue an operation which writes data at given path.
+     *
+     * @param nodeId topology node the operation is ordered with
+     * @param path path written by the operation
+     * @param task operation
+     */
+    void enqueueWrite(final NodeId nodeId, final InstanceIdentifier<?> path, final TopologyOperation task) {
+        shard(nodeId).enqueue(new PendingOperation(Preconditions.checkNotNull(path), false, task));
     }
 
-    @Override
-    public void run() {
-        while (!finishing) {
-            try {
-                TopologyOperation op = queue.take();
+    /**
+     * Enqueue an operation which removes data at given path.
+     *
+     * @param nodeId topology node the operation is ordered with
+     * @param path path removed by the operation
+     * @param task operation
+     */
+    void enqueueRemoval(final NodeId nodeId, final InstanceIdentifier<?> path, final TopologyOperation task) {
+        shard(nodeId).enqueue(new PendingOperation(Preconditions.checkNotNull(path), true, task));
+    }
 
-                LOG.debug("New {} operation available, starting transaction", op);
+    /**
+     * Enqueue an operation which writes or removes links.
+     *
+     * @param task operation
+     */
+    void enqueueLinkOperation(final TopologyOperation task) {
+        linkShard.enqueue(new PendingOperation(null, false, task));
+    }
 
-                int ops = 0;
-                do {
-                    op.applyOperation(transactionChainManager);
+    /**
+     * Enqueue an operation which writes a link at given path.
+     *
+     * @param path path written by the operation
+     * @param task operation
+     */
+    void enqueueLinkWrite(final InstanceIdentifier<?> path, final TopologyOperation task) {
+        linkShard.enqueue(new PendingOperation(Preconditions.checkNotNull(path), false, task));
+    }
 
-                    ops++;
-                    if (ops < MAX_TRANSACTION_OPERATIONS) {
-                        op = queue.poll();
-                    } else {
-                        op = null;
-                    }
+    /**
+     * Enqueue an operation which removes a link at given path.
+     *
+     * @param path path removed by the operation
+     * @param task operation
+     */
+    void enqueueLinkRemoval(final InstanceIdentifier<?> path, final TopologyOperation task) {
+        linkShard.enqueue(new PendingOperation(Preconditions.checkNotNull(path), true, task));
+    }
+
+    public void start() {
+        for (Shard shard : shards) {
+            shard.thread.start();
+        }
+        linkShard.thread.start();
+    }
 
-                    LOG.debug("Next operation {}", op);
-                } while (op != null);
+    @Override
+    public void close() {
+        for (Shard shard : shards) {
+            shard.thread.interrupt();
+        }
+        linkShard.thread.interrupt();
+        for (Shard shard : shards) {
+            shard.close();
+        }
+        linkShard.close();
 
-                LOG.debug("Processed {} operations, submitting transaction", ops);
-                if (!transactionChainManager.submitTransaction()) {
-                    cleanDataStoreOperQueue();
+        LOG.debug("OperationProcessor closed");
+    }
+
+    private Shard shard(final NodeId nodeId) {
+        return shards[Math.floorMod(nodeId.hashCode(), shards.length)];
+    }
+
+    /**
+     * Drop writes superseded by a later write or removal of the same path within the batch.
+     *
+     * @param batch operations in the order they were enqueued
+     * @return operations to apply, in the same order
+     */
+    @VisibleForTesting
+    static List<TopologyOperation> coalesce(final List<PendingOperation> batch) {
+        final PendingOperation[] operations = batch.toArray(new PendingOperation[batch.size()]);
+        final Map<InstanceIdentifier<?>, Integer> lastWrites = new HashMap<>();
+        for (int i = 0; i < operations.length; i++) {
+            final InstanceIdentifier<?> path = operations[i].path;
+            if (path != null) {
+                final Integer superseded = operations[i].removal ? lastWrites.remove(path)
+                        : lastWrites.put(path, i);
+                if (superseded != null) {
+                    operations[superseded] = null;
                 }
-            } catch (final InterruptedException e) {
-                // This should mean we're shutting down.
-                LOG.debug("Stat Manager DS Operation thread interrupted!", e);
-                finishing = true;
             }
         }
-        // Drain all events, making sure any blocked threads are unblocked
-        cleanDataStoreOperQueue();
+
+        final List<TopologyOperation> ret = new ArrayList<>(operations.length);
+        for (PendingOperation operation : operations) {
+            if (operation != null) {
+                ret.add(operation.task);
+            }
+        }
+        return ret;
     }
 
-    private void cleanDataStoreOperQueue() {
-        while (!queue.isEmpty()) {
-            queue.poll();
+    @VisibleForTesting
+    static final class PendingOperation {
+        private final InstanceIdentifier<?> path;
+        private final boolean removal;
+        private final TopologyOperation task;
+
+        PendingOperation(final InstanceIdentifier<?> path, final boolean removal, final TopologyOperation task) {
+            this.path = path;
+            this.removal = removal;
+            this.task = Preconditions.checkNotNull(task);
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
         }
     }
 
-    @Override
-    public void close() {
-        thread.interrupt();
-        try {
-            thread.join();
-        } catch (InterruptedException e) {
-            LOG.debug("Join of thread {} was interrupted", thread.getName(), e);
+    private static final class Shard implements Runnable {
+        private final BlockingQueue<PendingOperation> queue = new LinkedBlockingQueue<>(OPERATION_QUEUE_DEPTH);
+        private final List<PendingOperation> batch = new ArrayList<>(MAX_TRANSACTION_OPERATIONS);
+        private final Thread thread;
+        private final TransactionChainManager transactionChainManager;
+        private volatile boolean finishing = false;
+
+        Shard(final DataBroker dataBroker, final String name) {
+            transactionChainManager = new TransactionChainManager(dataBroker, TOPOLOGY_MANAGER + "-" + name);
+            transactionChainManager.activateTransactionManager();
+            transactionChainManager.initialSubmitWriteTransaction();
+
+            thread = new Thread(this);
+            thread.setDaemon(true);
+            thread.setName("FlowCapableTopologyExporter-" + FlowCapableTopologyProvider.TOPOLOGY_ID + "-" + name);
         }
 
-        transactionChainManager.close();
+        void enqueue(final PendingOperation task) {
+            try {
+                queue.put(task);
+            } catch (InterruptedException e) {
+                LOG.warn("Interrupted while submitting task {}", task, e);
+            }
+        }
 
-        LOG.debug("OperationProcessor closed");
+        @Override
+        public void run() {
+            while (!finishing) {
+                try {
+                    batch.add(queue.take());
+                    queue.drainTo(batch, MAX_TRANSACTION_OPERATIONS - 1);
+
+                    LOG.debug("{} operations available, starting transaction", batch.size());
+
+                    final List<TopologyOperation> ops = coalesce(batch);
+                    batch.clear();
+                    for (TopologyOperation op : ops) {
+                        LOG.debug("Next operation {}", op);
+                        op.applyOperation(transactionChainManager);
+                    }
+
+                    LOG.debug("Processed {} operations, submitting transaction", ops.size());
+                    if (!transactionChainManager.submitTransaction()) {
+                        cleanDataStoreOperQueue();
+                    }
+                } catch (final InterruptedException e) {
+                    // This should mean we're shutting down.
+                    LOG.debug("Stat Manager DS Operation thread interrupted!", e);
+                    finishing = true;
+                }
+            }
+            // Drain all events, making sure any blocked threads are unblocked
+            cleanDataStoreOperQueue();
+        }
+
+        private void cleanDataStoreOperQueue() {
+            while (!queue.isEmpty()) {
+                queue.poll();
+            }
+        }
+
+        void close() {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                LOG.debug("Join of thread {} was interrupted", thread.getName(), e);
+            }
+
+            transactionChainManager.close();
+        }
     }
 }
@@ -74,7 +74,9 @@ public class TerminationPointChangeListenerImpl extends DataTreeChangeListenerIm
                     node = iiToTopologyTerminationPoint.firstIdentifierOf(
                     org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network
                             .topology.topology.Node.class);
-            operationProcessor.enqueueOperation(manager -> {
+            final NodeId nodeId = node.firstKeyOf(org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network
+                    .topology.rev131021.network.topology.topology.Node.class).getNodeId();
+            operationProcessor.enqueueRemoval(nodeId, iiToTopologyTerminationPoint, manager -> {
                 Optional<org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network
                         .topology.topology.Node>
                         nodeOptional = Optional.empty();
@@ -86,11 +88,13 @@ public class TerminationPointChangeListenerImpl extends DataTreeChangeListenerIm
                     LOG.debug("Error occurred when trying to read NodeConnector.. ", e);
                 }
                 if (nodeOptional.isPresent()) {
-                    TopologyManagerUtil.removeAffectedLinks(terminationPointId, manager, II_TO_TOPOLOGY);
                     manager.addDeleteOperationToTxChain(LogicalDatastoreType.OPERATIONAL,
                                                          iiToTopologyTerminationPoint);
                 }
             });
+            // Links of the termination point may have been written by any node, they are removed in link order
+            operationProcessor.enqueueLinkOperation(manager ->
+                    TopologyManagerUtil.removeAffectedLinks(terminationPointId, manager, II_TO_TOPOLOGY));
         } else {
             LOG.debug(
                     "Instance identifier to inventory wasn't translated to topology while deleting termination point.");
@@ -117,7 +121,7 @@ public class TerminationPointChangeListenerImpl extends DataTreeChangeListenerIm
     }
 
     private void removeLinks(final FlowCapableNodeConnector flowCapNodeConnector, final TerminationPoint point) {
-        operationProcessor.enqueueOperation(manager -> {
+        operationProcessor.enqueueLinkOperation(manager -> {
             if ((flowCapNodeConnector.getState() != null && flowCapNodeConnector.getState().isLinkDown()) || (
                     flowCapNodeConnector.getConfiguration() != null && flowCapNodeConnector.getConfiguration()
                             .isPORTDOWN())) {
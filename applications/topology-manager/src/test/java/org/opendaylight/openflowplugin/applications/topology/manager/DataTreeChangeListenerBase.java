@@ -12,8 +12,6 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import org.junit.After;
 import org.junit.Before;
 import org.mockito.Mock;
@@ -43,7 +41,6 @@ public abstract class DataTreeChangeListenerBase {
     protected InstanceIdentifier<Topology> topologyIID;
     protected TerminationPointChangeListenerImpl terminationPointListener;
     protected NodeChangeListenerImpl nodeChangeListener;
-    private final ExecutorService executor = Executors.newFixedThreadPool(1);
     @Mock
     private DataBroker mockDataBroker;
     @Mock
@@ -62,12 +59,12 @@ public abstract class DataTreeChangeListenerBase {
         terminationPointListener = new TerminationPointChangeListenerImpl(mockDataBroker, processor);
         nodeChangeListener = new NodeChangeListenerImpl(mockDataBroker, processor);
 
-        executor.execute(processor);
+        processor.start();
     }
 
     @After
     public void tearDown() {
-        executor.shutdownNow();
+        processor.close();
     }
 
     protected FlowCapableNodeConnector provideFlowCapableNodeConnector(final boolean isLinkDown,
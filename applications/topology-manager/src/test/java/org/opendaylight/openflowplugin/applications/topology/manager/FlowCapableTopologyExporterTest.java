@@ -27,8 +27,6 @@ import static org.opendaylight.openflowplugin.applications.topology.manager.Test
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.Futures;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -57,7 +55,6 @@ public class FlowCapableTopologyExporterTest {
     private OperationProcessor processor;
     private FlowCapableTopologyExporter exporter;
     private InstanceIdentifier<Topology> topologyIID;
-    private final ExecutorService executor = Executors.newFixedThreadPool(1);
     @Mock
     private DataBroker mockDataBroker;
     @Mock
@@ -75,12 +72,12 @@ public class FlowCapableTopologyExporterTest {
         topologyIID = InstanceIdentifier.create(NetworkTopology.class)
                 .child(Topology.class, new TopologyKey(new TopologyId("flow:1")));
         exporter = new FlowCapableTopologyExporter(processor, topologyIID);
-        executor.execute(processor);
+        processor.start();
     }
 
     @After
     public void tearDown() {
-        executor.shutdownNow();
+        processor.close();
     }
 
 
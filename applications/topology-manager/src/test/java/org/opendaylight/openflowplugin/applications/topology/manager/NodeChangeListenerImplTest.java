@@ -89,7 +89,8 @@ public class NodeChangeListenerImplTest extends DataTreeChangeListenerBase {
         doReturn(Futures.makeChecked(readFutureNode, ReadFailedException.MAPPER)).when(mockTx1)
                 .read(LogicalDatastoreType.OPERATIONAL, topoNodeII);
 
-        final CountDownLatch submitLatch1 = setupStubbedSubmit(mockTx1);
+        // Node is removed by its node shard, affected links by the link shard
+        final CountDownLatch submitLatch1 = setupStubbedSubmit(mockTx1, 2);
 
         int expDeleteCalls = expDeletedIIDs.length;
         CountDownLatch deleteLatch = new CountDownLatch(expDeleteCalls);
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.applications.topology.manager;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.openflowplugin.applications.topology.manager.OperationProcessor.PendingOperation;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.NodeKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Test for {@link OperationProcessor}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class OperationProcessorTest {
+    private static final InstanceIdentifier<Node> NODE_1 = nodePath("openflow:1");
+    private static final InstanceIdentifier<Node> NODE_2 = nodePath("openflow:2");
+
+    @Mock
+    private TopologyOperation first;
+    @Mock
+    private TopologyOperation second;
+    @Mock
+    private TopologyOperation third;
+
+    @Test
+    public void testCoalesceWriteAndRemoval() {
+        assertEquals(Arrays.asList(second, third), OperationProcessor.coalesce(Arrays.asList(
+                new PendingOperation(NODE_1, false, first),
+                new PendingOperation(NODE_1, true, second),
+                new PendingOperation(null, false, third))));
+    }
+
+    @Test
+    public void testCoalesceRepeatedWrites() {
+        assertEquals(Arrays.asList(second, third), OperationProcessor.coalesce(Arrays.asList(
+                new PendingOperation(NODE_1, false, first),
+                new PendingOperation(NODE_2, false, second),
+                new PendingOperation(NODE_1, false, third))));
+    }
+
+    @Test
+    public void testRemovalAndWriteKept() {
+        assertEquals(Arrays.asList(first, second), OperationProcessor.coalesce(Arrays.asList(
+                new PendingOperation(NODE_1, true, first),
+                new PendingOperation(NODE_1, false, second))));
+    }
+
+    private static InstanceIdentifier<Node> nodePath(final String nodeId) {
+        return DataTreeChangeListenerImpl.II_TO_TOPOLOGY.child(Node.class, new NodeKey(new NodeId(nodeId)));
+    }
+}
@@ -101,7 +101,8 @@ public class TerminationPointChangeListenerImplTest extends DataTreeChangeListen
         doReturn(Futures.makeChecked(readFutureNode, ReadFailedException.MAPPER)).when(mockTx1)
                 .read(LogicalDatastoreType.OPERATIONAL, topoNodeII);
 
-        final CountDownLatch submitLatch1 = setupStubbedSubmit(mockTx1);
+        // Termination point is removed by its node shard, affected links by the link shard
+        final CountDownLatch submitLatch1 = setupStubbedSubmit(mockTx1, 2);
 
         int expDeleteCalls = expDeletedIIDs.length;
         CountDownLatch deleteLatch = new CountDownLatch(expDeleteCalls);
@@ -229,7 +230,7 @@ public class TerminationPointChangeListenerImplTest extends DataTreeChangeListen
         ReadWriteTransaction mockTx = mock(ReadWriteTransaction.class);
         doReturn(Futures.immediateCheckedFuture(Optional.of(topology))).when(mockTx)
                 .read(LogicalDatastoreType.OPERATIONAL, topologyIID);
-        setupStubbedSubmit(mockTx);
+        final CountDownLatch submitLatch = setupStubbedSubmit(mockTx, 2);
 
         CountDownLatch deleteLatch = new CountDownLatch(1);
         ArgumentCaptor<InstanceIdentifier> deletedLinkIDs =
@@ -244,6 +245,7 @@ public class TerminationPointChangeListenerImplTest extends DataTreeChangeListen
         terminationPointListener.onDataTreeChanged(Collections.singleton(dataTreeModification));
 
         waitForDeletes(1, deleteLatch);
+        waitForSubmit(submitLatch);
 
         InstanceIdentifier<TerminationPoint> expTpPath = topologyIID.child(
                 Node.class, new NodeKey(new NodeId("node1"))).child(TerminationPoint.class,
@@ -274,7 +276,7 @@ public class TerminationPointChangeListenerImplTest extends DataTreeChangeListen
         ReadWriteTransaction mockTx = mock(ReadWriteTransaction.class);
         doReturn(Futures.immediateCheckedFuture(Optional.of(topology))).when(mockTx)
                 .read(LogicalDatastoreType.OPERATIONAL, topologyIID);
-        setupStubbedSubmit(mockTx);
+        final CountDownLatch submitLatch = setupStubbedSubmit(mockTx, 2);
 
         CountDownLatch deleteLatch = new CountDownLatch(1);
         ArgumentCaptor<InstanceIdentifier> deletedLinkIDs =
@@ -289,6 +291,7 @@ public class TerminationPointChangeListenerImplTest extends DataTreeChangeListen
         terminationPointListener.onDataTreeChanged(Collections.singleton(dataTreeModification));
 
         waitForDeletes(1, deleteLatch);
+        waitForSubmit(submitLatch);
 
         InstanceIdentifier<TerminationPoint> expTpPath = topologyIID.child(
                 Node.class, new NodeKey(new NodeId("node1"))).child(TerminationPoint.class,
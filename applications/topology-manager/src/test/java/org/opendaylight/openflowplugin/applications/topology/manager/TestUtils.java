@@ -87,7 +87,11 @@ public class TestUtils {
     }
 
     static CountDownLatch setupStubbedSubmit(ReadWriteTransaction mockTx) {
-        final CountDownLatch latch = new CountDownLatch(1);
+        return setupStubbedSubmit(mockTx, 1);
+    }
+
+    static CountDownLatch setupStubbedSubmit(ReadWriteTransaction mockTx, int expSubmitCalls) {
+        final CountDownLatch latch = new CountDownLatch(expSubmitCalls);
         doAnswer(new Answer<CheckedFuture<Void, TransactionCommitFailedException>>() {
             @Override
             public CheckedFuture<Void, TransactionCommitFailedException> answer(InvocationOnMock invocation) {
@@ -100,4 +100,16 @@ public interface ConnectionAdapter extends OpenflowProtocolService {
      */
     @Beta
     void setPacketInFiltering(boolean enabled);
+
+    /**
+     * Set throttling of PacketIn messages. By default these messages are not throttled. While throttling is enabled,
+     * PacketIn messages are admitted up to configured rate for each ingress port and reason, others are dropped.
+     * Filtering takes precedence over throttling, filtered PacketIn messages are always dropped.
+     * Implementations which do not support throttling filter PacketIn messages instead.
+     * @param enabled True if PacketIn messages should be throttled, false if they should be reported.
+     */
+    @Beta
+    default void setPacketInThrottling(final boolean enabled) {
+        setPacketInFiltering(enabled);
+    }
 }
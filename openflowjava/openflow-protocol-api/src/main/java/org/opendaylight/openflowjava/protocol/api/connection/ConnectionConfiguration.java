@@ -14,6 +14,32 @@ import java.net.InetAddress;
  */
 public interface ConnectionConfiguration {
 
+    /**
+     * Default number of entries in one segment of outbound queue.
+     */
+    int DEFAULT_QUEUE_SEGMENT_SIZE = 4096;
+
+    /**
+     * Default maximum number of recycled outbound queue segments retained for reuse.
+     */
+    int DEFAULT_QUEUE_SEGMENT_POOL_SIZE = 32;
+
+    /**
+     * Default number of outstanding bytes below which channel becomes writable again.
+     */
+    int DEFAULT_WRITE_BUFFER_LOW_WATERMARK = 128 * 1024;
+
+    /**
+     * Default number of outstanding bytes at which channel becomes un-writable.
+     */
+    int DEFAULT_WRITE_BUFFER_HIGH_WATERMARK = DEFAULT_WRITE_BUFFER_LOW_WATERMARK * 2;
+
+    /**
+     * Default number of PACKET_INs per second admitted for each ingress port and reason while packet-in
+     * throttling is engaged.
+     */
+    int DEFAULT_PACKET_IN_ADMISSION_RATE = 10;
+
     /**
      * @return address to bind, if null, all available interfaces will be used
      */
@@ -55,4 +81,72 @@ public interface ConnectionConfiguration {
      * @return boolean value for usability of Barrier
      */
     boolean useBarrier();
+
+    /**
+     * @return number of entries in one segment of outbound queue, {@value #DEFAULT_QUEUE_SEGMENT_SIZE} by default
+     */
+    default int getQueueSegmentSize() {
+        return DEFAULT_QUEUE_SEGMENT_SIZE;
+    }
+
+    /**
+     * @return maximum number of recycled outbound queue segments retained for reuse,
+     *         {@value #DEFAULT_QUEUE_SEGMENT_POOL_SIZE} by default
+     */
+    default int getQueueSegmentPoolSize() {
+        return DEFAULT_QUEUE_SEGMENT_POOL_SIZE;
+    }
+
+    /**
+     * @return number of outstanding bytes below which channel becomes writable again,
+     *         {@value #DEFAULT_WRITE_BUFFER_LOW_WATERMARK} by default
+     */
+    default int getWriteBufferLowWatermark() {
+        return DEFAULT_WRITE_BUFFER_LOW_WATERMARK;
+    }
+
+    /**
+     * @return number of outstanding bytes at which channel becomes un-writable,
+     *         {@value #DEFAULT_WRITE_BUFFER_HIGH_WATERMARK} by default
+     */
+    default int getWriteBufferHighWatermark() {
+        return DEFAULT_WRITE_BUFFER_HIGH_WATERMARK;
+    }
+
+    /**
+     * @return boolean value for adapting write buffer watermarks at runtime, false by default
+     */
+    default boolean useAdaptiveWriteBuffer() {
+        return false;
+    }
+
+    /**
+     * @return boolean value for decoding inbound messages in a single pipeline handler, false by default
+     */
+    default boolean useFusedDecoder() {
+        return false;
+    }
+
+    /**
+     * @return boolean value for serializing outbound queue messages in threads committing them, false by default
+     */
+    default boolean usePreEncoding() {
+        return false;
+    }
+
+    /**
+     * @return boolean value for answering switch echo requests in the pipeline instead of passing them upstream,
+     *         false by default
+     */
+    default boolean answerEchoRequests() {
+        return false;
+    }
+
+    /**
+     * @return number of PACKET_INs per second admitted for each ingress port and reason while packet-in
+     *         throttling is engaged, 0 drops all PACKET_INs, {@value #DEFAULT_PACKET_IN_ADMISSION_RATE} by default
+     */
+    default int getPacketInAdmissionRate() {
+        return DEFAULT_PACKET_IN_ADMISSION_RATE;
+    }
 }
@@ -26,6 +26,10 @@ public abstract class EncodeConstants {
     public static final byte OF15_VERSION_ID = 0x06;
     /** OpenFlow Hello message type value */
     public static final byte OF_HELLO_MESSAGE_TYPE_VALUE = 0;
+    /** OpenFlow EchoRequest message type value */
+    public static final byte OF_ECHO_REQUEST_MESSAGE_TYPE_VALUE = 2;
+    /** OpenFlow EchoReply message type value */
+    public static final byte OF_ECHO_REPLY_MESSAGE_TYPE_VALUE = 3;
     /** OpenFlow PacketIn message type value */
     public static final byte OF_PACKETIN_MESSAGE_TYPE_VALUE = 10;
     /** Index of length in Openflow header */
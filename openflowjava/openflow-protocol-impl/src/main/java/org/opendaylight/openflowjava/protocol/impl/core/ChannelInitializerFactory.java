@@ -8,8 +8,10 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core;
 
+import io.netty.util.Timer;
 import org.opendaylight.openflowjava.protocol.api.connection.SwitchConnectionHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.OutboundQueueConfiguration;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
 import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
 
@@ -25,6 +27,11 @@ public class ChannelInitializerFactory {
     private TlsConfiguration tlsConfig;
     private SwitchConnectionHandler switchConnectionHandler;
     private boolean useBarrier;
+    private boolean useFusedDecoder;
+    private boolean answerEchoRequests;
+    private int packetInAdmissionRate;
+    private OutboundQueueConfiguration outboundQueueConfiguration = OutboundQueueConfiguration.DEFAULT;
+    private Timer rpcResponseTimer;
 
     /**
      * @return PublishingChannelInitializer that initializes new channels
@@ -37,6 +44,11 @@ public class ChannelInitializerFactory {
         initializer.setTlsConfiguration(tlsConfig);
         initializer.setSwitchConnectionHandler(switchConnectionHandler);
         initializer.setUseBarrier(useBarrier);
+        initializer.setUseFusedDecoder(useFusedDecoder);
+        initializer.setAnswerEchoRequests(answerEchoRequests);
+        initializer.setPacketInAdmissionRate(packetInAdmissionRate);
+        initializer.setOutboundQueueConfiguration(outboundQueueConfiguration);
+        initializer.setRpcResponseTimer(rpcResponseTimer);
         return initializer;
     }
 
@@ -49,6 +61,7 @@ public class ChannelInitializerFactory {
         initializer.setDeserializationFactory(deserializationFactory);
         initializer.setSerializationFactory(serializationFactory);
         initializer.setSwitchConnectionHandler(switchConnectionHandler);
+        initializer.setRpcResponseTimer(rpcResponseTimer);
         return initializer;
     }
 
@@ -93,4 +106,40 @@ public class ChannelInitializerFactory {
     public void setUseBarrier(final boolean useBarrier) {
         this.useBarrier = useBarrier;
     }
+
+    /**
+     * @param useFusedDecoder
+     */
+    public void setUseFusedDecoder(final boolean useFusedDecoder) {
+        this.useFusedDecoder = useFusedDecoder;
+    }
+
+    /**
+     * @param answerEchoRequests true if switch echo requests should be answered in the pipeline
+     */
+    public void setAnswerEchoRequests(final boolean answerEchoRequests) {
+        this.answerEchoRequests = answerEchoRequests;
+    }
+
+    /**
+     * @param packetInAdmissionRate number of PACKET_INs per second admitted for each ingress port and reason
+     *                              while packet-in throttling is engaged
+     */
+    public void setPacketInAdmissionRate(final int packetInAdmissionRate) {
+        this.packetInAdmissionRate = packetInAdmissionRate;
+    }
+
+    /**
+     * @param outboundQueueConfiguration sizing of outbound queue and channel write buffer
+     */
+    public void setOutboundQueueConfiguration(final OutboundQueueConfiguration outboundQueueConfiguration) {
+        this.outboundQueueConfiguration = outboundQueueConfiguration;
+    }
+
+    /**
+     * @param rpcResponseTimer timer driving RPC response deadlines of all connections
+     */
+    public void setRpcResponseTimer(final Timer rpcResponseTimer) {
+        this.rpcResponseTimer = rpcResponseTimer;
+    }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.socket.DatagramPacket;
 import io.netty.handler.codec.MessageToMessageDecoder;
+import io.netty.util.Timer;
 
 import java.util.List;
 
@@ -21,6 +22,7 @@ import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionAda
 import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionAdapterFactoryImpl;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionFacade;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.MessageConsumer;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.OutboundQueueConfiguration;
 import org.opendaylight.openflowjava.util.ByteBufUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,14 +40,17 @@ public class OFDatagramPacketHandler extends MessageToMessageDecoder<DatagramPac
     private static final byte LENGTH_INDEX_IN_HEADER = 2;
     private ConnectionAdapterFactory adapterFactory = new ConnectionAdapterFactoryImpl();
     private SwitchConnectionHandler connectionHandler;
+    private final Timer rpcResponseTimer;
 
     /**
      * Default constructor
      * @param sch the switchConnectionHandler that decides
      * what to do with incomming message / channel
+     * @param rpcResponseTimer timer driving RPC response deadlines of created connections
      */
-    public OFDatagramPacketHandler(SwitchConnectionHandler sch) {
+    public OFDatagramPacketHandler(SwitchConnectionHandler sch, Timer rpcResponseTimer) {
         this.connectionHandler = sch;
+        this.rpcResponseTimer = rpcResponseTimer;
     }
 
     @Override
@@ -62,7 +67,8 @@ public class OFDatagramPacketHandler extends MessageToMessageDecoder<DatagramPac
         MessageConsumer consumer = UdpConnectionMap.getMessageConsumer(msg.sender());
         if (consumer == null) {
             ConnectionFacade connectionFacade =
-                    adapterFactory.createConnectionFacade(ctx.channel(), msg.sender(), false);
+                    adapterFactory.createConnectionFacade(ctx.channel(), msg.sender(), false,
+                            OutboundQueueConfiguration.DEFAULT, rpcResponseTimer);
             connectionHandler.onSwitchConnected(connectionFacade);
             connectionFacade.checkListeners();
             UdpConnectionMap.addConnection(msg.sender(), connectionFacade);
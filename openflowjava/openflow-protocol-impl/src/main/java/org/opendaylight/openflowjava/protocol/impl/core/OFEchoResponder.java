@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Answers ECHO_REQUEST frames coming from {@link OFFrameDecoder} directly in the pipeline, before they are
+ * deserialized. An ECHO_REPLY carries the same XID and data as the request, hence the reply is the request frame
+ * with its type byte rewritten. Replies are written towards the head of the pipeline, bypassing the outbound
+ * queue and the encoder, so switch liveness does not depend on how far behind the plugin is. All other frames
+ * are passed on unchanged.
+ *
+ * The request frame is a slice of the frame decoder's cumulation buffer, which may be compacted once the frame
+ * has been consumed, so the reply is written from a copy rather than from the frame itself.
+ */
+public class OFEchoResponder extends ChannelInboundHandlerAdapter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OFEchoResponder.class);
+    private static final int TYPE_INDEX_IN_HEADER = 1;
+    private static final int XID_INDEX_IN_HEADER = 4;
+
+    private boolean flushNeeded;
+
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+        if (msg instanceof ByteBuf) {
+            final ByteBuf frame = (ByteBuf) msg;
+            if (isEchoRequest(frame, frame.readerIndex())) {
+                try {
+                    ctx.write(createEchoReply(ctx.alloc(), frame, frame.readerIndex(), frame.readableBytes()));
+                    flushNeeded = true;
+                } finally {
+                    frame.release();
+                }
+                return;
+            }
+        }
+
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(final ChannelHandlerContext ctx) throws Exception {
+        if (flushNeeded) {
+            flushNeeded = false;
+            ctx.flush();
+        }
+        ctx.fireChannelReadComplete();
+    }
+
+    /**
+     * Check whether a frame is an ECHO_REQUEST of a supported version.
+     *
+     * @param buffer buffer holding the frame
+     * @param frameStart index of the first byte of the frame's header
+     * @return true if the frame is an ECHO_REQUEST which can be answered
+     */
+    static boolean isEchoRequest(final ByteBuf buffer, final int frameStart) {
+        if (buffer.getByte(frameStart + TYPE_INDEX_IN_HEADER) != EncodeConstants.OF_ECHO_REQUEST_MESSAGE_TYPE_VALUE) {
+            return false;
+        }
+        final byte version = buffer.getByte(frameStart);
+        return version == EncodeConstants.OF10_VERSION_ID || version == EncodeConstants.OF13_VERSION_ID;
+    }
+
+    /**
+     * Create an ECHO_REPLY answering an ECHO_REQUEST frame.
+     *
+     * @param allocator allocator of the reply buffer
+     * @param buffer buffer holding the request frame, its indices are not modified
+     * @param frameStart index of the first byte of the frame's header
+     * @param length length of the frame
+     * @return reply buffer
+     */
+    static ByteBuf createEchoReply(final ByteBufAllocator allocator, final ByteBuf buffer, final int frameStart,
+            final int length) {
+        final ByteBuf reply = allocator.ioBuffer(length);
+        reply.writeBytes(buffer, frameStart, length);
+        reply.setByte(TYPE_INDEX_IN_HEADER, EncodeConstants.OF_ECHO_REPLY_MESSAGE_TYPE_VALUE);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Answering echo request XID {}", reply.getUnsignedInt(XID_INDEX_IN_HEADER));
+        }
+        return reply;
+    }
+}
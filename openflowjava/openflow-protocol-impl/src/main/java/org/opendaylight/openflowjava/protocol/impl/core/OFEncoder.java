@@ -9,6 +9,7 @@
 package org.opendaylight.openflowjava.protocol.impl.core;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
 import io.netty.util.concurrent.Future;
@@ -17,6 +18,7 @@ import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFa
 import org.opendaylight.openflowjava.statistics.CounterEventTypes;
 import org.opendaylight.openflowjava.statistics.StatisticsCounters;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,11 +44,7 @@ public class OFEncoder extends MessageToByteEncoder<MessageListenerWrapper> {
             throws Exception {
         LOG.trace("Encoding");
         try {
-            serializationFactory.messageToBuffer(wrapper.getMsg().getVersion(), out, wrapper.getMsg());
-            if(wrapper.getMsg() instanceof FlowModInput){
-                statisticsCounters.incrementCounter(CounterEventTypes.DS_FLOW_MODS_SENT);
-            }
-            statisticsCounters.incrementCounter(CounterEventTypes.DS_ENCODE_SUCCESS);
+            serialize(wrapper.getMsg(), out);
         } catch(final Exception e) {
             LOG.warn("Message serialization failed ", e);
             statisticsCounters.incrementCounter(CounterEventTypes.DS_ENCODE_FAIL);
@@ -59,6 +57,35 @@ public class OFEncoder extends MessageToByteEncoder<MessageListenerWrapper> {
         }
     }
 
+    /**
+     * Serializes message outside of channel pipeline, so that the resulting buffer can be written to the channel
+     * as is. May be invoked from any thread.
+     *
+     * @param alloc allocator of the buffer
+     * @param message message to serialize
+     * @return buffer holding serialized message, or null if serialization failed, in which case the message is
+     *         expected to be written through the pipeline, which reports the failure
+     */
+    public ByteBuf encode(final ByteBufAllocator alloc, final OfHeader message) {
+        final ByteBuf out = alloc.ioBuffer();
+        try {
+            serialize(message, out);
+        } catch (final Exception e) {
+            LOG.debug("Message {} serialization failed, deferring it to channel pipeline", message, e);
+            out.release();
+            return null;
+        }
+        return out;
+    }
+
+    private void serialize(final OfHeader message, final ByteBuf out) {
+        serializationFactory.messageToBuffer(message.getVersion(), out, message);
+        if (message instanceof FlowModInput) {
+            statisticsCounters.incrementCounter(CounterEventTypes.DS_FLOW_MODS_SENT);
+        }
+        statisticsCounters.incrementCounter(CounterEventTypes.DS_ENCODE_SUCCESS);
+    }
+
     /**
      * @param serializationFactory
      */
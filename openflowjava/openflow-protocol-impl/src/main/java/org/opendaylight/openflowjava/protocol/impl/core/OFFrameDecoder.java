@@ -72,7 +72,9 @@ public class OFFrameDecoder extends ByteToMessageDecoder {
         }
 
         int length = bb.getUnsignedShort(bb.readerIndex() + LENGTH_INDEX_IN_HEADER);
-        LOG.debug("length of actual message: {}", length);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("length of actual message: {}", length);
+        }
 
         if (readableBytes < length) {
             if (LOG.isDebugEnabled()) {
@@ -81,7 +83,9 @@ public class OFFrameDecoder extends ByteToMessageDecoder {
             }
             return;
         }
-        LOG.debug("OF Protocol message received, type:{}", bb.getByte(bb.readerIndex() + 1));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("OF Protocol message received, type:{}", bb.getByte(bb.readerIndex() + 1));
+        }
 
         ByteBuf messageBuffer = bb.slice(bb.readerIndex(), length);
         list.add(messageBuffer);
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import java.util.List;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionFacade;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.statistics.CounterEventTypes;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+import org.opendaylight.openflowjava.util.ByteBufUtils;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decodes incoming OpenFlow Protocol messages into POJOs in a single pass, replacing the
+ * {@link OFFrameDecoder}, {@link OFVersionDetector} and {@link OFDecoder} chain. All complete frames in
+ * the cumulated buffer are decoded in one invocation. Each frame is deserialized in place, by limiting
+ * the buffer to the frame, so no slices, wrappers or reference count updates are needed per message.
+ */
+public class OFFusedDecoder extends ByteToMessageDecoder implements PacketInFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OFFusedDecoder.class);
+    private static final byte LENGTH_INDEX_IN_HEADER = 2;
+
+    private final ConnectionFacade connectionFacade;
+    private final DeserializationFactory deserializationFactory;
+    private final StatisticsCounters statisticsCounters;
+    private final PacketInAdmission packetInAdmission;
+    private final boolean answerEchoRequests;
+    private volatile boolean filterPacketIns;
+    private volatile boolean throttlePacketIns;
+    private boolean firstTlsPass;
+    private boolean flushNeeded;
+
+    /**
+     * Constructor of class.
+     * @param connectionFacade  ConnectionFacade that will be notified
+     *                          with ConnectionReadyNotification after TLS has been successfully set up.
+     * @param tlsPresent true is TLS is required, false otherwise
+     * @param deserializationFactory factory used to transform messages into POJOs
+     */
+    public OFFusedDecoder(final ConnectionFacade connectionFacade, final boolean tlsPresent,
+            final DeserializationFactory deserializationFactory) {
+        this(connectionFacade, tlsPresent, deserializationFactory, 0);
+    }
+
+    /**
+     * Constructor of class.
+     * @param connectionFacade  ConnectionFacade that will be notified
+     *                          with ConnectionReadyNotification after TLS has been successfully set up.
+     * @param tlsPresent true is TLS is required, false otherwise
+     * @param deserializationFactory factory used to transform messages into POJOs
+     * @param packetInAdmissionRate number of PACKET_INs per second admitted for each ingress port and reason
+     *                              while packet-in throttling is engaged
+     */
+    public OFFusedDecoder(final ConnectionFacade connectionFacade, final boolean tlsPresent,
+            final DeserializationFactory deserializationFactory, final int packetInAdmissionRate) {
+        this(connectionFacade, tlsPresent, deserializationFactory, packetInAdmissionRate, false);
+    }
+
+    /**
+     * Constructor of class.
+     * @param connectionFacade  ConnectionFacade that will be notified
+     *                          with ConnectionReadyNotification after TLS has been successfully set up.
+     * @param tlsPresent true is TLS is required, false otherwise
+     * @param deserializationFactory factory used to transform messages into POJOs
+     * @param packetInAdmissionRate number of PACKET_INs per second admitted for each ingress port and reason
+     *                              while packet-in throttling is engaged
+     * @param answerEchoRequests true if ECHO_REQUESTs should be answered directly, as done by
+     *                           {@link OFEchoResponder}, instead of being deserialized
+     */
+    public OFFusedDecoder(final ConnectionFacade connectionFacade, final boolean tlsPresent,
+            final DeserializationFactory deserializationFactory, final int packetInAdmissionRate,
+            final boolean answerEchoRequests) {
+        LOG.trace("Creating OFFusedDecoder");
+        this.connectionFacade = connectionFacade;
+        this.firstTlsPass = tlsPresent;
+        this.deserializationFactory = Preconditions.checkNotNull(deserializationFactory);
+        statisticsCounters = StatisticsCounters.getInstance();
+        packetInAdmission = new PacketInAdmission(packetInAdmissionRate);
+        this.answerEchoRequests = answerEchoRequests;
+    }
+
+    @Override
+    public void setFilterPacketIns(final boolean enabled) {
+        filterPacketIns = enabled;
+    }
+
+    @Override
+    public void setThrottlePacketIns(final boolean enabled) {
+        throttlePacketIns = enabled;
+    }
+
+    @Override
+    public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) throws Exception {
+        if (cause instanceof io.netty.handler.ssl.NotSslRecordException) {
+            LOG.warn("Not an TLS record exception - please verify TLS configuration.");
+        } else {
+            LOG.warn("Unexpected exception from downstream.", cause);
+        }
+        LOG.warn("Closing connection.");
+        ctx.close();
+    }
+
+    @Override
+    protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
+        if (firstTlsPass) {
+            connectionFacade.fireConnectionReadyNotification();
+            firstTlsPass = false;
+        }
+
+        while (in.readableBytes() >= OFFrameDecoder.LENGTH_OF_HEADER) {
+            final int frameStart = in.readerIndex();
+            final int length = in.getUnsignedShort(frameStart + LENGTH_INDEX_IN_HEADER);
+            if (length < OFFrameDecoder.LENGTH_OF_HEADER) {
+                throw new CorruptedFrameException("Message length " + length + " is shorter than header");
+            }
+            if (in.readableBytes() < length) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("skipping bytebuf - too few bytes for msg: {} < {}", in.readableBytes(), length);
+                }
+                return;
+            }
+
+            final int frameEnd = frameStart + length;
+            if (answerEchoRequests && OFEchoResponder.isEchoRequest(in, frameStart)) {
+                ctx.write(OFEchoResponder.createEchoReply(ctx.alloc(), in, frameStart, length));
+                flushNeeded = true;
+                in.readerIndex(frameEnd);
+                continue;
+            }
+
+            final int writerIndex = in.writerIndex();
+            try {
+                in.writerIndex(frameEnd);
+                decodeFrame(in, out);
+            } finally {
+                in.writerIndex(writerIndex);
+                in.readerIndex(frameEnd);
+            }
+        }
+    }
+
+    @Override
+    public void channelReadComplete(final ChannelHandlerContext ctx) throws Exception {
+        if (flushNeeded) {
+            flushNeeded = false;
+            ctx.flush();
+        }
+        super.channelReadComplete(ctx);
+    }
+
+    private void decodeFrame(final ByteBuf frame, final List<Object> out) {
+        final byte version = frame.readByte();
+        final short messageType = frame.getUnsignedByte(frame.readerIndex());
+        if (messageType != EncodeConstants.OF_HELLO_MESSAGE_TYPE_VALUE && version != EncodeConstants.OF10_VERSION_ID
+                && version != EncodeConstants.OF13_VERSION_ID) {
+            LOG.warn("detected version: {} - currently not supported", version);
+            return;
+        }
+        if (EncodeConstants.OF_PACKETIN_MESSAGE_TYPE_VALUE == messageType
+                && !packetInAdmission.admit(filterPacketIns, throttlePacketIns, version, frame,
+                        frame.readerIndex() - 1)) {
+            LOG.debug("dropped packetin");
+            statisticsCounters.incrementCounter(CounterEventTypes.US_DROPPED_PACKET_IN);
+            return;
+        }
+
+        statisticsCounters.incrementCounter(CounterEventTypes.US_RECEIVED_IN_OFJAVA);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("detected version: {}, type: {}", version, messageType);
+            LOG.debug("<< {}", ByteBufUtils.byteBufToHexString(frame));
+        }
+
+        try {
+            final DataObject dataObject = deserializationFactory.deserialize(frame, version);
+            if (dataObject == null) {
+                LOG.warn("Translated POJO is null");
+                statisticsCounters.incrementCounter(CounterEventTypes.US_DECODE_FAIL);
+            } else {
+                out.add(dataObject);
+                statisticsCounters.incrementCounter(CounterEventTypes.US_DECODE_SUCCESS);
+            }
+        } catch (Exception e) {
+            LOG.warn("Message deserialization failed", e);
+            statisticsCounters.incrementCounter(CounterEventTypes.US_DECODE_FAIL);
+        }
+    }
+}
@@ -24,7 +24,7 @@ import org.slf4j.LoggerFactory;
  * Detects version of used OpenFlow Protocol and discards unsupported version messages.
  * @author michal.polkorab
  */
-public class OFVersionDetector extends ByteToMessageDecoder {
+public class OFVersionDetector extends ByteToMessageDecoder implements PacketInFilter {
 
     private static final Logger LOG = LoggerFactory.getLogger(OFVersionDetector.class);
     /** IDs of accepted OpenFlow protocol versions */
@@ -33,17 +33,34 @@ public class OFVersionDetector extends ByteToMessageDecoder {
             EncodeConstants.OF13_VERSION_ID
     ));
     private final StatisticsCounters statisticsCounters;
+    private final PacketInAdmission packetInAdmission;
     private volatile boolean filterPacketIns;
+    private volatile boolean throttlePacketIns;
 
     public OFVersionDetector() {
+        this(0);
+    }
+
+    /**
+     * @param packetInAdmissionRate number of PACKET_INs per second admitted for each ingress port and reason
+     *                              while packet-in throttling is engaged
+     */
+    public OFVersionDetector(final int packetInAdmissionRate) {
         LOG.trace("Creating OFVersionDetector");
         statisticsCounters = StatisticsCounters.getInstance();
+        packetInAdmission = new PacketInAdmission(packetInAdmissionRate);
     }
 
+    @Override
     public void setFilterPacketIns(final boolean enabled) {
         filterPacketIns = enabled;
     }
 
+    @Override
+    public void setThrottlePacketIns(final boolean enabled) {
+        throttlePacketIns = enabled;
+    }
+
     @Override
     protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
         if (!in.isReadable()) {
@@ -55,8 +72,12 @@ public class OFVersionDetector extends ByteToMessageDecoder {
         final byte version = in.readByte();
         final short messageType = in.getUnsignedByte(in.readerIndex());
         if (messageType == EncodeConstants.OF_HELLO_MESSAGE_TYPE_VALUE || OF_VERSIONS.contains(version)) {
-            LOG.debug("detected version: {}", version);
-            if (!filterPacketIns || EncodeConstants.OF_PACKETIN_MESSAGE_TYPE_VALUE != messageType) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("detected version: {}", version);
+            }
+            if (EncodeConstants.OF_PACKETIN_MESSAGE_TYPE_VALUE != messageType
+                    || packetInAdmission.admit(filterPacketIns, throttlePacketIns, version, in,
+                            in.readerIndex() - 1)) {
                 ByteBuf messageBuffer = in.slice();
                 out.add(new VersionMessageWrapper(version, messageBuffer));
                 messageBuffer.retain();
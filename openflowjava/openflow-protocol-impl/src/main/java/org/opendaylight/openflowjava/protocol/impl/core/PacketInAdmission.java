@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.collection.LongObjectHashMap;
+import io.netty.util.collection.LongObjectMap;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.api.util.OxmMatchConstants;
+
+/**
+ * Admission of PACKET_IN messages. While packet-in filtering is engaged, all PACKET_INs are dropped. While
+ * packet-in throttling is engaged, rather than dropping every PACKET_IN, each combination of ingress port and
+ * reason gets its own token bucket, refilled at configured rate and holding at most one second worth of tokens.
+ * A single flooding port exhausts only its own bucket, so PACKET_INs received on other ports, such as LLDP used
+ * for topology discovery, are still admitted. Ingress port and reason are peeked from the raw frame, before
+ * the message is deserialized. Buckets are forgotten once throttling is disengaged.
+ *
+ * Not thread-safe, expected to be accessed from Netty thread only.
+ */
+final class PacketInAdmission {
+    /**
+     * Maximum number of tracked buckets, PACKET_INs of ports and reasons without a bucket are dropped
+     * once reached.
+     */
+    static final int MAX_BUCKETS = 4096;
+    /**
+     * Port used for frames whose ingress port cannot be determined.
+     */
+    static final long UNKNOWN_PORT = 0xffffffffL;
+
+    private static final int OF10_IN_PORT_INDEX = 14;
+    private static final int OF10_REASON_INDEX = 16;
+    private static final int OF13_REASON_INDEX = 14;
+    private static final int OF13_MATCH_INDEX = 24;
+    private static final int MATCH_HEADER_LENGTH = 4;
+    private static final int OXM_HEADER_LENGTH = 4;
+
+    private final LongObjectMap<Bucket> buckets = new LongObjectHashMap<>();
+    private final Ticker ticker;
+    private final long nanosPerToken;
+    private final int burst;
+
+    /**
+     * @param rate number of PACKET_INs per second admitted for each ingress port and reason while throttling,
+     *             0 admits none
+     */
+    PacketInAdmission(final int rate) {
+        this(rate, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    PacketInAdmission(final int rate, final Ticker ticker) {
+        Preconditions.checkArgument(rate >= 0, "Admission rate %s must not be negative", rate);
+        this.ticker = Preconditions.checkNotNull(ticker);
+        this.burst = rate;
+        this.nanosPerToken = rate == 0 ? 0 : Math.max(1, TimeUnit.SECONDS.toNanos(1) / rate);
+    }
+
+    /**
+     * Decide whether a PACKET_IN should be passed on.
+     *
+     * @param filter true if packet-in filtering is engaged
+     * @param throttle true if packet-in throttling is engaged
+     * @param version OpenFlow version of the message
+     * @param buf buffer holding the message, bounded by its writer index
+     * @param frameStart index of the first byte of message header in the buffer
+     * @return true if the message is admitted
+     */
+    boolean admit(final boolean filter, final boolean throttle, final byte version, final ByteBuf buf,
+            final int frameStart) {
+        if (filter) {
+            return false;
+        }
+        if (!throttle) {
+            if (!buckets.isEmpty()) {
+                buckets.clear();
+            }
+            return true;
+        }
+        if (burst == 0) {
+            return false;
+        }
+
+        final long key = key(version, buf, frameStart);
+        final long now = ticker.read();
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= MAX_BUCKETS) {
+                // Forgetting other buckets would give their ports a fresh burst, fail closed instead
+                return false;
+            }
+            bucket = new Bucket(burst, now);
+            buckets.put(key, bucket);
+        } else {
+            bucket.refill(now, nanosPerToken, burst);
+        }
+
+        return bucket.tryAcquire();
+    }
+
+    int getTrackedBuckets() {
+        return buckets.size();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("burst", burst).add("buckets", buckets.size()).toString();
+    }
+
+    @VisibleForTesting
+    static long key(final byte version, final ByteBuf buf, final int frameStart) {
+        final long port;
+        final int reasonIndex;
+        if (version == EncodeConstants.OF10_VERSION_ID) {
+            port = frameStart + OF10_IN_PORT_INDEX + EncodeConstants.SIZE_OF_SHORT_IN_BYTES <= buf.writerIndex()
+                    ? buf.getUnsignedShort(frameStart + OF10_IN_PORT_INDEX) : UNKNOWN_PORT;
+            reasonIndex = frameStart + OF10_REASON_INDEX;
+        } else {
+            port = findOxmInPort(buf, frameStart + OF13_MATCH_INDEX);
+            reasonIndex = frameStart + OF13_REASON_INDEX;
+        }
+
+        final short reason = reasonIndex < buf.writerIndex() ? buf.getUnsignedByte(reasonIndex) : 0;
+        return port << Byte.SIZE | reason;
+    }
+
+    private static long findOxmInPort(final ByteBuf buf, final int matchStart) {
+        if (matchStart + MATCH_HEADER_LENGTH > buf.writerIndex()) {
+            return UNKNOWN_PORT;
+        }
+
+        // Match length includes match header, but not trailing padding
+        final int matchEnd = Math.min(buf.writerIndex(),
+                matchStart + buf.getUnsignedShort(matchStart + EncodeConstants.SIZE_OF_SHORT_IN_BYTES));
+        int index = matchStart + MATCH_HEADER_LENGTH;
+        while (index + OXM_HEADER_LENGTH <= matchEnd) {
+            final int oxmClass = buf.getUnsignedShort(index);
+            final int oxmField = buf.getUnsignedByte(index + EncodeConstants.SIZE_OF_SHORT_IN_BYTES) >>> 1;
+            final int oxmLength = buf.getUnsignedByte(index + EncodeConstants.SIZE_OF_SHORT_IN_BYTES
+                    + EncodeConstants.SIZE_OF_BYTE_IN_BYTES);
+            final int valueIndex = index + OXM_HEADER_LENGTH;
+            if (oxmClass == OxmMatchConstants.OPENFLOW_BASIC_CLASS && oxmField == OxmMatchConstants.IN_PORT
+                    && oxmLength >= EncodeConstants.SIZE_OF_INT_IN_BYTES
+                    && valueIndex + EncodeConstants.SIZE_OF_INT_IN_BYTES <= matchEnd) {
+                return buf.getUnsignedInt(valueIndex);
+            }
+            index = valueIndex + oxmLength;
+        }
+        return UNKNOWN_PORT;
+    }
+
+    private static final class Bucket {
+        private long tokens;
+        private long lastRefill;
+
+        Bucket(final long tokens, final long now) {
+            this.tokens = tokens;
+            this.lastRefill = now;
+        }
+
+        void refill(final long now, final long nanosPerToken, final long burst) {
+            final long added = (now - lastRefill) / nanosPerToken;
+            if (added > 0) {
+                if (tokens + added >= burst) {
+                    tokens = burst;
+                    lastRefill = now;
+                } else {
+                    tokens += added;
+                    // Keep the remainder, so that refill rate does not depend on arrival pattern
+                    lastRefill += added * nanosPerToken;
+                }
+            }
+        }
+
+        boolean tryAcquire() {
+            if (tokens > 0) {
+                tokens--;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+/**
+ * Inbound pipeline handler capable of dropping packet-in messages before they are deserialized.
+ */
+public interface PacketInFilter {
+
+    /**
+     * @param enabled true if packet-in messages should be dropped
+     */
+    void setFilterPacketIns(boolean enabled);
+
+    /**
+     * @param enabled true if packet-in messages exceeding per ingress port and reason admission rate
+     *                should be dropped
+     */
+    void setThrottlePacketIns(boolean enabled);
+}
@@ -27,6 +27,10 @@ public enum PipelineHandlers {
      * Decodes incoming messages into message frames
      */
     OF_FRAME_DECODER,
+    /**
+     * Answers echo requests in message frames
+     */
+    OF_ECHO_RESPONDER,
     /**
      * Detects version of incoming OpenFlow Protocol message
      */
@@ -35,6 +39,11 @@ public enum PipelineHandlers {
      * Transforms OpenFlow Protocol byte messages into POJOs
      */
     OF_DECODER,
+    /**
+     * Decodes incoming messages into message frames, detects their version
+     * and transforms them into POJOs in a single handler
+     */
+    OF_FUSED_DECODER,
     /**
      * Transforms POJOs into OpenFlow Protocol byte messages
      */
@@ -10,8 +10,10 @@ package org.opendaylight.openflowjava.protocol.impl.core;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
+import io.netty.util.Timer;
 import org.opendaylight.openflowjava.protocol.api.connection.SwitchConnectionHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.OutboundQueueConfiguration;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
 import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
 
@@ -28,6 +30,11 @@ public abstract class ProtocolChannelInitializer<C extends Channel>
     private DeserializationFactory deserializationFactory;
     private TlsConfiguration tlsConfiguration;
     private boolean useBarrier;
+    private boolean useFusedDecoder;
+    private boolean answerEchoRequests;
+    private int packetInAdmissionRate;
+    private OutboundQueueConfiguration outboundQueueConfiguration = OutboundQueueConfiguration.DEFAULT;
+    private Timer rpcResponseTimer;
 
     /**
      * @param switchConnectionHandler the switchConnectionHandler to set
@@ -112,4 +119,75 @@ public abstract class ProtocolChannelInitializer<C extends Channel>
     public boolean useBarrier() {
         return useBarrier;
     }
+
+    /**
+     * @param useFusedDecoder
+     */
+    public void setUseFusedDecoder(final boolean useFusedDecoder) {
+        this.useFusedDecoder = useFusedDecoder;
+    }
+
+    /**
+     * @return useFusedDecoder
+     */
+    public boolean useFusedDecoder() {
+        return useFusedDecoder;
+    }
+
+    /**
+     * @param answerEchoRequests true if switch echo requests should be answered in the pipeline
+     */
+    public void setAnswerEchoRequests(final boolean answerEchoRequests) {
+        this.answerEchoRequests = answerEchoRequests;
+    }
+
+    /**
+     * @return answerEchoRequests
+     */
+    public boolean answerEchoRequests() {
+        return answerEchoRequests;
+    }
+
+    /**
+     * @param packetInAdmissionRate number of PACKET_INs per second admitted for each ingress port and reason
+     *                              while packet-in throttling is engaged
+     */
+    public void setPacketInAdmissionRate(final int packetInAdmissionRate) {
+        this.packetInAdmissionRate = packetInAdmissionRate;
+    }
+
+    /**
+     * @return packetInAdmissionRate
+     */
+    public int getPacketInAdmissionRate() {
+        return packetInAdmissionRate;
+    }
+
+    /**
+     * @param outboundQueueConfiguration sizing of outbound queue and channel write buffer
+     */
+    public void setOutboundQueueConfiguration(final OutboundQueueConfiguration outboundQueueConfiguration) {
+        this.outboundQueueConfiguration = outboundQueueConfiguration;
+    }
+
+    /**
+     * @return sizing of outbound queue and channel write buffer
+     */
+    public OutboundQueueConfiguration getOutboundQueueConfiguration() {
+        return outboundQueueConfiguration;
+    }
+
+    /**
+     * @param rpcResponseTimer timer driving RPC response deadlines of initialized connections
+     */
+    public void setRpcResponseTimer(final Timer rpcResponseTimer) {
+        this.rpcResponseTimer = rpcResponseTimer;
+    }
+
+    /**
+     * @return timer driving RPC response deadlines of initialized connections
+     */
+    public Timer getRpcResponseTimer() {
+        return rpcResponseTimer;
+    }
 }
\ No newline at end of file
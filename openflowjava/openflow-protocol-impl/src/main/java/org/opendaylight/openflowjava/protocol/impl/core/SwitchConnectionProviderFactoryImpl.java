@@ -15,6 +15,7 @@ import java.util.List;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.OutboundQueueConfiguration;
 import org.opendaylight.openflowjava.protocol.spi.connection.SwitchConnectionProvider;
 import org.opendaylight.openflowjava.protocol.spi.connection.SwitchConnectionProviderFactory;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
@@ -174,5 +175,55 @@ public class SwitchConnectionProviderFactoryImpl implements SwitchConnectionProv
         public boolean useBarrier() {
             return config.isUseBarrier();
         }
+
+        @Override
+        public int getQueueSegmentSize() {
+            return MoreObjects.firstNonNull(config.getQueueSegmentSize(),
+                    OutboundQueueConfiguration.DEFAULT.getSegmentSize());
+        }
+
+        @Override
+        public int getQueueSegmentPoolSize() {
+            final Long poolSize = config.getQueueSegmentPoolSize();
+            return poolSize == null ? OutboundQueueConfiguration.DEFAULT.getPooledSegments() : poolSize.intValue();
+        }
+
+        @Override
+        public int getWriteBufferLowWatermark() {
+            final Long watermark = config.getWriteBufferLowWatermark();
+            return watermark == null ? OutboundQueueConfiguration.DEFAULT.getLowWatermark() : watermark.intValue();
+        }
+
+        @Override
+        public int getWriteBufferHighWatermark() {
+            final Long watermark = config.getWriteBufferHighWatermark();
+            return watermark == null ? OutboundQueueConfiguration.DEFAULT.getHighWatermark() : watermark.intValue();
+        }
+
+        @Override
+        public boolean useAdaptiveWriteBuffer() {
+            return MoreObjects.firstNonNull(config.isAdaptiveWriteBuffer(), Boolean.FALSE);
+        }
+
+        @Override
+        public boolean useFusedDecoder() {
+            return MoreObjects.firstNonNull(config.isFusedDecoder(), Boolean.FALSE);
+        }
+
+        @Override
+        public boolean usePreEncoding() {
+            return MoreObjects.firstNonNull(config.isPreEncodeMessages(), Boolean.FALSE);
+        }
+
+        @Override
+        public boolean answerEchoRequests() {
+            return MoreObjects.firstNonNull(config.isAnswerEchoRequests(), Boolean.FALSE);
+        }
+
+        @Override
+        public int getPacketInAdmissionRate() {
+            final Long rate = config.getPacketInAdmissionRate();
+            return rate == null ? ConnectionConfiguration.DEFAULT_PACKET_IN_ADMISSION_RATE : rate.intValue();
+        }
     }
 }
@@ -10,9 +10,13 @@
 package org.opendaylight.openflowjava.protocol.impl.core;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.epoll.Epoll;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.SwitchConnectionHandler;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
@@ -34,6 +38,7 @@ import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey
 import org.opendaylight.openflowjava.protocol.api.keys.MatchEntrySerializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.OutboundQueueConfiguration;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializerRegistryImpl;
 import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
@@ -62,6 +67,9 @@ public class SwitchConnectionProviderImpl implements SwitchConnectionProvider, C
 
     private static final Logger LOG = LoggerFactory
             .getLogger(SwitchConnectionProviderImpl.class);
+    /** RPC response deadlines are measured in minutes, a coarse tick is sufficient */
+    private static final long RPC_RESPONSE_TIMER_TICK_MILLIS = 100;
+    private static final int RPC_RESPONSE_TIMER_WHEEL_SIZE = 1024;
     private SwitchConnectionHandler switchConnectionHandler;
     private ServerFacade serverFacade;
     private ConnectionConfiguration connConfig;
@@ -70,6 +78,8 @@ public class SwitchConnectionProviderImpl implements SwitchConnectionProvider, C
     private final DeserializerRegistry deserializerRegistry;
     private final DeserializationFactory deserializationFactory;
     private TcpConnectionInitializer connectionInitializer;
+    /** timer wheel driving RPC response deadlines of all connections, stopped on shutdown */
+    private HashedWheelTimer rpcResponseTimer;
 
     /** Constructor */
     public SwitchConnectionProviderImpl() {
@@ -101,7 +111,10 @@ public class SwitchConnectionProviderImpl implements SwitchConnectionProvider, C
             LOG.warn("Can not shutdown - not configured or started");
             throw new IllegalStateException("SwitchConnectionProvider is not started or not configured.");
         }
-        return serverFacade.shutdown();
+        final ListenableFuture<Boolean> result = serverFacade.shutdown();
+        final HashedWheelTimer timer = rpcResponseTimer;
+        result.addListener(timer::stop, MoreExecutors.directExecutor());
+        return result;
     }
 
     @Override
@@ -129,13 +142,23 @@ public class SwitchConnectionProviderImpl implements SwitchConnectionProvider, C
     private ServerFacade createAndConfigureServer() {
         LOG.debug("Configuring ..");
         ServerFacade server = null;
+        rpcResponseTimer = new HashedWheelTimer(new DefaultThreadFactory("ofj-rpc-response-timer", true),
+                RPC_RESPONSE_TIMER_TICK_MILLIS, TimeUnit.MILLISECONDS, RPC_RESPONSE_TIMER_WHEEL_SIZE);
         final ChannelInitializerFactory factory = new ChannelInitializerFactory();
+        factory.setRpcResponseTimer(rpcResponseTimer);
         factory.setSwitchConnectionHandler(switchConnectionHandler);
         factory.setSwitchIdleTimeout(connConfig.getSwitchIdleTimeout());
         factory.setTlsConfig(connConfig.getTlsConfiguration());
         factory.setSerializationFactory(serializationFactory);
         factory.setDeserializationFactory(deserializationFactory);
         factory.setUseBarrier(connConfig.useBarrier());
+        factory.setUseFusedDecoder(connConfig.useFusedDecoder());
+        factory.setAnswerEchoRequests(connConfig.answerEchoRequests());
+        factory.setPacketInAdmissionRate(connConfig.getPacketInAdmissionRate());
+        factory.setOutboundQueueConfiguration(new OutboundQueueConfiguration(connConfig.getQueueSegmentSize(),
+                connConfig.getQueueSegmentPoolSize(),
+                connConfig.getWriteBufferLowWatermark(), connConfig.getWriteBufferHighWatermark(),
+                connConfig.useAdaptiveWriteBuffer(), connConfig.usePreEncoding()));
         final TransportProtocol transportProtocol = (TransportProtocol) connConfig.getTransferProtocol();
 
         // Check if Epoll native transport is available.
@@ -68,7 +68,8 @@ public class TcpChannelInitializer extends ProtocolChannelInitializer<SocketChan
         LOG.debug("Incoming connection accepted - building pipeline");
         allChannels.add(ch);
         ConnectionFacade connectionFacade = null;
-        connectionFacade = connectionAdapterFactory.createConnectionFacade(ch, null, useBarrier());
+        connectionFacade = connectionAdapterFactory.createConnectionFacade(ch, null, useBarrier(),
+                getOutboundQueueConfiguration(), getRpcResponseTimer());
         try {
             LOG.debug("Calling OF plugin: {}", getSwitchConnectionHandler());
             getSwitchConnectionHandler().onSwitchConnected(connectionFacade);
@@ -102,12 +103,22 @@ public class TcpChannelInitializer extends ProtocolChannelInitializer<SocketChan
                 });
                 ch.pipeline().addLast(PipelineHandlers.SSL_HANDLER.name(), ssl);
             }
-            ch.pipeline().addLast(PipelineHandlers.OF_FRAME_DECODER.name(),
-                    new OFFrameDecoder(connectionFacade, tlsPresent));
-            ch.pipeline().addLast(PipelineHandlers.OF_VERSION_DETECTOR.name(), new OFVersionDetector());
-            final OFDecoder ofDecoder = new OFDecoder();
-            ofDecoder.setDeserializationFactory(getDeserializationFactory());
-            ch.pipeline().addLast(PipelineHandlers.OF_DECODER.name(), ofDecoder);
+            if (useFusedDecoder()) {
+                ch.pipeline().addLast(PipelineHandlers.OF_FUSED_DECODER.name(),
+                        new OFFusedDecoder(connectionFacade, tlsPresent, getDeserializationFactory(),
+                                getPacketInAdmissionRate(), answerEchoRequests()));
+            } else {
+                ch.pipeline().addLast(PipelineHandlers.OF_FRAME_DECODER.name(),
+                        new OFFrameDecoder(connectionFacade, tlsPresent));
+                if (answerEchoRequests()) {
+                    ch.pipeline().addLast(PipelineHandlers.OF_ECHO_RESPONDER.name(), new OFEchoResponder());
+                }
+                ch.pipeline().addLast(PipelineHandlers.OF_VERSION_DETECTOR.name(),
+                        new OFVersionDetector(getPacketInAdmissionRate()));
+                final OFDecoder ofDecoder = new OFDecoder();
+                ofDecoder.setDeserializationFactory(getDeserializationFactory());
+                ch.pipeline().addLast(PipelineHandlers.OF_DECODER.name(), ofDecoder);
+            }
             final OFEncoder ofEncoder = new OFEncoder();
             ofEncoder.setSerializationFactory(getSerializationFactory());
             ch.pipeline().addLast(PipelineHandlers.OF_ENCODER.name(), ofEncoder);
@@ -10,15 +10,11 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalCause;
-import com.google.common.cache.RemovalListener;
-import com.google.common.cache.RemovalNotification;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.util.Timer;
 import io.netty.util.concurrent.GenericFutureListener;
 import java.net.InetSocketAddress;
 import java.util.concurrent.Future;
@@ -71,6 +67,8 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
     /** after this time, RPC future response objects will be thrown away (in minutes) */
     private static final int RPC_RESPONSE_EXPIRATION = 1;
 
+    protected static final Exception DISCONNECTED_EXCEPTION = new RejectedExecutionException("Channel disconnected");
+
     private static final Exception QUEUE_FULL_EXCEPTION = new RejectedExecutionException("Output queue is full");
 
     /**
@@ -79,30 +77,21 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
      */
     private static final int DEFAULT_QUEUE_DEPTH = 1024;
 
-    protected static final RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>> REMOVAL_LISTENER = new RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>>() {
-        @Override
-        public void onRemoval(final RemovalNotification<RpcResponseKey, ResponseExpectedRpcListener<?>> notification) {
-            if (!notification.getCause().equals(RemovalCause.EXPLICIT)) {
-                notification.getValue().discard();
-            }
-        }
-    };
-
     protected final Channel channel;
     protected final InetSocketAddress address;
     protected boolean disconnectOccured = false;
     protected final ChannelOutboundQueue output;
 
-    /** expiring cache for future rpcResponses */
-    protected Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> responseCache;
+    /** table of rpcResponse listeners waiting for the switch to respond */
+    protected PendingResponseTable responseTable;
 
 
-    AbstractConnectionAdapter(@Nonnull final Channel channel, @Nullable final InetSocketAddress address) {
+    AbstractConnectionAdapter(@Nonnull final Channel channel, @Nullable final InetSocketAddress address,
+            @Nonnull final Timer rpcResponseTimer) {
         this.channel = Preconditions.checkNotNull(channel);
         this.address = address;
 
-        responseCache = CacheBuilder.newBuilder().concurrencyLevel(1)
-                .expireAfterWrite(RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES).removalListener(REMOVAL_LISTENER).build();
+        responseTable = new PendingResponseTable(rpcResponseTimer, RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES);
         this.output = new ChannelOutboundQueue(channel, DEFAULT_QUEUE_DEPTH, address);
         channel.pipeline().addLast(output);
     }
@@ -110,7 +99,7 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
     @Override
     public Future<Boolean> disconnect() {
         final ChannelFuture disconnectResult = channel.disconnect();
-        responseCache.invalidateAll();
+        responseTable.clear(DISCONNECTED_EXCEPTION);
         disconnectOccured = true;
 
         return handleTransportChannelFuture(disconnectResult);
@@ -235,19 +224,28 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
 
     /**
      * Used only for testing purposes
-     * @param cache replacement
+     * @param table replacement
      */
     @VisibleForTesting
-    void setResponseCache(final Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache) {
-        this.responseCache = cache;
+    void setResponseTable(final PendingResponseTable table) {
+        this.responseTable = table;
+    }
+
+    /**
+     * Return the number of RPCs waiting for a response from the switch
+     * @return in-flight RPC count
+     */
+    int getInFlightRpcCount() {
+        return responseTable.getInFlight();
     }
 
     /**
-     * Return cached RpcListener or {@code null} if not cached
+     * Remove and return RpcListener waiting for given response or {@code null} if there is none
+     * @param message response received from the switch
      * @return
      */
-    protected ResponseExpectedRpcListener<?> findRpcResponse(final RpcResponseKey key) {
-        return responseCache.getIfPresent(key);
+    protected ResponseExpectedRpcListener<?> takeRpcResponse(final OfHeader message) {
+        return responseTable.remove(message.getXid(), message.getImplementedInterface());
     }
 
     /**
@@ -259,21 +257,20 @@ abstract class AbstractConnectionAdapter implements ConnectionAdapter {
      * @return future object,
      *         <ul>
      *         <li>if send fails, {@link RpcResult} will contain errors and failed status</li>
-     *         <li>else {@link RpcResult} will be stored in responseCache and wait for particular timeout (
+     *         <li>else {@link RpcResult} will be stored in responseTable and wait for particular timeout (
      *         {@link ConnectionAdapterImpl#RPC_RESPONSE_EXPIRATION}),
      *         <ul>
      *         <li>either switch will manage to answer and then corresponding response message will be set into returned
      *         future</li>
-     *         <li>or response in cache will expire and returned future will be cancelled</li>
+     *         <li>or response in table will expire and returned future will be failed</li>
      *         </ul>
      *         </li>
      *         </ul>
      */
     protected <IN extends OfHeader, OUT extends OfHeader> ListenableFuture<RpcResult<OUT>> sendToSwitchExpectRpcResultFuture(
             final IN input, final Class<OUT> responseClazz, final String failureInfo) {
-        final RpcResponseKey key = new RpcResponseKey(input.getXid(), responseClazz.getName());
         final ResponseExpectedRpcListener<OUT> listener = new ResponseExpectedRpcListener<>(input, failureInfo,
-                responseCache, key);
+                responseTable, input.getXid(), responseClazz);
         return enqueueMessage(listener);
     }
 
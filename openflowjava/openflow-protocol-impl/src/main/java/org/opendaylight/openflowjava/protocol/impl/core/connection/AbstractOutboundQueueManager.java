@@ -9,8 +9,11 @@
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import java.net.InetSocketAddress;
@@ -18,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nonnull;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
+import org.opendaylight.openflowjava.protocol.impl.core.OFEncoder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoReplyInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoReplyInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoRequestMessage;
@@ -53,24 +57,19 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
         WRITING,
     }
 
-    /**
-     * Default low write watermark. Channel will become writable when number of outstanding
-     * bytes dips below this value.
-     */
-    private static final int DEFAULT_LOW_WATERMARK = 128 * 1024;
-
-    /**
-     * Default write high watermark. Channel will become un-writable when number of
-     * outstanding bytes hits this value.
-     */
-    private static final int DEFAULT_HIGH_WATERMARK = DEFAULT_LOW_WATERMARK * 2;
-
     private final AtomicBoolean flushScheduled = new AtomicBoolean();
     protected final ConnectionAdapterImpl parent;
     protected final InetSocketAddress address;
+    protected final OutboundQueueConfiguration configuration;
     protected final O currentQueue;
     private final T handler;
 
+    // Present only if watermarks are adapted at runtime, accessed from netty only
+    private final AdaptiveWriteBufferWaterMark adaptiveWaterMark;
+
+    // Present only if messages are serialized by threads committing them, accessed concurrently
+    private final OFEncoder preEncoder;
+
     // Accessed concurrently
     private volatile PipelineState state = PipelineState.IDLE;
 
@@ -86,10 +85,17 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
         }
     };
 
-    AbstractOutboundQueueManager(final ConnectionAdapterImpl parent, final InetSocketAddress address, final T handler) {
+    AbstractOutboundQueueManager(final ConnectionAdapterImpl parent, final InetSocketAddress address, final T handler,
+            final OutboundQueueConfiguration configuration) {
         this.parent = Preconditions.checkNotNull(parent);
         this.handler = Preconditions.checkNotNull(handler);
+        this.configuration = Preconditions.checkNotNull(configuration);
         this.address = address;
+        adaptiveWaterMark = configuration.isAdaptiveWatermarks() ? new AdaptiveWriteBufferWaterMark(
+                configuration.getLowWatermark(), configuration.getHighWatermark()) : null;
+        // Datagrams are wrapped by their encoder, so only stream channels can be written pre-encoded messages
+        preEncoder = configuration.isPreEncoding() && address == null
+                ? parent.getChannel().pipeline().get(OFEncoder.class) : null;
         /* Note: don't wish to use reflection here */
         currentQueue = initializeStackedOutboudnqueue();
         LOG.debug("Queue manager instantiated with queue {}", currentQueue);
@@ -122,8 +128,8 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
          * want to keep the difference above 64k, as that will ensure we use jam-packed
          * TCP packets. UDP will fragment as appropriate.
          */
-        ctx.channel().config().setWriteBufferHighWaterMark(DEFAULT_HIGH_WATERMARK);
-        ctx.channel().config().setWriteBufferLowWaterMark(DEFAULT_LOW_WATERMARK);
+        ctx.channel().config().setWriteBufferWaterMark(new WriteBufferWaterMark(configuration.getLowWatermark(),
+                configuration.getHighWatermark()));
 
         super.handlerAdded(ctx);
     }
@@ -154,6 +160,10 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
     public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
         super.channelWritabilityChanged(ctx);
 
+        if (adaptiveWaterMark != null && !ctx.channel().isWritable()) {
+            adaptiveWaterMark.onUnwritable();
+        }
+
         // The channel is writable again. There may be a flush task on the way, but let's
         // steal its work, potentially decreasing latency. Since there is a window between
         // now and when it will run, it may still pick up some more work to do.
@@ -248,16 +258,35 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
     }
 
     /**
-     * Wraps outgoing message and includes listener attached to this message
+     * Serializes message ahead of its write if configured to do so. May be invoked from any thread, serializing
+     * messages concurrently, as their order is kept by the queue.
+     *
+     * @param message message being committed to the queue, null if the reservation is being cancelled
+     * @return serialized message, or null if the message is to be serialized by OFEncoder in the pipeline
+     */
+    ByteBuf preEncode(final OfHeader message) {
+        if (preEncoder == null || message == null) {
+            return null;
+        }
+        return preEncoder.encode(parent.getChannel().alloc(), message);
+    }
+
+    /**
+     * Writes pre-encoded message, or wraps outgoing message and includes listener attached to this message
      * which is send to OFEncoder for serialization. Correct wrapper is
      * selected by communication pipeline.
      *
      * @param message
+     * @param encoded message serialized by {@link #preEncode(OfHeader)}, null if not serialized yet
      * @param now
      */
-    void writeMessage(final OfHeader message, final long now) {
-        final Object wrapper = makeMessageListenerWrapper(message);
-        parent.getChannel().write(wrapper);
+    void writeMessage(final OfHeader message, final ByteBuf encoded, final long now) {
+        if (encoded != null) {
+            parent.getChannel().write(encoded);
+        } else {
+            final Object wrapper = makeMessageListenerWrapper(message);
+            parent.getChannel().write(wrapper);
+        }
     }
 
     /**
@@ -328,6 +357,9 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
         if (entries > 0) {
             LOG.trace("Flushing channel {}", parent.getChannel());
             parent.getChannel().flush();
+            if (adaptiveWaterMark != null) {
+                adaptWaterMark();
+            }
         }
 
         if (LOG.isDebugEnabled()) {
@@ -339,6 +371,22 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
         state = PipelineState.IDLE;
     }
 
+    private void adaptWaterMark() {
+        // Outstanding bytes are derived from distance to the watermark the channel is going to cross next
+        final Channel channel = parent.getChannel();
+        final WriteBufferWaterMark waterMark = channel.config().getWriteBufferWaterMark();
+        final long pendingBytes = channel.isWritable()
+                ? Math.max(0, waterMark.high() - channel.bytesBeforeUnwritable())
+                : waterMark.low() + channel.bytesBeforeWritable();
+
+        if (adaptiveWaterMark.onFlush(pendingBytes)) {
+            LOG.debug("Channel {} write buffer watermarks adapted to {}/{}", parent.getChannel(),
+                    adaptiveWaterMark.getLowWatermark(), adaptiveWaterMark.getHighWatermark());
+            parent.getChannel().config().setWriteBufferWaterMark(new WriteBufferWaterMark(
+                    adaptiveWaterMark.getLowWatermark(), adaptiveWaterMark.getHighWatermark()));
+        }
+    }
+
     private void rescheduleFlush() {
         /*
          * We are almost ready to terminate. This is a bit tricky, because
@@ -12,6 +12,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Verify;
 import com.google.common.util.concurrent.FutureCallback;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 
 import java.util.ArrayList;
@@ -42,7 +43,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
     @GuardedBy("unflushedSegments")
     protected final List<StackedSegment> unflushedSegments = new ArrayList<>(2);
     @GuardedBy("unflushedSegments")
-    protected final List<StackedSegment> uncompletedSegments = new ArrayList<>(2);
+    protected final StackedSegmentRing uncompletedSegments;
 
     private volatile long lastXid = -1;
     private volatile long allocatedXid = -1;
@@ -55,9 +56,17 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
 
     protected final AbstractOutboundQueueManager<?, ?> manager;
 
-    AbstractStackedOutboundQueue(final AbstractOutboundQueueManager<?, ?> manager) {
+    // Pool of segment arrays and number of entries in each segment of this queue
+    private final StackedSegmentPool segmentPool;
+    protected final int segmentSize;
+
+    AbstractStackedOutboundQueue(final AbstractOutboundQueueManager<?, ?> manager,
+            final StackedSegmentPool segmentPool) {
         this.manager = Preconditions.checkNotNull(manager);
-        firstSegment = StackedSegment.create(0L);
+        this.segmentPool = Preconditions.checkNotNull(segmentPool);
+        segmentSize = segmentPool.getSegmentSize();
+        uncompletedSegments = new StackedSegmentRing(segmentSize);
+        firstSegment = StackedSegment.create(0L, segmentPool);
         uncompletedSegments.add(firstSegment);
         unflushedSegments.add(firstSegment);
     }
@@ -69,11 +78,11 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
 
     @GuardedBy("unflushedSegments")
     protected void ensureSegment(final StackedSegment first, final int offset) {
-        final int segmentOffset = offset / StackedSegment.SEGMENT_SIZE;
+        final int segmentOffset = offset / segmentSize;
         LOG.debug("Queue {} slow offset {} maps to {} segments {}", this, offset, segmentOffset, unflushedSegments.size());
 
         for (int i = unflushedSegments.size(); i <= segmentOffset; ++i) {
-            final StackedSegment newSegment = StackedSegment.create(first.getBaseXid() + (StackedSegment.SEGMENT_SIZE * i));
+            final StackedSegment newSegment = StackedSegment.create(first.getBaseXid() + ((long) segmentSize * i), segmentPool);
             LOG.debug("Adding segment {}", newSegment);
             unflushedSegments.add(newSegment);
         }
@@ -89,7 +98,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
         final long xid = LAST_XID_OFFSET_UPDATER.incrementAndGet(this);
         final StackedSegment fastSegment = firstSegment;
 
-        if (xid >= fastSegment.getBaseXid() + StackedSegment.SEGMENT_SIZE) {
+        if (xid >= fastSegment.getBaseXid() + segmentSize) {
             if (xid >= allocatedXid) {
                 // Multiple segments, this a slow path
                 LOG.debug("Queue {} falling back to slow reservation for XID {}", this, xid);
@@ -143,17 +152,18 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
             }
 
             LOG.trace("Queue {} flushing entry at offset {}", this, flushOffset);
+            final ByteBuf encoded = entry.takeEncoded();
             final OfHeader message = entry.takeMessage();
             flushOffset++;
             entries++;
 
             if (message != null) {
-                manager.writeMessage(message, now);
+                manager.writeMessage(message, encoded, now);
             } else {
                 entry.complete(null);
             }
 
-            if (flushOffset >= StackedSegment.SEGMENT_SIZE) {
+            if (flushOffset >= segmentSize) {
                 /*
                  * Slow path: purge the current segment unless it's the last one.
                  * If it is, we leave it for replacement when a new reservation
@@ -181,7 +191,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
 
                     // Update the shutdown offset
                     if (shutdownOffset != null) {
-                        shutdownOffset -= StackedSegment.SEGMENT_SIZE;
+                        shutdownOffset -= segmentSize;
                     }
 
                     // Allow reservations back on the fast path by publishing the new first segment
@@ -197,49 +207,37 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
     }
 
     boolean pairRequest(final OfHeader message) {
-        Iterator<StackedSegment> it = uncompletedSegments.iterator();
-        while (it.hasNext()) {
-            final StackedSegment queue = it.next();
-            final OutboundQueueEntry entry = queue.pairRequest(message);
-            if (entry == null) {
-                continue;
-            }
+        // Segment is found directly from XID, so pairing does not depend on number of uncompleted segments
+        final StackedSegment queue = uncompletedSegments.find(message.getXid());
+        final OutboundQueueEntry entry = queue == null ? null : queue.pairRequest(message);
+        if (entry == null) {
+            LOG.debug("Failed to find completion for message {}", message);
+            return false;
+        }
 
-            LOG.trace("Queue {} accepted response {}", queue, message);
-
-            // This has been a barrier request, we need to flush all
-            // previous queues
-            if (entry.isBarrier() && uncompletedSegments.size() > 1) {
-                LOG.trace("Queue {} indicated request was a barrier", queue);
-
-                it = uncompletedSegments.iterator();
-                while (it.hasNext()) {
-                    final StackedSegment q = it.next();
-
-                    // We want to complete all queues before the current one, we will
-                    // complete the current queue below
-                    if (!queue.equals(q)) {
-                        LOG.trace("Queue {} is implied finished", q);
-                        q.completeAll();
-                        it.remove();
-                        q.recycle();
-                    } else {
-                        break;
-                    }
-                }
-            }
+        LOG.trace("Queue {} accepted response {}", queue, message);
 
-            if (queue.isComplete()) {
-                LOG.trace("Queue {} is finished", queue);
-                it.remove();
-                queue.recycle();
-            }
+        // This has been a barrier request, we need to flush all
+        // previous queues
+        if (entry.isBarrier() && uncompletedSegments.size() > 1) {
+            LOG.trace("Queue {} indicated request was a barrier", queue);
+
+            // We want to complete all queues before the current one, we will
+            // complete the current queue below
+            uncompletedSegments.removeBefore(queue, q -> {
+                LOG.trace("Queue {} is implied finished", q);
+                q.completeAll();
+                q.recycle();
+            });
+        }
 
-            return true;
+        if (queue.isComplete()) {
+            LOG.trace("Queue {} is finished", queue);
+            uncompletedSegments.remove(queue);
+            queue.recycle();
         }
 
-        LOG.debug("Failed to find completion for message {}", message);
-        return false;
+        return true;
     }
 
     boolean needsFlush() {
@@ -269,8 +267,8 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
             // Increment the offset by the segment size, preventing fast path allocations,
             // since we are holding the slow path lock, any reservations will see the queue
             // in shutdown and fail accordingly.
-            final long xid = LAST_XID_OFFSET_UPDATER.addAndGet(this, StackedSegment.SEGMENT_SIZE);
-            shutdownOffset = (int) (xid - firstSegment.getBaseXid() - StackedSegment.SEGMENT_SIZE);
+            final long xid = LAST_XID_OFFSET_UPDATER.addAndGet(this, segmentSize);
+            shutdownOffset = (int) (xid - firstSegment.getBaseXid() - segmentSize);
 
             // Fails all uncompleted entries, because they will never be completed due to disconnected channel.
             return lockedFailSegments(uncompletedSegments.iterator());
@@ -308,7 +306,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
         Verify.verify(calcOffset <= Integer.MAX_VALUE);
         final int fastOffset = (int) calcOffset;
 
-        if (fastOffset >= StackedSegment.SEGMENT_SIZE) {
+        if (fastOffset >= segmentSize) {
             LOG.debug("Queue {} falling back to slow commit of XID {} at offset {}", this, xid, fastOffset);
 
             final StackedSegment segment;
@@ -320,10 +318,10 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
                 slowOffset = (int) slowCalcOffset;
 
                 LOG.debug("Queue {} recalculated offset of XID {} to {}", this, xid, slowOffset);
-                segment = unflushedSegments.get(slowOffset / StackedSegment.SEGMENT_SIZE);
+                segment = unflushedSegments.get(slowOffset / segmentSize);
             }
 
-            final int segOffset = slowOffset % StackedSegment.SEGMENT_SIZE;
+            final int segOffset = slowOffset % segmentSize;
             LOG.debug("Queue {} slow commit of XID {} completed at offset {} (segment {} offset {})", this, xid, slowOffset, segment, segOffset);
             return segment.getEntry(segOffset);
         }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+/**
+ * Adapts channel write buffer watermarks to observed channel behavior. Watermarks are evaluated once per
+ * {@link #SAMPLE_FLUSHES} flushes:
+ * <ul>
+ * <li>if the channel became un-writable in more than one of {@link #UNWRITABLE_RATIO} flushes, the watermarks
+ * are doubled, so that the channel does not keep toggling its writability (fast link, large TCP window),</li>
+ * <li>if the channel never became un-writable and outstanding bytes stayed below half of the low watermark,
+ * the watermarks are halved, so that idle connections do not reserve unneeded buffer space.</li>
+ * </ul>
+ * Watermarks stay within {@link #RANGE_FACTOR} times the configured watermarks in either direction and keep
+ * the configured low/high ratio.
+ *
+ * Not thread-safe, expected to be accessed from Netty thread only.
+ */
+final class AdaptiveWriteBufferWaterMark {
+    static final int SAMPLE_FLUSHES = 256;
+    static final int UNWRITABLE_RATIO = 8;
+    static final int RANGE_FACTOR = 4;
+
+    private final int minHighWatermark;
+    private final int maxHighWatermark;
+    private final double lowRatio;
+
+    private int lowWatermark;
+    private int highWatermark;
+    private int flushes;
+    private int unwritableChanges;
+    private long maxPendingBytes;
+
+    AdaptiveWriteBufferWaterMark(final int lowWatermark, final int highWatermark) {
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        this.lowRatio = (double) lowWatermark / highWatermark;
+        this.minHighWatermark = Math.max(1, highWatermark / RANGE_FACTOR);
+        this.maxHighWatermark = (int) Math.min(Integer.MAX_VALUE, (long) highWatermark * RANGE_FACTOR);
+    }
+
+    int getLowWatermark() {
+        return lowWatermark;
+    }
+
+    int getHighWatermark() {
+        return highWatermark;
+    }
+
+    /**
+     * Record that the channel became un-writable.
+     */
+    void onUnwritable() {
+        unwritableChanges++;
+    }
+
+    /**
+     * Record a flush and re-evaluate watermarks if enough flushes were observed.
+     *
+     * @param pendingBytes number of bytes outstanding in channel after the flush
+     * @return true if watermarks were changed
+     */
+    boolean onFlush(final long pendingBytes) {
+        maxPendingBytes = Math.max(maxPendingBytes, pendingBytes);
+        if (++flushes < SAMPLE_FLUSHES) {
+            return false;
+        }
+
+        final int newHighWatermark;
+        if (unwritableChanges * UNWRITABLE_RATIO > flushes) {
+            newHighWatermark = (int) Math.min(maxHighWatermark, 2L * highWatermark);
+        } else if (unwritableChanges == 0 && maxPendingBytes < lowWatermark / 2) {
+            newHighWatermark = Math.max(minHighWatermark, highWatermark / 2);
+        } else {
+            newHighWatermark = highWatermark;
+        }
+
+        flushes = 0;
+        unwritableChanges = 0;
+        maxPendingBytes = 0;
+
+        if (newHighWatermark == highWatermark) {
+            return false;
+        }
+
+        highWatermark = newHighWatermark;
+        lowWatermark = Math.max(1, (int) (newHighWatermark * lowRatio));
+        return true;
+    }
+}
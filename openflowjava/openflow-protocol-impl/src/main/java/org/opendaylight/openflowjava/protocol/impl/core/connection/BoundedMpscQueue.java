@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for multiple producers and a single consumer, backed by a preallocated ring of slots.
+ * Each slot carries a sequence number, which tells producers whether the slot is free for a particular lap and
+ * the consumer whether an element has been published into it. Producers contend only on a single CAS of the
+ * tail index and never allocate. The ring is sized to the next power of two of at least two slots, the requested
+ * capacity is enforced against the consumer's position.
+ *
+ * {@link #offer(Object)}, {@link #isEmpty()} and {@link #size()} are safe to invoke from any thread, {@link #poll()}
+ * and {@link #drain(Consumer, int)} may be invoked only from one thread at a time.
+ *
+ * @param <E> element type
+ */
+final class BoundedMpscQueue<E> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<BoundedMpscQueue> TAIL_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(BoundedMpscQueue.class, "tail");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<BoundedMpscQueue> HEAD_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(BoundedMpscQueue.class, "head");
+
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final int capacity;
+    private final int mask;
+
+    // Next position to be claimed by a producer
+    private volatile long tail = 0;
+    // Next position to be consumed, written only by the consumer
+    private volatile long head = 0;
+
+    /**
+     * @param capacity maximum number of elements in the queue
+     */
+    BoundedMpscQueue(final int capacity) {
+        Preconditions.checkArgument(capacity > 0 && capacity <= MAX_CAPACITY, "Capacity %s is out of range",
+                capacity);
+        // A single slot cannot tell a published element from a free slot of the next lap
+        final int size = capacity == 1 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; ++i) {
+            sequences.set(i, i);
+        }
+        this.capacity = capacity;
+        this.mask = size - 1;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Enqueue an element, if there is a free slot.
+     *
+     * @param element element to enqueue, may not be null
+     * @return true if the element was enqueued, false if the queue is full
+     */
+    boolean offer(final E element) {
+        Preconditions.checkNotNull(element);
+
+        while (true) {
+            final long pos = tail;
+            if (pos - head >= capacity) {
+                return false;
+            }
+
+            final int index = (int) pos & mask;
+            final long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (TAIL_UPDATER.compareAndSet(this, pos, pos + 1)) {
+                    elements.lazySet(index, element);
+                    // Publishes the element to the consumer
+                    sequences.lazySet(index, pos + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                // The slot still holds an element from the previous lap
+                return false;
+            }
+
+            // Another producer has claimed the position, retry with a fresh tail
+        }
+    }
+
+    /**
+     * Dequeue the oldest published element.
+     *
+     * @return dequeued element, or null if there is no published element
+     */
+    E poll() {
+        final long pos = head;
+        final int index = (int) pos & mask;
+        if (sequences.get(index) != pos + 1) {
+            return null;
+        }
+
+        final E ret = elements.get(index);
+        elements.lazySet(index, null);
+        // Hands the slot over to producers for the next lap
+        sequences.lazySet(index, pos + mask + 1);
+        HEAD_UPDATER.lazySet(this, pos + 1);
+        return ret;
+    }
+
+    /**
+     * Dequeue up to specified number of published elements, passing them to a consumer in order.
+     *
+     * @param consumer element consumer
+     * @param limit maximum number of elements to dequeue
+     * @return number of elements dequeued
+     */
+    int drain(final Consumer<? super E> consumer, final int limit) {
+        int ret = 0;
+        while (ret < limit) {
+            final E e = poll();
+            if (e == null) {
+                break;
+            }
+
+            consumer.accept(e);
+            ++ret;
+        }
+        return ret;
+    }
+
+    /**
+     * Check whether the next element has been published. An element whose producer has claimed a slot but not
+     * yet published it is not visible, that producer is expected to notice the element once it finishes.
+     *
+     * @return true if there is no element to poll
+     */
+    boolean isEmpty() {
+        final long pos = head;
+        return sequences.get((int) pos & mask) != pos + 1;
+    }
+
+    /**
+     * Return an estimate of the number of elements in the queue, including those which are being published.
+     *
+     * @return number of elements, between 0 and {@link #capacity()}
+     */
+    int size() {
+        final long ret = tail - head;
+        return ret <= 0 ? 0 : (int) Math.min(ret, capacity);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("capacity", capacity()).add("size", size()).toString();
+    }
+}
@@ -17,18 +17,20 @@ import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import java.net.InetSocketAddress;
-import java.util.Queue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.openflowjava.statistics.CounterEventTypes;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Channel handler which bypasses wraps on top of normal Netty pipeline, allowing
  * writes to be enqueued from any thread, it then schedules a task pipeline task,
- * which shuffles messages from the queue into the pipeline.
+ * which shuffles messages from the queue into the pipeline. The queue is a bounded lock-free
+ * ring, so producers do not contend on locks nor allocate when enqueueing.
  *
  * Note this is an *Inbound* handler, as it reacts to channel writability changing,
  * which in the Netty vocabulary is an inbound event. This has already changed in
@@ -60,18 +62,17 @@ final class ChannelOutboundQueue extends ChannelInboundHandlerAdapter {
     }
 
     /**
-     * This is the default upper bound we place on the flush task running
-     * a single iteration. We relinquish control after about this amount
-     * of time.
+     * Number of messages written to the channel between checks of its writability.
      */
-    private static final long DEFAULT_WORKTIME_MICROS = TimeUnit.MILLISECONDS.toMicros(100);
+    private static final int WRITE_BATCH_MSGS = 64;
 
     /**
-     * We re-check the time spent flushing every this many messages. We do this because
-     * checking after each message may prove to be CPU-intensive. Set to Integer.MAX_VALUE
-     * or similar to disable the feature.
+     * This is the upper bound we place on the number of messages written by the flush task
+     * in a single iteration. We relinquish control after writing these many messages, any
+     * remaining messages are written by a rescheduled task.
      */
-    private static final int WORKTIME_RECHECK_MSGS = 64;
+    private static final int MAX_FLUSH_MSGS = 1024;
+
     private static final Logger LOG = LoggerFactory.getLogger(ChannelOutboundQueue.class);
 
     // Passed to executor to request triggering of flush
@@ -90,8 +91,8 @@ final class ChannelOutboundQueue extends ChannelInboundHandlerAdapter {
             AtomicIntegerFieldUpdater.newUpdater(ChannelOutboundQueue.class, "flushScheduled");
     private volatile int flushScheduled = 0;
 
-    private final Queue<MessageHolder<?>> queue;
-    private final long maxWorkTime;
+    private final LongAdder rejected = new LongAdder();
+    private final BoundedMpscQueue<MessageHolder<?>> queue;
     private final Channel channel;
     private final InetSocketAddress address;
 
@@ -99,14 +100,12 @@ final class ChannelOutboundQueue extends ChannelInboundHandlerAdapter {
         Preconditions.checkArgument(queueDepth > 0, "Queue depth has to be positive");
 
         /*
-         * This looks like a good trade-off for throughput. Alternative is
-         * to use an ArrayBlockingQueue -- but that uses a single lock to
-         * synchronize both producers and consumers, potentially leading
-         * to less throughput.
+         * Producers only contend on a single CAS and the flush task is
+         * the only consumer, hence a multi-producer/single-consumer ring
+         * fits well.
          */
-        this.queue = new LinkedBlockingQueue<>(queueDepth);
+        this.queue = new BoundedMpscQueue<>(queueDepth);
         this.channel = Preconditions.checkNotNull(channel);
-        this.maxWorkTime = TimeUnit.MICROSECONDS.toNanos(DEFAULT_WORKTIME_MICROS);
         this.address = address;
     }
 
@@ -127,9 +126,29 @@ final class ChannelOutboundQueue extends ChannelInboundHandlerAdapter {
         }
 
         LOG.debug("Message queue is full");
+        rejected.increment();
+        StatisticsCounters.getInstance().incrementCounter(CounterEventTypes.DS_OUTBOUND_QUEUE_REJECTED);
         return false;
     }
 
+    /**
+     * Return the number of messages currently waiting in the queue.
+     *
+     * @return queue depth estimate
+     */
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Return the number of messages which were not enqueued because the queue was full.
+     *
+     * @return rejected message count
+     */
+    long getRejectedMessages() {
+        return rejected.sum();
+    }
+
     private void scheduleFlush(final EventExecutor executor) {
         if (FLUSH_SCHEDULED_UPDATER.compareAndSet(this, 0, 1)) {
             LOG.trace("Scheduling flush task");
@@ -164,47 +183,29 @@ final class ChannelOutboundQueue extends ChannelInboundHandlerAdapter {
     private synchronized void flush() {
 
         final long start = System.nanoTime();
-        final long deadline = start + maxWorkTime;
 
         LOG.debug("Dequeuing messages to channel {}", channel);
 
-        long messages = 0;
-        for (;; ++messages) {
+        /*
+         * Drain the queue in batches, re-checking writability between them
+         * and stopping once MAX_FLUSH_MSGS have been written. Outbound buffer
+         * water marks are soft limits, so overshooting them by at most one
+         * batch is fine.
+         */
+        int messages = 0;
+        while (messages < MAX_FLUSH_MSGS) {
             if (!channel.isWritable()) {
                 LOG.trace("Channel is no longer writable");
                 break;
             }
 
-            final MessageHolder<?> h = queue.poll();
-            if (h == null) {
+            final int batch = Math.min(WRITE_BATCH_MSGS, MAX_FLUSH_MSGS - messages);
+            final int drained = queue.drain(this::write, batch);
+            messages += drained;
+            if (drained < batch) {
                 LOG.trace("The queue is completely drained");
                 break;
             }
-
-            final GenericFutureListener<Future<Void>> l = h.takeListener();
-
-            final ChannelFuture p;
-            if (address == null) {
-                p = channel.write(new MessageListenerWrapper(h.takeMessage(), l));
-            } else {
-                p = channel.write(new UdpMessageListenerWrapper(h.takeMessage(), l, address));
-            }
-            if (l != null) {
-                p.addListener(l);
-            }
-
-            /*
-             * Check every WORKTIME_RECHECK_MSGS for exceeded time.
-             *
-             * XXX: given we already measure our flushing throughput, we
-             *      should be able to perform dynamic adjustments here.
-             *      is that additional complexity needed, though?
-             */
-            if ((messages % WORKTIME_RECHECK_MSGS) == 0 && System.nanoTime() >= deadline) {
-                LOG.trace("Exceeded allotted work time {}us",
-                        TimeUnit.NANOSECONDS.toMicros(maxWorkTime));
-                break;
-            }
         }
 
         if (messages > 0) {
@@ -234,6 +235,20 @@ final class ChannelOutboundQueue extends ChannelInboundHandlerAdapter {
         conditionalFlush();
     }
 
+    private void write(final MessageHolder<?> holder) {
+        final GenericFutureListener<Future<Void>> l = holder.takeListener();
+
+        final ChannelFuture p;
+        if (address == null) {
+            p = channel.write(new MessageListenerWrapper(holder.takeMessage(), l));
+        } else {
+            p = channel.write(new UdpMessageListenerWrapper(holder.takeMessage(), l, address));
+        }
+        if (l != null) {
+            p.addListener(l);
+        }
+    }
+
     private void conditionalFlush(final ChannelHandlerContext ctx) {
         Preconditions.checkState(ctx.channel().equals(channel), "Inconsistent channel %s with context %s", channel, ctx);
         conditionalFlush();
@@ -273,6 +288,7 @@ final class ChannelOutboundQueue extends ChannelInboundHandlerAdapter {
 
     @Override
     public String toString() {
-        return String.format("Channel %s queue [%s messages flushing=%s]", channel, queue.size(), flushScheduled);
+        return String.format("Channel %s queue [%s messages rejected=%s flushing=%s]", channel, queue.size(),
+            rejected.sum(), flushScheduled);
     }
 }
@@ -10,6 +10,7 @@
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import io.netty.channel.Channel;
+import io.netty.util.Timer;
 import java.net.InetSocketAddress;
 
 /**
@@ -22,8 +23,11 @@ public interface ConnectionAdapterFactory {
      * @param ch {@link Channel} channel
      * @param address {@link InetSocketAddress}
      * @param useBarrier
+     * @param queueConfiguration sizing of outbound queue and channel write buffer
+     * @param rpcResponseTimer timer driving RPC response deadlines of the connection
      * @return connection adapter tcp-implementation
      */
-    ConnectionFacade createConnectionFacade(Channel ch, InetSocketAddress address, boolean useBarrier);
+    ConnectionFacade createConnectionFacade(Channel ch, InetSocketAddress address, boolean useBarrier,
+            OutboundQueueConfiguration queueConfiguration, Timer rpcResponseTimer);
 
 }
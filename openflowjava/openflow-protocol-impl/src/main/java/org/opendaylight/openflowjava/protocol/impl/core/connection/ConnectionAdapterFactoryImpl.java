@@ -10,6 +10,7 @@
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import io.netty.channel.Channel;
+import io.netty.util.Timer;
 import java.net.InetSocketAddress;
 
 /**
@@ -24,8 +25,9 @@ public class ConnectionAdapterFactoryImpl implements ConnectionAdapterFactory {
      */
 	@Override
     public ConnectionFacade createConnectionFacade(final Channel ch, final InetSocketAddress address,
-            final boolean useBarrier) {
-        return new ConnectionAdapterImpl(ch, address, useBarrier);
+            final boolean useBarrier, final OutboundQueueConfiguration queueConfiguration,
+            final Timer rpcResponseTimer) {
+        return new ConnectionAdapterImpl(ch, address, useBarrier, queueConfiguration, rpcResponseTimer);
     }
 
 }
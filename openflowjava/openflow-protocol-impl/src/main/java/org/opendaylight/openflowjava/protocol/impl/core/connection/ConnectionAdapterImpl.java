@@ -11,12 +11,14 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.base.Preconditions;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.util.Timer;
 import java.net.InetSocketAddress;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionReadyListener;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandlerRegistration;
 import org.opendaylight.openflowjava.protocol.api.extensibility.AlienMessageListener;
-import org.opendaylight.openflowjava.protocol.impl.core.OFVersionDetector;
+import org.opendaylight.openflowjava.protocol.impl.core.PacketInFilter;
 import org.opendaylight.openflowjava.protocol.impl.core.PipelineHandlers;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoRequestMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ErrorMessage;
@@ -50,9 +52,10 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
     private SystemNotificationsListener systemListener;
     private AlienMessageListener alienMessageListener;
     private AbstractOutboundQueueManager<?, ?> outputManager;
-    private OFVersionDetector versionDetector;
+    private PacketInFilter packetInFilter;
 
     private final boolean useBarrier;
+    private final OutboundQueueConfiguration queueConfiguration;
 
     /**
      * Default constructor.
@@ -60,10 +63,27 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
      * @param address client address (used only in case of UDP communication,
      *                as there is no need to store address over tcp (stable channel))
      * @param useBarrier value is configurable by configSubsytem
+     * @param rpcResponseTimer timer driving RPC response deadlines, owned by the caller
      */
-    public ConnectionAdapterImpl(final Channel channel, final InetSocketAddress address, final boolean useBarrier) {
-        super(channel, address);
+    public ConnectionAdapterImpl(final Channel channel, final InetSocketAddress address, final boolean useBarrier,
+            final Timer rpcResponseTimer) {
+        this(channel, address, useBarrier, OutboundQueueConfiguration.DEFAULT, rpcResponseTimer);
+    }
+
+    /**
+     * Constructor with outbound queue configuration.
+     * @param channel the channel to be set - used for communication
+     * @param address client address (used only in case of UDP communication,
+     *                as there is no need to store address over tcp (stable channel))
+     * @param useBarrier value is configurable by configSubsytem
+     * @param queueConfiguration sizing of outbound queue and channel write buffer
+     * @param rpcResponseTimer timer driving RPC response deadlines, owned by the caller
+     */
+    public ConnectionAdapterImpl(final Channel channel, final InetSocketAddress address, final boolean useBarrier,
+            final OutboundQueueConfiguration queueConfiguration, final Timer rpcResponseTimer) {
+        super(channel, address, rpcResponseTimer);
         this.useBarrier = useBarrier;
+        this.queueConfiguration = Preconditions.checkNotNull(queueConfiguration);
         LOG.debug("ConnectionAdapter created");
     }
 
@@ -98,7 +118,7 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
             // System events
             if (message instanceof DisconnectEvent) {
                 systemListener.onDisconnectEvent((DisconnectEvent) message);
-                responseCache.invalidateAll();
+                responseTable.clear(DISCONNECTED_EXCEPTION);
                 disconnectOccured = true;
             } else if (message instanceof SwitchIdleEvent) {
                 systemListener.onSwitchIdleEvent((SwitchIdleEvent) message);
@@ -142,13 +162,11 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
             if (alienMessageListener != null && alienMessageListener.onAlienMessage((OfHeader) message)) {
                 LOG.debug("Alien message {} received", message.getImplementedInterface());
             } else if (outputManager == null || !outputManager.onMessage((OfHeader) message)) {
-                final RpcResponseKey key = createRpcResponseKey((OfHeader) message);
-                final ResponseExpectedRpcListener<?> listener = findRpcResponse(key);
+                final ResponseExpectedRpcListener<?> listener = takeRpcResponse((OfHeader) message);
                 if (listener != null) {
                     LOG.debug("Corresponding rpcFuture found");
                     listener.completed((OfHeader) message);
                     LOG.debug("After setting rpcFuture");
-                    responseCache.invalidate(key);
                 }
             }
         } else {
@@ -156,10 +174,6 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
         }
     }
 
-    private static RpcResponseKey createRpcResponseKey(final OfHeader message) {
-        return new RpcResponseKey(message.getXid(), message.getImplementedInterface().getName());
-    }
-
     @Override
     public void checkListeners() {
         final StringBuilder buffer =  new StringBuilder();
@@ -178,8 +192,13 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
 
     @Override
     public void fireConnectionReadyNotification() {
-        versionDetector = (OFVersionDetector) channel.pipeline().get(PipelineHandlers.OF_VERSION_DETECTOR.name());
-        Preconditions.checkState(versionDetector != null);
+        ChannelHandler filter = channel.pipeline().get(PipelineHandlers.OF_VERSION_DETECTOR.name());
+        if (filter == null) {
+            filter = channel.pipeline().get(PipelineHandlers.OF_FUSED_DECODER.name());
+        }
+        Preconditions.checkState(filter instanceof PacketInFilter, "No packet-in filter found in %s",
+                channel.pipeline());
+        packetInFilter = (PacketInFilter) filter;
 
         new Thread(new Runnable() {
             @Override
@@ -196,10 +215,11 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
 
         final AbstractOutboundQueueManager<T, ?> ret;
         if (useBarrier) {
-            ret = new OutboundQueueManager<>(this, address, handler, maxQueueDepth, maxBarrierNanos);
+            ret = new OutboundQueueManager<>(this, address, handler, maxQueueDepth, maxBarrierNanos,
+                    queueConfiguration);
         } else {
             LOG.warn("OutboundQueueManager without barrier is started.");
-            ret = new OutboundQueueManagerNoBarrier<>(this, address, handler);
+            ret = new OutboundQueueManagerNoBarrier<>(this, address, handler, queueConfiguration);
         }
 
         outputManager = ret;
@@ -227,7 +247,13 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
 
     @Override
     public void setPacketInFiltering(final boolean enabled) {
-        versionDetector.setFilterPacketIns(enabled);
+        packetInFilter.setFilterPacketIns(enabled);
         LOG.debug("PacketIn filtering {}abled", enabled ? "en" : "dis");
     }
+
+    @Override
+    public void setPacketInThrottling(final boolean enabled) {
+        packetInFilter.setThrottlePacketIns(enabled);
+        LOG.debug("PacketIn throttling {}abled", enabled ? "en" : "dis");
+    }
 }
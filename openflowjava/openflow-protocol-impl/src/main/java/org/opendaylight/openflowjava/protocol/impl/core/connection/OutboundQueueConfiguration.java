@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import org.opendaylight.openflowjava.protocol.api.connection.ConnectionConfiguration;
+
+/**
+ * Sizing of outbound queue and channel write buffer of switch connections. Connections sharing one configuration
+ * also share its pool of recycled queue segments. Optionally, messages are serialized by threads committing them
+ * to the queue, so that the channel's event loop only writes them out.
+ */
+public final class OutboundQueueConfiguration {
+
+    /**
+     * Default low write watermark. Channel will become writable when number of outstanding
+     * bytes dips below this value.
+     */
+    static final int DEFAULT_LOW_WATERMARK = ConnectionConfiguration.DEFAULT_WRITE_BUFFER_LOW_WATERMARK;
+
+    /**
+     * Default write high watermark. Channel will become un-writable when number of
+     * outstanding bytes hits this value.
+     */
+    static final int DEFAULT_HIGH_WATERMARK = ConnectionConfiguration.DEFAULT_WRITE_BUFFER_HIGH_WATERMARK;
+
+    /**
+     * Default maximum number of recycled segments retained for reuse.
+     */
+    static final int DEFAULT_POOLED_SEGMENTS = ConnectionConfiguration.DEFAULT_QUEUE_SEGMENT_POOL_SIZE;
+
+    public static final OutboundQueueConfiguration DEFAULT = new OutboundQueueConfiguration(
+            StackedSegment.SEGMENT_SIZE, DEFAULT_POOLED_SEGMENTS, DEFAULT_LOW_WATERMARK, DEFAULT_HIGH_WATERMARK,
+            false);
+
+    private final StackedSegmentPool segmentPool;
+    private final int segmentSize;
+    private final int pooledSegments;
+    private final int lowWatermark;
+    private final int highWatermark;
+    private final boolean adaptiveWatermarks;
+    private final boolean preEncoding;
+
+    /**
+     * @param segmentSize number of entries in each outbound queue segment
+     * @param pooledSegments maximum number of recycled segments retained for reuse by connections sharing
+     *                       this configuration
+     * @param lowWatermark channel becomes writable when number of outstanding bytes dips below this value
+     * @param highWatermark channel becomes un-writable when number of outstanding bytes hits this value
+     * @param adaptiveWatermarks adapt watermarks to channel writability changes observed at runtime
+     */
+    public OutboundQueueConfiguration(final int segmentSize, final int pooledSegments, final int lowWatermark,
+            final int highWatermark, final boolean adaptiveWatermarks) {
+        this(segmentSize, pooledSegments, lowWatermark, highWatermark, adaptiveWatermarks, false);
+    }
+
+    /**
+     * @param segmentSize number of entries in each outbound queue segment
+     * @param pooledSegments maximum number of recycled segments retained for reuse by connections sharing
+     *                       this configuration
+     * @param lowWatermark channel becomes writable when number of outstanding bytes dips below this value
+     * @param highWatermark channel becomes un-writable when number of outstanding bytes hits this value
+     * @param adaptiveWatermarks adapt watermarks to channel writability changes observed at runtime
+     * @param preEncoding serialize messages in threads committing them to outbound queue instead of channel's
+     *                    event loop
+     */
+    public OutboundQueueConfiguration(final int segmentSize, final int pooledSegments, final int lowWatermark,
+            final int highWatermark, final boolean adaptiveWatermarks, final boolean preEncoding) {
+        Preconditions.checkArgument(segmentSize > 0, "Segment size %s must be positive", segmentSize);
+        Preconditions.checkArgument(pooledSegments >= 0, "Pooled segment count %s must not be negative",
+                pooledSegments);
+        Preconditions.checkArgument(lowWatermark > 0, "Low watermark %s must be positive", lowWatermark);
+        Preconditions.checkArgument(highWatermark >= lowWatermark,
+                "High watermark %s must not be lower than low watermark %s", highWatermark, lowWatermark);
+        this.segmentSize = segmentSize;
+        this.pooledSegments = pooledSegments;
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        this.adaptiveWatermarks = adaptiveWatermarks;
+        this.preEncoding = preEncoding;
+        this.segmentPool = new StackedSegmentPool(segmentSize, pooledSegments);
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public int getPooledSegments() {
+        return pooledSegments;
+    }
+
+    public int getLowWatermark() {
+        return lowWatermark;
+    }
+
+    public int getHighWatermark() {
+        return highWatermark;
+    }
+
+    public boolean isAdaptiveWatermarks() {
+        return adaptiveWatermarks;
+    }
+
+    public boolean isPreEncoding() {
+        return preEncoding;
+    }
+
+    StackedSegmentPool getSegmentPool() {
+        return segmentPool;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("segmentSize", segmentSize).add("pooledSegments", pooledSegments)
+                .add("lowWatermark", lowWatermark).add("highWatermark", highWatermark)
+                .add("adaptiveWatermarks", adaptiveWatermarks).add("preEncoding", preEncoding).toString();
+    }
+}
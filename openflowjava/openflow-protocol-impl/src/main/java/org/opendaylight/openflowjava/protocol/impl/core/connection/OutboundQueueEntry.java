@@ -11,6 +11,8 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.FutureCallback;
 
+import io.netty.buffer.ByteBuf;
+
 import java.util.function.Function;
 
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueException;
@@ -39,6 +41,8 @@ final class OutboundQueueEntry {
 
     private FutureCallback<OfHeader> callback;
     private OfHeader message;
+    // Message serialized ahead of its write, if any
+    private ByteBuf encoded;
     private boolean completed;
     private boolean barrier;
     private volatile boolean committed;
@@ -51,13 +55,22 @@ final class OutboundQueueEntry {
 
     void commit(final OfHeader message, final FutureCallback<OfHeader> callback,
             final Function<OfHeader, Boolean> isCompletedFunction) {
+        commit(message, null, callback, isCompletedFunction);
+    }
+
+    void commit(final OfHeader message, final ByteBuf encoded, final FutureCallback<OfHeader> callback,
+            final Function<OfHeader, Boolean> isCompletedFunction) {
         if (this.completed) {
             LOG.warn("Can't commit a completed message.");
+            if (encoded != null) {
+                encoded.release();
+            }
             if (callback != null) {
                 callback.onFailure(lastException);
             }
         } else {
             this.message = message;
+            this.encoded = encoded;
             this.callback = callback;
             this.barrier = message instanceof BarrierInput;
             this.isCompletedFunction = isCompletedFunction;
@@ -68,6 +81,7 @@ final class OutboundQueueEntry {
     }
 
     void reset() {
+        releaseEncoded();
         barrier = false;
         callback = null;
         completed = false;
@@ -89,6 +103,24 @@ final class OutboundQueueEntry {
         return completed;
     }
 
+    /**
+     * Takes over message serialized ahead of its write. Needs to be invoked before {@link #takeMessage()}.
+     *
+     * @return serialized message, or null if the message is to be serialized by channel pipeline
+     */
+    ByteBuf takeEncoded() {
+        final ByteBuf ret = encoded;
+        encoded = null;
+        return ret;
+    }
+
+    private void releaseEncoded() {
+        if (encoded != null) {
+            encoded.release();
+            encoded = null;
+        }
+    }
+
     OfHeader takeMessage() {
         final OfHeader ret = message;
         if (!barrier) {
@@ -130,6 +162,8 @@ final class OutboundQueueEntry {
 
     void fail(final OutboundQueueException cause) {
         if (!completed) {
+            // Entry may still be flushed during shutdown, in which case the message is serialized by the pipeline
+            releaseEncoded();
             lastException = cause;
             completed = true;
             if (callback != null) {
@@ -8,6 +8,7 @@
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
 import java.net.InetSocketAddress;
 import java.util.concurrent.TimeUnit;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
@@ -37,8 +38,8 @@ final class OutboundQueueManager<T extends OutboundQueueHandler> extends
     };
 
     OutboundQueueManager(final ConnectionAdapterImpl parent, final InetSocketAddress address, final T handler,
-        final int maxNonBarrierMessages, final long maxBarrierNanos) {
-        super(parent, address, handler);
+        final int maxNonBarrierMessages, final long maxBarrierNanos, final OutboundQueueConfiguration configuration) {
+        super(parent, address, handler, configuration);
         Preconditions.checkArgument(maxNonBarrierMessages > 0);
         this.maxNonBarrierMessages = maxNonBarrierMessages;
         Preconditions.checkArgument(maxBarrierNanos > 0);
@@ -47,7 +48,7 @@ final class OutboundQueueManager<T extends OutboundQueueHandler> extends
 
     @Override
     protected StackedOutboundQueue initializeStackedOutboudnqueue() {
-        return new StackedOutboundQueue(this);
+        return new StackedOutboundQueue(this, configuration.getSegmentPool());
     }
 
     private void scheduleBarrierTimer(final long now) {
@@ -105,8 +106,8 @@ final class OutboundQueueManager<T extends OutboundQueueHandler> extends
      *            adding overhead.
      */
     @Override
-    void writeMessage(final OfHeader message, final long now) {
-        super.writeMessage(message, now);
+    void writeMessage(final OfHeader message, final ByteBuf encoded, final long now) {
+        super.writeMessage(message, encoded, now);
         if (message instanceof BarrierInput) {
             LOG.trace("Barrier message seen, resetting counters");
             nonBarrierMessages = 0;
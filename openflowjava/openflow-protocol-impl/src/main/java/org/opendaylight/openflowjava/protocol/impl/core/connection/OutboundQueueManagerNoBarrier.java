@@ -18,13 +18,14 @@ import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandle
 public class OutboundQueueManagerNoBarrier<T extends OutboundQueueHandler> extends
         AbstractOutboundQueueManager<T, StackedOutboundQueueNoBarrier> {
 
-    OutboundQueueManagerNoBarrier(final ConnectionAdapterImpl parent, final InetSocketAddress address, final T handler) {
-        super(parent, address, handler);
+    OutboundQueueManagerNoBarrier(final ConnectionAdapterImpl parent, final InetSocketAddress address, final T handler,
+            final OutboundQueueConfiguration configuration) {
+        super(parent, address, handler, configuration);
     }
 
     @Override
     protected StackedOutboundQueueNoBarrier initializeStackedOutboudnqueue() {
-        return new StackedOutboundQueueNoBarrier(this);
+        return new StackedOutboundQueueNoBarrier(this, configuration.getSegmentPool());
     }
 
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+
+/**
+ * Table of {@link ResponseExpectedRpcListener}s waiting for a response from the switch. Listeners are keyed by
+ * the primitive XID of the request and the type of the expected response, and are held in a chained hash table,
+ * whose buckets are indexed directly by the XID. Each listener has a deadline scheduled in a {@link Timer}
+ * wheel, a listener which does not receive its response in time is removed and failed as soon as its deadline
+ * expires.
+ *
+ * All operations are synchronized on the table. They are expected to be invoked mostly from the channel's event
+ * loop, hence the lock is not contended.
+ */
+final class PendingResponseTable {
+    private static final int INITIAL_BUCKETS = 16;
+
+    private final LongAdder timedOut = new LongAdder();
+    private final Timer timer;
+    private final long timeoutNanos;
+
+    private Entry[] buckets = new Entry[INITIAL_BUCKETS];
+    private int size = 0;
+
+    /**
+     * @param timer timer wheel driving request deadlines
+     * @param timeout time allowed for a response to arrive
+     * @param unit unit of timeout
+     */
+    PendingResponseTable(final Timer timer, final long timeout, final TimeUnit unit) {
+        Preconditions.checkArgument(timeout > 0, "Timeout %s must be positive", timeout);
+        this.timer = Preconditions.checkNotNull(timer);
+        this.timeoutNanos = unit.toNanos(timeout);
+    }
+
+    /**
+     * Start waiting for a response. A listener already waiting for the same response is discarded.
+     *
+     * @param xid XID of the request
+     * @param responseType expected response type
+     * @param listener listener to be completed with the response
+     */
+    void put(final long xid, final Class<?> responseType, final ResponseExpectedRpcListener<?> listener) {
+        final Entry entry = new Entry(xid, responseType, listener);
+        entry.timeout = timer.newTimeout(entry, timeoutNanos, TimeUnit.NANOSECONDS);
+
+        final Entry replaced;
+        synchronized (this) {
+            replaced = unlink(xid, responseType, null);
+            if (size >= buckets.length - (buckets.length >>> 2)) {
+                resize();
+            }
+
+            final int index = index(buckets, xid);
+            entry.next = buckets[index];
+            buckets[index] = entry;
+            size++;
+        }
+
+        if (replaced != null) {
+            replaced.timeout.cancel();
+            replaced.listener.discard();
+        }
+    }
+
+    /**
+     * Stop waiting for a response, typically because it has arrived.
+     *
+     * @param xid XID of the response
+     * @param responseType type of the response
+     * @return listener which was waiting for the response, or null if there was none
+     */
+    @Nullable ResponseExpectedRpcListener<?> remove(final long xid, final Class<?> responseType) {
+        final Entry entry;
+        synchronized (this) {
+            entry = unlink(xid, responseType, null);
+        }
+        if (entry == null) {
+            return null;
+        }
+
+        entry.timeout.cancel();
+        return entry.listener;
+    }
+
+    /**
+     * Stop waiting for all responses, failing their listeners.
+     *
+     * @param cause reported failure cause
+     */
+    void clear(final Throwable cause) {
+        final List<Entry> entries;
+        synchronized (this) {
+            if (size == 0) {
+                return;
+            }
+
+            entries = new ArrayList<>(size);
+            for (Entry bucket : buckets) {
+                for (Entry e = bucket; e != null; e = e.next) {
+                    entries.add(e);
+                }
+            }
+            buckets = new Entry[INITIAL_BUCKETS];
+            size = 0;
+        }
+
+        for (Entry e : entries) {
+            e.timeout.cancel();
+            e.listener.failedRpc(cause);
+        }
+    }
+
+    /**
+     * Return the number of requests waiting for a response.
+     *
+     * @return in-flight request count
+     */
+    synchronized int getInFlight() {
+        return size;
+    }
+
+    /**
+     * Return the number of requests whose deadline expired before a response arrived.
+     *
+     * @return timed out request count
+     */
+    long getTimedOut() {
+        return timedOut.sum();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("inFlight", getInFlight()).add("timedOut", timedOut)
+                .add("timeoutNanos", timeoutNanos).toString();
+    }
+
+    private void expire(final Entry entry) {
+        final Entry removed;
+        synchronized (this) {
+            removed = unlink(entry.xid, entry.responseType, entry);
+        }
+        if (removed != null) {
+            timedOut.increment();
+            removed.listener.discard();
+        }
+    }
+
+    /*
+     * Unlink the entry matching xid and responseType, and if specified also identity, from its bucket. Must be
+     * invoked with the lock held.
+     */
+    private Entry unlink(final long xid, final Class<?> responseType, @Nullable final Entry identity) {
+        final int index = index(buckets, xid);
+        Entry prev = null;
+        for (Entry e = buckets[index]; e != null; prev = e, e = e.next) {
+            if (e.xid == xid && e.responseType.equals(responseType)) {
+                if (identity != null && identity != e) {
+                    return null;
+                }
+
+                if (prev == null) {
+                    buckets[index] = e.next;
+                } else {
+                    prev.next = e.next;
+                }
+                e.next = null;
+                size--;
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private void resize() {
+        final Entry[] resized = new Entry[buckets.length << 1];
+        for (Entry bucket : buckets) {
+            Entry e = bucket;
+            while (e != null) {
+                final Entry next = e.next;
+                final int index = index(resized, e.xid);
+                e.next = resized[index];
+                resized[index] = e;
+                e = next;
+            }
+        }
+        buckets = resized;
+    }
+
+    private static int index(final Entry[] buckets, final long xid) {
+        // XIDs are allocated sequentially, hence their low-order bits spread well on their own
+        return Long.hashCode(xid) & (buckets.length - 1);
+    }
+
+    private final class Entry implements TimerTask {
+        final long xid;
+        final Class<?> responseType;
+        final ResponseExpectedRpcListener<?> listener;
+        Timeout timeout;
+        Entry next;
+
+        Entry(final long xid, final Class<?> responseType, final ResponseExpectedRpcListener<?> listener) {
+            this.xid = xid;
+            this.responseType = Preconditions.checkNotNull(responseType);
+            this.listener = Preconditions.checkNotNull(listener);
+        }
+
+        @Override
+        public void run(final Timeout timeout) {
+            expire(this);
+        }
+    }
+}
@@ -23,8 +23,8 @@ final class StackedOutboundQueue extends AbstractStackedOutboundQueue {
 
     private volatile long barrierXid = -1;
 
-    StackedOutboundQueue(final AbstractOutboundQueueManager<?, ?> manager) {
-        super(manager);
+    StackedOutboundQueue(final AbstractOutboundQueueManager<?, ?> manager, final StackedSegmentPool segmentPool) {
+        super(manager, segmentPool);
     }
 
     /*
@@ -35,7 +35,7 @@ final class StackedOutboundQueue extends AbstractStackedOutboundQueue {
             final Function<OfHeader, Boolean> isCompletedFunction) {
         final OutboundQueueEntry entry = getEntry(xid);
 
-        entry.commit(message, callback, isCompletedFunction);
+        entry.commit(message, manager.preEncode(message), callback, isCompletedFunction);
         if (entry.isBarrier()) {
             long my = xid;
             for (;;) {
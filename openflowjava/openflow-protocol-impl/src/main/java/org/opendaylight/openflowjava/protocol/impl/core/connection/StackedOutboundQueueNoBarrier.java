@@ -10,6 +10,7 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.util.concurrent.FutureCallback;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 
 import java.util.function.Function;
@@ -31,8 +32,9 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
 
     private static final Logger LOG = LoggerFactory.getLogger(StackedOutboundQueueNoBarrier.class);
 
-    StackedOutboundQueueNoBarrier(final AbstractOutboundQueueManager<?, ?> manager) {
-        super(manager);
+    StackedOutboundQueueNoBarrier(final AbstractOutboundQueueManager<?, ?> manager,
+            final StackedSegmentPool segmentPool) {
+        super(manager, segmentPool);
     }
 
     /*
@@ -45,9 +47,9 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
 
         if (message instanceof FlowModInput) {
             callback.onSuccess(null);
-            entry.commit(message, null, isCompletedFunction);
+            entry.commit(message, manager.preEncode(message), null, isCompletedFunction);
         } else {
-            entry.commit(message, callback, isCompletedFunction);
+            entry.commit(message, manager.preEncode(message), callback, isCompletedFunction);
         }
 
         LOG.trace("Queue {} committed XID {}", this, xid);
@@ -69,17 +71,18 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
             }
 
             LOG.trace("Queue {} flushing entry at offset {}", this, flushOffset);
+            final ByteBuf encoded = entry.takeEncoded();
             final OfHeader message = entry.takeMessage();
             flushOffset++;
             entries++;
 
             if (message != null) {
-                manager.writeMessage(message, now);
+                manager.writeMessage(message, encoded, now);
             } else {
                 entry.complete(null);
             }
 
-            if (flushOffset >= StackedSegment.SEGMENT_SIZE) {
+            if (flushOffset >= segmentSize) {
                 /*
                  * Slow path: purge the current segment unless it's the last one.
                  * If it is, we leave it for replacement when a new reservation
@@ -105,7 +108,7 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
 
                     // Update the shutdown offset
                     if (shutdownOffset != null) {
-                        shutdownOffset -= StackedSegment.SEGMENT_SIZE;
+                        shutdownOffset -= segmentSize;
                     }
 
                     // Allow reservations back on the fast path by publishing the new first segment
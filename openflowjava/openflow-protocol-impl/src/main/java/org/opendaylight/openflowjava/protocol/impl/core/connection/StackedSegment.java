@@ -7,13 +7,10 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
-import com.google.common.base.FinalizableReferenceQueue;
-import com.google.common.base.FinalizableSoftReference;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Verify;
-import java.lang.ref.Reference;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import org.opendaylight.openflowjava.protocol.api.connection.ConnectionConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.DeviceRequestFailedException;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueException;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.Error;
@@ -22,26 +19,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 final class StackedSegment {
-    private static final class QueueRef extends FinalizableSoftReference<OutboundQueueEntry[]> {
-        QueueRef(final FinalizableReferenceQueue queue, final OutboundQueueEntry[] referent) {
-            super(referent, queue);
-        }
-
-        @Override
-        public void finalizeReferent() {
-            CACHE.remove(this);
-        }
-    }
-
     /**
-     * Size of each individual segment
+     * Default size of each individual segment
      */
-    static final int SEGMENT_SIZE = 4096;
+    static final int SEGMENT_SIZE = ConnectionConfiguration.DEFAULT_QUEUE_SEGMENT_SIZE;
 
     private static final Logger LOG = LoggerFactory.getLogger(StackedSegment.class);
-    private static final FinalizableReferenceQueue REF_QUEUE = new FinalizableReferenceQueue();
-    private static final ConcurrentLinkedDeque<QueueRef> CACHE = new ConcurrentLinkedDeque<>();
 
+    private final StackedSegmentPool pool;
     private final OutboundQueueEntry[] entries;
     private final long baseXid;
     private final long endXid;
@@ -50,35 +35,20 @@ final class StackedSegment {
     private int lastBarrierOffset = -1;
     private int completeCount;
 
-    StackedSegment(final long baseXid, final OutboundQueueEntry[] entries) {
+    StackedSegment(final long baseXid, final OutboundQueueEntry[] entries, final StackedSegmentPool pool) {
         this.baseXid = baseXid;
-        this.endXid = baseXid + SEGMENT_SIZE;
+        this.endXid = baseXid + entries.length;
         this.entries = Preconditions.checkNotNull(entries);
+        this.pool = Preconditions.checkNotNull(pool);
     }
 
     static StackedSegment create(final long baseXid) {
-        final StackedSegment ret;
-        for (;;) {
-            final Reference<OutboundQueueEntry[]> item = CACHE.pollLast();
-            if (item == null) {
-                break;
-            }
-
-            final OutboundQueueEntry[] cached = item.get();
-            if (cached != null) {
-                ret = new StackedSegment(baseXid, cached);
-                LOG.trace("Reusing array {} in segment {}", cached, ret);
-                return ret;
-            }
-        }
-
-        final OutboundQueueEntry[] entries = new OutboundQueueEntry[SEGMENT_SIZE];
-        for (int i = 0; i < SEGMENT_SIZE; ++i) {
-            entries[i] = new OutboundQueueEntry();
-        }
+        return create(baseXid, OutboundQueueConfiguration.DEFAULT.getSegmentPool());
+    }
 
-        ret = new StackedSegment(baseXid, entries);
-        LOG.trace("Allocated new segment {}", ret);
+    static StackedSegment create(final long baseXid, final StackedSegmentPool pool) {
+        final StackedSegment ret = new StackedSegment(baseXid, pool.acquire(), pool);
+        LOG.trace("Created segment {} from pool {}", ret, pool);
         return ret;
     }
 
@@ -197,6 +167,6 @@ final class StackedSegment {
             e.reset();
         }
 
-        CACHE.offer(new QueueRef(REF_QUEUE, entries));
+        pool.release(entries);
     }
 }
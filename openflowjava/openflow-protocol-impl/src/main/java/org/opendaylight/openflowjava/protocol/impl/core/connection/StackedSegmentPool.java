@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.FastThreadLocalThread;
+import java.util.ArrayDeque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.openflowjava.statistics.CounterEventTypes;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+
+/**
+ * Bounded pool of {@link OutboundQueueEntry} arrays backing {@link StackedSegment}s of one size. Arrays are
+ * retained in a shared queue holding at most configured number of arrays, arrays which do not fit are left
+ * to the garbage collector. Netty threads additionally keep up to {@link #MAGAZINE_SIZE} arrays in a
+ * thread-local magazine, so segments recycled and created on the same event loop do not touch the shared
+ * queue.
+ */
+final class StackedSegmentPool {
+    /**
+     * Number of arrays retained by each Netty thread outside of the shared queue.
+     */
+    static final int MAGAZINE_SIZE = 2;
+
+    private final FastThreadLocal<ArrayDeque<OutboundQueueEntry[]>> magazines =
+            new FastThreadLocal<ArrayDeque<OutboundQueueEntry[]>>() {
+                @Override
+                protected ArrayDeque<OutboundQueueEntry[]> initialValue() {
+                    return new ArrayDeque<>(MAGAZINE_SIZE);
+                }
+            };
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder drops = new LongAdder();
+    private final ArrayBlockingQueue<OutboundQueueEntry[]> shared;
+    private final int segmentSize;
+
+    /**
+     * @param segmentSize number of entries in each array
+     * @param maxRetained maximum number of arrays retained in the shared queue, 0 disables pooling
+     */
+    StackedSegmentPool(final int segmentSize, final int maxRetained) {
+        Preconditions.checkArgument(segmentSize > 0, "Segment size %s must be positive", segmentSize);
+        Preconditions.checkArgument(maxRetained >= 0, "Retained segment count %s must not be negative",
+                maxRetained);
+        this.segmentSize = segmentSize;
+        this.shared = maxRetained > 0 ? new ArrayBlockingQueue<>(maxRetained) : null;
+    }
+
+    int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Acquire an array of reset entries, either from the pool or newly allocated.
+     *
+     * @return array of {@link #getSegmentSize()} entries
+     */
+    OutboundQueueEntry[] acquire() {
+        OutboundQueueEntry[] ret = null;
+        if (shared != null) {
+            final ArrayDeque<OutboundQueueEntry[]> magazine = magazine();
+            if (magazine != null) {
+                ret = magazine.pollLast();
+            }
+            if (ret == null) {
+                ret = shared.poll();
+            }
+        }
+
+        if (ret != null) {
+            hits.increment();
+            StatisticsCounters.getInstance().incrementCounter(CounterEventTypes.DS_QUEUE_SEGMENT_REUSED);
+            return ret;
+        }
+
+        misses.increment();
+        StatisticsCounters.getInstance().incrementCounter(CounterEventTypes.DS_QUEUE_SEGMENT_ALLOCATED);
+        ret = new OutboundQueueEntry[segmentSize];
+        for (int i = 0; i < segmentSize; ++i) {
+            ret[i] = new OutboundQueueEntry();
+        }
+        return ret;
+    }
+
+    /**
+     * Return an array of reset entries to the pool. The array is dropped if the pool is full.
+     *
+     * @param entries array previously acquired from this pool
+     */
+    void release(final OutboundQueueEntry[] entries) {
+        Preconditions.checkArgument(entries.length == segmentSize, "Array of %s entries does not belong to pool %s",
+                entries.length, this);
+        if (shared != null) {
+            final ArrayDeque<OutboundQueueEntry[]> magazine = magazine();
+            if (magazine != null && magazine.size() < MAGAZINE_SIZE) {
+                magazine.offerLast(entries);
+                return;
+            }
+            if (shared.offer(entries)) {
+                return;
+            }
+        }
+
+        drops.increment();
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    long getDrops() {
+        return drops.sum();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("segmentSize", segmentSize)
+                .add("retained", shared == null ? 0 : shared.size()).add("hits", hits).add("misses", misses)
+                .add("drops", drops).toString();
+    }
+
+    private ArrayDeque<OutboundQueueEntry[]> magazine() {
+        // Only long-lived Netty threads get a magazine, so that arbitrary threads do not retain arrays
+        return Thread.currentThread() instanceof FastThreadLocalThread ? magazines.get() : null;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import com.google.common.base.Preconditions;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Ring of {@link StackedSegment}s ordered by their base XID. Segments are stored in slots computed from their
+ * base XID, so segment containing given XID is found in constant time, regardless of number of segments
+ * in the ring. Removed segments leave empty slots behind, which are reclaimed once they reach either end
+ * of the ring.
+ *
+ * Not thread-safe, expected to be accessed from Netty thread only.
+ */
+final class StackedSegmentRing implements Iterable<StackedSegment> {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final int segmentSize;
+
+    private StackedSegment[] slots = new StackedSegment[INITIAL_CAPACITY];
+    // Base XID of segment stored in head slot, valid only when the ring is not empty
+    private long headXid;
+    // Array index of head slot
+    private int head;
+    // Number of slots between head slot and last non-empty slot, inclusive
+    private int length;
+    // Number of non-empty slots
+    private int size;
+
+    StackedSegmentRing(final int segmentSize) {
+        Preconditions.checkArgument(segmentSize > 0, "Segment size %s must be positive", segmentSize);
+        this.segmentSize = segmentSize;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Add segment to the ring. Segment must start at XID boundary of segment size relative to segments already
+     * present in the ring and it must not precede the first segment in the ring.
+     *
+     * @param segment segment to add
+     */
+    void add(final StackedSegment segment) {
+        if (size == 0) {
+            head = 0;
+            length = 0;
+            headXid = segment.getBaseXid();
+        }
+
+        final long offset = segment.getBaseXid() - headXid;
+        Preconditions.checkArgument(offset >= 0 && offset % segmentSize == 0,
+                "Segment %s does not fit into ring starting at XID %s", segment, headXid);
+        Preconditions.checkArgument(offset / segmentSize < Integer.MAX_VALUE,
+                "Segment %s is too far from ring starting at XID %s", segment, headXid);
+
+        final int index = (int) (offset / segmentSize);
+        if (index >= slots.length) {
+            grow(index + 1);
+        }
+
+        final int slot = slot(index);
+        Preconditions.checkArgument(slots[slot] == null, "Segment %s is already occupied by %s", segment, slots[slot]);
+        slots[slot] = segment;
+        length = Math.max(length, index + 1);
+        size++;
+    }
+
+    /**
+     * Find segment containing specified XID.
+     *
+     * @param xid XID
+     * @return segment containing the XID, or null if there is no such segment in the ring
+     */
+    StackedSegment find(final long xid) {
+        if (size == 0) {
+            return null;
+        }
+
+        final long offset = xid - headXid;
+        if (offset < 0) {
+            return null;
+        }
+
+        final long index = offset / segmentSize;
+        if (index >= length) {
+            return null;
+        }
+
+        return slots[slot((int) index)];
+    }
+
+    /**
+     * Remove segment from the ring.
+     *
+     * @param segment segment to remove
+     * @return true if the segment was present in the ring
+     */
+    boolean remove(final StackedSegment segment) {
+        final long offset = segment.getBaseXid() - headXid;
+        if (size == 0 || offset < 0 || offset / segmentSize >= length) {
+            return false;
+        }
+
+        final int index = (int) (offset / segmentSize);
+        if (slots[slot(index)] != segment) {
+            return false;
+        }
+
+        clear(index);
+        return true;
+    }
+
+    /**
+     * Remove all segments preceding specified segment from the ring, passing each of them to the consumer
+     * in the order of their XIDs.
+     *
+     * @param segment segment which is not removed
+     * @param consumer consumer of removed segments
+     */
+    void removeBefore(final StackedSegment segment, final Consumer<StackedSegment> consumer) {
+        while (size != 0 && headXid < segment.getBaseXid()) {
+            final StackedSegment first = slots[head];
+            clear(0);
+
+            if (first != null) {
+                consumer.accept(first);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<StackedSegment> iterator() {
+        return new Iterator<StackedSegment>() {
+            private int nextIndex = skipEmpty(0);
+            private StackedSegment last;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < length;
+            }
+
+            @Override
+            public StackedSegment next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                last = slots[slot(nextIndex)];
+                nextIndex = skipEmpty(nextIndex + 1);
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                Preconditions.checkState(last != null, "No segment to remove");
+                final long previousHeadXid = headXid;
+                StackedSegmentRing.this.remove(last);
+                last = null;
+
+                // Removal may have moved the head, in which case indices shift as well
+                final int shift = (int) ((headXid - previousHeadXid) / segmentSize);
+                nextIndex = size == 0 ? length : skipEmpty(Math.max(0, nextIndex - shift));
+            }
+        };
+    }
+
+    private int skipEmpty(final int index) {
+        int ret = index;
+        while (ret < length && slots[slot(ret)] == null) {
+            ret++;
+        }
+        return ret;
+    }
+
+    private int slot(final int index) {
+        return (head + index) % slots.length;
+    }
+
+    private void clear(final int index) {
+        final int slot = slot(index);
+        if (slots[slot] != null) {
+            slots[slot] = null;
+            size--;
+        }
+
+        if (size == 0) {
+            head = 0;
+            length = 0;
+            return;
+        }
+
+        // Reclaim empty slots at the head ...
+        while (slots[head] == null) {
+            head = (head + 1) % slots.length;
+            headXid += segmentSize;
+            length--;
+        }
+
+        // ... and at the tail
+        while (slots[slot(length - 1)] == null) {
+            length--;
+        }
+    }
+
+    private void grow(final int minCapacity) {
+        int capacity = slots.length;
+        while (capacity < minCapacity) {
+            capacity <<= 1;
+        }
+
+        final StackedSegment[] newSlots = new StackedSegment[capacity];
+        for (int i = 0; i < length; ++i) {
+            newSlots[i] = slots[slot(i)];
+        }
+
+        slots = newSlots;
+        head = 0;
+    }
+}
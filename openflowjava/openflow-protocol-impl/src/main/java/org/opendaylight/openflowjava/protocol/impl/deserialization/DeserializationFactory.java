@@ -25,7 +25,12 @@ import org.opendaylight.yangtools.yang.binding.DataObject;
  */
 public class DeserializationFactory {
 
+    private static final int VERSION_COUNT = 256;
+    private static final int TYPE_COUNT = 256;
+
     private final Map<TypeToClassKey, Class<?>> messageClassMap = new ConcurrentHashMap<>();
+    // Deserializer keys indexed by version and type, replaced as a whole whenever type to class mapping changes
+    private volatile MessageCodeKey[][] messageCodeKeys;
     private DeserializerRegistry registry;
 
     /**
@@ -36,6 +41,7 @@ public class DeserializationFactory {
 
         // Register type to class map for additional deserializers
         TypeToClassMapInitializer.initializeAdditionalTypeToClassMap(messageClassMap);
+        rebuildMessageCodeKeys();
     }
 
     /**
@@ -47,13 +53,43 @@ public class DeserializationFactory {
      * @return correct POJO as DataObject
      */
     public DataObject deserialize(final ByteBuf rawMessage, final short version) {
-        DataObject dataObject = null;
-        int type = rawMessage.readUnsignedByte();
-        Class<?> clazz = messageClassMap.get(new TypeToClassKey(version, type));
+        final int type = rawMessage.readUnsignedByte();
         rawMessage.skipBytes(EncodeConstants.SIZE_OF_SHORT_IN_BYTES);
-        OFDeserializer<DataObject> deserializer = registry.getDeserializer(new MessageCodeKey(version, type, clazz));
-        dataObject = deserializer.deserialize(rawMessage);
-        return dataObject;
+        final OFDeserializer<DataObject> deserializer = registry.getDeserializer(getMessageCodeKey(version, type));
+        return deserializer.deserialize(rawMessage);
+    }
+
+    private MessageCodeKey getMessageCodeKey(final short version, final int type) {
+        if (version >= 0 && version < VERSION_COUNT) {
+            final MessageCodeKey[] versionKeys = messageCodeKeys[version];
+            if (versionKeys != null) {
+                final MessageCodeKey key = versionKeys[type];
+                if (key != null) {
+                    return key;
+                }
+            }
+        }
+
+        // Unmapped type, the registry will report missing deserializer
+        return new MessageCodeKey(version, type, messageClassMap.get(new TypeToClassKey(version, type)));
+    }
+
+    private synchronized void rebuildMessageCodeKeys() {
+        final MessageCodeKey[][] keys = new MessageCodeKey[VERSION_COUNT][];
+        for (final Map.Entry<TypeToClassKey, Class<?>> entry : messageClassMap.entrySet()) {
+            final short version = entry.getKey().getVersion();
+            final int type = entry.getKey().getType();
+            if (version < 0 || version >= VERSION_COUNT || type < 0 || type >= TYPE_COUNT) {
+                continue;
+            }
+
+            if (keys[version] == null) {
+                keys[version] = new MessageCodeKey[TYPE_COUNT];
+            }
+            keys[version][type] = new MessageCodeKey(version, type, entry.getValue());
+        }
+
+        messageCodeKeys = keys;
     }
 
     /**
@@ -63,6 +99,7 @@ public class DeserializationFactory {
      */
     public void registerMapping(final TypeToClassKey key, final Class<?> clazz) {
         messageClassMap.put(key, clazz);
+        rebuildMessageCodeKeys();
     }
 
     /**
@@ -75,7 +112,12 @@ public class DeserializationFactory {
             throw new IllegalArgumentException("TypeToClassKey is null");
         }
 
-        return messageClassMap.remove(key) != null;
+        if (messageClassMap.remove(key) == null) {
+            return false;
+        }
+
+        rebuildMessageCodeKeys();
+        return true;
     }
 
     /**
@@ -12,7 +12,7 @@ import io.netty.buffer.ByteBuf;
 
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
-import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
+import org.opendaylight.openflowjava.protocol.impl.util.TypeKeyMakerFactory;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 
 /**
@@ -30,8 +30,8 @@ public class SerializationFactory {
      * @param message POJO message
      */
     public void messageToBuffer(short version, ByteBuf out, DataObject message) {
-        OFSerializer<DataObject> serializer = registry.getSerializer(
-                new MessageTypeKey<>(version, message.getImplementedInterface()));
+        OFSerializer<DataObject> serializer = TypeKeyMakerFactory.MESSAGE_KEY_FACTORY.getSerializer(registry, version,
+                message.getImplementedInterface(), null);
         serializer.serialize(message, out);
     }
 
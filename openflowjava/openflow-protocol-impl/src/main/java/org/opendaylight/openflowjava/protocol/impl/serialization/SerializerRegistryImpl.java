@@ -8,6 +8,7 @@
 
 package org.opendaylight.openflowjava.protocol.impl.serialization;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
@@ -17,6 +18,7 @@ import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.util.OF10MatchSerializer;
 import org.opendaylight.openflowjava.protocol.impl.util.OF13MatchSerializer;
+import org.opendaylight.openflowjava.protocol.impl.util.TypeKeyFactory;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.v10.grouping.MatchV10;
 import org.slf4j.Logger;
@@ -38,6 +40,8 @@ public class SerializerRegistryImpl implements SerializerRegistry {
     private static final short OF10 = EncodeConstants.OF10_VERSION_ID;
     private static final short OF13 = EncodeConstants.OF13_VERSION_ID;
     private Map<MessageTypeKey<?>, OFGeneralSerializer> registry;
+    // Serializers resolved through TypeKeyFactory, replaced whenever the registry changes
+    private volatile ClassValue<ResolvedSerializers> resolved = new ResolvedSerializerCache();
 
     @Override
     public void init() {
@@ -76,6 +80,28 @@ public class SerializerRegistryImpl implements SerializerRegistry {
         return (S) serializer;
     }
 
+    /**
+     * Looks up serializer registered for key made by keyFactory, caching it per type until the registry changes,
+     * so that repeated lookups neither allocate the key nor hash it.
+     *
+     * @param version openflow wire version
+     * @param type class of the item the serializer is registered for
+     * @param qualifier additional class the serializer is registered for, null if not used
+     * @param keyFactory factory of the lookup key
+     * @return serializer registered for the key
+     */
+    @SuppressWarnings("unchecked")
+    public <S extends OFGeneralSerializer> S getSerializer(short version, Class<?> type, Class<?> qualifier,
+            TypeKeyFactory keyFactory) {
+        final ResolvedSerializers serializers = resolved.get(type);
+        OFGeneralSerializer serializer = serializers.lookup(version, qualifier, keyFactory);
+        if (serializer == null) {
+            serializer = getSerializer(keyFactory.make(version, type, qualifier));
+            serializers.add(new ResolvedSerializer(version, qualifier, keyFactory, serializer));
+        }
+        return (S) serializer;
+    }
+
     @Override
     public <K> void registerSerializer(MessageTypeKey<K> msgTypeKey, OFGeneralSerializer serializer) {
         if ((msgTypeKey == null) || (serializer == null)) {
@@ -86,6 +112,7 @@ public class SerializerRegistryImpl implements SerializerRegistry {
             LOG.debug("Serializer for key {} overwritten. Old serializer: {}, new serializer: {}", msgTypeKey,
                     serInRegistry.getClass().getName(), serializer.getClass().getName());
         }
+        resolved = new ResolvedSerializerCache();
         if (serializer instanceof SerializerRegistryInjector) {
             ((SerializerRegistryInjector) serializer).injectSerializerRegistry(this);
         }
@@ -100,6 +127,53 @@ public class SerializerRegistryImpl implements SerializerRegistry {
         if (serializer == null) {
             return false;
         }
+        resolved = new ResolvedSerializerCache();
         return true;
     }
+
+    private static final class ResolvedSerializerCache extends ClassValue<ResolvedSerializers> {
+        @Override
+        protected ResolvedSerializers computeValue(Class<?> type) {
+            return new ResolvedSerializers();
+        }
+    }
+
+    /**
+     * Serializers resolved for a single type, usually just one.
+     */
+    private static final class ResolvedSerializers {
+        private volatile ResolvedSerializer[] serializers = new ResolvedSerializer[0];
+
+        OFGeneralSerializer lookup(short version, Class<?> qualifier, TypeKeyFactory keyFactory) {
+            for (ResolvedSerializer serializer : serializers) {
+                if (serializer.version == version && serializer.qualifier == qualifier
+                        && serializer.keyFactory == keyFactory) {
+                    return serializer.serializer;
+                }
+            }
+            return null;
+        }
+
+        synchronized void add(ResolvedSerializer serializer) {
+            final ResolvedSerializer[] current = serializers;
+            final ResolvedSerializer[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = serializer;
+            serializers = updated;
+        }
+    }
+
+    private static final class ResolvedSerializer {
+        final short version;
+        final Class<?> qualifier;
+        final TypeKeyFactory keyFactory;
+        final OFGeneralSerializer serializer;
+
+        ResolvedSerializer(short version, Class<?> qualifier, TypeKeyFactory keyFactory,
+                OFGeneralSerializer serializer) {
+            this.version = version;
+            this.qualifier = qualifier;
+            this.keyFactory = keyFactory;
+            this.serializer = serializer;
+        }
+    }
 }
@@ -14,13 +14,12 @@ import org.opendaylight.openflowjava.protocol.api.extensibility.HeaderSerializer
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistryInjector;
-import org.opendaylight.openflowjava.protocol.api.keys.MatchEntrySerializerKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.util.ActionConstants;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.augments.rev150225.oxm.container.match.entry.value.ExperimenterIdCase;
+import org.opendaylight.openflowjava.protocol.impl.util.TypeKeyMaker;
+import org.opendaylight.openflowjava.protocol.impl.util.TypeKeyMakerFactory;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.action.grouping.action.choice.SetFieldCase;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.Action;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.ExperimenterClass;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntry;
 
 /**
@@ -30,6 +29,8 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.matc
 public class OF13SetFieldActionSerializer implements OFSerializer<Action>,
         HeaderSerializer<Action>, SerializerRegistryInjector {
 
+    private static final TypeKeyMaker<MatchEntry> MATCH_ENTRY_KEY_MAKER =
+            TypeKeyMakerFactory.createMatchEntriesKeyMaker(EncodeConstants.OF13_VERSION_ID);
     private SerializerRegistry registry;
 
     @Override
@@ -40,15 +41,7 @@ public class OF13SetFieldActionSerializer implements OFSerializer<Action>,
         outBuffer.writeShort(EncodeConstants.EMPTY_LENGTH);
         MatchEntry entry = ((SetFieldCase) action.getActionChoice()).getSetFieldAction()
                 .getMatchEntry().get(0);
-        MatchEntrySerializerKey<?, ?> key = new MatchEntrySerializerKey<>(
-                EncodeConstants.OF13_VERSION_ID, entry.getOxmClass(), entry.getOxmMatchField());
-        if (entry.getOxmClass().equals(ExperimenterClass.class)) {
-            ExperimenterIdCase experimenterIdCase = (ExperimenterIdCase) entry.getMatchEntryValue();
-            key.setExperimenterId(experimenterIdCase.getExperimenter().getExperimenter().getValue());
-        } else {
-            key.setExperimenterId(null);
-        }
-        OFSerializer<MatchEntry> serializer = registry.getSerializer(key);
+        OFSerializer<MatchEntry> serializer = MATCH_ENTRY_KEY_MAKER.getSerializer(registry, entry);
         serializer.serialize(entry, outBuffer);
         int paddingRemainder = (outBuffer.writerIndex() - startIndex) % EncodeConstants.PADDING;
         if (paddingRemainder != 0) {
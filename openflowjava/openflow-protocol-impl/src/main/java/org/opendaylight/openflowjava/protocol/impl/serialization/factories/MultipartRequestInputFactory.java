@@ -13,7 +13,6 @@ import java.util.List;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistryInjector;
-import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.util.ListSerializer;
 import org.opendaylight.openflowjava.protocol.impl.util.TypeKeyMaker;
@@ -194,8 +193,8 @@ public class MultipartRequestInputFactory implements OFSerializer<MultipartReque
         output.writeZero(PADDING_IN_MULTIPART_REQUEST_FLOW_BODY_02);
         output.writeLong(flow.getCookie().longValue());
         output.writeLong(flow.getCookieMask().longValue());
-        OFSerializer<Match> serializer = registry.getSerializer(new MessageTypeKey<>(
-                EncodeConstants.OF13_VERSION_ID, Match.class));
+        OFSerializer<Match> serializer = TypeKeyMakerFactory.MESSAGE_KEY_FACTORY.getSerializer(registry,
+                EncodeConstants.OF13_VERSION_ID, Match.class, null);
         serializer.serialize(flow.getMatch(), output);
     }
 
@@ -209,8 +208,8 @@ public class MultipartRequestInputFactory implements OFSerializer<MultipartReque
         output.writeZero(PADDING_IN_MULTIPART_REQUEST_AGREGGATE_BODY_02);
         output.writeLong(aggregate.getCookie().longValue());
         output.writeLong(aggregate.getCookieMask().longValue());
-        OFSerializer<Match> serializer = registry.getSerializer(new MessageTypeKey<>(
-                EncodeConstants.OF13_VERSION_ID, Match.class));
+        OFSerializer<Match> serializer = TypeKeyMakerFactory.MESSAGE_KEY_FACTORY.getSerializer(registry,
+                EncodeConstants.OF13_VERSION_ID, Match.class, null);
         serializer.serialize(aggregate.getMatch(), output);
     }
 
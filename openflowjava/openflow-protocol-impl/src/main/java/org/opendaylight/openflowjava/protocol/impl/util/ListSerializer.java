@@ -38,7 +38,7 @@ public abstract class ListSerializer {
             TypeKeyMaker<E> keyMaker, SerializerRegistry registry, ByteBuf outBuffer) {
         if (list != null) {
             for (E item : list) {
-                OFSerializer<E> serializer = registry.getSerializer(keyMaker.make(item));
+                OFSerializer<E> serializer = keyMaker.getSerializer(registry, item);
                 serializer.serialize(item, outBuffer);
             }
         }
@@ -55,7 +55,7 @@ public abstract class ListSerializer {
             TypeKeyMaker<E> keyMaker, SerializerRegistry registry, ByteBuf outBuffer) {
         if (list != null) {
             for (E item : list) {
-                HeaderSerializer<E> serializer = registry.getSerializer(keyMaker.make(item));
+                HeaderSerializer<E> serializer = keyMaker.getSerializer(registry, item);
                 serializer.serializeHeader(item, outBuffer);
             }
         }
@@ -15,11 +15,8 @@ import java.util.List;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistryInjector;
-import org.opendaylight.openflowjava.protocol.api.keys.MatchEntrySerializerKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.augments.rev150225.oxm.container.match.entry.value.ExperimenterIdCase;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.StandardMatchType;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.ExperimenterClass;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.OxmMatchType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntry;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
@@ -35,6 +32,8 @@ public class OF13MatchSerializer implements OFSerializer<Match>, SerializerRegis
     private static final Logger LOG = LoggerFactory.getLogger(OF13MatchSerializer.class);
     private static final byte STANDARD_MATCH_TYPE_CODE = 0;
     private static final byte OXM_MATCH_TYPE_CODE = 1;
+    private static final TypeKeyMaker<MatchEntry> MATCH_ENTRY_KEY_MAKER =
+            TypeKeyMakerFactory.createMatchEntriesKeyMaker(EncodeConstants.OF13_VERSION_ID);
     private SerializerRegistry registry;
 
     @Override
@@ -76,16 +75,7 @@ public class OF13MatchSerializer implements OFSerializer<Match>, SerializerRegis
             return;
         }
         for (MatchEntry entry : matchEntries) {
-
-            MatchEntrySerializerKey<?, ?> key = new MatchEntrySerializerKey<>(
-                    EncodeConstants.OF13_VERSION_ID, entry.getOxmClass(), entry.getOxmMatchField());
-            if (entry.getOxmClass().equals(ExperimenterClass.class)) {
-                ExperimenterIdCase entryValue = (ExperimenterIdCase) entry.getMatchEntryValue();
-                key.setExperimenterId(entryValue.getExperimenter().getExperimenter().getValue());
-            } else {
-                key.setExperimenterId(null);
-            }
-            OFSerializer<MatchEntry> entrySerializer = registry.getSerializer(key);
+            OFSerializer<MatchEntry> entrySerializer = MATCH_ENTRY_KEY_MAKER.getSerializer(registry, entry);
             entrySerializer.serialize(entry, out);
         }
     }
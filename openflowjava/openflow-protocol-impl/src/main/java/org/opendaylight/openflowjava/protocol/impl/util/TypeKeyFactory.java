@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.util;
+
+import javax.annotation.Nullable;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializerRegistryImpl;
+
+/**
+ * Creates serializer lookup keys of items, which are fully determined by version and classes of the item, so that
+ * serializers resolved through the key can be cached by {@link SerializerRegistryImpl}.
+ */
+@FunctionalInterface
+public interface TypeKeyFactory {
+
+    /**
+     * @param version openflow wire version
+     * @param type class of the item the serializer is registered for
+     * @param qualifier additional class the serializer is registered for, null if not used
+     * @return key that will be used for serializer lookup in the serializer registry
+     */
+    MessageTypeKey<?> make(short version, Class<?> type, @Nullable Class<?> qualifier);
+
+    /**
+     * Looks up serializer registered for key made by this factory. Lookups in {@link SerializerRegistryImpl} are
+     * cached and do not allocate the key, lookups in other registries fall back to
+     * {@link SerializerRegistry#getSerializer(MessageTypeKey)}.
+     *
+     * @param registry registry to look the serializer up in
+     * @param version openflow wire version
+     * @param type class of the item the serializer is registered for
+     * @param qualifier additional class the serializer is registered for, null if not used
+     * @return serializer registered for the key
+     */
+    default <S extends OFGeneralSerializer> S getSerializer(final SerializerRegistry registry, final short version,
+            final Class<?> type, @Nullable final Class<?> qualifier) {
+        if (registry instanceof SerializerRegistryImpl) {
+            return ((SerializerRegistryImpl) registry).getSerializer(version, type, qualifier, this);
+        }
+        return registry.getSerializer(make(version, type, qualifier));
+    }
+}
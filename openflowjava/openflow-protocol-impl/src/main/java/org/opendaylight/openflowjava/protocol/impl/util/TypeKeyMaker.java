@@ -8,6 +8,8 @@
 
 package org.opendaylight.openflowjava.protocol.impl.util;
 
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 
 /**
@@ -23,4 +25,13 @@ public interface TypeKeyMaker<T> {
      */
     abstract MessageTypeKey<?> make(T entry);
 
+    /**
+     * @param registry registry to look the serializer up in
+     * @param entry
+     * @return serializer registered for the key of entry
+     */
+    default <S extends OFGeneralSerializer> S getSerializer(SerializerRegistry registry, T entry) {
+        return registry.getSerializer(make(entry));
+    }
+
 }
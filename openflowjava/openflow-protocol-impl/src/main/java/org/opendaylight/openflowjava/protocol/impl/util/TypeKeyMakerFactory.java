@@ -8,6 +8,8 @@
 
 package org.opendaylight.openflowjava.protocol.impl.util;
 
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.keys.ActionSerializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.InstructionSerializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MatchEntrySerializerKey;
@@ -18,6 +20,8 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev1
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.InstructionChoice;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instructions.grouping.Instruction;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.ExperimenterClass;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.MatchField;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.OxmClassBase;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntry;
 
 /**
@@ -26,6 +30,31 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.matc
  */
 public abstract class TypeKeyMakerFactory {
 
+    /**
+     * Makes keys of messages and structures registered by their implemented interface
+     */
+    public static final TypeKeyFactory MESSAGE_KEY_FACTORY =
+        (version, type, qualifier) -> new MessageTypeKey<>(version, type);
+
+    /**
+     * Makes keys of non-experimenter match entries, type being oxm_field and qualifier oxm_class
+     */
+    @SuppressWarnings("unchecked")
+    public static final TypeKeyFactory MATCH_ENTRY_KEY_FACTORY = (version, type, qualifier) -> {
+        MatchEntrySerializerKey<?, ?> key = new MatchEntrySerializerKey<>(version,
+                (Class<? extends OxmClassBase>) qualifier, (Class<? extends MatchField>) type);
+        key.setExperimenterId(null);
+        return key;
+    };
+
+    @SuppressWarnings("unchecked")
+    private static final TypeKeyFactory ACTION_KEY_FACTORY =
+        (version, type, qualifier) -> new ActionSerializerKey<>(version, (Class<ActionChoice>) type, null);
+
+    @SuppressWarnings("unchecked")
+    private static final TypeKeyFactory INSTRUCTION_KEY_FACTORY =
+        (version, type, qualifier) -> new InstructionSerializerKey<>(version, (Class<InstructionChoice>) type, null);
+
     private TypeKeyMakerFactory() {
         //not called
     }
@@ -50,6 +79,15 @@ public abstract class TypeKeyMakerFactory {
                 key.setExperimenterId(null);
                 return key;
             }
+
+            @Override
+            public <S extends OFGeneralSerializer> S getSerializer(SerializerRegistry registry, MatchEntry entry) {
+                if (entry.getOxmClass().equals(ExperimenterClass.class)) {
+                    return registry.getSerializer(make(entry));
+                }
+                return MATCH_ENTRY_KEY_FACTORY.getSerializer(registry, getVersion(), entry.getOxmMatchField(),
+                        entry.getOxmClass());
+            }
         };
     }
 
@@ -70,6 +108,15 @@ public abstract class TypeKeyMakerFactory {
                 return new ActionSerializerKey<>(getVersion(),
                         (Class<ActionChoice>) entry.getActionChoice().getImplementedInterface(), null);
             }
+
+            @Override
+            public <S extends OFGeneralSerializer> S getSerializer(SerializerRegistry registry, Action entry) {
+                if (entry.getExperimenterId() != null) {
+                    return registry.getSerializer(make(entry));
+                }
+                return ACTION_KEY_FACTORY.getSerializer(registry, getVersion(),
+                        entry.getActionChoice().getImplementedInterface(), null);
+            }
         };
     }
 
@@ -90,6 +137,15 @@ public abstract class TypeKeyMakerFactory {
                 return new InstructionSerializerKey<>(getVersion(),
                         (Class<InstructionChoice>) entry.getInstructionChoice().getImplementedInterface(), null);
             }
+
+            @Override
+            public <S extends OFGeneralSerializer> S getSerializer(SerializerRegistry registry, Instruction entry) {
+                if (entry.getExperimenterId() != null) {
+                    return registry.getSerializer(make(entry));
+                }
+                return INSTRUCTION_KEY_FACTORY.getSerializer(registry, getVersion(),
+                        entry.getInstructionChoice().getImplementedInterface(), null);
+            }
         };
     }
 }
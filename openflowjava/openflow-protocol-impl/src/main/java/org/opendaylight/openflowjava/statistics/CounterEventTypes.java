@@ -34,6 +34,18 @@ public enum CounterEventTypes {
      * flow-mod encoded and sent to downstream
      */
     DS_FLOW_MODS_SENT,
+    /**
+     * outbound queue segment reused from pool
+     */
+    DS_QUEUE_SEGMENT_REUSED,
+    /**
+     * outbound queue segment newly allocated
+     */
+    DS_QUEUE_SEGMENT_ALLOCATED,
+    /**
+     * message rejected because the channel outbound queue was full
+     */
+    DS_OUTBOUND_QUEUE_REJECTED,
     /**
      * packetIn message got dropped -filtering is active
      */
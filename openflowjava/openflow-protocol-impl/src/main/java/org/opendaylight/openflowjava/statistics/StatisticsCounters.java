@@ -45,6 +45,9 @@ public final class StatisticsCounters implements StatisticsHandler {
                     CounterEventTypes.DS_ENTERED_OFJAVA,
                     CounterEventTypes.DS_FLOW_MODS_ENTERED,
                     CounterEventTypes.DS_FLOW_MODS_SENT,
+                    CounterEventTypes.DS_QUEUE_SEGMENT_REUSED,
+                    CounterEventTypes.DS_QUEUE_SEGMENT_ALLOCATED,
+                    CounterEventTypes.DS_OUTBOUND_QUEUE_REJECTED,
             CounterEventTypes.US_DROPPED_PACKET_IN,
                     CounterEventTypes.US_DECODE_FAIL,
                     CounterEventTypes.US_DECODE_SUCCESS,
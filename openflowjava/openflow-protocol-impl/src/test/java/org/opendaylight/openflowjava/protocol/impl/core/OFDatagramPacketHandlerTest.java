@@ -12,6 +12,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.Timer;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
@@ -36,6 +37,7 @@ public class OFDatagramPacketHandlerTest {
     @Mock SwitchConnectionHandler switchConnHandler;
     @Mock MessageConsumer consumerMock;
     @Mock Channel channelMock;
+    @Mock Timer timerMock;
 
     @Before
     public void startUp(){
@@ -48,7 +50,7 @@ public class OFDatagramPacketHandlerTest {
      */
     @Test
     public void test(){
-        OFDatagramPacketHandler handler = new OFDatagramPacketHandler(switchConnHandler);
+        OFDatagramPacketHandler handler = new OFDatagramPacketHandler(switchConnHandler, timerMock);
         byte version = EncodeConstants.OF13_VERSION_ID;
         ByteBuf messageBuffer = ByteBufUtils.hexStringToByteBuf("04 02 00 08 01 02 03 04");
         InetSocketAddress recipientISA = InetSocketAddress.createUnresolved("localhost", 9876);
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.openflowjava.util.ByteBufUtils;
+
+/**
+ * Test for {@link org.opendaylight.openflowjava.protocol.impl.core.OFEchoResponder}.
+ */
+public class OFEchoResponderTest {
+
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setUp() {
+        channel = new EmbeddedChannel(new OFEchoResponder());
+    }
+
+    @Test
+    public void testAnswerEchoRequest() {
+        final ByteBuf request = ByteBufUtils.hexStringToByteBuf("04 02 00 0c 00 00 00 2a de ad be ef");
+        channel.writeInbound(request);
+        channel.pipeline().fireChannelReadComplete();
+
+        Assert.assertNull("Echo request was passed upstream", channel.readInbound());
+        Assert.assertEquals("Echo request was not released", 0, request.refCnt());
+        final ByteBuf reply = channel.readOutbound();
+        Assert.assertNotNull("Echo reply was not written", reply);
+        Assert.assertEquals("04 03 00 0c 00 00 00 2a de ad be ef", ByteBufUtils.byteBufToHexString(reply));
+        reply.release();
+    }
+
+    @Test
+    public void testAnswerOF10EchoRequest() {
+        channel.writeInbound(ByteBufUtils.hexStringToByteBuf("01 02 00 08 00 00 00 01"));
+        channel.pipeline().fireChannelReadComplete();
+
+        final ByteBuf reply = channel.readOutbound();
+        Assert.assertEquals("01 03 00 08 00 00 00 01", ByteBufUtils.byteBufToHexString(reply));
+        reply.release();
+    }
+
+    @Test
+    public void testPassOtherMessages() {
+        final ByteBuf hello = ByteBufUtils.hexStringToByteBuf("04 00 00 08 00 00 00 01");
+        final ByteBuf unsupported = ByteBufUtils.hexStringToByteBuf("02 02 00 08 00 00 00 02");
+        channel.writeInbound(hello, unsupported);
+        channel.pipeline().fireChannelReadComplete();
+
+        Assert.assertSame(hello, channel.readInbound());
+        Assert.assertSame(unsupported, channel.readInbound());
+        Assert.assertNull("Unexpected reply was written", channel.readOutbound());
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyShort;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionFacade;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.util.ByteBufUtils;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * Test for {@link org.opendaylight.openflowjava.protocol.impl.core.OFFusedDecoder}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class OFFusedDecoderTest {
+
+    @Mock
+    ChannelHandlerContext channelHandlerContext;
+    @Mock
+    ConnectionFacade connectionFacade;
+    @Mock
+    DeserializationFactory deserializationFactory;
+
+    private final List<Object> list = new ArrayList<>();
+    private final List<Integer> deserializedLengths = new ArrayList<>();
+    private OFFusedDecoder decoder;
+
+    @Before
+    public void setUp() {
+        list.clear();
+        deserializedLengths.clear();
+        when(deserializationFactory.deserialize(any(ByteBuf.class), anyShort())).thenAnswer(invocation -> {
+            final ByteBuf buffer = (ByteBuf) invocation.getArguments()[0];
+            deserializedLengths.add(buffer.readableBytes());
+            buffer.skipBytes(buffer.readableBytes());
+            return mock(DataObject.class);
+        });
+        decoder = new OFFusedDecoder(connectionFacade, false, deserializationFactory);
+    }
+
+    @Test
+    public void testDecodeMultipleMessages() {
+        final ByteBuf buffer = ByteBufUtils.hexStringToByteBuf("04 00 00 08 00 00 00 01 "
+                + "01 0a 00 0a 00 00 00 02 ff ff "
+                + "04 00 00 08 00 00");
+        decoder.decode(channelHandlerContext, buffer, list);
+
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(7, deserializedLengths.get(0).intValue());
+        Assert.assertEquals(9, deserializedLengths.get(1).intValue());
+        Assert.assertEquals("Incomplete message was consumed", 6, buffer.readableBytes());
+        Assert.assertEquals("Buffer was not restored", 24, buffer.writerIndex());
+        verify(deserializationFactory).deserialize(buffer, (short) 4);
+        verify(deserializationFactory).deserialize(buffer, (short) 1);
+        verify(connectionFacade, never()).fireConnectionReadyNotification();
+    }
+
+    @Test
+    public void testDecodeNotSupportedVersion() {
+        final ByteBuf buffer = ByteBufUtils.hexStringToByteBuf("02 01 00 08 00 00 00 01");
+        decoder.decode(channelHandlerContext, buffer, list);
+
+        Assert.assertEquals("List is not empty", 0, list.size());
+        Assert.assertEquals(0, buffer.readableBytes());
+    }
+
+    @Test
+    public void testDecodeHelloMessage() {
+        decoder.decode(channelHandlerContext, ByteBufUtils.hexStringToByteBuf("05 00 00 08 00 00 00 01"), list);
+        Assert.assertEquals(1, list.size());
+    }
+
+    @Test
+    public void testFilterPacketIns() {
+        decoder.setFilterPacketIns(true);
+        final ByteBuf buffer = ByteBufUtils.hexStringToByteBuf("04 0a 00 08 00 00 00 01 04 00 00 08 00 00 00 02");
+        decoder.decode(channelHandlerContext, buffer, list);
+
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals(0, buffer.readableBytes());
+    }
+
+    @Test
+    public void testFairPacketInAdmission() {
+        decoder = new OFFusedDecoder(connectionFacade, false, deserializationFactory, 1);
+        decoder.setThrottlePacketIns(true);
+        final ByteBuf buffer = Unpooled.wrappedBuffer(PacketInAdmissionTest.of13PacketIn(1, 0),
+                PacketInAdmissionTest.of13PacketIn(1, 0), PacketInAdmissionTest.of13PacketIn(2, 0));
+        decoder.decode(channelHandlerContext, buffer, list);
+
+        // Second packet-in from flooding port is dropped, the other port is still admitted
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(0, buffer.readableBytes());
+    }
+
+    @Test
+    public void testFilteringOverridesAdmission() {
+        decoder = new OFFusedDecoder(connectionFacade, false, deserializationFactory, 1);
+        decoder.setFilterPacketIns(true);
+        decoder.setThrottlePacketIns(true);
+        final ByteBuf buffer = Unpooled.wrappedBuffer(PacketInAdmissionTest.of13PacketIn(1, 0),
+                PacketInAdmissionTest.of13PacketIn(2, 0));
+        decoder.decode(channelHandlerContext, buffer, list);
+
+        Assert.assertEquals("Filtered packet-in was admitted", 0, list.size());
+        Assert.assertEquals(0, buffer.readableBytes());
+    }
+
+    @Test
+    public void testDeserializationFailure() {
+        doThrow(new IllegalStateException("test")).when(deserializationFactory)
+                .deserialize(any(ByteBuf.class), anyShort());
+        final ByteBuf buffer = ByteBufUtils.hexStringToByteBuf("04 00 00 08 00 00 00 01 04 00 00 08 00 00 00 02");
+        decoder.decode(channelHandlerContext, buffer, list);
+
+        Assert.assertEquals(0, list.size());
+        Assert.assertEquals("Failed messages were not skipped", 0, buffer.readableBytes());
+    }
+
+    @Test
+    public void testAnswerEchoRequest() throws Exception {
+        when(channelHandlerContext.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        decoder = new OFFusedDecoder(connectionFacade, false, deserializationFactory, 0, true);
+        final ByteBuf buffer = ByteBufUtils.hexStringToByteBuf("04 02 00 0c 00 00 00 2a de ad be ef "
+                + "04 00 00 08 00 00 00 01");
+        decoder.decode(channelHandlerContext, buffer, list);
+
+        Assert.assertEquals("Echo request was deserialized", 1, list.size());
+        Assert.assertEquals(7, deserializedLengths.get(0).intValue());
+        Assert.assertEquals(0, buffer.readableBytes());
+        Assert.assertEquals("Request frame was modified", 2, buffer.getByte(1));
+
+        final ArgumentCaptor<ByteBuf> reply = ArgumentCaptor.forClass(ByteBuf.class);
+        verify(channelHandlerContext).write(reply.capture());
+        Assert.assertEquals("04 03 00 0c 00 00 00 2a de ad be ef",
+                ByteBufUtils.byteBufToHexString(reply.getValue()));
+
+        decoder.channelReadComplete(channelHandlerContext);
+        decoder.channelReadComplete(channelHandlerContext);
+        verify(channelHandlerContext, times(1)).flush();
+    }
+
+    @Test
+    public void testDecodeEchoRequestByDefault() {
+        decoder.decode(channelHandlerContext, ByteBufUtils.hexStringToByteBuf("04 02 00 08 00 00 00 2a"), list);
+        Assert.assertEquals(1, list.size());
+        verify(channelHandlerContext, never()).write(any());
+    }
+
+    @Test(expected = CorruptedFrameException.class)
+    public void testDecodeCorruptedLength() {
+        decoder.decode(channelHandlerContext, ByteBufUtils.hexStringToByteBuf("04 00 00 04 00 00 00 01"), list);
+    }
+
+    @Test
+    public void testTlsConnectionReady() {
+        decoder = new OFFusedDecoder(connectionFacade, true, deserializationFactory);
+        decoder.decode(channelHandlerContext, ByteBufUtils.hexStringToByteBuf("04 00 00 08"), list);
+        decoder.decode(channelHandlerContext, ByteBufUtils.hexStringToByteBuf("04 00 00 08"), list);
+        verify(connectionFacade).fireConnectionReadyNotification();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import com.google.common.base.Ticker;
+import io.netty.buffer.ByteBuf;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.util.ByteBufUtils;
+
+/**
+ * {@link PacketInAdmission} class test
+ */
+public class PacketInAdmissionTest {
+    private static final int RATE = 4;
+
+    private final MutableTicker ticker = new MutableTicker();
+    private PacketInAdmission admission;
+
+    @Before
+    public void setUp() throws Exception {
+        admission = new PacketInAdmission(RATE, ticker);
+    }
+
+    @Test
+    public void testKeyOF13() throws Exception {
+        final ByteBuf packetIn = of13PacketIn(5, 1);
+        Assert.assertEquals(5L << Byte.SIZE | 1, PacketInAdmission.key(EncodeConstants.OF13_VERSION_ID, packetIn, 0));
+
+        // In port following other match fields
+        final ByteBuf second = ByteBufUtils.hexStringToByteBuf("04 0a 00 32 00 00 00 01 ff ff ff ff 00 00 00 00 "
+                + "00 00 00 00 00 00 00 00 00 01 00 18 80 00 04 08 00 00 00 00 00 00 00 01 80 00 00 04 "
+                + "00 00 00 07 00 00");
+        Assert.assertEquals(7L << Byte.SIZE, PacketInAdmission.key(EncodeConstants.OF13_VERSION_ID, second, 0));
+    }
+
+    @Test
+    public void testKeyOF10() throws Exception {
+        final ByteBuf packetIn = ByteBufUtils.hexStringToByteBuf("01 0a 00 12 00 00 00 01 ff ff ff ff 00 00 "
+                + "00 03 01 00");
+        Assert.assertEquals(3L << Byte.SIZE | 1, PacketInAdmission.key(EncodeConstants.OF10_VERSION_ID, packetIn, 0));
+    }
+
+    @Test
+    public void testKeyTruncated() throws Exception {
+        final ByteBuf packetIn = ByteBufUtils.hexStringToByteBuf("04 0a 00 08 00 00 00 01");
+        Assert.assertEquals(PacketInAdmission.UNKNOWN_PORT << Byte.SIZE,
+                PacketInAdmission.key(EncodeConstants.OF13_VERSION_ID, packetIn, 0));
+    }
+
+    @Test
+    public void testFloodingPortDoesNotStarveOthers() throws Exception {
+        for (int i = 0; i < RATE; ++i) {
+            Assert.assertTrue(admit(1, 0));
+        }
+        Assert.assertFalse(admit(1, 0));
+
+        // Other port and other reason on the flooding port have their own budget
+        Assert.assertTrue(admit(2, 0));
+        Assert.assertTrue(admit(1, 1));
+        Assert.assertEquals(3, admission.getTrackedBuckets());
+    }
+
+    @Test
+    public void testRefill() throws Exception {
+        for (int i = 0; i < RATE; ++i) {
+            admit(1, 0);
+        }
+        Assert.assertFalse(admit(1, 0));
+
+        ticker.advance(TimeUnit.SECONDS.toNanos(1) / RATE);
+        Assert.assertTrue(admit(1, 0));
+        Assert.assertFalse(admit(1, 0));
+
+        // Bucket never holds more than one second worth of tokens
+        ticker.advance(TimeUnit.MINUTES.toNanos(1));
+        for (int i = 0; i < RATE; ++i) {
+            Assert.assertTrue(admit(1, 0));
+        }
+        Assert.assertFalse(admit(1, 0));
+    }
+
+    @Test
+    public void testZeroRateDropsAll() throws Exception {
+        admission = new PacketInAdmission(0, ticker);
+        Assert.assertFalse(admit(1, 0));
+        Assert.assertEquals(0, admission.getTrackedBuckets());
+    }
+
+    @Test
+    public void testBucketsBounded() throws Exception {
+        for (int i = 0; i < PacketInAdmission.MAX_BUCKETS; ++i) {
+            Assert.assertTrue(admit(i, 0));
+        }
+
+        // Ports without a bucket are dropped, tracked ports keep their budget
+        Assert.assertFalse(admit(PacketInAdmission.MAX_BUCKETS, 0));
+        Assert.assertEquals(PacketInAdmission.MAX_BUCKETS, admission.getTrackedBuckets());
+        for (int i = 1; i < RATE; ++i) {
+            Assert.assertTrue(admit(0, 0));
+        }
+        Assert.assertFalse(admit(0, 0));
+    }
+
+    @Test
+    public void testFilteringDropsAll() throws Exception {
+        final ByteBuf packetIn = of13PacketIn(1, 0);
+        Assert.assertFalse(admission.admit(true, false, EncodeConstants.OF13_VERSION_ID, packetIn, 0));
+        Assert.assertFalse(admission.admit(true, true, EncodeConstants.OF13_VERSION_ID, packetIn, 0));
+        Assert.assertEquals(0, admission.getTrackedBuckets());
+    }
+
+    @Test
+    public void testNotThrottled() throws Exception {
+        for (int i = 0; i < RATE; ++i) {
+            admit(1, 0);
+        }
+        Assert.assertFalse(admit(1, 0));
+
+        // Buckets are forgotten once throttling is disengaged
+        Assert.assertTrue(admission.admit(false, false, EncodeConstants.OF13_VERSION_ID, of13PacketIn(1, 0), 0));
+        Assert.assertEquals(0, admission.getTrackedBuckets());
+        Assert.assertTrue(admit(1, 0));
+    }
+
+    private boolean admit(final int port, final int reason) {
+        return admission.admit(false, true, EncodeConstants.OF13_VERSION_ID, of13PacketIn(port, reason), 0);
+    }
+
+    static ByteBuf of13PacketIn(final int port, final int reason) {
+        return ByteBufUtils.hexStringToByteBuf(String.format("04 0a 00 2a 00 00 00 01 ff ff ff ff 00 00 %02x 00 "
+                + "00 00 00 00 00 00 00 00 00 01 00 0c 80 00 00 04 %02x %02x %02x %02x 00 00 00 00 00 00", reason,
+                port >>> 24 & 0xff, port >>> 16 & 0xff, port >>> 8 & 0xff, port & 0xff));
+    }
+
+    private static final class MutableTicker extends Ticker {
+        private long nanos;
+
+        void advance(final long delta) {
+            nanos += delta;
+        }
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+    }
+}
@@ -9,6 +9,9 @@
 package org.opendaylight.openflowjava.protocol.impl.core;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import io.netty.util.Timer;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -36,6 +39,7 @@ public class PublishingChannelInitializerFactoryTest {
     @Mock SwitchConnectionHandler switchConnectionHandler ;
     @Mock SerializationFactory serializationFactory;
     @Mock DeserializationFactory deserializationFactory ;
+    @Mock Timer rpcResponseTimer ;
 
     /**
      * Sets up test environment
@@ -52,6 +56,7 @@ public class PublishingChannelInitializerFactoryTest {
         factory.setSwitchConnectionHandler(switchConnectionHandler);
         factory.setSwitchIdleTimeout(switchIdleTimeOut);
         factory.setTlsConfig(tlsConfiguration);
+        factory.setRpcResponseTimer(rpcResponseTimer);
     }
 
     /**
@@ -61,5 +66,16 @@ public class PublishingChannelInitializerFactoryTest {
     public void testCreatePublishingChannelInitializer() {
         TcpChannelInitializer initializer = factory.createPublishingChannelInitializer() ;
         assertNotNull( initializer );
+        assertSame(rpcResponseTimer, initializer.getRpcResponseTimer());
+    }
+
+    /**
+     * Test {@link UdpChannelInitializer} creation
+     */
+    @Test
+    public void testCreateUdpChannelInitializer() {
+        UdpChannelInitializer initializer = factory.createUdpChannelInitializer();
+        assertNotNull(initializer);
+        assertSame(rpcResponseTimer, initializer.getRpcResponseTimer());
     }
 }
\ No newline at end of file
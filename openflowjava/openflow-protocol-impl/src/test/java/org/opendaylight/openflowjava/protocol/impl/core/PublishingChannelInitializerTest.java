@@ -22,6 +22,7 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.util.Timer;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
@@ -35,6 +36,7 @@ import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfigurationImpl;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionAdapterFactory;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionFacade;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.OutboundQueueConfiguration;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
 import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.KeystoreType;
@@ -51,6 +53,7 @@ public class PublishingChannelInitializerTest {
     @Mock SwitchConnectionHandler mockSwConnHandler ;
     @Mock ConnectionAdapterFactory mockConnAdaptorFactory;
     @Mock DefaultChannelGroup mockChGrp ;
+    @Mock Timer mockRpcResponseTimer ;
     @Mock ConnectionFacade mockConnFacade ;
     @Mock
     SSLEngine sslEngine ;
@@ -78,10 +81,12 @@ public class PublishingChannelInitializerTest {
 
         when( mockChGrp.size()).thenReturn(1) ;
         pubChInitializer.setSwitchConnectionHandler( mockSwConnHandler ) ;
+        pubChInitializer.setRpcResponseTimer( mockRpcResponseTimer ) ;
 
         inetSockAddr = new InetSocketAddress(InetAddress.getLocalHost(), 8675 ) ;
 
-        when(mockConnAdaptorFactory.createConnectionFacade(mockSocketCh, null, true))
+        when(mockConnAdaptorFactory.createConnectionFacade(mockSocketCh, null, true,
+                OutboundQueueConfiguration.DEFAULT, mockRpcResponseTimer))
         .thenReturn(mockConnFacade);
         when(mockSocketCh.remoteAddress()).thenReturn(inetSockAddr) ;
         when(mockSocketCh.localAddress()).thenReturn(inetSockAddr) ;
@@ -130,6 +135,32 @@ public class PublishingChannelInitializerTest {
         verifyCommonHandlers();
     }
 
+    /**
+     * Test channel initialization with fused decoder
+     */
+    @Test
+    public void testinitChannelFusedDecoder()  {
+        pubChInitializer.setUseFusedDecoder(true);
+        pubChInitializer.initChannel(mockSocketCh) ;
+
+        verify(mockChPipeline, times(1)).addLast(eq(PipelineHandlers.OF_FUSED_DECODER.name()),any(OFFusedDecoder.class)) ;
+        verify(mockChPipeline, times(0)).addLast(eq(PipelineHandlers.OF_FRAME_DECODER.name()),any(OFFrameDecoder.class)) ;
+        verify(mockChPipeline, times(0)).addLast(eq(PipelineHandlers.OF_VERSION_DETECTOR.name()),any(OFVersionDetector.class)) ;
+        verify(mockChPipeline, times(0)).addLast(eq(PipelineHandlers.OF_DECODER.name()),any(OFDecoder.class)) ;
+        verify(mockChPipeline, times(1)).addLast(eq(PipelineHandlers.OF_ENCODER.name()),any(OFEncoder.class)) ;
+    }
+
+    /**
+     * Test channel initialization with echo requests answered in the pipeline
+     */
+    @Test
+    public void testinitChannelAnswerEchoRequests()  {
+        pubChInitializer.setAnswerEchoRequests(true);
+        pubChInitializer.initChannel(mockSocketCh) ;
+        verify(mockChPipeline, times(1)).addLast(eq(PipelineHandlers.OF_ECHO_RESPONDER.name()),
+                any(OFEchoResponder.class));
+    }
+
     /**
      * Test disconnect on new connection rejected
      * @throws UnknownHostException
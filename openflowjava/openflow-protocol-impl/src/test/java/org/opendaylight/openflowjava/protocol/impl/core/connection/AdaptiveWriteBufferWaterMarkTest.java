@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link AdaptiveWriteBufferWaterMark} class test
+ */
+public class AdaptiveWriteBufferWaterMarkTest {
+    private static final int LOW = 128 * 1024;
+    private static final int HIGH = 256 * 1024;
+
+    private AdaptiveWriteBufferWaterMark waterMark;
+
+    @Before
+    public void setUp() throws Exception {
+        waterMark = new AdaptiveWriteBufferWaterMark(LOW, HIGH);
+    }
+
+    @Test
+    public void testGrowOnFrequentUnwritability() throws Exception {
+        Assert.assertTrue(sample(AdaptiveWriteBufferWaterMark.SAMPLE_FLUSHES, HIGH));
+        Assert.assertEquals(2 * LOW, waterMark.getLowWatermark());
+        Assert.assertEquals(2 * HIGH, waterMark.getHighWatermark());
+
+        // Bounded by range factor
+        for (int i = 0; i < 10; ++i) {
+            sample(AdaptiveWriteBufferWaterMark.SAMPLE_FLUSHES, HIGH);
+        }
+        Assert.assertEquals(AdaptiveWriteBufferWaterMark.RANGE_FACTOR * LOW, waterMark.getLowWatermark());
+        Assert.assertEquals(AdaptiveWriteBufferWaterMark.RANGE_FACTOR * HIGH, waterMark.getHighWatermark());
+    }
+
+    @Test
+    public void testShrinkWhenIdle() throws Exception {
+        Assert.assertTrue(sample(0, 0));
+        Assert.assertEquals(LOW / 2, waterMark.getLowWatermark());
+        Assert.assertEquals(HIGH / 2, waterMark.getHighWatermark());
+
+        // Bounded by range factor
+        for (int i = 0; i < 10; ++i) {
+            sample(0, 0);
+        }
+        Assert.assertEquals(LOW / AdaptiveWriteBufferWaterMark.RANGE_FACTOR, waterMark.getLowWatermark());
+        Assert.assertEquals(HIGH / AdaptiveWriteBufferWaterMark.RANGE_FACTOR, waterMark.getHighWatermark());
+    }
+
+    @Test
+    public void testStable() throws Exception {
+        // Occasional unwritability keeps watermarks intact
+        Assert.assertFalse(sample(1, HIGH));
+        Assert.assertEquals(LOW, waterMark.getLowWatermark());
+        Assert.assertEquals(HIGH, waterMark.getHighWatermark());
+
+        // Busy, but writable channel keeps watermarks intact
+        Assert.assertFalse(sample(0, LOW));
+        Assert.assertEquals(LOW, waterMark.getLowWatermark());
+        Assert.assertEquals(HIGH, waterMark.getHighWatermark());
+    }
+
+    @Test
+    public void testNoChangeBeforeSampleCompletes() throws Exception {
+        for (int i = 0; i < AdaptiveWriteBufferWaterMark.SAMPLE_FLUSHES - 1; ++i) {
+            waterMark.onUnwritable();
+            Assert.assertFalse(waterMark.onFlush(HIGH));
+        }
+        Assert.assertEquals(HIGH, waterMark.getHighWatermark());
+    }
+
+    private boolean sample(final int unwritableChanges, final long pendingBytes) {
+        for (int i = 0; i < unwritableChanges; ++i) {
+            waterMark.onUnwritable();
+        }
+
+        boolean changed = false;
+        for (int i = 0; i < AdaptiveWriteBufferWaterMark.SAMPLE_FLUSHES; ++i) {
+            changed |= waterMark.onFlush(pendingBytes);
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link BoundedMpscQueue} class test
+ */
+public class BoundedMpscQueueTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncorrectCapacity() {
+        new BoundedMpscQueue<>(0);
+    }
+
+    @Test
+    public void testCapacity() {
+        Assert.assertEquals(1, new BoundedMpscQueue<>(1).capacity());
+        Assert.assertEquals(3, new BoundedMpscQueue<>(3).capacity());
+        Assert.assertEquals(1024, new BoundedMpscQueue<>(1024).capacity());
+    }
+
+    @Test
+    public void testOfferPoll() {
+        final BoundedMpscQueue<Integer> queue = new BoundedMpscQueue<>(4);
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertNull(queue.poll());
+
+        // Go around the ring a few times
+        for (int lap = 0; lap < 3; ++lap) {
+            for (int i = 0; i < 4; ++i) {
+                Assert.assertTrue(queue.offer(i));
+            }
+            Assert.assertFalse(queue.offer(4));
+            Assert.assertEquals(4, queue.size());
+            Assert.assertFalse(queue.isEmpty());
+
+            for (int i = 0; i < 4; ++i) {
+                Assert.assertEquals(Integer.valueOf(i), queue.poll());
+            }
+            Assert.assertNull(queue.poll());
+            Assert.assertTrue(queue.isEmpty());
+            Assert.assertEquals(0, queue.size());
+        }
+    }
+
+    @Test
+    public void testDrain() {
+        final BoundedMpscQueue<Integer> queue = new BoundedMpscQueue<>(8);
+        for (int i = 0; i < 5; ++i) {
+            queue.offer(i);
+        }
+
+        final List<Integer> drained = new ArrayList<>();
+        Assert.assertEquals(3, queue.drain(drained::add, 3));
+        Assert.assertEquals(2, queue.drain(drained::add, 3));
+        Assert.assertEquals(0, queue.drain(drained::add, 3));
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4), drained);
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        final int producers = 4;
+        final int perProducer = 10000;
+        final BoundedMpscQueue<int[]> queue = new BoundedMpscQueue<>(64);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        final List<Thread> threads = new ArrayList<>(producers);
+        for (int p = 0; p < producers; ++p) {
+            final int producer = p;
+            final Thread t = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                for (int i = 0; i < perProducer; ++i) {
+                    final int[] element = new int[] { producer, i };
+                    while (!queue.offer(element)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            t.start();
+            threads.add(t);
+        }
+
+        // Elements of each producer have to arrive in the order they were offered
+        final int[] next = new int[producers];
+        start.countDown();
+        for (int received = 0; received < producers * perProducer;) {
+            final int[] element = queue.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+
+            Assert.assertEquals(next[element[0]]++, element[1]);
+            ++received;
+        }
+
+        for (Thread t : threads) {
+            t.join();
+        }
+        Assert.assertTrue(queue.isEmpty());
+    }
+}
@@ -51,5 +51,7 @@ public class ChannelOutboundQueueTest {
         Assert.assertTrue("Enqueue problem", enqueued);
         enqueued = queue.enqueue(new SimpleRpcListener("INPUT", "Failed to send INPUT"));
         Assert.assertFalse("Enqueue problem", enqueued);
+        Assert.assertEquals("Wrong queue depth", 1, queue.getQueueDepth());
+        Assert.assertEquals("Wrong rejected count", 1, queue.getRejectedMessages());
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 import static org.mockito.Mockito.when;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelPipeline;
+import io.netty.util.Timer;
 import java.net.InetSocketAddress;
 import org.junit.Assert;
 import org.junit.Before;
@@ -26,6 +27,7 @@ public class ConnectionAdapterFactoryImplTest {
     @Mock ChannelPipeline channnelPipe;
     @Mock Channel channel;
     @Mock InetSocketAddress address;
+    @Mock Timer timer;
 
     @Before
     public void startUp(){
@@ -36,7 +38,8 @@ public class ConnectionAdapterFactoryImplTest {
     @Test
     public void test(){
         final ConnectionAdapterFactoryImpl connAdapterFactory = new ConnectionAdapterFactoryImpl();
-        final ConnectionFacade connFacade = connAdapterFactory.createConnectionFacade(channel, address, true);
+        final ConnectionFacade connFacade = connAdapterFactory.createConnectionFacade(channel, address, true,
+                OutboundQueueConfiguration.DEFAULT, timer);
         Assert.assertNotNull("Wrong - ConnectionFacade has not created.", connFacade);
         Assert.assertEquals("Wrong - diffrence between channel.isOpen() and ConnectionFacade.isAlive()", channel.isOpen(), connFacade.isAlive());
     }
@@ -7,17 +7,18 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.when;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
-import com.google.common.cache.RemovalNotification;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
 import java.net.InetSocketAddress;
 import java.util.concurrent.TimeUnit;
 import org.junit.After;
@@ -67,16 +68,8 @@ import org.opendaylight.yangtools.yang.binding.DataObject;
  */
 public class ConnectionAdapterImplStatisticsTest {
 
-    private static final int RPC_RESPONSE_EXPIRATION = 1;
-    private static final RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>> REMOVAL_LISTENER =
-            new RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>>() {
-        @Override
-        public void onRemoval(
-                final RemovalNotification<RpcResponseKey, ResponseExpectedRpcListener<?>> notification) {
-            notification.getValue().discard();
-        }
-    };
-
+    @Mock Timer timer;
+    @Mock Timeout timeout;
     @Mock SystemNotificationsListener systemListener;
     @Mock ConnectionReadyListener readyListener;
     @Mock ChannelFuture channelFuture;
@@ -104,7 +97,6 @@ public class ConnectionAdapterImplStatisticsTest {
     @Mock SetAsyncInput setAsyncInput;
 
     private ConnectionAdapterImpl adapter;
-    private Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache;
     private StatisticsCounters statCounters;
 
     /**
@@ -114,6 +106,7 @@ public class ConnectionAdapterImplStatisticsTest {
     @Before
     public void setUp() {
         MockitoAnnotations.initMocks(this);
+        when(timer.newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class))).thenReturn(timeout);
         statCounters = StatisticsCounters.getInstance();
         statCounters.startCounting(false, 0);
     }
@@ -142,10 +135,8 @@ public class ConnectionAdapterImplStatisticsTest {
             Assert.fail("Counter " + CounterEventTypes.DS_FLOW_MODS_ENTERED + " is not enabled");
         }
         final EmbeddedChannel embChannel = new EmbeddedChannel(new EmbededChannelHandler());
-        adapter = new ConnectionAdapterImpl(embChannel, InetSocketAddress.createUnresolved("localhost", 9876), true);
-        cache = CacheBuilder.newBuilder().concurrencyLevel(1).expireAfterWrite(RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES)
-                .removalListener(REMOVAL_LISTENER).build();
-        adapter.setResponseCache(cache);
+        adapter = new ConnectionAdapterImpl(embChannel, InetSocketAddress.createUnresolved("localhost", 9876), true,
+                timer);
         adapter.barrier(barrierInput);
         embChannel.runPendingTasks();
         adapter.echo(echoInput);
@@ -198,13 +189,11 @@ public class ConnectionAdapterImplStatisticsTest {
             Assert.fail("Counter " + CounterEventTypes.US_MESSAGE_PASS + " is not enabled");
         }
         when(channel.pipeline()).thenReturn(pipeline);
-        adapter = new ConnectionAdapterImpl(channel, InetSocketAddress.createUnresolved("10.0.0.1", 6653), true);
+        adapter = new ConnectionAdapterImpl(channel, InetSocketAddress.createUnresolved("10.0.0.1", 6653), true,
+                timer);
         adapter.setMessageListener(messageListener);
         adapter.setSystemListener(systemListener);
         adapter.setConnectionReadyListener(readyListener);
-        cache = CacheBuilder.newBuilder().concurrencyLevel(1).expireAfterWrite(RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES)
-                .removalListener(REMOVAL_LISTENER).build();
-        adapter.setResponseCache(cache);
         when(channel.disconnect()).thenReturn(channelFuture);
         DataObject message = new EchoRequestMessageBuilder().build();
         adapter.consume(message);
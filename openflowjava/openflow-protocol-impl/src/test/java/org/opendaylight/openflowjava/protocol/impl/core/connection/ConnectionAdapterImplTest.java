@@ -9,16 +9,16 @@
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
-import com.google.common.cache.RemovalNotification;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
 import java.net.InetSocketAddress;
 import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
@@ -32,6 +32,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoOutput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoRequestMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoRequestMessageBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ErrorMessage;
@@ -44,7 +45,6 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.HelloMessageBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessageBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OpenflowProtocolListener;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessageBuilder;
@@ -65,25 +65,18 @@ import org.opendaylight.yangtools.yang.binding.DataObject;
 public class ConnectionAdapterImplTest {
 
     private static final int RPC_RESPONSE_EXPIRATION = 1;
-    private static final RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>> REMOVAL_LISTENER =
-            new RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>>() {
-        @Override
-        public void onRemoval(
-                final RemovalNotification<RpcResponseKey, ResponseExpectedRpcListener<?>> notification) {
-            notification.getValue().discard();
-        }
-    };
 
     @Mock SocketChannel channel;
     @Mock ChannelPipeline pipeline;
     @Mock OpenflowProtocolListener messageListener;
     @Mock SystemNotificationsListener systemListener;
     @Mock ConnectionReadyListener readyListener;
-    @Mock Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> mockCache;
+    @Mock Timer timer;
+    @Mock Timeout timeout;
     @Mock ChannelFuture channelFuture;
 
     private ConnectionAdapterImpl adapter;
-    private Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> cache;
+    private PendingResponseTable responseTable;
 
     /**
      * Initializes ConnectionAdapter
@@ -92,13 +85,14 @@ public class ConnectionAdapterImplTest {
     public void setUp() {
         MockitoAnnotations.initMocks(this);
         when(channel.pipeline()).thenReturn(pipeline);
-        adapter = new ConnectionAdapterImpl(channel, InetSocketAddress.createUnresolved("10.0.0.1", 6653), true);
+        adapter = new ConnectionAdapterImpl(channel, InetSocketAddress.createUnresolved("10.0.0.1", 6653), true,
+                timer);
         adapter.setMessageListener(messageListener);
         adapter.setSystemListener(systemListener);
         adapter.setConnectionReadyListener(readyListener);
-        cache = CacheBuilder.newBuilder().concurrencyLevel(1).expireAfterWrite(RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES)
-                .removalListener(REMOVAL_LISTENER).build();
-        adapter.setResponseCache(cache);
+        when(timer.newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class))).thenReturn(timeout);
+        responseTable = new PendingResponseTable(timer, RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES);
+        adapter.setResponseTable(responseTable);
         when(channel.disconnect()).thenReturn(channelFuture);
     }
 
@@ -147,12 +141,15 @@ public class ConnectionAdapterImplTest {
      */
     @Test
     public void testConsume2() {
-        adapter.setResponseCache(mockCache);
+        final ResponseExpectedRpcListener<EchoOutput> listener = new ResponseExpectedRpcListener<>("MESSAGE",
+                "failure", responseTable, 42L, EchoOutput.class);
+        responseTable.put(42L, EchoOutput.class, listener);
         final BarrierOutputBuilder barrierBuilder = new BarrierOutputBuilder();
         barrierBuilder.setXid(42L);
         final BarrierOutput barrier = barrierBuilder.build();
         adapter.consume(barrier);
-        verify(mockCache, times(1)).getIfPresent(any(RpcResponseKey.class));
+        Assert.assertEquals("Listener of other response type was removed", 1, adapter.getInFlightRpcCount());
+        Assert.assertFalse("Listener of other response type was completed", listener.getResult().isDone());
     }
 
     /**
@@ -164,16 +161,17 @@ public class ConnectionAdapterImplTest {
         inputBuilder.setVersion((short) EncodeConstants.OF13_VERSION_ID);
         inputBuilder.setXid(42L);
         final BarrierInput barrierInput = inputBuilder.build();
-        final RpcResponseKey key = new RpcResponseKey(42L, "org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutput");
-        final ResponseExpectedRpcListener<OfHeader> listener = new ResponseExpectedRpcListener<>(barrierInput,
-                "failure", mockCache, key);
-        cache.put(key, listener);
+        final ResponseExpectedRpcListener<BarrierOutput> listener = new ResponseExpectedRpcListener<>(barrierInput,
+                "failure", responseTable, 42L, BarrierOutput.class);
+        responseTable.put(42L, BarrierOutput.class, listener);
+        Assert.assertEquals(1, adapter.getInFlightRpcCount());
         final BarrierOutputBuilder barrierBuilder = new BarrierOutputBuilder();
         barrierBuilder.setXid(42L);
         final BarrierOutput barrierOutput = barrierBuilder.build();
         adapter.consume(barrierOutput);
-        final ResponseExpectedRpcListener<?> ifPresent = cache.getIfPresent(key);
-        Assert.assertNull("Listener was not discarded", ifPresent);
+        Assert.assertEquals("Listener was not removed", 0, adapter.getInFlightRpcCount());
+        Assert.assertTrue("Listener was not completed", listener.getResult().isDone());
+        verify(timeout, times(1)).cancel();
     }
     /**
      * Test IsAlive method
@@ -183,7 +181,7 @@ public class ConnectionAdapterImplTest {
         final int port = 9876;
         final String host ="localhost";
         final InetSocketAddress inetSockAddr = InetSocketAddress.createUnresolved(host, port);
-        final ConnectionAdapterImpl connAddapter = new ConnectionAdapterImpl(channel, inetSockAddr, true);
+        final ConnectionAdapterImpl connAddapter = new ConnectionAdapterImpl(channel, inetSockAddr, true, timer);
         Assert.assertEquals("Wrong - diffrence between channel.isOpen() and ConnectionAdapterImpl.isAlive()", channel.isOpen(), connAddapter.isAlive());
 
         connAddapter.disconnect();
@@ -198,7 +196,7 @@ public class ConnectionAdapterImplTest {
         final int port = 9876;
         final String host ="localhost";
         final InetSocketAddress inetSockAddr = InetSocketAddress.createUnresolved(host, port);
-        final ConnectionAdapterImpl connAddapter = new ConnectionAdapterImpl(channel, inetSockAddr, true);
+        final ConnectionAdapterImpl connAddapter = new ConnectionAdapterImpl(channel, inetSockAddr, true, timer);
         connAddapter.setSystemListener(null);
         connAddapter.setMessageListener(null);
         connAddapter.setConnectionReadyListener(null);
@@ -101,4 +101,49 @@ public class ConnectionConfigurationImpl implements ConnectionConfiguration {
     public boolean useBarrier() {
         return useBarrier;
     }
+
+    @Override
+    public int getQueueSegmentSize() {
+        return OutboundQueueConfiguration.DEFAULT.getSegmentSize();
+    }
+
+    @Override
+    public int getQueueSegmentPoolSize() {
+        return OutboundQueueConfiguration.DEFAULT.getPooledSegments();
+    }
+
+    @Override
+    public int getWriteBufferLowWatermark() {
+        return OutboundQueueConfiguration.DEFAULT.getLowWatermark();
+    }
+
+    @Override
+    public int getWriteBufferHighWatermark() {
+        return OutboundQueueConfiguration.DEFAULT.getHighWatermark();
+    }
+
+    @Override
+    public boolean useAdaptiveWriteBuffer() {
+        return OutboundQueueConfiguration.DEFAULT.isAdaptiveWatermarks();
+    }
+
+    @Override
+    public boolean useFusedDecoder() {
+        return false;
+    }
+
+    @Override
+    public boolean usePreEncoding() {
+        return OutboundQueueConfiguration.DEFAULT.isPreEncoding();
+    }
+
+    @Override
+    public boolean answerEchoRequests() {
+        return false;
+    }
+
+    @Override
+    public int getPacketInAdmissionRate() {
+        return 0;
+    }
 }
\ No newline at end of file
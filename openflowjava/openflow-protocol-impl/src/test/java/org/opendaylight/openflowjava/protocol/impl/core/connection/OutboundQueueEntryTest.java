@@ -8,6 +8,8 @@
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import com.google.common.util.concurrent.FutureCallback;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import javax.annotation.Nullable;
 import org.junit.Assert;
 import org.junit.Test;
@@ -144,4 +146,27 @@ public class OutboundQueueEntryTest {
         Assert.assertTrue(this.failCounter == 1);
     }
 
+    @Test
+    public void commitEncoded() throws Exception {
+        final ByteBuf encoded = Unpooled.buffer();
+        outboundQueueEntry.commit(flowModInput, encoded, futureCallback, OutboundQueueEntry.DEFAULT_IS_COMPLETE);
+        Assert.assertTrue(outboundQueueEntry.isCommitted());
+        Assert.assertSame(encoded, outboundQueueEntry.takeEncoded());
+        Assert.assertNull(outboundQueueEntry.takeEncoded());
+        Assert.assertEquals(flowModInput, outboundQueueEntry.takeMessage());
+        Assert.assertEquals(1, encoded.refCnt());
+    }
+
+    @Test
+    public void failReleasesEncoded() throws Exception {
+        final ByteBuf encoded = Unpooled.buffer();
+        outboundQueueEntry.commit(flowModInput, encoded, futureCallback, OutboundQueueEntry.DEFAULT_IS_COMPLETE);
+        outboundQueueEntry.fail(null);
+        Assert.assertEquals(0, encoded.refCnt());
+        Assert.assertNull(outboundQueueEntry.takeEncoded());
+
+        final ByteBuf late = Unpooled.buffer();
+        outboundQueueEntry.commit(flowModInput, late, futureCallback, OutboundQueueEntry.DEFAULT_IS_COMPLETE);
+        Assert.assertEquals(0, late.refCnt());
+    }
 }
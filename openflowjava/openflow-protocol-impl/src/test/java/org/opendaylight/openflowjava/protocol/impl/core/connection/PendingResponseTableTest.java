@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+
+/**
+ * {@link PendingResponseTable} class test
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PendingResponseTableTest {
+    @Mock
+    private Timer timer;
+    @Mock
+    private Timeout timeout;
+
+    private PendingResponseTable table;
+
+    @Before
+    public void setUp() {
+        when(timer.newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class))).thenReturn(timeout);
+        table = new PendingResponseTable(timer, 1, TimeUnit.MINUTES);
+    }
+
+    @Test
+    public void testPutRemove() {
+        final ResponseExpectedRpcListener<BarrierOutput> barrier = listener(1, BarrierOutput.class);
+        final ResponseExpectedRpcListener<EchoOutput> echo = listener(1, EchoOutput.class);
+        table.put(1, BarrierOutput.class, barrier);
+        table.put(1, EchoOutput.class, echo);
+        verify(timer, times(2)).newTimeout(any(TimerTask.class), eq(TimeUnit.MINUTES.toNanos(1)),
+                eq(TimeUnit.NANOSECONDS));
+        Assert.assertEquals(2, table.getInFlight());
+
+        Assert.assertNull(table.remove(2, BarrierOutput.class));
+        Assert.assertSame(barrier, table.remove(1, BarrierOutput.class));
+        Assert.assertNull(table.remove(1, BarrierOutput.class));
+        Assert.assertSame(echo, table.remove(1, EchoOutput.class));
+        Assert.assertEquals(0, table.getInFlight());
+        verify(timeout, times(2)).cancel();
+    }
+
+    @Test
+    public void testManyXids() {
+        // Enough entries to force the table to grow a few times
+        for (long xid = 0; xid < 1000; ++xid) {
+            table.put(xid, BarrierOutput.class, listener(xid, BarrierOutput.class));
+        }
+        Assert.assertEquals(1000, table.getInFlight());
+
+        for (long xid = 999; xid >= 0; --xid) {
+            Assert.assertNotNull(table.remove(xid, BarrierOutput.class));
+        }
+        Assert.assertEquals(0, table.getInFlight());
+    }
+
+    @Test
+    public void testReplace() throws Exception {
+        final ResponseExpectedRpcListener<BarrierOutput> first = listener(1, BarrierOutput.class);
+        final ResponseExpectedRpcListener<BarrierOutput> second = listener(1, BarrierOutput.class);
+        table.put(1, BarrierOutput.class, first);
+        table.put(1, BarrierOutput.class, second);
+
+        Assert.assertEquals(1, table.getInFlight());
+        Assert.assertFalse(first.getResult().get().isSuccessful());
+        Assert.assertSame(second, table.remove(1, BarrierOutput.class));
+    }
+
+    @Test
+    public void testExpire() throws Exception {
+        final ResponseExpectedRpcListener<BarrierOutput> listener = listener(1, BarrierOutput.class);
+        table.put(1, BarrierOutput.class, listener);
+
+        final ArgumentCaptor<TimerTask> task = ArgumentCaptor.forClass(TimerTask.class);
+        verify(timer).newTimeout(task.capture(), anyLong(), any(TimeUnit.class));
+        task.getValue().run(timeout);
+
+        Assert.assertEquals(0, table.getInFlight());
+        Assert.assertEquals(1, table.getTimedOut());
+        Assert.assertTrue(listener.getResult().isDone());
+        Assert.assertFalse(listener.getResult().get().isSuccessful());
+
+        // Expiry of an entry which is no longer present must not affect its successor
+        final ResponseExpectedRpcListener<BarrierOutput> next = listener(1, BarrierOutput.class);
+        table.put(1, BarrierOutput.class, next);
+        task.getValue().run(timeout);
+        Assert.assertEquals(1, table.getInFlight());
+        Assert.assertEquals(1, table.getTimedOut());
+        Assert.assertFalse(next.getResult().isDone());
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        final ResponseExpectedRpcListener<BarrierOutput> barrier = listener(1, BarrierOutput.class);
+        final ResponseExpectedRpcListener<EchoOutput> echo = listener(2, EchoOutput.class);
+        table.put(1, BarrierOutput.class, barrier);
+        table.put(2, EchoOutput.class, echo);
+
+        table.clear(new RejectedExecutionException("Channel disconnected"));
+        Assert.assertEquals(0, table.getInFlight());
+        Assert.assertEquals(0, table.getTimedOut());
+        Assert.assertFalse(barrier.getResult().get().isSuccessful());
+        Assert.assertFalse(echo.getResult().get().isSuccessful());
+        verify(timeout, times(2)).cancel();
+    }
+
+    private <T extends OfHeader> ResponseExpectedRpcListener<T> listener(final long xid, final Class<T> type) {
+        return new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", table, xid, type);
+    }
+}
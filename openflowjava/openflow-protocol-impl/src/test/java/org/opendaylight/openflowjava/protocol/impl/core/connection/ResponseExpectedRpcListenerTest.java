@@ -9,16 +9,21 @@
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import static org.junit.Assert.fail;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
-import com.google.common.cache.RemovalNotification;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.when;
 import com.google.common.util.concurrent.SettableFuture;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.junit.Assert;
+import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutput;
@@ -33,27 +38,28 @@ import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
  */
 public class ResponseExpectedRpcListenerTest {
 
-    private static final RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>> REMOVAL_LISTENER =
-            new RemovalListener<RpcResponseKey, ResponseExpectedRpcListener<?>>() {
-        @Override
-        public void onRemoval(
-                final RemovalNotification<RpcResponseKey, ResponseExpectedRpcListener<?>> notification) {
-            notification.getValue().discard();
-        }
-    };
     private static final int RPC_RESPONSE_EXPIRATION = 1;
-    private final Cache<RpcResponseKey, ResponseExpectedRpcListener<?>> responseCache  = CacheBuilder.newBuilder()
-            .concurrencyLevel(1)
-            .expireAfterWrite(RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES)
-            .removalListener(REMOVAL_LISTENER).build();
+
+    @Mock Timer timer;
+    @Mock Timeout timeout;
+    private PendingResponseTable responseTable;
+
+    /**
+     * Initialize mocks
+     */
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        when(timer.newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class))).thenReturn(timeout);
+        responseTable = new PendingResponseTable(timer, RPC_RESPONSE_EXPIRATION, TimeUnit.MINUTES);
+    }
 
     /**
      * Test object creation
      */
     @Test(expected=NullPointerException.class)
     public void testCreation() {
-        RpcResponseKey key = new RpcResponseKey(12345L, BarrierOutput.class.getName());
-        new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", null, key);
+        new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", null, 12345L, BarrierOutput.class);
     }
 
     /**
@@ -61,7 +67,7 @@ public class ResponseExpectedRpcListenerTest {
      */
     @Test(expected=NullPointerException.class)
     public void testCreation2() {
-        new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseCache, null);
+        new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseTable, 12345L, null);
     }
 
     /**
@@ -69,9 +75,8 @@ public class ResponseExpectedRpcListenerTest {
      */
     @Test
     public void testDiscard() {
-        RpcResponseKey key = new RpcResponseKey(12345L, BarrierOutput.class.getName());
-        ResponseExpectedRpcListener<OfHeader> listener =
-                new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseCache, key);
+        ResponseExpectedRpcListener<BarrierOutput> listener = new ResponseExpectedRpcListener<>("MESSAGE",
+                "Failed to send message", responseTable, 12345L, BarrierOutput.class);
         listener.discard();
         RpcError rpcError = AbstractRpcListener.buildRpcError("Failed to send message",
                 "check switch connection", new TimeoutException("Request timed out"));
@@ -92,9 +97,8 @@ public class ResponseExpectedRpcListenerTest {
      */
     @Test
     public void testCompleted() {
-        RpcResponseKey key = new RpcResponseKey(12345L, BarrierOutput.class.getName());
-        ResponseExpectedRpcListener<OfHeader> listener =
-                new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseCache, key);
+        ResponseExpectedRpcListener<OfHeader> listener = new ResponseExpectedRpcListener<>("MESSAGE",
+                "Failed to send message", responseTable, 12345L, OfHeader.class);
         BarrierInputBuilder barrierBuilder = new BarrierInputBuilder();
         BarrierInput barrierInput = barrierBuilder.build();
         listener.completed(barrierInput);
@@ -114,11 +118,11 @@ public class ResponseExpectedRpcListenerTest {
      */
     @Test
     public void testOperationSuccessful() {
-        RpcResponseKey key = new RpcResponseKey(12345L, BarrierOutput.class.getName());
-        ResponseExpectedRpcListener<OfHeader> listener =
-                new ResponseExpectedRpcListener<>("MESSAGE", "Failed to send message", responseCache, key);
+        ResponseExpectedRpcListener<BarrierOutput> listener = new ResponseExpectedRpcListener<>("MESSAGE",
+                "Failed to send message", responseTable, 12345L, BarrierOutput.class);
         listener.operationSuccessful();
-        ResponseExpectedRpcListener<?> present = responseCache.getIfPresent(key);
+        Assert.assertEquals(1, responseTable.getInFlight());
+        ResponseExpectedRpcListener<?> present = responseTable.remove(12345L, BarrierOutput.class);
         Assert.assertEquals(present, listener);
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+
+/**
+ * Test of reply pairing in {@link AbstractStackedOutboundQueue} with 1, 10 and 100 uncompleted segments.
+ * Replies are paired with requests of the last segment, which is the worst case for segment lookup.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class StackedOutboundQueuePairingTest {
+    private static final short VERSION = (short) 4;
+    private static final int ROUNDS = 3;
+
+    @Mock
+    private AbstractOutboundQueueManager<?, ?> manager;
+
+    @Test
+    public void testPairingOneSegment() throws Exception {
+        checkPairing(1);
+    }
+
+    @Test
+    public void testPairingTenSegments() throws Exception {
+        checkPairing(10);
+    }
+
+    @Test
+    public void testPairingHundredSegments() throws Exception {
+        checkPairing(100);
+    }
+
+    private void checkPairing(final int segments) {
+        final OfHeader request = new EchoInputBuilder().setVersion(VERSION).setXid(0L).build();
+        final long lastBaseXid = (long) (segments - 1) * StackedSegment.SEGMENT_SIZE;
+        final StackedOutboundQueue queue = new StackedOutboundQueue(manager,
+                OutboundQueueConfiguration.DEFAULT.getSegmentPool());
+        if (segments == 1) {
+            // Last segment is added in every round below
+            queue.uncompletedSegments.remove(queue.firstSegment);
+        }
+
+        for (int i = 1; i < segments - 1; ++i) {
+            queue.uncompletedSegments.add(StackedSegment.create((long) i * StackedSegment.SEGMENT_SIZE));
+        }
+
+        final OfHeader[] replies = new OfHeader[StackedSegment.SEGMENT_SIZE];
+        for (int i = 0; i < StackedSegment.SEGMENT_SIZE; ++i) {
+            replies[i] = new EchoOutputBuilder().setVersion(VERSION).setXid(lastBaseXid + i).build();
+        }
+
+        for (int round = 0; round < ROUNDS; ++round) {
+            // Last segment is completed and removed in every round, so it is added again
+            final StackedSegment lastSegment = StackedSegment.create(lastBaseXid);
+            queue.uncompletedSegments.add(lastSegment);
+
+            for (int i = 0; i < StackedSegment.SEGMENT_SIZE; ++i) {
+                lastSegment.getEntry(i).commit(request, null);
+            }
+
+            for (final OfHeader reply : replies) {
+                Assert.assertTrue(queue.pairRequest(reply));
+            }
+
+            // Completed segment was removed from uncompleted segments
+            Assert.assertEquals(segments - 1, queue.uncompletedSegments.size());
+        }
+    }
+}
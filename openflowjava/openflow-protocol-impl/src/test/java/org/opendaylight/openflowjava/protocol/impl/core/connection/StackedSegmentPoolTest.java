@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import io.netty.util.concurrent.FastThreadLocalThread;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link StackedSegmentPool} class test
+ */
+public class StackedSegmentPoolTest {
+    private static final int SEGMENT_SIZE = 16;
+
+    @Test
+    public void testReuse() throws Exception {
+        final StackedSegmentPool pool = new StackedSegmentPool(SEGMENT_SIZE, 2);
+
+        final OutboundQueueEntry[] first = pool.acquire();
+        Assert.assertEquals(SEGMENT_SIZE, first.length);
+        Assert.assertEquals(0, pool.getHits());
+        Assert.assertEquals(1, pool.getMisses());
+
+        pool.release(first);
+        Assert.assertSame(first, pool.acquire());
+        Assert.assertEquals(1, pool.getHits());
+        Assert.assertEquals(1, pool.getMisses());
+    }
+
+    @Test
+    public void testBounded() throws Exception {
+        final StackedSegmentPool pool = new StackedSegmentPool(SEGMENT_SIZE, 2);
+
+        pool.release(pool.acquire());
+        pool.release(pool.acquire());
+        final OutboundQueueEntry[] first = pool.acquire();
+        final OutboundQueueEntry[] second = pool.acquire();
+        final OutboundQueueEntry[] third = pool.acquire();
+        Assert.assertEquals(2, pool.getHits());
+        Assert.assertEquals(3, pool.getMisses());
+
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+        Assert.assertEquals(1, pool.getDrops());
+
+        Assert.assertSame(first, pool.acquire());
+        Assert.assertSame(second, pool.acquire());
+        Assert.assertEquals(3, pool.getMisses());
+        pool.acquire();
+        Assert.assertEquals(4, pool.getMisses());
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        final StackedSegmentPool pool = new StackedSegmentPool(SEGMENT_SIZE, 0);
+
+        final OutboundQueueEntry[] entries = pool.acquire();
+        pool.release(entries);
+        Assert.assertNotSame(entries, pool.acquire());
+        Assert.assertEquals(0, pool.getHits());
+        Assert.assertEquals(2, pool.getMisses());
+        Assert.assertEquals(1, pool.getDrops());
+    }
+
+    @Test
+    public void testMagazine() throws Exception {
+        final StackedSegmentPool pool = new StackedSegmentPool(SEGMENT_SIZE, 1);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        final Thread thread = new FastThreadLocalThread(() -> {
+            try {
+                final OutboundQueueEntry[] first = pool.acquire();
+                final OutboundQueueEntry[] second = pool.acquire();
+                final OutboundQueueEntry[] third = pool.acquire();
+
+                // Magazine holds two arrays, shared queue holds the third one
+                pool.release(first);
+                pool.release(second);
+                pool.release(third);
+                Assert.assertEquals(0, pool.getDrops());
+
+                // Magazine is used first, in LIFO order
+                Assert.assertSame(second, pool.acquire());
+                Assert.assertSame(first, pool.acquire());
+                Assert.assertSame(third, pool.acquire());
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        if (failure.get() != null) {
+            throw new AssertionError("Magazine test failed", failure.get());
+        }
+        Assert.assertEquals(3, pool.getHits());
+        Assert.assertEquals(3, pool.getMisses());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReleaseForeign() throws Exception {
+        new StackedSegmentPool(SEGMENT_SIZE, 1).release(new OutboundQueueEntry[SEGMENT_SIZE + 1]);
+    }
+}
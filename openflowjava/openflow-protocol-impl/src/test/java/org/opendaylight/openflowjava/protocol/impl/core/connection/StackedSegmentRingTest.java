@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link StackedSegmentRing} class test
+ */
+public class StackedSegmentRingTest {
+    private static final int SEGMENT_COUNT = 10;
+
+    private final List<StackedSegment> segments = new ArrayList<>();
+    private StackedSegmentRing ring;
+
+    @Before
+    public void setUp() throws Exception {
+        ring = new StackedSegmentRing(StackedSegment.SEGMENT_SIZE);
+        for (int i = 0; i < SEGMENT_COUNT; ++i) {
+            final StackedSegment segment = StackedSegment.create((long) i * StackedSegment.SEGMENT_SIZE);
+            segments.add(segment);
+            ring.add(segment);
+        }
+    }
+
+    @Test
+    public void testFind() throws Exception {
+        Assert.assertEquals(SEGMENT_COUNT, ring.size());
+        for (int i = 0; i < SEGMENT_COUNT; ++i) {
+            final long baseXid = (long) i * StackedSegment.SEGMENT_SIZE;
+            Assert.assertSame(segments.get(i), ring.find(baseXid));
+            Assert.assertSame(segments.get(i), ring.find(baseXid + StackedSegment.SEGMENT_SIZE - 1));
+        }
+
+        Assert.assertNull(ring.find(-1));
+        Assert.assertNull(ring.find((long) SEGMENT_COUNT * StackedSegment.SEGMENT_SIZE));
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        Assert.assertTrue(ring.remove(segments.get(3)));
+        Assert.assertFalse(ring.remove(segments.get(3)));
+        Assert.assertNull(ring.find(3L * StackedSegment.SEGMENT_SIZE));
+        Assert.assertSame(segments.get(4), ring.find(4L * StackedSegment.SEGMENT_SIZE));
+
+        Assert.assertTrue(ring.remove(segments.get(0)));
+        Assert.assertNull(ring.find(0));
+        Assert.assertSame(segments.get(1), ring.find(StackedSegment.SEGMENT_SIZE));
+        Assert.assertEquals(SEGMENT_COUNT - 2, ring.size());
+    }
+
+    @Test
+    public void testRemoveBefore() throws Exception {
+        final List<StackedSegment> removed = new ArrayList<>();
+        ring.remove(segments.get(2));
+        ring.removeBefore(segments.get(5), removed::add);
+
+        Assert.assertEquals(4, removed.size());
+        Assert.assertSame(segments.get(0), removed.get(0));
+        Assert.assertSame(segments.get(4), removed.get(3));
+        Assert.assertEquals(SEGMENT_COUNT - 5, ring.size());
+        Assert.assertSame(segments.get(5), ring.iterator().next());
+    }
+
+    @Test
+    public void testIteratorRemove() throws Exception {
+        final Iterator<StackedSegment> it = ring.iterator();
+        int count = 0;
+        while (it.hasNext()) {
+            Assert.assertSame(segments.get(count), it.next());
+            if (count % 2 == 0) {
+                it.remove();
+            }
+            count++;
+        }
+
+        Assert.assertEquals(SEGMENT_COUNT, count);
+        Assert.assertEquals(SEGMENT_COUNT / 2, ring.size());
+        for (final StackedSegment segment : ring) {
+            Assert.assertEquals(1, (segment.getBaseXid() / StackedSegment.SEGMENT_SIZE) % 2);
+        }
+    }
+
+    @Test
+    public void testAddAfterGrowAndWrap() throws Exception {
+        ring.removeBefore(segments.get(SEGMENT_COUNT - 1), segment -> { });
+        final List<StackedSegment> added = new ArrayList<>();
+        for (int i = SEGMENT_COUNT; i < 4 * SEGMENT_COUNT; ++i) {
+            final StackedSegment segment = StackedSegment.create((long) i * StackedSegment.SEGMENT_SIZE);
+            added.add(segment);
+            ring.add(segment);
+        }
+
+        Assert.assertEquals(1 + added.size(), ring.size());
+        for (final StackedSegment segment : added) {
+            Assert.assertSame(segment, ring.find(segment.getBaseXid() + 1));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddBeforeHead() throws Exception {
+        ring.remove(segments.get(0));
+        ring.add(segments.get(0));
+    }
+}
@@ -9,11 +9,23 @@
 package org.opendaylight.openflowjava.protocol.impl.deserialization;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 
 import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
+import org.opendaylight.openflowjava.protocol.api.keys.TypeToClassKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ExperimenterMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.HelloMessage;
 
 /**
  * @author michal.polkorab
@@ -53,4 +65,37 @@ public class DeserializationFactoryTest {
         buffer.writeInt(1234);
         factory.deserialize(buffer, (short) 0);
     }
+
+    /**
+     * Test that registered and unregistered type to class mappings are reflected in deserializer lookup
+     */
+    @Test
+    public void testMappingChanges() {
+        final DeserializerRegistry registry = mock(DeserializerRegistry.class);
+        when(registry.getDeserializer(any(MessageCodeKey.class))).thenReturn(mock(OFDeserializer.class));
+        final DeserializationFactory factory = new DeserializationFactory();
+        factory.setRegistry(registry);
+
+        factory.deserialize(createHeader(), EncodeConstants.OF13_VERSION_ID);
+        verify(registry).getDeserializer(new MessageCodeKey(EncodeConstants.OF13_VERSION_ID, 0, HelloMessage.class));
+
+        final TypeToClassKey key = new TypeToClassKey(EncodeConstants.OF13_VERSION_ID, 0);
+        factory.registerMapping(key, ExperimenterMessage.class);
+        factory.deserialize(createHeader(), EncodeConstants.OF13_VERSION_ID);
+        verify(registry).getDeserializer(
+                new MessageCodeKey(EncodeConstants.OF13_VERSION_ID, 0, ExperimenterMessage.class));
+
+        assertTrue(factory.unregisterMapping(key));
+        assertFalse(factory.unregisterMapping(key));
+        factory.deserialize(createHeader(), EncodeConstants.OF13_VERSION_ID);
+        verify(registry).getDeserializer(new MessageCodeKey(EncodeConstants.OF13_VERSION_ID, 0, null));
+    }
+
+    private static ByteBuf createHeader() {
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.buffer();
+        buffer.writeByte(0);
+        buffer.writeShort(EncodeConstants.OFHEADER_SIZE);
+        buffer.writeInt(1234);
+        return buffer;
+    }
 }
\ No newline at end of file
@@ -9,9 +9,11 @@ package org.opendaylight.openflowjava.protocol.impl.serialization;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.util.OF13MatchSerializer;
+import org.opendaylight.openflowjava.protocol.impl.util.TypeKeyMakerFactory;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
 
 /**
@@ -58,4 +60,32 @@ public class SerializerRegistryImplTest {
         serReg.registerSerializer(new MessageTypeKey<>(OF13, Match.class), new OF13MatchSerializer());
         Assert.assertFalse("Wrong - unregister serializer",serReg.unregisterSerializer(new MessageTypeKey<>(OF10, Match.class)));
     }
+
+    /**
+     * Test - cached serializer lookup is refreshed when serializers change
+     */
+    @Test
+    public void testCachedSerializer() {
+        SerializerRegistryImpl serReg = new SerializerRegistryImpl();
+        serReg.init();
+        OFGeneralSerializer serializer = serReg.getSerializer(OF13, Match.class, null,
+                TypeKeyMakerFactory.MESSAGE_KEY_FACTORY);
+        Assert.assertSame("Wrong serializer", serReg.getSerializer(new MessageTypeKey<>(OF13, Match.class)),
+                serializer);
+        Assert.assertSame("Wrong cached serializer", serializer, serReg.getSerializer(OF13, Match.class, null,
+                TypeKeyMakerFactory.MESSAGE_KEY_FACTORY));
+
+        OF13MatchSerializer replacement = new OF13MatchSerializer();
+        serReg.registerSerializer(new MessageTypeKey<>(OF13, Match.class), replacement);
+        Assert.assertSame("Wrong serializer after registration", replacement, serReg.getSerializer(OF13, Match.class,
+                null, TypeKeyMakerFactory.MESSAGE_KEY_FACTORY));
+
+        serReg.unregisterSerializer(new MessageTypeKey<>(OF13, Match.class));
+        try {
+            serReg.getSerializer(OF13, Match.class, null, TypeKeyMakerFactory.MESSAGE_KEY_FACTORY);
+            Assert.fail("Unregistered serializer found");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * Base of benchmarks measuring encoding and decoding of one message. The message is encoded into a buffer
+ * allocated up front and decoded from a buffer holding its encoded form, so that only allocations done by
+ * the codecs themselves are measured.
+ *
+ * <p>
+ * Run with the gc profiler to get allocation rate next to throughput:
+ * <pre>
+ * java -jar target/benchmarks.jar -prof gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class AbstractCodecBenchmark {
+    private final Codecs codecs = new Codecs();
+    private OfHeader message;
+    private ByteBuf encoded;
+    private ByteBuf out;
+
+    @Setup
+    public void setUp() {
+        message = createMessage();
+        encoded = Unpooled.buffer();
+        codecs.encode(message, encoded);
+        out = Unpooled.buffer(encoded.readableBytes());
+    }
+
+    /**
+     * Create message to benchmark, called once parameters of the benchmark are set.
+     *
+     * @return message to encode and decode
+     */
+    protected abstract OfHeader createMessage();
+
+    @Benchmark
+    public ByteBuf encode() {
+        out.clear();
+        codecs.encode(message, out);
+        return out;
+    }
+
+    @Benchmark
+    public DataObject decode() {
+        return codecs.decode(encoded);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import org.opendaylight.openflowjava.nx.codec.match.NiciraMatchCodecs;
+import org.opendaylight.openflowjava.nx.codec.match.Reg0Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg1Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg2Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg3Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg4Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg5Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg6Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg7Codec;
+import org.opendaylight.openflowjava.nx.codec.match.TunIdCodec;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializerRegistryImpl;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializerRegistryImpl;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * Serialization and deserialization factories set up the way the library sets them up for a connection, with
+ * Nicira match codecs used by the benchmarks registered on top of the built-in ones.
+ */
+final class Codecs {
+    private final SerializationFactory serializationFactory = new SerializationFactory();
+    private final DeserializationFactory deserializationFactory = new DeserializationFactory();
+
+    Codecs() {
+        final SerializerRegistryImpl serializerRegistry = new SerializerRegistryImpl();
+        serializerRegistry.init();
+        final DeserializerRegistryImpl deserializerRegistry = new DeserializerRegistryImpl();
+        deserializerRegistry.init();
+
+        // Same keys the Nicira extension provider registers through the switch connection provider
+        serializerRegistry.registerSerializer(Reg0Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG0_CODEC);
+        serializerRegistry.registerSerializer(Reg1Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG1_CODEC);
+        serializerRegistry.registerSerializer(Reg2Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG2_CODEC);
+        serializerRegistry.registerSerializer(Reg3Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG3_CODEC);
+        serializerRegistry.registerSerializer(Reg4Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG4_CODEC);
+        serializerRegistry.registerSerializer(Reg5Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG5_CODEC);
+        serializerRegistry.registerSerializer(Reg6Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG6_CODEC);
+        serializerRegistry.registerSerializer(Reg7Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG7_CODEC);
+        serializerRegistry.registerSerializer(TunIdCodec.SERIALIZER_KEY, NiciraMatchCodecs.TUN_ID_CODEC);
+        deserializerRegistry.registerDeserializer(Reg0Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG0_CODEC);
+        deserializerRegistry.registerDeserializer(Reg1Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG1_CODEC);
+        deserializerRegistry.registerDeserializer(Reg2Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG2_CODEC);
+        deserializerRegistry.registerDeserializer(Reg3Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG3_CODEC);
+        deserializerRegistry.registerDeserializer(Reg4Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG4_CODEC);
+        deserializerRegistry.registerDeserializer(Reg5Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG5_CODEC);
+        deserializerRegistry.registerDeserializer(Reg6Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG6_CODEC);
+        deserializerRegistry.registerDeserializer(Reg7Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG7_CODEC);
+        deserializerRegistry.registerDeserializer(TunIdCodec.DESERIALIZER_KEY, NiciraMatchCodecs.TUN_ID_CODEC);
+
+        serializationFactory.setSerializerTable(serializerRegistry);
+        deserializationFactory.setRegistry(deserializerRegistry);
+    }
+
+    /**
+     * Encode message the way OFEncoder does.
+     *
+     * @param message message to encode
+     * @param out buffer to write the message to
+     */
+    void encode(final OfHeader message, final ByteBuf out) {
+        serializationFactory.messageToBuffer(message.getVersion(), out, message);
+    }
+
+    /**
+     * Decode message the way OFVersionDetector and OFDecoder do, starting from the beginning of the buffer.
+     *
+     * @param in buffer holding one complete message
+     * @return decoded message
+     */
+    DataObject decode(final ByteBuf in) {
+        in.readerIndex(0);
+        final short version = in.readUnsignedByte();
+        return deserializationFactory.deserialize(in, version);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import com.google.common.util.concurrent.FutureCallback;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+import javax.annotation.Nonnull;
+import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+import org.opendaylight.openflowjava.protocol.api.connection.ConnectionReadyListener;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandlerRegistration;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoReplyInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoRequestMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ErrorMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ExperimenterMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowRemovedMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.GetFeaturesInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.GetFeaturesOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.HelloInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.HelloMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OpenflowProtocolListener;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PortStatusMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.system.rev130927.DisconnectEvent;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.system.rev130927.SwitchIdleEvent;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.system.rev130927.SystemNotificationsListener;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Controller side of a connection to a simulated switch. Performs handshake the way the plugin does, over
+ * connection adapter RPCs, and then exchanges messages over outbound queue, which is what the plugin uses for
+ * flow programming, statistics and other requests.
+ */
+final class ControllerSession implements OpenflowProtocolListener, SystemNotificationsListener,
+        ConnectionReadyListener, OutboundQueueHandler {
+    private static final Logger LOG = LoggerFactory.getLogger(ControllerSession.class);
+    private static final short VERSION = EncodeConstants.OF13_VERSION_ID;
+    // Defaults of barrier-count-limit and barrier-interval-timeout-limit of the plugin
+    private static final int MAX_QUEUE_DEPTH = 25600;
+    private static final long MAX_BARRIER_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final SimulatorController controller;
+    private final ConnectionAdapter adapter;
+    private final long timeoutSeconds;
+    private final AtomicBoolean ready = new AtomicBoolean();
+    private volatile OutboundQueue queue;
+    private volatile boolean connected = true;
+    private volatile OutboundQueueHandlerRegistration<ControllerSession> registration;
+
+    ControllerSession(final SimulatorController controller, final ConnectionAdapter adapter,
+            final long timeoutSeconds) {
+        this.controller = controller;
+        this.adapter = adapter;
+        this.timeoutSeconds = timeoutSeconds;
+        adapter.setMessageListener(this);
+        adapter.setSystemListener(this);
+        adapter.setConnectionReadyListener(this);
+    }
+
+    /**
+     * Send a message over outbound queue, waiting for the queue to make room for it.
+     *
+     * @param message factory of the message for a reserved transaction id
+     * @param callback callback invoked once the message is completed
+     * @return false if the switch disconnected before the message could be sent
+     */
+    boolean commit(final LongFunction<OfHeader> message, final FutureCallback<OfHeader> callback) {
+        while (connected) {
+            final OutboundQueue current = queue;
+            final Long xid = current == null ? null : current.reserveEntry();
+            if (xid != null) {
+                current.commitEntry(xid, message.apply(xid), callback);
+                return true;
+            }
+            LockSupport.parkNanos(BACKOFF_NANOS);
+        }
+        return false;
+    }
+
+    void disconnect() {
+        final OutboundQueueHandlerRegistration<ControllerSession> reg = registration;
+        if (reg != null) {
+            reg.close();
+        }
+        adapter.disconnect();
+    }
+
+    @Override
+    public void onConnectionReady() {
+        adapter.hello(new HelloInputBuilder().setVersion(VERSION).setXid(0L).build());
+        try {
+            final RpcResult<GetFeaturesOutput> features = adapter.getFeatures(new GetFeaturesInputBuilder()
+                    .setVersion(VERSION).setXid(1L).build()).get(timeoutSeconds, TimeUnit.SECONDS);
+            if (!features.isSuccessful()) {
+                LOG.warn("Features request to {} failed: {}", adapter.getRemoteAddress(), features.getErrors());
+                adapter.disconnect();
+                return;
+            }
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            LOG.warn("Features request to {} failed", adapter.getRemoteAddress(), e);
+            adapter.disconnect();
+            return;
+        }
+
+        registration = adapter.registerOutboundQueueHandler(this, MAX_QUEUE_DEPTH, MAX_BARRIER_NANOS);
+    }
+
+    @Nonnull
+    @Override
+    public BarrierInput createBarrierRequest(@Nonnull final Long xid) {
+        return Messages.barrier(xid);
+    }
+
+    @Override
+    public void onConnectionQueueChanged(final OutboundQueue newQueue) {
+        queue = newQueue;
+        if (newQueue != null && ready.compareAndSet(false, true)) {
+            controller.onSessionReady(this);
+        }
+    }
+
+    @Override
+    public void onEchoRequestMessage(final EchoRequestMessage notification) {
+        // Outbound queue answers echo requests once registered
+        adapter.echoReply(new EchoReplyInputBuilder().setVersion(VERSION).setXid(notification.getXid())
+                .setData(notification.getData()).build());
+    }
+
+    @Override
+    public void onErrorMessage(final ErrorMessage notification) {
+        controller.onError();
+    }
+
+    @Override
+    public void onExperimenterMessage(final ExperimenterMessage notification) {
+        // Not sent by simulated switches
+    }
+
+    @Override
+    public void onFlowRemovedMessage(final FlowRemovedMessage notification) {
+        controller.onFlowRemoved();
+    }
+
+    @Override
+    public void onHelloMessage(final HelloMessage notification) {
+        // Controller hello is sent once the connection is ready
+    }
+
+    @Override
+    public void onMultipartReplyMessage(final MultipartReplyMessage notification) {
+        // Replies are delivered to callbacks of outbound queue entries
+    }
+
+    @Override
+    public void onPacketInMessage(final PacketInMessage notification) {
+        controller.onPacketIn();
+    }
+
+    @Override
+    public void onPortStatusMessage(final PortStatusMessage notification) {
+        controller.onPortStatus();
+    }
+
+    @Override
+    public void onDisconnectEvent(final DisconnectEvent notification) {
+        connected = false;
+        controller.onSessionDisconnected(this);
+    }
+
+    @Override
+    public void onSwitchIdleEvent(final SwitchIdleEvent notification) {
+        LOG.debug("Switch {} is idle", adapter.getRemoteAddress());
+    }
+}
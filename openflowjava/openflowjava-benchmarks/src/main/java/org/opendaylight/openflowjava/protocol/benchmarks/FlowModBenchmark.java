@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+
+/**
+ * Encoding and decoding of FlowMod message, as sent when a flow is programmed.
+ */
+public class FlowModBenchmark extends AbstractCodecBenchmark {
+    @Param
+    public MatchKind matchKind;
+
+    @Override
+    protected OfHeader createMessage() {
+        return Messages.flowMod(matchKind);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+
+/**
+ * Encoding and decoding of flow statistics MultipartReply message, as received when statistics of a table
+ * are gathered. Larger entry counts do not fit into one message on the wire, where a switch splits them into
+ * several replies; codecs are given them in one buffer to measure how their cost grows with the number of entries.
+ */
+public class FlowStatsReplyBenchmark extends AbstractCodecBenchmark {
+    @Param
+    public MatchKind matchKind;
+
+    @Param({"1", "100", "1000"})
+    public int entries;
+
+    @Override
+    protected OfHeader createMessage() {
+        return Messages.flowStatsReply(matchKind, entries);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records latencies up to a fixed number of samples and computes their percentiles. Samples may be recorded
+ * from any thread; percentiles are computed once recording is done.
+ */
+final class LatencyRecorder {
+    private final long[] samples;
+    private final AtomicInteger recorded = new AtomicInteger();
+
+    LatencyRecorder(final int capacity) {
+        samples = new long[capacity];
+    }
+
+    /**
+     * @param nanos latency in nanoseconds, dropped if the recorder is full
+     */
+    void record(final long nanos) {
+        final int index = recorded.getAndIncrement();
+        if (index < samples.length) {
+            samples[index] = nanos;
+        }
+    }
+
+    /**
+     * @return number of recorded samples
+     */
+    int size() {
+        return Math.min(recorded.get(), samples.length);
+    }
+
+    /**
+     * @param percentile percentile to compute, from 0 to 100
+     * @param unit unit of returned latency
+     * @return latency below which given percentage of samples falls
+     */
+    long getPercentile(final double percentile, final TimeUnit unit) {
+        Preconditions.checkArgument(percentile >= 0 && percentile <= 100, "Invalid percentile %s", percentile);
+        final int size = size();
+        Preconditions.checkState(size > 0, "No samples recorded");
+        final long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        final int rank = (int) Math.ceil(percentile / 100 * size);
+        return unit.convert(sorted[Math.max(rank, 1) - 1], TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+/**
+ * Kind of match carried by benchmarked messages.
+ */
+public enum MatchKind {
+    /**
+     * TCP 5-tuple style match made of OpenFlow basic entries only.
+     */
+    OPENFLOW_BASIC,
+    /**
+     * OpenFlow basic entries followed by Nicira reg0-reg7 and tun_id entries, as installed by pipelines
+     * built on Open vSwitch.
+     */
+    NICIRA
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.action.grouping.action.choice.OutputActionCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.action.grouping.action.choice.output.action._case.OutputActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.Action;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping.ActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.instruction.choice.ApplyActionsCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.instruction.choice.GotoTableCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.instruction.choice._goto.table._case.GotoTableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instruction.grouping.instruction.choice.apply.actions._case.ApplyActionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instructions.grouping.Instruction;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.instruction.rev130731.instructions.grouping.InstructionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.EtherType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.FlowModCommand;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.FlowModFlags;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.FlowRemovedReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartRequestFlags;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.PacketInReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.PortNumber;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.TableId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.EthType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.InPort;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.IpProto;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.Ipv4Dst;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.Ipv4Src;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.MatchField;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.Nxm1Class;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.OpenflowBasicClass;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.OxmMatchType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.TcpDst;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntry;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.MatchEntryValue;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.EthTypeCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.InPortCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.IpProtoCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.Ipv4DstCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.Ipv4SrcCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.TcpDstCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.eth.type._case.EthTypeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.in.port._case.InPortBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.ip.proto._case.IpProtoBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.ipv4.dst._case.Ipv4DstBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.ipv4.src._case.Ipv4SrcBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entry.value.grouping.match.entry.value.tcp.dst._case.TcpDstBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowRemovedMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowRemovedMessageBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessageBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartRequestInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartRequestInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessageBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketOutInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketOutInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.MultipartReplyFlowCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.multipart.reply.flow._case.MultipartReplyFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.multipart.reply.flow._case.multipart.reply.flow.FlowStats;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.multipart.reply.flow._case.multipart.reply.flow.FlowStatsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.request.multipart.request.body.MultipartRequestFlowCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.request.multipart.request.body.multipart.request.flow._case.MultipartRequestFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxReg0;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxReg1;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxReg2;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxReg3;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxReg4;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxReg5;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxReg6;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxReg7;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.NxmNxTunId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.ofj.nxm.nx.match.reg.grouping.RegValuesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.ofj.nxm.nx.match.tun.id.grouping.TunIdValuesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.oxm.container.match.entry.value.RegCaseValueBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowjava.nx.match.rev140421.oxm.container.match.entry.value.TunIdCaseValueBuilder;
+
+/**
+ * Builders of OpenFlow 1.3 messages used by the benchmarks. Messages resemble what a controller exchanges with
+ * a switch forwarding TCP traffic, so that codec costs are measured on realistic shapes.
+ */
+final class Messages {
+    private static final short VERSION = EncodeConstants.OF13_VERSION_ID;
+    private static final long XID = 42L;
+    private static final int PACKET_SIZE = 128;
+    private static final List<Class<? extends MatchField>> NXM_REGS = Collections.unmodifiableList(
+            Arrays.asList(NxmNxReg0.class, NxmNxReg1.class, NxmNxReg2.class, NxmNxReg3.class,
+                    NxmNxReg4.class, NxmNxReg5.class, NxmNxReg6.class, NxmNxReg7.class));
+
+    private Messages() {
+        throw new UnsupportedOperationException("Utility class shouldn't be instantiated");
+    }
+
+    static FlowModInput flowMod(final MatchKind matchKind) {
+        return flowMod(matchKind, 0, XID);
+    }
+
+    /**
+     * FlowMod adding a flow, whose match differs from flows added with other indices.
+     *
+     * @param matchKind kind of match of the flow
+     * @param index index of the flow
+     * @param xid transaction id of the message
+     * @return flow mod message
+     */
+    static FlowModInput flowMod(final MatchKind matchKind, final int index, final long xid) {
+        return new FlowModInputBuilder()
+                .setVersion(VERSION)
+                .setXid(xid)
+                .setCookie(BigInteger.valueOf(0x1234L))
+                .setCookieMask(BigInteger.ZERO)
+                .setTableId(new TableId(0L))
+                .setCommand(FlowModCommand.OFPFCADD)
+                .setIdleTimeout(0)
+                .setHardTimeout(0)
+                .setPriority(100)
+                .setBufferId(0xffffffffL)
+                .setOutPort(new PortNumber(0xffffffffL))
+                .setOutGroup(0xffffffffL)
+                .setFlags(new FlowModFlags(false, false, false, false, true))
+                .setMatch(match(matchKind, index))
+                .setInstruction(instructions())
+                .build();
+    }
+
+    static PacketInMessage packetIn(final MatchKind matchKind) {
+        return new PacketInMessageBuilder()
+                .setVersion(VERSION)
+                .setXid(XID)
+                .setBufferId(0xffffffffL)
+                .setTotalLen(PACKET_SIZE)
+                .setReason(PacketInReason.OFPRACTION)
+                .setTableId(new TableId(0L))
+                .setCookie(BigInteger.valueOf(0x1234L))
+                .setMatch(match(matchKind, 0))
+                .setData(new byte[PACKET_SIZE])
+                .build();
+    }
+
+    static PacketOutInput packetOut() {
+        return new PacketOutInputBuilder()
+                .setVersion(VERSION)
+                .setXid(XID)
+                .setBufferId(0xffffffffL)
+                .setInPort(new PortNumber(1L))
+                .setAction(Collections.singletonList(output(2L)))
+                .setData(new byte[PACKET_SIZE])
+                .build();
+    }
+
+    /**
+     * Flow statistics reply with entries differing in their match, so no two entries are encoded the same.
+     *
+     * @param matchKind kind of match of each entry
+     * @param entries number of flow statistics entries
+     * @return multipart reply message
+     */
+    static MultipartReplyMessage flowStatsReply(final MatchKind matchKind, final int entries) {
+        return flowStatsReply(matchKind, 0, entries, false);
+    }
+
+    /**
+     * Part of flow statistics reply.
+     *
+     * @param matchKind kind of match of each entry
+     * @param first index of the first entry in this part
+     * @param entries number of flow statistics entries in this part
+     * @param more true if more parts follow
+     * @return multipart reply message
+     */
+    static MultipartReplyMessage flowStatsReply(final MatchKind matchKind, final int first, final int entries,
+            final boolean more) {
+        final List<FlowStats> flowStats = new ArrayList<>(entries);
+        for (int i = first; i < first + entries; i++) {
+            flowStats.add(new FlowStatsBuilder()
+                    .setTableId((short) 0)
+                    .setDurationSec(3600L)
+                    .setDurationNsec(1000L)
+                    .setPriority(100)
+                    .setIdleTimeout(0)
+                    .setHardTimeout(0)
+                    .setFlags(new FlowModFlags(false, false, false, false, true))
+                    .setCookie(BigInteger.valueOf(i))
+                    .setPacketCount(BigInteger.valueOf(1000L * i))
+                    .setByteCount(BigInteger.valueOf(64000L * i))
+                    .setMatch(match(matchKind, i))
+                    .setInstruction(instructions())
+                    .build());
+        }
+
+        return new MultipartReplyMessageBuilder()
+                .setVersion(VERSION)
+                .setXid(XID)
+                .setType(MultipartType.OFPMPFLOW)
+                .setFlags(new MultipartRequestFlags(more))
+                .setMultipartReplyBody(new MultipartReplyFlowCaseBuilder()
+                        .setMultipartReplyFlow(new MultipartReplyFlowBuilder().setFlowStats(flowStats).build())
+                        .build())
+                .build();
+    }
+
+    static FlowRemovedMessage flowRemoved(final MatchKind matchKind) {
+        return new FlowRemovedMessageBuilder()
+                .setVersion(VERSION)
+                .setXid(XID)
+                .setCookie(BigInteger.valueOf(0x1234L))
+                .setPriority(100)
+                .setReason(FlowRemovedReason.OFPRRIDLETIMEOUT)
+                .setTableId(new TableId(0L))
+                .setDurationSec(60L)
+                .setDurationNsec(0L)
+                .setIdleTimeout(60)
+                .setHardTimeout(0)
+                .setPacketCount(BigInteger.valueOf(1000L))
+                .setByteCount(BigInteger.valueOf(64000L))
+                .setMatch(match(matchKind, 0))
+                .build();
+    }
+
+    /**
+     * Request for statistics of all flows in all tables.
+     *
+     * @param xid transaction id of the request
+     * @return multipart request message
+     */
+    static MultipartRequestInput flowStatsRequest(final long xid) {
+        return new MultipartRequestInputBuilder()
+                .setVersion(VERSION)
+                .setXid(xid)
+                .setType(MultipartType.OFPMPFLOW)
+                .setFlags(new MultipartRequestFlags(false))
+                .setMultipartRequestBody(new MultipartRequestFlowCaseBuilder()
+                        .setMultipartRequestFlow(new MultipartRequestFlowBuilder()
+                                .setTableId((short) 0xff)
+                                .setOutPort(0xffffffffL)
+                                .setOutGroup(0xffffffffL)
+                                .setCookie(BigInteger.ZERO)
+                                .setCookieMask(BigInteger.ZERO)
+                                .setMatch(new MatchBuilder()
+                                        .setType(OxmMatchType.class)
+                                        .setMatchEntry(Collections.emptyList())
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+    }
+
+    static BarrierInput barrier(final long xid) {
+        return new BarrierInputBuilder().setVersion(VERSION).setXid(xid).build();
+    }
+
+    private static Match match(final MatchKind matchKind, final int index) {
+        final List<MatchEntry> entries = new ArrayList<>();
+        entries.add(basicEntry(InPort.class, new InPortCaseBuilder()
+                .setInPort(new InPortBuilder().setPortNumber(new PortNumber(1L + index % 48)).build())
+                .build()));
+        entries.add(basicEntry(EthType.class, new EthTypeCaseBuilder()
+                .setEthType(new EthTypeBuilder().setEthType(new EtherType(0x0800)).build())
+                .build()));
+        entries.add(basicEntry(IpProto.class, new IpProtoCaseBuilder()
+                .setIpProto(new IpProtoBuilder().setProtocolNumber((short) 6).build())
+                .build()));
+        entries.add(basicEntry(Ipv4Src.class, new Ipv4SrcCaseBuilder()
+                .setIpv4Src(new Ipv4SrcBuilder().setIpv4Address(ipv4Address(10, index)).build())
+                .build()));
+        entries.add(basicEntry(Ipv4Dst.class, new Ipv4DstCaseBuilder()
+                .setIpv4Dst(new Ipv4DstBuilder().setIpv4Address(ipv4Address(192, index)).build())
+                .build()));
+        entries.add(basicEntry(TcpDst.class, new TcpDstCaseBuilder()
+                .setTcpDst(new TcpDstBuilder().setPort(
+                        new org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715
+                                .PortNumber(80)).build())
+                .build()));
+
+        if (matchKind == MatchKind.NICIRA) {
+            for (int reg = 0; reg < NXM_REGS.size(); reg++) {
+                entries.add(nxmEntry(NXM_REGS.get(reg), new RegCaseValueBuilder()
+                        .setRegValues(new RegValuesBuilder().setValue((long) reg << 16 | index & 0xffff).build())
+                        .build()));
+            }
+            entries.add(nxmEntry(NxmNxTunId.class, new TunIdCaseValueBuilder()
+                    .setTunIdValues(new TunIdValuesBuilder().setValue(BigInteger.valueOf(5000L + index)).build())
+                    .build()));
+        }
+
+        return new MatchBuilder().setType(OxmMatchType.class).setMatchEntry(entries).build();
+    }
+
+    private static MatchEntry basicEntry(final Class<? extends MatchField> field, final MatchEntryValue value) {
+        return new MatchEntryBuilder()
+                .setOxmClass(OpenflowBasicClass.class)
+                .setOxmMatchField(field)
+                .setHasMask(false)
+                .setMatchEntryValue(value)
+                .build();
+    }
+
+    private static MatchEntry nxmEntry(final Class<? extends MatchField> field, final MatchEntryValue value) {
+        return new MatchEntryBuilder()
+                .setOxmClass(Nxm1Class.class)
+                .setOxmMatchField(field)
+                .setHasMask(false)
+                .setMatchEntryValue(value)
+                .build();
+    }
+
+    private static Ipv4Address ipv4Address(final int network, final int index) {
+        return new Ipv4Address(network + "." + (index >> 16 & 0xff) + "." + (index >> 8 & 0xff) + "."
+                + (index & 0xff));
+    }
+
+    private static List<Instruction> instructions() {
+        final List<Instruction> instructions = new ArrayList<>(2);
+        instructions.add(new InstructionBuilder()
+                .setInstructionChoice(new ApplyActionsCaseBuilder()
+                        .setApplyActions(new ApplyActionsBuilder()
+                                .setAction(Collections.singletonList(output(2L)))
+                                .build())
+                        .build())
+                .build());
+        instructions.add(new InstructionBuilder()
+                .setInstructionChoice(new GotoTableCaseBuilder()
+                        .setGotoTable(new GotoTableBuilder().setTableId((short) 1).build())
+                        .build())
+                .build());
+        return instructions;
+    }
+
+    private static Action output(final long port) {
+        return new ActionBuilder()
+                .setActionChoice(new OutputActionCaseBuilder()
+                        .setOutputAction(new OutputActionBuilder()
+                                .setPort(new PortNumber(port))
+                                .setMaxLength(0xffff)
+                                .build())
+                        .build())
+                .build();
+    }
+}
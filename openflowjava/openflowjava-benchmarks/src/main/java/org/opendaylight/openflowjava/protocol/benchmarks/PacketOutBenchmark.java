@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+
+/**
+ * Encoding and decoding of PacketOut message carrying a 128 byte packet to a single output port.
+ */
+public class PacketOutBenchmark extends AbstractCodecBenchmark {
+    @Override
+    protected OfHeader createMessage() {
+        return Messages.packetOut();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * OpenFlow 1.3 datapath simulated on top of a Netty channel connected to the controller. Requests are answered
+ * from their header and a few body fields without decoding them, FLOW_MODs are only counted. Once connected,
+ * the switch sends asynchronous messages at configured rates.
+ */
+final class SimulatedSwitch extends ChannelInboundHandlerAdapter {
+    private static final Logger LOG = LoggerFactory.getLogger(SimulatedSwitch.class);
+    private static final int TYPE_INDEX = 1;
+    private static final int XID_INDEX = 4;
+    private static final int MULTIPART_TYPE_INDEX = 8;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long datapathId;
+    private final SimulatedSwitchMessages messages;
+    private final SimulatorConfiguration config;
+    private final List<ScheduledFuture<?>> loadTasks = new ArrayList<>(3);
+
+    private final AtomicLong flowMods = new AtomicLong();
+    // Accessed from channel's event loop only
+    private long portStatusSequence;
+
+    SimulatedSwitch(final long datapathId, final SimulatedSwitchMessages messages,
+            final SimulatorConfiguration config) {
+        this.datapathId = datapathId;
+        this.messages = messages;
+        this.config = config;
+    }
+
+    /**
+     * @return number of FLOW_MODs received by this switch
+     */
+    long getFlowMods() {
+        return flowMods.get();
+    }
+
+    @Override
+    public void channelActive(final ChannelHandlerContext ctx) throws Exception {
+        ctx.writeAndFlush(SimulatedSwitchMessages.hello(ctx.alloc(), 1));
+        startLoad(ctx, config.getPacketInRate(), messages::packetIn);
+        startLoad(ctx, config.getFlowRemovedRate(), messages::flowRemoved);
+        startLoad(ctx, config.getPortStatusRate(),
+            () -> messages.portStatus(ctx.alloc(), datapathId, portStatusSequence++));
+        super.channelActive(ctx);
+    }
+
+    private void startLoad(final ChannelHandlerContext ctx, final int rate, final Supplier<ByteBuf> message) {
+        if (rate > 0) {
+            final long period = NANOS_PER_SECOND / rate;
+            loadTasks.add(ctx.executor().scheduleAtFixedRate(() -> {
+                // Like a real switch, do not queue up messages the controller does not keep up with
+                if (ctx.channel().isWritable()) {
+                    ctx.writeAndFlush(message.get());
+                }
+            }, period, period, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        for (ScheduledFuture<?> task : loadTasks) {
+            task.cancel(false);
+        }
+        loadTasks.clear();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+        final ByteBuf frame = (ByteBuf) msg;
+        try {
+            onMessage(ctx, frame);
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Override
+    public void channelReadComplete(final ChannelHandlerContext ctx) {
+        ctx.flush();
+    }
+
+    @Override
+    public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+        LOG.warn("Switch {} failed, disconnecting", datapathId, cause);
+        ctx.close();
+    }
+
+    private void onMessage(final ChannelHandlerContext ctx, final ByteBuf frame) {
+        final int start = frame.readerIndex();
+        final long xid = frame.getUnsignedInt(start + XID_INDEX);
+        switch (frame.getUnsignedByte(start + TYPE_INDEX)) {
+            case SimulatedSwitchMessages.HELLO:
+                break;
+            case SimulatedSwitchMessages.ECHO_REQUEST:
+                ctx.write(SimulatedSwitchMessages.echo(ctx.alloc(), frame, SimulatedSwitchMessages.ECHO_REPLY));
+                break;
+            case SimulatedSwitchMessages.FEATURES_REQUEST:
+                ctx.write(SimulatedSwitchMessages.featuresReply(ctx.alloc(), xid, datapathId));
+                break;
+            case SimulatedSwitchMessages.GET_CONFIG_REQUEST:
+                ctx.write(SimulatedSwitchMessages.getConfigReply(ctx.alloc(), xid));
+                break;
+            case SimulatedSwitchMessages.FLOW_MOD:
+                flowMods.incrementAndGet();
+                break;
+            case SimulatedSwitchMessages.MULTIPART_REQUEST:
+                onMultipartRequest(ctx, frame, xid);
+                break;
+            case SimulatedSwitchMessages.BARRIER_REQUEST:
+                ctx.write(SimulatedSwitchMessages.barrierReply(ctx.alloc(), xid));
+                break;
+            case SimulatedSwitchMessages.ROLE_REQUEST:
+                ctx.write(SimulatedSwitchMessages.echo(ctx.alloc(), frame, SimulatedSwitchMessages.ROLE_REPLY));
+                break;
+            default:
+                // PACKET_OUT, SET_CONFIG and modifications of groups, meters and tables need no reply
+                break;
+        }
+    }
+
+    private void onMultipartRequest(final ChannelHandlerContext ctx, final ByteBuf frame, final long xid) {
+        switch (frame.getUnsignedShort(frame.readerIndex() + MULTIPART_TYPE_INDEX)) {
+            case SimulatedSwitchMessages.MULTIPART_DESC:
+                ctx.write(SimulatedSwitchMessages.descReply(ctx.alloc(), xid, datapathId));
+                break;
+            case SimulatedSwitchMessages.MULTIPART_FLOW:
+                for (ByteBuf part : messages.flowStatsReply(ctx.alloc(), xid)) {
+                    ctx.write(part);
+                }
+                break;
+            case SimulatedSwitchMessages.MULTIPART_PORT_DESC:
+                ctx.write(messages.portDescReply(ctx.alloc(), xid, datapathId));
+                break;
+            default:
+                ctx.write(SimulatedSwitchMessages.badMultipartError(ctx.alloc(), frame, xid));
+                break;
+        }
+    }
+}
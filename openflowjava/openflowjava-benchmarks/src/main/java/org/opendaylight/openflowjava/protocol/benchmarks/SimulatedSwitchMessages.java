@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+
+/**
+ * Messages sent by simulated switches. Messages which are the same for all switches are encoded once by the
+ * library serializers; replies are written directly, so that switches spend as little time as possible and
+ * the controller side dominates measured results.
+ */
+final class SimulatedSwitchMessages {
+    static final int HELLO = 0;
+    static final int ERROR = 1;
+    static final int ECHO_REQUEST = 2;
+    static final int ECHO_REPLY = 3;
+    static final int FEATURES_REQUEST = 5;
+    static final int FEATURES_REPLY = 6;
+    static final int GET_CONFIG_REQUEST = 7;
+    static final int GET_CONFIG_REPLY = 8;
+    static final int PORT_STATUS = 12;
+    static final int PACKET_OUT = 13;
+    static final int FLOW_MOD = 14;
+    static final int MULTIPART_REQUEST = 18;
+    static final int MULTIPART_REPLY = 19;
+    static final int BARRIER_REQUEST = 20;
+    static final int BARRIER_REPLY = 21;
+    static final int ROLE_REQUEST = 24;
+    static final int ROLE_REPLY = 25;
+
+    static final int MULTIPART_DESC = 0;
+    static final int MULTIPART_FLOW = 1;
+    static final int MULTIPART_PORT_DESC = 13;
+
+    private static final int HEADER_LENGTH = 8;
+    private static final int XID_INDEX = 4;
+    private static final int MULTIPART_HEADER_LENGTH = 16;
+    private static final int PORT_LENGTH = 64;
+    private static final int PORT_NAME_LENGTH = 16;
+    private static final int DESC_STR_LENGTH = 256;
+    private static final int SERIAL_NUM_LENGTH = 32;
+    private static final int ERROR_DATA_LENGTH = 64;
+    private static final int OFPET_BAD_REQUEST = 1;
+    private static final int OFPBRC_BAD_MULTIPART = 2;
+    private static final int OFPPR_MODIFY = 2;
+    private static final int OFPPS_LINK_DOWN = 1;
+    private static final int OFPPF_10GB_FD_COPPER = 0x840;
+    private static final int CURRENT_SPEED_KBPS = 10000000;
+    private static final int FLOW_STATS_PER_REPLY = 100;
+
+    private final ByteBuf packetIn;
+    private final ByteBuf flowRemoved;
+    private final List<ByteBuf> flowStatsReply;
+    private final int ports;
+
+    SimulatedSwitchMessages(final Codecs codecs, final SimulatorConfiguration config) {
+        ports = config.getPorts();
+        packetIn = encodeAsync(codecs, Messages.packetIn(config.getMatchKind()));
+        flowRemoved = encodeAsync(codecs, Messages.flowRemoved(config.getMatchKind()));
+
+        // Switches split large replies into parts, which have to fit into a message
+        final List<ByteBuf> parts = new ArrayList<>();
+        int first = 0;
+        do {
+            final int entries = Math.min(FLOW_STATS_PER_REPLY, config.getStatsEntries() - first);
+            final boolean more = first + entries < config.getStatsEntries();
+            parts.add(encode(codecs, Messages.flowStatsReply(config.getMatchKind(), first, entries, more)));
+            first += entries;
+        } while (first < config.getStatsEntries());
+        flowStatsReply = Collections.unmodifiableList(parts);
+    }
+
+    private static ByteBuf encode(final Codecs codecs, final OfHeader message) {
+        final ByteBuf buf = Unpooled.buffer();
+        codecs.encode(message, buf);
+        return Unpooled.unreleasableBuffer(buf);
+    }
+
+    private static ByteBuf encodeAsync(final Codecs codecs, final OfHeader message) {
+        final ByteBuf buf = encode(codecs, message);
+        // Asynchronous messages are not replies to any request
+        buf.setInt(XID_INDEX, 0);
+        return buf;
+    }
+
+    ByteBuf packetIn() {
+        return packetIn.duplicate();
+    }
+
+    ByteBuf flowRemoved() {
+        return flowRemoved.duplicate();
+    }
+
+    /**
+     * @param alloc allocator of reply buffers
+     * @param xid transaction id of the request
+     * @return parts of flow statistics reply
+     */
+    List<ByteBuf> flowStatsReply(final ByteBufAllocator alloc, final long xid) {
+        final List<ByteBuf> ret = new ArrayList<>(flowStatsReply.size());
+        for (ByteBuf part : flowStatsReply) {
+            final ByteBuf reply = alloc.buffer(part.readableBytes()).writeBytes(part, 0, part.readableBytes());
+            reply.setInt(XID_INDEX, (int) xid);
+            ret.add(reply);
+        }
+        return ret;
+    }
+
+    static ByteBuf hello(final ByteBufAllocator alloc, final long xid) {
+        return header(alloc.buffer(HEADER_LENGTH), HELLO, HEADER_LENGTH, xid);
+    }
+
+    static ByteBuf barrierReply(final ByteBufAllocator alloc, final long xid) {
+        return header(alloc.buffer(HEADER_LENGTH), BARRIER_REPLY, HEADER_LENGTH, xid);
+    }
+
+    /**
+     * Reply to a request whose body is echoed back, like ECHO_REQUEST and ROLE_REQUEST.
+     *
+     * @param alloc allocator of reply buffer
+     * @param request request frame
+     * @param type type of reply
+     * @return reply
+     */
+    static ByteBuf echo(final ByteBufAllocator alloc, final ByteBuf request, final int type) {
+        final int length = request.readableBytes();
+        final ByteBuf reply = alloc.buffer(length).writeBytes(request, request.readerIndex(), length);
+        reply.setByte(1, type);
+        return reply;
+    }
+
+    static ByteBuf featuresReply(final ByteBufAllocator alloc, final long xid, final long datapathId) {
+        final int length = 32;
+        final ByteBuf out = header(alloc.buffer(length), FEATURES_REPLY, length, xid);
+        out.writeLong(datapathId);
+        // n_buffers, n_tables, auxiliary_id, pad
+        out.writeInt(256);
+        out.writeByte(254);
+        out.writeByte(0);
+        out.writeZero(2);
+        // flow, table, port, group and queue stats
+        out.writeInt(0x4f);
+        out.writeInt(0);
+        return out;
+    }
+
+    static ByteBuf getConfigReply(final ByteBufAllocator alloc, final long xid) {
+        final int length = 12;
+        final ByteBuf out = header(alloc.buffer(length), GET_CONFIG_REPLY, length, xid);
+        out.writeShort(0);
+        out.writeShort(0xffff);
+        return out;
+    }
+
+    static ByteBuf descReply(final ByteBufAllocator alloc, final long xid, final long datapathId) {
+        final int length = MULTIPART_HEADER_LENGTH + 4 * DESC_STR_LENGTH + SERIAL_NUM_LENGTH;
+        final ByteBuf out = multipartHeader(alloc.buffer(length), MULTIPART_DESC, length, xid);
+        writeString(out, "OpenDaylight", DESC_STR_LENGTH);
+        writeString(out, "Simulated switch", DESC_STR_LENGTH);
+        writeString(out, "openflowjava-benchmarks", DESC_STR_LENGTH);
+        writeString(out, Long.toHexString(datapathId), SERIAL_NUM_LENGTH);
+        writeString(out, "datapath " + datapathId, DESC_STR_LENGTH);
+        return out;
+    }
+
+    ByteBuf portDescReply(final ByteBufAllocator alloc, final long xid, final long datapathId) {
+        final int length = MULTIPART_HEADER_LENGTH + ports * PORT_LENGTH;
+        final ByteBuf out = multipartHeader(alloc.buffer(length), MULTIPART_PORT_DESC, length, xid);
+        for (int port = 1; port <= ports; port++) {
+            writePort(out, datapathId, port, false);
+        }
+        return out;
+    }
+
+    ByteBuf portStatus(final ByteBufAllocator alloc, final long datapathId, final long sequence) {
+        final int length = HEADER_LENGTH + 8 + PORT_LENGTH;
+        final ByteBuf out = header(alloc.buffer(length), PORT_STATUS, length, 0);
+        out.writeByte(OFPPR_MODIFY);
+        out.writeZero(7);
+        // Ports go down and up in turns
+        writePort(out, datapathId, (int) (sequence % ports) + 1, sequence / ports % 2 == 0);
+        return out;
+    }
+
+    static ByteBuf badMultipartError(final ByteBufAllocator alloc, final ByteBuf request, final long xid) {
+        final int dataLength = Math.min(ERROR_DATA_LENGTH, request.readableBytes());
+        final int length = HEADER_LENGTH + 4 + dataLength;
+        final ByteBuf out = header(alloc.buffer(length), ERROR, length, xid);
+        out.writeShort(OFPET_BAD_REQUEST);
+        out.writeShort(OFPBRC_BAD_MULTIPART);
+        out.writeBytes(request, request.readerIndex(), dataLength);
+        return out;
+    }
+
+    private static ByteBuf header(final ByteBuf out, final int type, final int length, final long xid) {
+        out.writeByte(EncodeConstants.OF13_VERSION_ID);
+        out.writeByte(type);
+        out.writeShort(length);
+        out.writeInt((int) xid);
+        return out;
+    }
+
+    private static ByteBuf multipartHeader(final ByteBuf out, final int type, final int length, final long xid) {
+        header(out, MULTIPART_REPLY, length, xid);
+        out.writeShort(type);
+        out.writeShort(0);
+        out.writeZero(4);
+        return out;
+    }
+
+    private static void writePort(final ByteBuf out, final long datapathId, final int port, final boolean down) {
+        out.writeInt(port);
+        out.writeZero(4);
+        // Locally administered address derived from datapath id and port number
+        out.writeShort(0x0200 | (int) (datapathId >>> 32 & 0xff));
+        out.writeInt((int) datapathId << 8 | port & 0xff);
+        out.writeZero(2);
+        writeString(out, "s" + datapathId + "-eth" + port, PORT_NAME_LENGTH);
+        out.writeInt(0);
+        out.writeInt(down ? OFPPS_LINK_DOWN : 0);
+        out.writeInt(OFPPF_10GB_FD_COPPER);
+        out.writeInt(OFPPF_10GB_FD_COPPER);
+        out.writeInt(OFPPF_10GB_FD_COPPER);
+        out.writeInt(0);
+        out.writeInt(CURRENT_SPEED_KBPS);
+        out.writeInt(CURRENT_SPEED_KBPS);
+    }
+
+    private static void writeString(final ByteBuf out, final String value, final int length) {
+        final byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+        // Strings are null terminated
+        final int written = Math.min(bytes.length, length - 1);
+        out.writeBytes(bytes, 0, written);
+        out.writeZero(length - written);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+/**
+ * Parameters of {@link SwitchSimulator} run, read from system properties prefixed with {@code simulator.}.
+ */
+final class SimulatorConfiguration {
+    private static final String PREFIX = "simulator.";
+
+    private final int switches;
+    private final int ports;
+    private final int flowsPerSwitch;
+    private final int pushThreads;
+    private final int rpcRounds;
+    private final int statsCycles;
+    private final int statsEntries;
+    private final int packetInRate;
+    private final int portStatusRate;
+    private final int flowRemovedRate;
+    private final MatchKind matchKind;
+    private final long timeoutSeconds;
+
+    private SimulatorConfiguration() {
+        switches = positive("switches", 1000);
+        ports = positive("ports", 4);
+        flowsPerSwitch = nonNegative("flows", 1000);
+        pushThreads = positive("push-threads", Runtime.getRuntime().availableProcessors());
+        rpcRounds = nonNegative("rpc-rounds", 10);
+        statsCycles = nonNegative("stats-cycles", 3);
+        statsEntries = nonNegative("stats-entries", flowsPerSwitch);
+        packetInRate = nonNegative("packet-in-rate", 0);
+        portStatusRate = nonNegative("port-status-rate", 0);
+        flowRemovedRate = nonNegative("flow-removed-rate", 0);
+        matchKind = MatchKind.valueOf(System.getProperty(PREFIX + "match", MatchKind.OPENFLOW_BASIC.name()));
+        timeoutSeconds = positive("timeout", 300);
+    }
+
+    static SimulatorConfiguration fromSystemProperties() {
+        return new SimulatorConfiguration();
+    }
+
+    private static int nonNegative(final String name, final int defaultValue) {
+        final int value = Integer.getInteger(PREFIX + name, defaultValue);
+        Preconditions.checkArgument(value >= 0, "%s%s must not be negative", PREFIX, name);
+        return value;
+    }
+
+    private static int positive(final String name, final int defaultValue) {
+        final int value = Integer.getInteger(PREFIX + name, defaultValue);
+        Preconditions.checkArgument(value > 0, "%s%s must be positive", PREFIX, name);
+        return value;
+    }
+
+    /**
+     * @return number of simulated switches
+     */
+    int getSwitches() {
+        return switches;
+    }
+
+    /**
+     * @return number of ports of each switch
+     */
+    int getPorts() {
+        return ports;
+    }
+
+    /**
+     * @return number of flows pushed to each switch
+     */
+    int getFlowsPerSwitch() {
+        return flowsPerSwitch;
+    }
+
+    /**
+     * @return number of threads pushing flows
+     */
+    int getPushThreads() {
+        return pushThreads;
+    }
+
+    /**
+     * @return number of rounds of barrier requests sent to all switches to measure request latency
+     */
+    int getRpcRounds() {
+        return rpcRounds;
+    }
+
+    /**
+     * @return number of flow statistics gathering cycles
+     */
+    int getStatsCycles() {
+        return statsCycles;
+    }
+
+    /**
+     * @return number of flow statistics entries each switch replies with
+     */
+    int getStatsEntries() {
+        return statsEntries;
+    }
+
+    /**
+     * @return number of PACKET_INs each switch sends per second, 0 disables them
+     */
+    int getPacketInRate() {
+        return packetInRate;
+    }
+
+    /**
+     * @return number of PORT_STATUS messages each switch sends per second, 0 disables them
+     */
+    int getPortStatusRate() {
+        return portStatusRate;
+    }
+
+    /**
+     * @return number of FLOW_REMOVED messages each switch sends per second, 0 disables them
+     */
+    int getFlowRemovedRate() {
+        return flowRemovedRate;
+    }
+
+    /**
+     * @return kind of match of flows, PACKET_INs and FLOW_REMOVED messages
+     */
+    MatchKind getMatchKind() {
+        return matchKind;
+    }
+
+    /**
+     * @return time in seconds each phase of the run may take
+     */
+    long getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("switches", switches)
+                .add("ports", ports)
+                .add("flowsPerSwitch", flowsPerSwitch)
+                .add("pushThreads", pushThreads)
+                .add("rpcRounds", rpcRounds)
+                .add("statsCycles", statsCycles)
+                .add("statsEntries", statsEntries)
+                .add("packetInRate", packetInRate)
+                .add("portStatusRate", portStatusRate)
+                .add("flowRemovedRate", flowRemovedRate)
+                .add("matchKind", matchKind)
+                .add("timeoutSeconds", timeoutSeconds)
+                .toString();
+    }
+}
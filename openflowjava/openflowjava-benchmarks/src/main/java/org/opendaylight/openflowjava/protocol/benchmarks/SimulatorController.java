@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+import org.opendaylight.openflowjava.protocol.api.connection.SwitchConnectionHandler;
+
+/**
+ * Controller side of {@link SwitchSimulator}, keeping track of connected switches and of asynchronous messages
+ * they sent.
+ */
+final class SimulatorController implements SwitchConnectionHandler {
+    private final long timeoutSeconds;
+    private final LongAdder packetIns = new LongAdder();
+    private final LongAdder portStatuses = new LongAdder();
+    private final LongAdder flowRemovals = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicInteger disconnected = new AtomicInteger();
+
+    @GuardedBy("this")
+    private final List<ControllerSession> sessions = new ArrayList<>();
+
+    SimulatorController(final long timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public boolean accept(final InetAddress switchAddress) {
+        return true;
+    }
+
+    @Override
+    public void onSwitchConnected(final ConnectionAdapter connection) {
+        new ControllerSession(this, connection, timeoutSeconds);
+    }
+
+    synchronized void onSessionReady(final ControllerSession session) {
+        sessions.add(session);
+        notifyAll();
+    }
+
+    synchronized void onSessionDisconnected(final ControllerSession session) {
+        if (sessions.remove(session)) {
+            disconnected.incrementAndGet();
+        }
+    }
+
+    /**
+     * Wait for switches to connect and finish handshake.
+     *
+     * @param count number of switches to wait for
+     * @param timeout maximum time to wait
+     * @param unit unit of timeout
+     * @return true if the switches connected in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    synchronized boolean awaitSessions(final int count, final long timeout, final TimeUnit unit)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (sessions.size() < count) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * @return sessions of switches which are connected and finished handshake
+     */
+    synchronized List<ControllerSession> getSessions() {
+        return ImmutableList.copyOf(sessions);
+    }
+
+    void onPacketIn() {
+        packetIns.increment();
+    }
+
+    void onPortStatus() {
+        portStatuses.increment();
+    }
+
+    void onFlowRemoved() {
+        flowRemovals.increment();
+    }
+
+    void onError() {
+        errors.increment();
+    }
+
+    long getPacketIns() {
+        return packetIns.sum();
+    }
+
+    long getPortStatuses() {
+        return portStatuses.sum();
+    }
+
+    long getFlowRemovals() {
+        return flowRemovals.sum();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * @return number of switches which disconnected after finishing handshake
+     */
+    int getDisconnected() {
+        return disconnected.get();
+    }
+}
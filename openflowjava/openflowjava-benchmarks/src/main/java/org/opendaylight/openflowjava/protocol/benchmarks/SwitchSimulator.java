@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.FutureCallback;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.openflowjava.nx.codec.match.NiciraMatchCodecs;
+import org.opendaylight.openflowjava.nx.codec.match.Reg0Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg1Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg2Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg3Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg4Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg5Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg6Codec;
+import org.opendaylight.openflowjava.nx.codec.match.Reg7Codec;
+import org.opendaylight.openflowjava.nx.codec.match.TunIdCodec;
+import org.opendaylight.openflowjava.protocol.api.connection.ConnectionConfiguration;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueConfiguration;
+import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
+import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
+import org.opendaylight.openflowjava.protocol.impl.core.SwitchConnectionProviderImpl;
+import org.opendaylight.openflowjava.protocol.impl.core.TcpHandler;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.config.rev140630.TransportProtocol;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.MultipartReplyMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.MultipartReplyFlowCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Connects a configurable number of simulated OpenFlow 1.3 switches to an in-process controller built on
+ * {@link SwitchConnectionProviderImpl} and measures how the controller side copes with them:
+ * <ul>
+ *   <li>time for all switches to connect and finish handshake,</li>
+ *   <li>FLOW_MOD programming throughput,</li>
+ *   <li>request round-trip latency percentiles,</li>
+ *   <li>duration of flow statistics collection cycles,</li>
+ *   <li>rate of asynchronous PACKET_IN, PORT_STATUS and FLOW_REMOVED messages processed meanwhile.</li>
+ * </ul>
+ * The simulator is configured through {@code simulator.*} system properties, see {@link SimulatorConfiguration},
+ * and is run from the shaded jar with
+ * {@code java -Dsimulator.switches=1000 -cp target/benchmarks.jar
+ * org.opendaylight.openflowjava.protocol.benchmarks.SwitchSimulator}.
+ */
+public final class SwitchSimulator implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(SwitchSimulator.class);
+    private static final int MAX_FRAME_LENGTH = 65535;
+    private static final long SWITCH_IDLE_TIMEOUT = 15000;
+    private static final int PACKET_IN_ADMISSION_RATE = 10;
+    // Percentiles of request latency reported
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9, 100 };
+
+    private final SimulatorConfiguration config;
+    private final SimulatorController controller;
+    private final SwitchConnectionProviderImpl provider = new SwitchConnectionProviderImpl();
+    private final EventLoopGroup switchGroup = new NioEventLoopGroup();
+    private final ChannelGroup switchChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    private final List<SimulatedSwitch> switches = new ArrayList<>();
+    private Stopwatch loadStopwatch;
+
+    SwitchSimulator(final SimulatorConfiguration config) {
+        this.config = config;
+        this.controller = new SimulatorController(config.getTimeoutSeconds());
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final SimulatorConfiguration config = SimulatorConfiguration.fromSystemProperties();
+        LOG.info("Starting simulation with {}", config);
+        try (SwitchSimulator simulator = new SwitchSimulator(config)) {
+            simulator.run();
+        }
+    }
+
+    void run() throws Exception {
+        final int port = startController();
+        connectSwitches(port);
+        pushFlows();
+        measureRequestLatency();
+        gatherStatistics();
+        reportLoad();
+    }
+
+    private int startController() throws InterruptedException, ExecutionException, TimeoutException {
+        provider.setConfiguration(new SimulatorConnectionConfiguration());
+        provider.setSwitchConnectionHandler(controller);
+        if (config.getMatchKind() == MatchKind.NICIRA) {
+            registerNiciraCodecs();
+        }
+        provider.startup().get(config.getTimeoutSeconds(), TimeUnit.SECONDS);
+        return ((TcpHandler) provider.getServerFacade()).getPort();
+    }
+
+    private void registerNiciraCodecs() {
+        // Same codecs the Nicira extension provider registers with the plugin
+        provider.registerMatchEntrySerializer(Reg0Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG0_CODEC);
+        provider.registerMatchEntrySerializer(Reg1Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG1_CODEC);
+        provider.registerMatchEntrySerializer(Reg2Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG2_CODEC);
+        provider.registerMatchEntrySerializer(Reg3Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG3_CODEC);
+        provider.registerMatchEntrySerializer(Reg4Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG4_CODEC);
+        provider.registerMatchEntrySerializer(Reg5Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG5_CODEC);
+        provider.registerMatchEntrySerializer(Reg6Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG6_CODEC);
+        provider.registerMatchEntrySerializer(Reg7Codec.SERIALIZER_KEY, NiciraMatchCodecs.REG7_CODEC);
+        provider.registerMatchEntrySerializer(TunIdCodec.SERIALIZER_KEY, NiciraMatchCodecs.TUN_ID_CODEC);
+        provider.registerMatchEntryDeserializer(Reg0Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG0_CODEC);
+        provider.registerMatchEntryDeserializer(Reg1Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG1_CODEC);
+        provider.registerMatchEntryDeserializer(Reg2Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG2_CODEC);
+        provider.registerMatchEntryDeserializer(Reg3Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG3_CODEC);
+        provider.registerMatchEntryDeserializer(Reg4Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG4_CODEC);
+        provider.registerMatchEntryDeserializer(Reg5Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG5_CODEC);
+        provider.registerMatchEntryDeserializer(Reg6Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG6_CODEC);
+        provider.registerMatchEntryDeserializer(Reg7Codec.DESERIALIZER_KEY, NiciraMatchCodecs.REG7_CODEC);
+        provider.registerMatchEntryDeserializer(TunIdCodec.DESERIALIZER_KEY, NiciraMatchCodecs.TUN_ID_CODEC);
+    }
+
+    private void connectSwitches(final int port) throws InterruptedException, TimeoutException {
+        final SimulatedSwitchMessages messages = new SimulatedSwitchMessages(new Codecs(), config);
+        final Bootstrap bootstrap = new Bootstrap()
+                .group(switchGroup)
+                .channel(NioSocketChannel.class)
+                .remoteAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        for (int i = 1; i <= config.getSwitches(); ++i) {
+            final SimulatedSwitch simulatedSwitch = new SimulatedSwitch(i, messages, config);
+            switches.add(simulatedSwitch);
+            switchChannels.add(bootstrap.clone().handler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(final SocketChannel ch) {
+                    ch.pipeline().addLast(new LengthFieldBasedFrameDecoder(MAX_FRAME_LENGTH, 2, 2, -4, 0),
+                        simulatedSwitch);
+                }
+            }).connect().channel());
+        }
+
+        if (!controller.awaitSessions(config.getSwitches(), config.getTimeoutSeconds(), TimeUnit.SECONDS)) {
+            throw new TimeoutException("Only " + controller.getSessions().size() + " of " + config.getSwitches()
+                    + " switches connected");
+        }
+        LOG.info("{} switches connected in {} ms", config.getSwitches(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        loadStopwatch = Stopwatch.createStarted();
+    }
+
+    private void pushFlows() throws InterruptedException, ExecutionException, TimeoutException {
+        final List<ControllerSession> sessions = controller.getSessions();
+        final int threads = Math.min(config.getPushThreads(), sessions.size());
+        final CountDownLatch done = new CountDownLatch(sessions.size());
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<?>> futures = new ArrayList<>(threads);
+
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        try {
+            for (int t = 0; t < threads; ++t) {
+                final List<ControllerSession> partition = new ArrayList<>();
+                for (int i = t; i < sessions.size(); i += threads) {
+                    partition.add(sessions.get(i));
+                }
+                futures.add(executor.submit(() -> pushFlows(partition, done)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            await(done, "flow programming");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final long elapsed = stopwatch.elapsed(TimeUnit.NANOSECONDS);
+        final long flows = (long) sessions.size() * config.getFlowsPerSwitch();
+        long received = 0;
+        for (SimulatedSwitch simulatedSwitch : switches) {
+            received += simulatedSwitch.getFlowMods();
+        }
+        LOG.info("{} FLOW_MODs programmed in {} ms ({} FLOW_MODs/s), {} received by switches", flows,
+            TimeUnit.NANOSECONDS.toMillis(elapsed), perSecond(flows, elapsed), received);
+    }
+
+    private void pushFlows(final List<ControllerSession> sessions, final CountDownLatch done) {
+        final MatchKind matchKind = config.getMatchKind();
+        // Interleave switches, so that all of them are programmed concurrently
+        for (int i = 0; i < config.getFlowsPerSwitch(); ++i) {
+            final int index = i;
+            for (ControllerSession session : sessions) {
+                session.commit(xid -> Messages.flowMod(matchKind, index, xid), null);
+            }
+        }
+        // Barrier completes once all FLOW_MODs before it are processed
+        for (ControllerSession session : sessions) {
+            if (!session.commit(Messages::barrier, new CompletionCallback(done))) {
+                done.countDown();
+            }
+        }
+    }
+
+    private void measureRequestLatency() throws InterruptedException, TimeoutException {
+        final List<ControllerSession> sessions = controller.getSessions();
+        final LatencyRecorder latencies = new LatencyRecorder(sessions.size() * config.getRpcRounds());
+
+        for (int round = 0; round < config.getRpcRounds(); ++round) {
+            final CountDownLatch done = new CountDownLatch(sessions.size());
+            for (ControllerSession session : sessions) {
+                final long start = System.nanoTime();
+                final boolean sent = session.commit(Messages::barrier, new CompletionCallback(done) {
+                    @Override
+                    public void onSuccess(final OfHeader result) {
+                        latencies.record(System.nanoTime() - start);
+                        super.onSuccess(result);
+                    }
+                });
+                if (!sent) {
+                    done.countDown();
+                }
+            }
+            await(done, "request round " + round);
+        }
+
+        if (latencies.size() == 0) {
+            LOG.warn("No request completed");
+            return;
+        }
+        final StringBuilder sb = new StringBuilder();
+        for (double percentile : PERCENTILES) {
+            sb.append(" p").append(percentile).append('=')
+                .append(latencies.getPercentile(percentile, TimeUnit.MICROSECONDS));
+        }
+        LOG.info("{} BARRIER requests completed, latency in us:{}", latencies.size(), sb);
+    }
+
+    private void gatherStatistics() throws InterruptedException, TimeoutException {
+        for (int cycle = 0; cycle < config.getStatsCycles(); ++cycle) {
+            final List<ControllerSession> sessions = controller.getSessions();
+            final CountDownLatch done = new CountDownLatch(sessions.size());
+            final LongAdder entries = new LongAdder();
+
+            final Stopwatch stopwatch = Stopwatch.createStarted();
+            for (ControllerSession session : sessions) {
+                final boolean sent = session.commit(Messages::flowStatsRequest, new CompletionCallback(done) {
+                    @Override
+                    public void onSuccess(final OfHeader result) {
+                        // Invoked for each part of the reply
+                        if (!(result instanceof MultipartReplyMessage)) {
+                            super.onSuccess(result);
+                            return;
+                        }
+                        final MultipartReplyMessage reply = (MultipartReplyMessage) result;
+                        if (reply.getMultipartReplyBody() instanceof MultipartReplyFlowCase) {
+                            entries.add(((MultipartReplyFlowCase) reply.getMultipartReplyBody())
+                                    .getMultipartReplyFlow().getFlowStats().size());
+                        }
+                        if (!reply.getFlags().isOFPMPFREQMORE()) {
+                            super.onSuccess(result);
+                        }
+                    }
+                });
+                if (!sent) {
+                    done.countDown();
+                }
+            }
+            await(done, "statistics cycle " + cycle);
+            LOG.info("Statistics cycle {} gathered {} flow entries from {} switches in {} ms", cycle, entries.sum(),
+                sessions.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private void reportLoad() {
+        final long elapsed = loadStopwatch.elapsed(TimeUnit.NANOSECONDS);
+        LOG.info("Processed {} PACKET_INs ({}/s), {} PORT_STATUSes ({}/s), {} FLOW_REMOVEDs ({}/s) in {} ms",
+            controller.getPacketIns(), perSecond(controller.getPacketIns(), elapsed),
+            controller.getPortStatuses(), perSecond(controller.getPortStatuses(), elapsed),
+            controller.getFlowRemovals(), perSecond(controller.getFlowRemovals(), elapsed),
+            TimeUnit.NANOSECONDS.toMillis(elapsed));
+        LOG.info("{} errors received, {} switches disconnected", controller.getErrors(),
+            controller.getDisconnected());
+    }
+
+    private void await(final CountDownLatch latch, final String phase) throws InterruptedException,
+            TimeoutException {
+        if (!latch.await(config.getTimeoutSeconds(), TimeUnit.SECONDS)) {
+            throw new TimeoutException("Timed out waiting for " + phase + ", " + latch.getCount()
+                    + " switches did not respond");
+        }
+    }
+
+    private static long perSecond(final long count, final long nanos) {
+        return nanos == 0 ? 0 : count * TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (ControllerSession session : controller.getSessions()) {
+            session.disconnect();
+        }
+        switchChannels.close().awaitUninterruptibly();
+        switchGroup.shutdownGracefully().awaitUninterruptibly();
+        provider.close();
+    }
+
+    /**
+     * Counts down a latch once a request completes, successfully or not.
+     */
+    private static class CompletionCallback implements FutureCallback<OfHeader> {
+        private final CountDownLatch latch;
+
+        CompletionCallback(final CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void onSuccess(final OfHeader result) {
+            latch.countDown();
+        }
+
+        @Override
+        public void onFailure(final Throwable throwable) {
+            LOG.debug("Request failed", throwable);
+            latch.countDown();
+        }
+    }
+
+    /**
+     * Controller listening on an ephemeral loopback port, configured like the plugin configures the library by
+     * default.
+     */
+    private static final class SimulatorConnectionConfiguration implements ConnectionConfiguration {
+        @Override
+        public InetAddress getAddress() {
+            return InetAddress.getLoopbackAddress();
+        }
+
+        @Override
+        public int getPort() {
+            return 0;
+        }
+
+        @Override
+        public Object getTransferProtocol() {
+            return TransportProtocol.TCP;
+        }
+
+        @Override
+        public TlsConfiguration getTlsConfiguration() {
+            return null;
+        }
+
+        @Override
+        public long getSwitchIdleTimeout() {
+            return SWITCH_IDLE_TIMEOUT;
+        }
+
+        @Override
+        public Object getSslContext() {
+            return null;
+        }
+
+        @Override
+        public ThreadConfiguration getThreadConfiguration() {
+            return null;
+        }
+
+        @Override
+        public boolean useBarrier() {
+            return true;
+        }
+
+        @Override
+        public int getQueueSegmentSize() {
+            return OutboundQueueConfiguration.DEFAULT.getSegmentSize();
+        }
+
+        @Override
+        public int getQueueSegmentPoolSize() {
+            return OutboundQueueConfiguration.DEFAULT.getPooledSegments();
+        }
+
+        @Override
+        public int getWriteBufferLowWatermark() {
+            return OutboundQueueConfiguration.DEFAULT.getLowWatermark();
+        }
+
+        @Override
+        public int getWriteBufferHighWatermark() {
+            return OutboundQueueConfiguration.DEFAULT.getHighWatermark();
+        }
+
+        @Override
+        public boolean useAdaptiveWriteBuffer() {
+            return Boolean.getBoolean("simulator.adaptive-write-buffer");
+        }
+
+        @Override
+        public boolean useFusedDecoder() {
+            return Boolean.getBoolean("simulator.fused-decoder");
+        }
+
+        @Override
+        public boolean usePreEncoding() {
+            return Boolean.getBoolean("simulator.pre-encode-messages");
+        }
+
+        @Override
+        public boolean answerEchoRequests() {
+            return Boolean.getBoolean("simulator.answer-echo-requests");
+        }
+
+        @Override
+        public int getPacketInAdmissionRate() {
+            return PACKET_IN_ADMISSION_RATE;
+        }
+    }
+}
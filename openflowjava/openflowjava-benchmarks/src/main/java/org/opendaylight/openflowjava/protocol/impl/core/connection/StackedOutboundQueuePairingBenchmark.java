@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.HashedWheelTimer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+
+/**
+ * Pairing of replies with requests in {@link AbstractStackedOutboundQueue} with 1, 10 and 100 uncompleted
+ * segments. Replies are paired with requests of the last segment, which is the worst case for segment lookup.
+ * The benchmark lives in the package of the queue, as the queue and its segments are not exported.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StackedOutboundQueuePairingBenchmark {
+    private static final short VERSION = (short) 4;
+
+    @Param({"1", "10", "100"})
+    public int segments;
+
+    private final OfHeader request = new EchoInputBuilder().setVersion(VERSION).setXid(0L).build();
+    private final OfHeader[] replies = new OfHeader[StackedSegment.SEGMENT_SIZE];
+    private HashedWheelTimer timer;
+    private StackedOutboundQueue queue;
+    private long lastBaseXid;
+
+    @Setup
+    public void setUp() {
+        timer = new HashedWheelTimer();
+        final ConnectionAdapterImpl connectionAdapter = new ConnectionAdapterImpl(new EmbeddedChannel(), null, true,
+                timer);
+        final OutboundQueueHandler handler = managerQueue -> { };
+        final OutboundQueueManager<?> manager = new OutboundQueueManager<>(connectionAdapter, null, handler,
+                StackedSegment.SEGMENT_SIZE, TimeUnit.MILLISECONDS.toNanos(500), OutboundQueueConfiguration.DEFAULT);
+        queue = new StackedOutboundQueue(manager, OutboundQueueConfiguration.DEFAULT.getSegmentPool());
+
+        lastBaseXid = (long) (segments - 1) * StackedSegment.SEGMENT_SIZE;
+        if (segments == 1) {
+            // Last segment is added before every invocation below
+            queue.uncompletedSegments.remove(queue.firstSegment);
+        }
+
+        for (int i = 1; i < segments - 1; ++i) {
+            queue.uncompletedSegments.add(StackedSegment.create((long) i * StackedSegment.SEGMENT_SIZE));
+        }
+
+        for (int i = 0; i < StackedSegment.SEGMENT_SIZE; ++i) {
+            replies[i] = new EchoOutputBuilder().setVersion(VERSION).setXid(lastBaseXid + i).build();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void commitLastSegment() {
+        // Last segment is completed and removed by every invocation, so it is added again
+        final StackedSegment lastSegment = StackedSegment.create(lastBaseXid);
+        queue.uncompletedSegments.add(lastSegment);
+
+        for (int i = 0; i < StackedSegment.SEGMENT_SIZE; ++i) {
+            lastSegment.getEntry(i).commit(request, null);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        timer.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(StackedSegment.SEGMENT_SIZE)
+    public boolean pairRequest() {
+        boolean paired = true;
+        for (final OfHeader reply : replies) {
+            paired &= queue.pairRequest(reply);
+        }
+        return paired;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Store and retrieve of flow descriptors in {@link DeviceFlowRegistryImpl} under contention. One thread stores
+ * descriptors of flows, as flow services do when flows are added, while three threads store and retrieve
+ * descriptors of the same flows, as flow statistics writers do. Thread counts can be changed with -tg option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DeviceFlowRegistryBenchmark {
+    private static final short TABLE_ID = 1;
+
+    @Param({"100", "10000"})
+    public int flows;
+
+    private DeviceFlowRegistryImpl deviceFlowRegistry;
+    private FlowRegistryKey[] keys;
+    private FlowDescriptor[] descriptors;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        int next(final int bound) {
+            index = index + 1 < bound ? index + 1 : 0;
+            return index;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // Data broker is used only to fill registry from datastore, which is not benchmarked
+        deviceFlowRegistry = new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, null,
+                InstanceIdentifier.create(Nodes.class).child(Node.class, new NodeKey(new NodeId("openflow:1"))));
+        keys = new FlowRegistryKey[flows];
+        descriptors = new FlowDescriptor[flows];
+
+        for (int i = 0; i < flows; i++) {
+            keys[i] = FlowRegistryKeyFactory.create(OFConstants.OFP_VERSION_1_3, new FlowBuilder()
+                    .setTableId(TABLE_ID)
+                    .setPriority(i % 65536)
+                    .setCookie(new FlowCookie(BigInteger.valueOf(i)))
+                    .build());
+            descriptors[i] = FlowDescriptorFactory.create(TABLE_ID, new FlowId("benchmark:" + i));
+            deviceFlowRegistry.storeDescriptor(keys[i], descriptors[i]);
+        }
+    }
+
+    @Benchmark
+    @Group("contention")
+    @GroupThreads(1)
+    public void storeDescriptor(final Cursor cursor) {
+        final int index = cursor.next(flows);
+        deviceFlowRegistry.storeDescriptor(keys[index], descriptors[index]);
+    }
+
+    @Benchmark
+    @Group("contention")
+    @GroupThreads(3)
+    public FlowDescriptor storeAndRetrieve(final Cursor cursor) {
+        final FlowRegistryKey key = keys[cursor.next(flows)];
+        deviceFlowRegistry.store(key);
+        return deviceFlowRegistry.retrieveDescriptor(key);
+    }
+}
@@ -83,7 +83,31 @@ public enum ConfigurationProperty {
     /**
      * Thread pool timeout property type.
      */
-    THREAD_POOL_TIMEOUT;
+    THREAD_POOL_TIMEOUT,
+    /**
+     * Enable incremental flow statistics property type.
+     */
+    ENABLE_INCREMENTAL_FLOW_STATISTICS,
+    /**
+     * Enable adaptive statistics polling property type.
+     */
+    ENABLE_ADAPTIVE_STATISTICS_POLLING,
+    /**
+     * Packet in batch size property type.
+     */
+    PACKET_IN_BATCH_SIZE,
+    /**
+     * Packet in batch interval property type.
+     */
+    PACKET_IN_BATCH_INTERVAL,
+    /**
+     * Rpc requests wait queue size property type.
+     */
+    RPC_REQUESTS_WAIT_QUEUE_SIZE,
+    /**
+     * Rpc requests wait timeout property type.
+     */
+    RPC_REQUESTS_WAIT_TIMEOUT;
 
     private static final Map<String, ConfigurationProperty> KEY_VALUE_MAP;
 
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.openflowplugin.api.openflow.device;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import javax.annotation.Nullable;
 
 /**
@@ -18,4 +19,15 @@ public interface RequestContextStack {
      * @return A request context, or null if one cannot be created.
      */
     @Nullable <T> RequestContext<T> createRequestContext();
+
+    /**
+     * Method returns future request context for current request, which completes once one can be created.
+     * Intended to be called after {@link #createRequestContext()} refused to create one.
+     * @return A future request context, which completes with null if one could not be created in time, or null
+     *     if waiting for a request context is not possible.
+     */
+    @Nullable
+    default <T> ListenableFuture<RequestContext<T>> awaitRequestContext() {
+        return null;
+    }
 }
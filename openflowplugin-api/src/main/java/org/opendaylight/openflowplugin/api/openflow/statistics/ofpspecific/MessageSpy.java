@@ -55,6 +55,19 @@ public interface MessageSpy extends Runnable {
          * message from MD-SAL was disregarded (e.g. outstanding requests limit reached).
          */
         TO_SWITCH_DISREGARDED,
+        /**
+         * message from MD-SAL is waiting for request quota (outstanding requests limit reached)
+         * - value is number of messages waiting, including this one.
+         */
+        TO_SWITCH_POSTPONED,
+        /**
+         * message from MD-SAL waiting for request quota got it - value is wait time in microseconds.
+         */
+        TO_SWITCH_POSTPONED_RESUMED,
+        /**
+         * message from MD-SAL waiting for request quota did not get it in time - value is wait time in microseconds.
+         */
+        TO_SWITCH_POSTPONED_EXPIRED,
         /**
          * message from MD-SAL to switch - asked for XID reservation in queue, but rejected.
          */
@@ -103,4 +116,15 @@ public interface MessageSpy extends Runnable {
      */
     void spyMessage(Class<?> message, StatisticsGroup statGroup);
 
+    /**
+     * Spy message with a value measured for it. Values are summed and their maximum is kept for each message
+     * and statistics group, implementations which do not keep values only count the message.
+     * @param message   from switch or to switch - depends on statGroup
+     * @param statGroup statistics group, which also gives meaning of the value
+     * @param value     value measured for the message
+     */
+    default void spyMessage(Class<?> message, StatisticsGroup statGroup, long value) {
+        spyMessage(message, statGroup);
+    }
+
 }
@@ -243,13 +243,17 @@ public class OpenFlowPluginProviderImpl implements
                 rpcProviderRegistry,
                 extensionConverterManager,
                 convertorManager,
-                notificationPublishService);
+                notificationPublishService,
+                hashedWheelTimer,
+                executorService);
 
         statisticsManager = new StatisticsManagerImpl(
                 config,
                 rpcProviderRegistry,
                 convertorManager,
-                executorService);
+                executorService,
+                hashedWheelTimer,
+                dataBroker);
 
         roleManager = new RoleManagerImpl(hashedWheelTimer);
 
@@ -82,6 +82,18 @@ public class ConfigurationServiceFactoryImpl implements ConfigurationServiceFact
                             providerConfig.getThreadPoolMaxThreads().getValue().toString())
                     .put(ConfigurationProperty.THREAD_POOL_TIMEOUT.toString(),
                             providerConfig.getThreadPoolTimeout().toString())
+                    .put(ConfigurationProperty.ENABLE_INCREMENTAL_FLOW_STATISTICS.toString(),
+                            providerConfig.isEnableIncrementalFlowStatistics().toString())
+                    .put(ConfigurationProperty.ENABLE_ADAPTIVE_STATISTICS_POLLING.toString(),
+                            providerConfig.isEnableAdaptiveStatisticsPolling().toString())
+                    .put(ConfigurationProperty.PACKET_IN_BATCH_SIZE.toString(),
+                            providerConfig.getPacketInBatchSize().toString())
+                    .put(ConfigurationProperty.PACKET_IN_BATCH_INTERVAL.toString(),
+                            providerConfig.getPacketInBatchInterval().toString())
+                    .put(ConfigurationProperty.RPC_REQUESTS_WAIT_QUEUE_SIZE.toString(),
+                            providerConfig.getRpcRequestsWaitQueueSize().toString())
+                    .put(ConfigurationProperty.RPC_REQUESTS_WAIT_TIMEOUT.toString(),
+                            providerConfig.getRpcRequestsWaitTimeout().toString())
                     .build());
 
             LOG.info("Loading configuration from '{}' configuration file", OFConstants.CONFIG_FILE_ID);
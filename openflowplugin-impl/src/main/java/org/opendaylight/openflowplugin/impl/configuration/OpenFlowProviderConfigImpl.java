@@ -131,6 +131,38 @@ public class OpenFlowProviderConfigImpl implements OpenflowProviderConfig {
         return service.getProperty(ConfigurationProperty.USE_SINGLE_LAYER_SERIALIZATION.toString(), Boolean::valueOf);
     }
 
+    @Override
+    public Boolean isEnableIncrementalFlowStatistics() {
+        return service.getProperty(ConfigurationProperty.ENABLE_INCREMENTAL_FLOW_STATISTICS.toString(),
+                Boolean::valueOf);
+    }
+
+    @Override
+    public Boolean isEnableAdaptiveStatisticsPolling() {
+        return service.getProperty(ConfigurationProperty.ENABLE_ADAPTIVE_STATISTICS_POLLING.toString(),
+                Boolean::valueOf);
+    }
+
+    @Override
+    public Integer getPacketInBatchSize() {
+        return service.getProperty(ConfigurationProperty.PACKET_IN_BATCH_SIZE.toString(), Integer::valueOf);
+    }
+
+    @Override
+    public Integer getPacketInBatchInterval() {
+        return service.getProperty(ConfigurationProperty.PACKET_IN_BATCH_INTERVAL.toString(), Integer::valueOf);
+    }
+
+    @Override
+    public Integer getRpcRequestsWaitQueueSize() {
+        return service.getProperty(ConfigurationProperty.RPC_REQUESTS_WAIT_QUEUE_SIZE.toString(), Integer::valueOf);
+    }
+
+    @Override
+    public Long getRpcRequestsWaitTimeout() {
+        return service.getProperty(ConfigurationProperty.RPC_REQUESTS_WAIT_TIMEOUT.toString(), Long::valueOf);
+    }
+
     @Override
     public <E extends Augmentation<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang
             .openflow.provider.config.rev160510.OpenflowProviderConfig>> E getAugmentation(
@@ -38,4 +38,11 @@ public class MultipartWriterProvider {
         return Optional.ofNullable(writers.get(type));
     }
 
+    /**
+     * Close all registered statistics writers.
+     */
+    public void close() {
+        writers.values().forEach(AbstractMultipartWriter::close);
+    }
+
 }
@@ -8,6 +8,8 @@
 
 package org.opendaylight.openflowplugin.impl.datastore;
 
+import javax.annotation.Nullable;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.impl.datastore.multipart.DescMultipartWriter;
 import org.opendaylight.openflowplugin.impl.datastore.multipart.FlowStatsMultipartWriter;
@@ -41,6 +43,20 @@ public final class MultipartWriterProviderFactory {
      * @return the statistics writer provider
      */
     public static MultipartWriterProvider createDefaultProvider(final DeviceContext deviceContext) {
+        return createDefaultProvider(deviceContext, null, false);
+    }
+
+    /**
+     * Create default #{@link MultipartWriterProvider}.
+     *
+     * @param deviceContext device context
+     * @param dataBroker data broker, required by incremental flow statistics
+     * @param isIncrementalFlowStatistics write only flows changed since previous flow statistics snapshot
+     * @return the statistics writer provider
+     */
+    public static MultipartWriterProvider createDefaultProvider(final DeviceContext deviceContext,
+                                                                @Nullable final DataBroker dataBroker,
+                                                                final boolean isIncrementalFlowStatistics) {
         final InstanceIdentifier<Node> instanceIdentifier = deviceContext.getDeviceInfo().getNodeInstanceIdentifier();
         final MultipartWriterProvider provider = new MultipartWriterProvider();
 
@@ -52,7 +68,7 @@ public final class MultipartWriterProviderFactory {
                 instanceIdentifier, deviceContext.getPrimaryConnectionContext().getFeatures()));
         provider.register(MultipartType.OFPMPQUEUE, new QueueStatsMultipartWriter(deviceContext, instanceIdentifier));
         provider.register(MultipartType.OFPMPFLOW, new FlowStatsMultipartWriter(deviceContext, instanceIdentifier,
-                deviceContext, deviceContext.getDeviceInfo().getVersion()));
+                deviceContext, deviceContext.getDeviceInfo().getVersion(), dataBroker, isIncrementalFlowStatistics));
         provider.register(MultipartType.OFPMPGROUPDESC, new GroupDescMultipartWriter(deviceContext,
                 instanceIdentifier, deviceContext));
         provider.register(MultipartType.OFPMPMETERCONFIG, new MeterConfigMultipartWriter(deviceContext,
@@ -8,9 +8,12 @@
 
 package org.opendaylight.openflowplugin.impl.datastore.multipart;
 
+import java.math.BigInteger;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.openflowplugin.api.openflow.device.TxFacade;
 import org.opendaylight.openflowplugin.impl.services.AbstractMultipartService;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter32;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
 import org.opendaylight.yangtools.yang.binding.DataContainer;
 import org.opendaylight.yangtools.yang.binding.DataObject;
@@ -18,12 +21,18 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public abstract class AbstractMultipartWriter<T extends DataContainer> {
+public abstract class AbstractMultipartWriter<T extends DataContainer> implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractMultipartService.class);
+    private static final long FINGERPRINT_SEED = 0x9E3779B97F4A7C15L;
 
     private final TxFacade txFacade;
     private final InstanceIdentifier<Node> instanceIdentifier;
+    private boolean trackingChanges;
+    private boolean collectingSnapshot;
+    private boolean snapshotChanged = true;
+    private long snapshotFingerprint;
+    private long previousFingerprint;
 
     AbstractMultipartWriter(final TxFacade txFacade, final InstanceIdentifier<Node> instanceIdentifier) {
         this.txFacade = txFacade;
@@ -47,6 +56,16 @@ public abstract class AbstractMultipartWriter<T extends DataContainer> {
         }
     }
 
+    /**
+     * Creates delete operation for provided path in underlying transaction chain.
+     *
+     * @param path path
+     * @param <O> data type
+     */
+    protected <O extends DataObject> void deleteFromTransaction(final InstanceIdentifier<O> path) {
+        txFacade.addDeleteToTxChain(LogicalDatastoreType.OPERATIONAL, path);
+    }
+
     /**
      * Get instance identifier.
      *
@@ -66,7 +85,9 @@ public abstract class AbstractMultipartWriter<T extends DataContainer> {
     public boolean write(final DataContainer dataContainer, final boolean withParents) {
         if (getType().isInstance(dataContainer)) {
             LOG.debug("Writing multipart data of type {} for node {}", getType(), getInstanceIdentifier());
-            storeStatistics(getType().cast(dataContainer), withParents);
+            final T statistics = getType().cast(dataContainer);
+            updateFingerprint(statistics);
+            storeStatistics(statistics, withParents);
             return true;
         }
 
@@ -74,6 +95,124 @@ public abstract class AbstractMultipartWriter<T extends DataContainer> {
         return false;
     }
 
+    /**
+     * Start writing of new multipart snapshot.
+     *
+     * @return true if writer tracks changes between snapshots itself, so previously written data should not be
+     *         removed from datastore before writing new snapshot
+     */
+    public synchronized boolean startSnapshot() {
+        collectingSnapshot = trackingChanges;
+        snapshotFingerprint = 0;
+        return false;
+    }
+
+    /**
+     * End writing of current multipart snapshot.
+     *
+     * @param complete true if whole multipart snapshot was received and written
+     */
+    public synchronized void endSnapshot(final boolean complete) {
+        if (collectingSnapshot && complete) {
+            snapshotChanged = snapshotFingerprint != previousFingerprint;
+            previousFingerprint = snapshotFingerprint;
+        } else {
+            snapshotChanged = true;
+        }
+
+        collectingSnapshot = false;
+    }
+
+    /**
+     * Start tracking of changes between multipart snapshots, see {@link #isSnapshotChanged()}.
+     */
+    public synchronized void enableChangeTracking() {
+        trackingChanges = true;
+    }
+
+    /**
+     * Check if last multipart snapshot differs from the one before it. Snapshots which were not complete
+     * or were written without change tracking enabled are always considered changed.
+     *
+     * @return true if last snapshot changed
+     */
+    public synchronized boolean isSnapshotChanged() {
+        return snapshotChanged;
+    }
+
+    /**
+     * Compute fingerprint of statistics, used to detect changes between snapshots. Fingerprints of all statistics
+     * in snapshot are summed, so order of statistics in snapshot does not matter. Writers of statistics with
+     * duration should leave it out, otherwise every snapshot would be considered changed. Writers of statistics
+     * with several entries should sum {@link #fingerprintOf(Object...)} of every entry.
+     *
+     * @param statistics statistics
+     * @return fingerprint of statistics
+     */
+    protected long fingerprint(final T statistics) {
+        return fingerprintOf(statistics);
+    }
+
+    /**
+     * Compute fingerprint of one statistics entry from its fields. Counters are mixed in by their value rather
+     * than by their hash code and every field is spread over all 64 bits, so that changes of entries do not cancel
+     * each other out when fingerprints of entries are summed.
+     *
+     * @param fields fields of statistics entry, may contain nulls
+     * @return fingerprint of statistics entry
+     */
+    protected static long fingerprintOf(final Object... fields) {
+        long hash = FINGERPRINT_SEED;
+        for (Object field : fields) {
+            hash = mix(hash ^ fieldValue(field));
+        }
+        return hash;
+    }
+
+    private static long fieldValue(final Object field) {
+        if (field instanceof Counter64) {
+            return fieldValue(((Counter64) field).getValue());
+        }
+        if (field instanceof Counter32) {
+            return fieldValue(((Counter32) field).getValue());
+        }
+        if (field instanceof BigInteger) {
+            // Counters fit into 64 bits
+            return ((BigInteger) field).longValue();
+        }
+        if (field instanceof Number) {
+            return ((Number) field).longValue();
+        }
+        return field == null ? 0 : field.hashCode();
+    }
+
+    /**
+     * Finalization step of MurmurHash3, spreading every input bit over the whole result.
+     */
+    private static long mix(final long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Release resources held by writer. Writer should not be used after it is closed.
+     */
+    @Override
+    public void close() {
+        // Nothing to release by default
+    }
+
+    private synchronized void updateFingerprint(final T statistics) {
+        if (collectingSnapshot) {
+            snapshotFingerprint += fingerprint(statistics);
+        }
+    }
+
     /**
      * Get type of writer.
      *
@@ -8,7 +8,19 @@
 
 package org.opendaylight.openflowplugin.impl.datastore.multipart;
 
+import com.google.common.base.Preconditions;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.DataObjectModification.ModificationType;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeChangeListener;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeIdentifier;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeModification;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceRegistry;
 import org.opendaylight.openflowplugin.api.openflow.device.TxFacade;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
@@ -24,21 +36,61 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.F
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.FlowStatisticsData;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.FlowStatisticsDataBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.flow.statistics.FlowStatisticsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-public class FlowStatsMultipartWriter extends AbstractMultipartWriter<FlowAndStatisticsMapList> {
+public class FlowStatsMultipartWriter extends AbstractMultipartWriter<FlowAndStatisticsMapList>
+        implements DataTreeChangeListener<Flow> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FlowStatsMultipartWriter.class);
 
     private final DeviceRegistry registry;
     private final short version;
+    private final DataBroker dataBroker;
+    private final boolean incremental;
+    private Map<InstanceIdentifier<Flow>, FlowSnapshot> previousSnapshot = new HashMap<>();
+    private Map<InstanceIdentifier<Flow>, FlowSnapshot> currentSnapshot;
+    private ListenerRegistration<FlowStatsMultipartWriter> listenerRegistration;
+    private boolean hasBaseline;
+    private boolean skipUnchanged;
+    private boolean closed;
 
     public FlowStatsMultipartWriter(final TxFacade txFacade,
                                     final InstanceIdentifier<Node> instanceIdentifier,
                                     final DeviceRegistry registry,
                                     final short version) {
+        this(txFacade, instanceIdentifier, registry, version, null, false);
+    }
+
+    /**
+     * Creates flow statistics writer.
+     *
+     * @param txFacade tx manager
+     * @param instanceIdentifier node instance identifier
+     * @param registry device registry
+     * @param version OpenFlow version
+     * @param dataBroker data broker used to listen for flows removed from operational datastore by others,
+     *                   required if incremental
+     * @param incremental if true, only flows added, removed or with changed counters since previous snapshot
+     *                    are written to datastore
+     */
+    public FlowStatsMultipartWriter(final TxFacade txFacade,
+                                    final InstanceIdentifier<Node> instanceIdentifier,
+                                    final DeviceRegistry registry,
+                                    final short version,
+                                    @Nullable final DataBroker dataBroker,
+                                    final boolean incremental) {
         super(txFacade, instanceIdentifier);
+        Preconditions.checkArgument(!incremental || Objects.nonNull(dataBroker),
+                "Data broker is required by incremental flow statistics");
         this.registry = registry;
         this.version = version;
+        this.dataBroker = dataBroker;
+        this.incremental = incremental;
     }
 
     @Override
@@ -47,17 +99,127 @@ public class FlowStatsMultipartWriter extends AbstractMultipartWriter<FlowAndSta
     }
 
     @Override
-    public void storeStatistics(final FlowAndStatisticsMapList statistics, final boolean withParents) {
+    public synchronized boolean startSnapshot() {
+        super.startSnapshot();
+        skipUnchanged = false;
+
+        if (!incremental || closed) {
+            return false;
+        }
+
+        if (Objects.isNull(listenerRegistration)) {
+            listenerRegistration = dataBroker.registerDataTreeChangeListener(new DataTreeIdentifier<>(
+                    LogicalDatastoreType.OPERATIONAL,
+                    getInstanceIdentifier()
+                            .augmentation(FlowCapableNode.class)
+                            .child(Table.class)
+                            .child(Flow.class)), this);
+        }
+
+        if (Objects.nonNull(currentSnapshot)) {
+            // Previous snapshot was never ended, so we do not know what was written by it
+            hasBaseline = false;
+        }
+
+        skipUnchanged = hasBaseline;
+        currentSnapshot = new HashMap<>(previousSnapshot.size());
+
+        // Cleared by listener when any flow from this snapshot is removed from datastore before next one
+        hasBaseline = true;
+
+        if (!skipUnchanged) {
+            // First snapshot, the one after an aborted snapshot or after flows were removed by others is written
+            // whole after known flows are removed from datastore by caller
+            previousSnapshot = new HashMap<>();
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized void endSnapshot(final boolean complete) {
+        super.endSnapshot(complete);
+
+        if (Objects.isNull(currentSnapshot)) {
+            return;
+        }
+
+        if (complete) {
+            previousSnapshot.keySet().stream()
+                    .filter(path -> !currentSnapshot.containsKey(path))
+                    .forEach(this::deleteFromTransaction);
+
+            previousSnapshot = currentSnapshot;
+        } else {
+            // We do not know which flows were written or are missing from aborted snapshot, so next one
+            // is written whole
+            previousSnapshot = new HashMap<>();
+            hasBaseline = false;
+        }
+
+        currentSnapshot = null;
+        skipUnchanged = false;
+    }
+
+    /**
+     * Invalidates baseline of incremental snapshots when flow known to be written by this writer is removed
+     * from operational datastore, so that next snapshot is written whole. Flows removed by this writer itself
+     * are no longer part of any snapshot when their removal is notified.
+     *
+     * @param changes flow changes
+     */
+    @Override
+    public synchronized void onDataTreeChanged(@Nonnull final Collection<DataTreeModification<Flow>> changes) {
+        if (!hasBaseline) {
+            return;
+        }
+
+        final boolean isKnownFlowRemoved = changes.stream()
+                .filter(change -> ModificationType.DELETE.equals(change.getRootNode().getModificationType()))
+                .map(change -> change.getRootPath().getRootIdentifier())
+                .anyMatch(path -> previousSnapshot.containsKey(path)
+                        || (Objects.nonNull(currentSnapshot) && currentSnapshot.containsKey(path)));
+
+        if (isKnownFlowRemoved) {
+            LOG.debug("Flows of node {} were removed from operational datastore, writing whole next flow snapshot",
+                    getInstanceIdentifier());
+            hasBaseline = false;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        hasBaseline = false;
+        previousSnapshot = new HashMap<>();
+
+        if (Objects.nonNull(listenerRegistration)) {
+            listenerRegistration.close();
+            listenerRegistration = null;
+        }
+    }
+
+    @Override
+    protected long fingerprint(final FlowAndStatisticsMapList statistics) {
+        return statistics.getFlowAndStatisticsMapList().stream()
+                .mapToLong(stat -> fingerprintOf(
+                        stat.getTableId(),
+                        stat.getPriority(),
+                        stat.getCookie(),
+                        stat.getMatch(),
+                        stat.getInstructions(),
+                        stat.getPacketCount(),
+                        stat.getByteCount()))
+                .sum();
+    }
+
+    @Override
+    public synchronized void storeStatistics(final FlowAndStatisticsMapList statistics, final boolean withParents) {
         statistics.getFlowAndStatisticsMapList()
             .forEach(stat -> {
-                final FlowBuilder flow = new FlowBuilder(stat)
-                    .addAugmentation(
-                        FlowStatisticsData.class,
-                        new FlowStatisticsDataBuilder()
-                            .setFlowStatistics(new FlowStatisticsBuilder(stat).build())
-                            .build());
-
-                final FlowRegistryKey flowRegistryKey = FlowRegistryKeyFactory.create(version, flow.build());
+                final Flow definition = new FlowBuilder(stat).build();
+                final FlowRegistryKey flowRegistryKey = FlowRegistryKeyFactory.create(version, definition);
                 registry.getDeviceFlowRegistry().store(flowRegistryKey);
 
                 final FlowDescriptor flowDescriptor = registry
@@ -68,18 +230,71 @@ public class FlowStatsMultipartWriter extends AbstractMultipartWriter<FlowAndSta
                     final FlowKey key = new FlowKey(flowDescriptor
                             .getFlowId());
 
+                    final InstanceIdentifier<Flow> path = getInstanceIdentifier()
+                            .augmentation(FlowCapableNode.class)
+                            .child(Table.class, new TableKey(stat.getTableId()))
+                            .child(Flow.class, key);
+
+                    if (Objects.nonNull(currentSnapshot)) {
+                        final FlowSnapshot snapshot = new FlowSnapshot(definition, stat);
+                        currentSnapshot.put(path, snapshot);
+
+                        if (skipUnchanged && snapshot.equals(previousSnapshot.get(path))) {
+                            return;
+                        }
+                    }
+
                     writeToTransaction(
-                            getInstanceIdentifier()
-                                    .augmentation(FlowCapableNode.class)
-                                    .child(Table.class, new TableKey(stat.getTableId()))
-                                    .child(Flow.class, key),
-                            flow
+                            path,
+                            new FlowBuilder(definition)
                                     .setId(key.getId())
                                     .setKey(key)
+                                    .addAugmentation(
+                                        FlowStatisticsData.class,
+                                        new FlowStatisticsDataBuilder()
+                                            .setFlowStatistics(new FlowStatisticsBuilder(stat).build())
+                                            .build())
                                     .build(),
                             withParents);
                 }
             });
     }
 
+    /**
+     * Flow definition with its counters, used to detect flows changed between two snapshots.
+     * Flow duration is not part of the snapshot, so flows which were not hit are not rewritten.
+     */
+    private static final class FlowSnapshot {
+        private final Flow definition;
+        private final Counter64 packetCount;
+        private final Counter64 byteCount;
+
+        FlowSnapshot(final Flow definition, final FlowAndStatisticsMapList stat) {
+            this.definition = definition;
+            this.packetCount = stat.getPacketCount();
+            this.byteCount = stat.getByteCount();
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            if (object == null || getClass() != object.getClass()) {
+                return false;
+            }
+
+            final FlowSnapshot that = (FlowSnapshot) object;
+            return Objects.equals(packetCount, that.packetCount)
+                    && Objects.equals(byteCount, that.byteCount)
+                    && Objects.equals(definition, that.definition);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(definition, packetCount, byteCount);
+        }
+    }
+
 }
@@ -30,6 +30,18 @@ public class GroupStatsMultipartWriter extends AbstractMultipartWriter<GroupStat
         return GroupStatisticsReply.class;
     }
 
+    @Override
+    protected long fingerprint(final GroupStatisticsReply statistics) {
+        return statistics.getGroupStats().stream()
+                .mapToLong(stat -> fingerprintOf(
+                        stat.getGroupId(),
+                        stat.getRefCount(),
+                        stat.getPacketCount(),
+                        stat.getByteCount(),
+                        stat.getBuckets()))
+                .sum();
+    }
+
     @Override
     public void storeStatistics(final GroupStatisticsReply statistics, final boolean withParents) {
         statistics.getGroupStats()
@@ -30,6 +30,18 @@ public class MeterStatsMultipartWriter extends AbstractMultipartWriter<MeterStat
         return MeterStatisticsReply.class;
     }
 
+    @Override
+    protected long fingerprint(final MeterStatisticsReply statistics) {
+        return statistics.getMeterStats().stream()
+                .mapToLong(stat -> fingerprintOf(
+                        stat.getMeterId(),
+                        stat.getFlowCount(),
+                        stat.getPacketInCount(),
+                        stat.getByteInCount(),
+                        stat.getMeterBandStats()))
+                .sum();
+    }
+
     @Override
     public void storeStatistics(final MeterStatisticsReply statistics, final boolean withParents) {
         statistics.getMeterStats()
@@ -39,6 +39,24 @@ public class PortStatsMultipartWriter extends AbstractMultipartWriter<NodeConnec
         return NodeConnectorStatisticsAndPortNumberMap.class;
     }
 
+    @Override
+    protected long fingerprint(final NodeConnectorStatisticsAndPortNumberMap statistics) {
+        return statistics.getNodeConnectorStatisticsAndPortNumberMap().stream()
+                .mapToLong(stat -> fingerprintOf(
+                        stat.getNodeConnectorId(),
+                        stat.getPackets(),
+                        stat.getBytes(),
+                        stat.getReceiveDrops(),
+                        stat.getTransmitDrops(),
+                        stat.getReceiveErrors(),
+                        stat.getTransmitErrors(),
+                        stat.getReceiveFrameError(),
+                        stat.getReceiveOverRunError(),
+                        stat.getReceiveCrcError(),
+                        stat.getCollisionCount()))
+                .sum();
+    }
+
     @Override
     public void storeStatistics(final NodeConnectorStatisticsAndPortNumberMap statistics, final boolean withParents) {
         statistics.getNodeConnectorStatisticsAndPortNumberMap()
@@ -33,6 +33,18 @@ public class QueueStatsMultipartWriter extends AbstractMultipartWriter<QueueIdAn
         return QueueIdAndStatisticsMap.class;
     }
 
+    @Override
+    protected long fingerprint(final QueueIdAndStatisticsMap statistics) {
+        return statistics.getQueueIdAndStatisticsMap().stream()
+                .mapToLong(stat -> fingerprintOf(
+                        stat.getNodeConnectorId(),
+                        stat.getQueueId(),
+                        stat.getTransmittedBytes(),
+                        stat.getTransmittedPackets(),
+                        stat.getTransmissionErrors()))
+                .sum();
+    }
+
     @Override
     public void storeStatistics(final QueueIdAndStatisticsMap statistics, final boolean withParents) {
         statistics.getQueueIdAndStatisticsMap()
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.device;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import org.opendaylight.openflowplugin.impl.util.MatchUtil;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorRef;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.batch.rev171018.packet.received.batch.Packet;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.batch.rev171018.packet.received.batch.packet.Match;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.ConnectionCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketInReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceived;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.TableId;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+
+/**
+ * Entry of packet-received-batch notification backed by {@link PacketReceived}. Match is copied into the batch
+ * model on first access only, so batching does not undo lazy match conversion of translated packet-ins.
+ * Match extensions are carried over in the batch match's own general extension augmentation.
+ */
+final class BatchedPacket implements Packet {
+    private final PacketReceived packetReceived;
+    private final Supplier<Match> match;
+
+    BatchedPacket(final PacketReceived packetReceived) {
+        this.packetReceived = packetReceived;
+        this.match = Suppliers.memoize(() -> MatchUtil.transformMatch(packetReceived.getMatch(), Match.class));
+    }
+
+    @Override
+    public ConnectionCookie getConnectionCookie() {
+        return packetReceived.getConnectionCookie();
+    }
+
+    @Override
+    public FlowCookie getFlowCookie() {
+        return packetReceived.getFlowCookie();
+    }
+
+    @Override
+    public TableId getTableId() {
+        return packetReceived.getTableId();
+    }
+
+    @Override
+    public Class<? extends PacketInReason> getPacketInReason() {
+        return packetReceived.getPacketInReason();
+    }
+
+    @Override
+    public NodeConnectorRef getIngress() {
+        return packetReceived.getIngress();
+    }
+
+    @Override
+    public byte[] getPayload() {
+        return packetReceived.getPayload();
+    }
+
+    @Override
+    public Match getMatch() {
+        return match.get();
+    }
+
+    @Override
+    public <E extends Augmentation<Packet>> E getAugmentation(final Class<E> augmentationType) {
+        return null;
+    }
+
+    @Override
+    public Class<? extends DataContainer> getImplementedInterface() {
+        return Packet.class;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(Packet.class).add("packetReceived", packetReceived).toString();
+    }
+}
@@ -23,6 +23,8 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
@@ -90,6 +92,9 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PortStatusMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.experimenter.core.ExperimenterDataOfChoice;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.experimenter.types.rev151020.experimenter.core.message.ExperimenterMessageOfChoice;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.batch.rev171018.PacketReceivedBatch;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.batch.rev171018.PacketReceivedBatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.batch.rev171018.packet.received.batch.Packet;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketIn;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceived;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceivedBuilder;
@@ -99,6 +104,7 @@ import org.opendaylight.yangtools.yang.binding.DataContainer;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.Notification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -124,6 +130,7 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
 
     private final MultipartWriterProvider writerProvider;
     private final HashedWheelTimer hashedWheelTimer;
+    private final PacketInBatcher packetInBatcher;
     private final DeviceState deviceState;
     private final DataBroker dataBroker;
     private final Collection<RequestContext<?>> requestContexts = new HashSet<>();
@@ -163,7 +170,9 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                       final boolean useSingleLayerSerialization,
                       final DeviceInitializerProvider deviceInitializerProvider,
                       final boolean isFlowRemovedNotificationOn,
-                      final boolean switchFeaturesMandatory) {
+                      final boolean switchFeaturesMandatory,
+                      final int packetInBatchSize,
+                      final long packetInBatchInterval) {
 
         this.primaryConnectionContext = primaryConnectionContext;
         this.deviceInfo = primaryConnectionContext.getDeviceInfo();
@@ -177,6 +186,10 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
 
         this.packetInLimiter = new PacketInRateLimiter(primaryConnectionContext.getConnectionAdapter(),
                 /*initial*/ LOW_WATERMARK, /*initial*/HIGH_WATERMARK, this.messageSpy, REJECTED_DRAIN_FACTOR);
+        this.packetInBatcher = packetInBatchSize > 0
+                ? new PacketInBatcher(packetInBatchSize, packetInBatchInterval, hashedWheelTimer,
+                        this::publishPacketInBatch)
+                : null;
 
         this.translatorLibrary = translatorLibrary;
         this.portStatusTranslator = translatorLibrary.lookupTranslator(
@@ -349,12 +362,13 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
     @Override
     public void processPacketInMessage(final PacketInMessage packetInMessage) {
         final PacketReceived packetReceived = packetInTranslator.translate(packetInMessage, getDeviceInfo(), null);
-        handlePacketInMessage(packetReceived, packetInMessage.getImplementedInterface(), packetReceived.getMatch());
+        handlePacketInMessage(packetReceived, packetInMessage.getImplementedInterface(),
+                () -> packetReceived.getMatch());
     }
 
     private void handlePacketInMessage(final PacketIn packetIn,
                                        final Class<?> implementedInterface,
-                                       final Match match) {
+                                       final Supplier<? extends Match> match) {
         messageSpy.spyMessage(implementedInterface, MessageSpy.StatisticsGroup.FROM_SWITCH);
         final ConnectionAdapter connectionAdapter = getPrimaryConnectionContext().getConnectionAdapter();
 
@@ -368,7 +382,7 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
 
         // Try to get ingress from match
         final NodeConnectorRef nodeConnectorRef = Objects.nonNull(packetIn.getIngress())
-                ? packetIn.getIngress() : Optional.ofNullable(match)
+                ? packetIn.getIngress() : Optional.ofNullable(match.get())
                 .map(Match::getInPort)
                 .map(nodeConnectorId -> InventoryDataServiceUtil
                         .portNumberfromNodeConnectorId(
@@ -383,6 +397,12 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
 
         messageSpy.spyMessage(implementedInterface, MessageSpy.StatisticsGroup.FROM_SWITCH_TRANSLATE_OUT_SUCCESS);
 
+        if (Objects.nonNull(packetInBatcher)) {
+            // Batched packet-ins are not published on their own, the whole batch takes a single permit
+            packetInBatcher.add(toPacketReceived(packetIn, nodeConnectorRef, match));
+            return;
+        }
+
         if (!packetInLimiter.acquirePermit()) {
             LOG.debug("Packet limited");
             // TODO: save packet into emergency slot if possible
@@ -391,13 +411,40 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
             return;
         }
 
-        final ListenableFuture<?> offerNotification = notificationPublishService
-                .offerNotification(new PacketReceivedBuilder(packetIn)
+        publishPacketIn(toPacketReceived(packetIn, nodeConnectorRef, match), implementedInterface);
+    }
+
+    private static PacketReceived toPacketReceived(final PacketIn packetIn,
+                                                   final NodeConnectorRef nodeConnectorRef,
+                                                   final Supplier<? extends Match> match) {
+        // Already translated packet with known ingress is published as is, so that its match is not converted
+        // and its payload is not copied unless some listener asks for them
+        return packetIn instanceof PacketReceived && Objects.equals(packetIn.getIngress(), nodeConnectorRef)
+                ? (PacketReceived) packetIn
+                : new PacketReceivedBuilder(packetIn)
                         .setIngress(nodeConnectorRef)
-                        .setMatch(MatchUtil.transformMatch(match,
+                        .setMatch(MatchUtil.transformMatch(match.get(),
                                 org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.packet.received
                                         .Match.class))
-                        .build());
+                        .build();
+    }
+
+    private void publishPacketInBatch(final List<PacketReceived> packets) {
+        if (!packetInLimiter.acquirePermit()) {
+            LOG.debug("Packet batch of {} packets limited", packets.size());
+            messageSpy.spyMessage(PacketReceivedBatch.class, MessageSpy.StatisticsGroup
+                    .FROM_SWITCH_PACKET_IN_LIMIT_REACHED_AND_DROPPED);
+            return;
+        }
+
+        publishPacketIn(new PacketReceivedBatchBuilder()
+                .setNode(new NodeRef(deviceInfo.getNodeInstanceIdentifier()))
+                .setPacket(packets.stream().<Packet>map(BatchedPacket::new).collect(Collectors.toList()))
+                .build(), PacketReceivedBatch.class);
+    }
+
+    private void publishPacketIn(final Notification notification, final Class<?> implementedInterface) {
+        final ListenableFuture<?> offerNotification = notificationPublishService.offerNotification(notification);
 
         if (NotificationPublishService.REJECTED.equals(offerNotification)) {
             LOG.debug("notification offer rejected");
@@ -465,7 +512,7 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                     .PacketInMessage packetInMessage = org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service
                     .rev130709.PacketInMessage.class.cast(message);
 
-            handlePacketInMessage(packetInMessage, implementedInterface, packetInMessage.getMatch());
+            handlePacketInMessage(packetInMessage, implementedInterface, packetInMessage::getMatch);
             return true;
         }
 
@@ -514,6 +561,11 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         return extensionConverterProvider;
     }
 
+    @VisibleForTesting
+    PacketInRateLimiter getPacketInLimiter() {
+        return packetInLimiter;
+    }
+
     @VisibleForTesting
     TransactionChainManager getTransactionChainManager() {
         return this.transactionChainManager;
@@ -552,6 +604,10 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
 
     @Override
     public void close() {
+        if (Objects.nonNull(packetInBatcher)) {
+            packetInBatcher.close();
+        }
+
         // Close all datastore registries and transactions
         if (initialized.getAndSet(false)) {
             deviceGroupRegistry.close();
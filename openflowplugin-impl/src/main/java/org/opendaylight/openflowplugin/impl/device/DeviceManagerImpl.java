@@ -159,7 +159,9 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
                 config.isUseSingleLayerSerialization(),
                 deviceInitializerProvider,
                 config.isEnableFlowRemovedNotification(),
-                config.isSwitchFeaturesMandatory());
+                config.isSwitchFeaturesMandatory(),
+                config.getPacketInBatchSize(),
+                config.getPacketInBatchInterval());
 
         ((ExtensionConverterProviderKeeper) deviceContext).setExtensionConverterProvider(extensionConverterProvider);
         deviceContext.setNotificationPublishService(notificationPublishService);
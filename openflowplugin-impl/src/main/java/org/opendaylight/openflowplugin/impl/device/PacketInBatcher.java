@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.device;
+
+import com.google.common.base.Preconditions;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceived;
+
+/**
+ * Accumulates packet-ins received from one device and hands them over in batches, either once configured
+ * number of packet-ins is accumulated or once the oldest accumulated packet-in has waited for configured time,
+ * whichever comes first.
+ */
+final class PacketInBatcher implements AutoCloseable {
+    private final Consumer<List<PacketReceived>> consumer;
+    private final HashedWheelTimer timer;
+    private final int maxBatchSize;
+    private final long maxDelayMillis;
+
+    @GuardedBy("this")
+    private List<PacketReceived> pending;
+    @GuardedBy("this")
+    private Timeout timeout;
+    @GuardedBy("this")
+    private boolean closed;
+
+    /**
+     * @param maxBatchSize maximum number of packet-ins in one batch
+     * @param maxDelayMillis maximum time in milliseconds a packet-in waits for its batch to be handed over
+     * @param timer timer used to hand over batches which did not fill up in time
+     * @param consumer consumer of batches
+     */
+    PacketInBatcher(final int maxBatchSize, final long maxDelayMillis, final HashedWheelTimer timer,
+                    final Consumer<List<PacketReceived>> consumer) {
+        Preconditions.checkArgument(maxBatchSize > 0, "Batch size %s must be positive", maxBatchSize);
+        Preconditions.checkArgument(maxDelayMillis >= 0, "Batch delay %s must not be negative", maxDelayMillis);
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayMillis = maxDelayMillis;
+        this.timer = Preconditions.checkNotNull(timer);
+        this.consumer = Preconditions.checkNotNull(consumer);
+    }
+
+    /**
+     * Add packet-in to current batch. If the batch is full, it is handed over to the consumer in the calling
+     * thread.
+     *
+     * @param packet packet-in to add
+     */
+    void add(final PacketReceived packet) {
+        final List<PacketReceived> batch;
+        synchronized (this) {
+            if (closed) {
+                // Device is going away, do not hold the packet-in back
+                batch = Collections.singletonList(packet);
+            } else {
+                if (pending == null) {
+                    pending = new ArrayList<>(maxBatchSize);
+                    timeout = timer.newTimeout(this::expire, maxDelayMillis, TimeUnit.MILLISECONDS);
+                }
+
+                pending.add(packet);
+                batch = pending.size() >= maxBatchSize ? takePending() : null;
+            }
+        }
+
+        if (batch != null) {
+            consumer.accept(batch);
+        }
+    }
+
+    /**
+     * Hand over current batch, if any, and stop batching. Packet-ins added afterwards are handed over
+     * immediately, one by one.
+     */
+    @Override
+    public void close() {
+        final List<PacketReceived> batch;
+        synchronized (this) {
+            closed = true;
+            batch = takePending();
+        }
+
+        if (batch != null) {
+            consumer.accept(batch);
+        }
+    }
+
+    private void expire(final Timeout expired) {
+        final List<PacketReceived> batch;
+        synchronized (this) {
+            // Batch which started this timeout may have been taken already
+            batch = timeout == expired ? takePending() : null;
+        }
+
+        if (batch != null) {
+            consumer.accept(batch);
+        }
+    }
+
+    @GuardedBy("this")
+    private List<PacketReceived> takePending() {
+        final List<PacketReceived> ret = pending;
+        pending = null;
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
+        }
+        return ret;
+    }
+}
@@ -35,15 +35,15 @@ final class PacketInRateLimiter extends SimpleRatelimiter {
     @Override
     protected void disableFlow() {
         messageSpy.spyMessage(DeviceContext.class, MessageSpy.StatisticsGroup.OFJ_BACKPRESSURE_ON);
-        connectionAdapter.setPacketInFiltering(true);
-        LOG.debug("PacketIn filtering on: {}", connectionAdapter.getRemoteAddress());
+        connectionAdapter.setPacketInThrottling(true);
+        LOG.debug("PacketIn throttling on: {}", connectionAdapter.getRemoteAddress());
     }
 
     @Override
     protected void enableFlow() {
         messageSpy.spyMessage(DeviceContext.class, MessageSpy.StatisticsGroup.OFJ_BACKPRESSURE_OFF);
-        connectionAdapter.setPacketInFiltering(false);
-        LOG.debug("PacketIn filtering off: {}", connectionAdapter.getRemoteAddress());
+        connectionAdapter.setPacketInThrottling(false);
+        LOG.debug("PacketIn throttling off: {}", connectionAdapter.getRemoteAddress());
     }
 
     public void drainLowWaterMark() {
@@ -9,9 +9,6 @@ package org.opendaylight.openflowplugin.impl.registry.flow;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
-import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
@@ -22,6 +19,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
@@ -38,7 +37,6 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.Fl
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlow;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 import org.slf4j.Logger;
@@ -50,7 +48,10 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
     private static final String ALIEN_SYSTEM_FLOW_ID = "#UF$TABLE*";
     private static final AtomicInteger UNACCOUNTED_FLOWS_COUNTER = new AtomicInteger(0);
 
-    private final BiMap<FlowRegistryKey, FlowDescriptor> flowRegistry = Maps.synchronizedBiMap(HashBiMap.create());
+    // Flow registry is kept as pair of concurrent maps, where inverse map is used to guarantee that each flow
+    // descriptor is assigned only to one flow registry key. Reads and iteration are lock-free and weakly consistent.
+    private final ConcurrentMap<FlowRegistryKey, FlowDescriptor> flowRegistry = new ConcurrentHashMap<>();
+    private final ConcurrentMap<FlowDescriptor, FlowRegistryKey> inverseFlowRegistry = new ConcurrentHashMap<>();
     private final DataBroker dataBroker;
     private final KeyedInstanceIdentifier<Node, NodeKey> instanceIdentifier;
     private final List<ListenableFuture<List<Optional<FlowCapableNode>>>> lastFillFutures = new ArrayList<>();
@@ -66,7 +67,7 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
         flowConsumer = flow -> {
             final FlowRegistryKey flowRegistryKey = FlowRegistryKeyFactory.create(version, flow);
 
-            if (getExistingKey(flowRegistryKey) == null) {
+            if (!flowRegistry.containsKey(flowRegistryKey)) {
                 // Now, we will update the registry
                 storeDescriptor(flowRegistryKey, FlowDescriptorFactory.create(flow.getTableId(), flow.getId()));
             }
@@ -158,11 +159,7 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
             LOG.trace("Retrieving flow descriptor for flow registry : {}", flowRegistryKey.toString());
         }
 
-        FlowRegistryKey existingFlowRegistryKey = getExistingKey(flowRegistryKey);
-        if (existingFlowRegistryKey != null) {
-            return flowRegistry.get(existingFlowRegistryKey);
-        }
-        return null;
+        return flowRegistry.get(flowRegistryKey);
     }
 
     @Override
@@ -228,9 +225,7 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
 
     @Override
     public void forEach(final Consumer<FlowRegistryKey> consumer) {
-        synchronized (flowRegistry) {
-            flowRegistry.keySet().forEach(consumer);
-        }
+        flowRegistry.keySet().forEach(consumer);
     }
 
     @Override
@@ -251,6 +246,7 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
         }
 
         flowRegistry.clear();
+        inverseFlowRegistry.clear();
     }
 
     @VisibleForTesting
@@ -260,46 +256,44 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
         return new FlowId(alienId);
     }
 
-    //Hashcode generation of the extension augmentation can differ for the same object received from the datastore and
-    // the one received after deserialization of switch message. OpenFlowplugin extensions are list, and the order in
-    // which it can receive the extensions back from switch can differ and that lead to a different hashcode. In that
-    // scenario, hashcode won't match and flowRegistry return the  related key. To overcome this issue, these methods
-    // make sure that key is stored only if it doesn't equals to any existing key.
+    // Extension augmentation of the same flow can come back from switch with extensions in different order than
+    // the one stored in datastore. FlowRegistryKey equality and hashcode are computed over normalized extension list,
+    // so these keys can be looked up directly in hashed registry.
+    // Both maps are updated while the key's mapping is being computed, so concurrent updates of the same key are
+    // serialized and the inverse map never refers to a stale mapping of that key.
     private void addToFlowRegistry(final FlowRegistryKey flowRegistryKey, final FlowDescriptor flowDescriptor) {
-        FlowRegistryKey existingFlowRegistryKey = getExistingKey(flowRegistryKey);
-        if (existingFlowRegistryKey == null) {
-            flowRegistry.put(flowRegistryKey, flowDescriptor);
-        } else {
-            flowRegistry.put(existingFlowRegistryKey, flowDescriptor);
-        }
-    }
-
-    private void removeFromFlowRegistry(final FlowRegistryKey flowRegistryKey) {
-        FlowRegistryKey existingFlowRegistryKey = getExistingKey(flowRegistryKey);
-        if (existingFlowRegistryKey != null) {
-            flowRegistry.remove(existingFlowRegistryKey);
-        } else {
-            flowRegistry.remove(flowRegistryKey);
-        }
-    }
+        flowRegistry.compute(flowRegistryKey, (key, previous) -> {
+            if (flowDescriptor.equals(previous)) {
+                return previous;
+            }
 
-    private FlowRegistryKey getExistingKey(final FlowRegistryKey flowRegistryKey) {
-        if (flowRegistryKey.getMatch().getAugmentation(GeneralAugMatchNodesNodeTableFlow.class) == null) {
-            if (flowRegistry.containsKey(flowRegistryKey)) {
-                return flowRegistryKey;
+            // Claim flow descriptor first, so it cannot be assigned to two different keys at the same time
+            final FlowRegistryKey owner = inverseFlowRegistry.putIfAbsent(flowDescriptor, key);
+            if (owner != null && !owner.equals(key)) {
+                throw new IllegalArgumentException("Flow descriptor is already assigned to flow: " + owner);
             }
-        } else {
-            for (Map.Entry<FlowRegistryKey, FlowDescriptor> keyValueSet : flowRegistry.entrySet()) {
-                if (keyValueSet.getKey().equals(flowRegistryKey)) {
-                    return keyValueSet.getKey();
-                }
+
+            if (previous != null) {
+                inverseFlowRegistry.remove(previous, key);
             }
-        }
-        return null;
+            return flowDescriptor;
+        });
+    }
+
+    private void removeFromFlowRegistry(final FlowRegistryKey flowRegistryKey) {
+        flowRegistry.computeIfPresent(flowRegistryKey, (key, previous) -> {
+            inverseFlowRegistry.remove(previous, key);
+            return null;
+        });
     }
 
     @VisibleForTesting
     Map<FlowRegistryKey, FlowDescriptor> getAllFlowDescriptors() {
         return flowRegistry;
     }
+
+    @VisibleForTesting
+    Map<FlowDescriptor, FlowRegistryKey> getAllFlowRegistryKeys() {
+        return inverseFlowRegistry;
+    }
 }
@@ -11,8 +11,13 @@ package org.opendaylight.openflowplugin.impl.registry.flow;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
 import org.opendaylight.openflowplugin.impl.util.MatchNormalizationUtil;
@@ -23,6 +28,9 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.ge
 
 public final class FlowRegistryKeyFactory {
 
+    private static final Comparator<ExtensionList> EXTENSION_ORDER =
+            Comparator.comparing(FlowRegistryKeyFactory::extensionKeyName);
+
     private FlowRegistryKeyFactory() {
         // Hide implicit constructor
     }
@@ -39,11 +47,40 @@ public final class FlowRegistryKeyFactory {
         return new FlowRegistryKeyDto(tableId, priority, cookie, match);
     }
 
+    /**
+     * Normalizes extension list of given match to order-insensitive form, sorted by extension key.
+     *
+     * @param match match which may be augmented with general extensions
+     * @return sorted extension list or null when match has no general extension augmentation
+     */
+    @Nullable
+    static List<ExtensionList> normalizeExtensions(@Nonnull final Match match) {
+        final GeneralAugMatchNodesNodeTableFlow aug = match.getAugmentation(GeneralAugMatchNodesNodeTableFlow.class);
+        if (aug == null) {
+            return null;
+        }
+
+        final List<ExtensionList> extensions = aug.getExtensionList();
+        if (extensions == null || extensions.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<ExtensionList> sorted = new ArrayList<>(extensions);
+        sorted.sort(EXTENSION_ORDER);
+        return Collections.unmodifiableList(sorted);
+    }
+
+    private static String extensionKeyName(final ExtensionList extension) {
+        return extension.getExtensionKey() == null ? "" : extension.getExtensionKey().getName();
+    }
+
     private static final class FlowRegistryKeyDto implements FlowRegistryKey {
         private final short tableId;
         private final int priority;
         private final BigInteger cookie;
         private final Match match;
+        private final List<ExtensionList> extensions;
+        private final int hash;
 
         private FlowRegistryKeyDto(final short tableId,
                                    final int priority,
@@ -53,6 +90,8 @@ public final class FlowRegistryKeyFactory {
             this.priority = priority;
             this.cookie = cookie;
             this.match = match;
+            this.extensions = normalizeExtensions(match);
+            this.hash = computeHashCode();
         }
 
         @Override
@@ -70,77 +109,68 @@ public final class FlowRegistryKeyFactory {
             return getPriority() == that.getPriority()
                     && getTableId() == that.getTableId()
                     && getCookie().equals(that.getCookie())
-                    && equalMatch(that.getMatch());
+                    && equalMatch(that);
         }
 
-        private boolean equalMatch(final Match input) {
-            GeneralAugMatchNodesNodeTableFlow thisAug = match.getAugmentation(GeneralAugMatchNodesNodeTableFlow.class);
-            GeneralAugMatchNodesNodeTableFlow inputAug = input.getAugmentation(GeneralAugMatchNodesNodeTableFlow.class);
-            if (thisAug != inputAug) {
-                if (thisAug != null) {
-                    if (inputAug == null) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getEthernetMatch(), input.getEthernetMatch())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getIcmpv4Match(), input.getIcmpv4Match())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getIcmpv6Match(), input.getIcmpv6Match())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getInPhyPort(), input.getInPhyPort())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getInPort(), input.getInPort())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getIpMatch(), input.getIpMatch())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getLayer3Match(), input.getLayer3Match())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getLayer4Match(), input.getLayer4Match())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getMetadata(), input.getMetadata())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getProtocolMatchFields(), input.getProtocolMatchFields())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getTcpFlagsMatch(), input.getTcpFlagsMatch())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getTunnel(), input.getTunnel())) {
-                        return false;
-                    }
-                    if (!Objects.equals(match.getVlanMatch(), input.getVlanMatch())) {
-                        return false;
-                    }
-                    for (ExtensionList inputExtensionList : inputAug.getExtensionList()) {
-                        if (!thisAug.getExtensionList().contains(inputExtensionList)) {
-                            return false;
-                        }
-                    }
-                }
-            } else {
-                return getMatch().equals(input);
+        private boolean equalMatch(final FlowRegistryKey that) {
+            final Match input = that.getMatch();
+            final List<ExtensionList> inputExtensions = that instanceof FlowRegistryKeyDto
+                    ? ((FlowRegistryKeyDto) that).extensions
+                    : normalizeExtensions(input);
+
+            if (extensions == null || inputExtensions == null) {
+                return extensions == inputExtensions && match.equals(input);
             }
-            return true;
+
+            // Extension augmentation can come back from switch with extensions in different order than the one
+            // stored in datastore, so compare only plain match fields and normalized extension list
+            return Objects.equals(match.getEthernetMatch(), input.getEthernetMatch())
+                    && Objects.equals(match.getIcmpv4Match(), input.getIcmpv4Match())
+                    && Objects.equals(match.getIcmpv6Match(), input.getIcmpv6Match())
+                    && Objects.equals(match.getInPhyPort(), input.getInPhyPort())
+                    && Objects.equals(match.getInPort(), input.getInPort())
+                    && Objects.equals(match.getIpMatch(), input.getIpMatch())
+                    && Objects.equals(match.getLayer3Match(), input.getLayer3Match())
+                    && Objects.equals(match.getLayer4Match(), input.getLayer4Match())
+                    && Objects.equals(match.getMetadata(), input.getMetadata())
+                    && Objects.equals(match.getProtocolMatchFields(), input.getProtocolMatchFields())
+                    && Objects.equals(match.getTcpFlagsMatch(), input.getTcpFlagsMatch())
+                    && Objects.equals(match.getTunnel(), input.getTunnel())
+                    && Objects.equals(match.getVlanMatch(), input.getVlanMatch())
+                    && extensions.equals(inputExtensions);
         }
 
-        @Override
-        public int hashCode() {
+        private int computeHashCode() {
             int result = tableId;
             result = 31 * result + priority;
             result = 31 * result + cookie.hashCode();
-            result = 31 * result + match.hashCode();
+            if (extensions == null) {
+                result = 31 * result + match.hashCode();
+            } else {
+                result = 31 * result + Objects.hash(
+                        match.getEthernetMatch(),
+                        match.getIcmpv4Match(),
+                        match.getIcmpv6Match(),
+                        match.getInPhyPort(),
+                        match.getInPort(),
+                        match.getIpMatch(),
+                        match.getLayer3Match(),
+                        match.getLayer4Match(),
+                        match.getMetadata(),
+                        match.getProtocolMatchFields(),
+                        match.getTcpFlagsMatch(),
+                        match.getTunnel(),
+                        match.getVlanMatch());
+                result = 31 * result + extensions.hashCode();
+            }
             return result;
         }
 
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
         @Override
         public String toString() {
             return "FlowRegistryKeyDto{"
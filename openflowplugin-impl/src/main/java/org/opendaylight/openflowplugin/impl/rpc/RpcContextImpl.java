@@ -13,11 +13,12 @@ import com.google.common.collect.Iterators;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import io.netty.util.HashedWheelTimer;
 import java.util.Iterator;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.Executor;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.controller.md.sal.binding.api.NotificationPublishService;
@@ -46,7 +47,7 @@ class RpcContextImpl implements RpcContext {
     private static final Logger LOG = LoggerFactory.getLogger(RpcContextImpl.class);
     private final RpcProviderRegistry rpcProviderRegistry;
     private final MessageSpy messageSpy;
-    private final Semaphore tracker;
+    private final RpcRequestQuota tracker;
     private boolean isStatisticsRpcEnabled;
 
     // TODO: add private Sal salBroker
@@ -66,6 +67,21 @@ class RpcContextImpl implements RpcContext {
                    @Nonnull final ConvertorExecutor convertorExecutor,
                    @Nonnull final NotificationPublishService notificationPublishService,
                    boolean statisticsRpcEnabled) {
+        this(rpcProviderRegistry, maxRequests, 0, 0, null, null, deviceContext, extensionConverterProvider,
+                convertorExecutor, notificationPublishService, statisticsRpcEnabled);
+    }
+
+    RpcContextImpl(@Nonnull final RpcProviderRegistry rpcProviderRegistry,
+                   final int maxRequests,
+                   final int maxWaitingRequests,
+                   final long maxRequestWaitMillis,
+                   @Nullable final HashedWheelTimer hashedWheelTimer,
+                   @Nullable final Executor executor,
+                   @Nonnull final DeviceContext deviceContext,
+                   @Nonnull final ExtensionConverterProvider extensionConverterProvider,
+                   @Nonnull final ConvertorExecutor convertorExecutor,
+                   @Nonnull final NotificationPublishService notificationPublishService,
+                   boolean statisticsRpcEnabled) {
         this.deviceContext = deviceContext;
         this.deviceInfo = deviceContext.getDeviceInfo();
         this.nodeInstanceIdentifier = deviceContext.getDeviceInfo().getNodeInstanceIdentifier();
@@ -75,7 +91,8 @@ class RpcContextImpl implements RpcContext {
         this.notificationPublishService = notificationPublishService;
         this.convertorExecutor = convertorExecutor;
         this.isStatisticsRpcEnabled = statisticsRpcEnabled;
-        this.tracker = new Semaphore(maxRequests, true);
+        this.tracker = new RpcRequestQuota(maxRequests, maxWaitingRequests, maxRequestWaitMillis, hashedWheelTimer,
+                executor, messageSpy);
     }
 
     @Override
@@ -104,6 +121,7 @@ class RpcContextImpl implements RpcContext {
     @Override
     public void close() {
         unregisterRPCs();
+        tracker.close();
     }
 
     private void unregisterRPCs() {
@@ -128,9 +146,32 @@ class RpcContextImpl implements RpcContext {
             return null;
         } else {
             LOG.trace("Acquired semaphore for {}, available permits:{} ",
-                    nodeInstanceIdentifier.getKey().getId().getValue(), tracker.availablePermits());
+                    nodeInstanceIdentifier.getKey().getId().getValue(), tracker.getAvailablePermits());
+        }
+
+        return newRequestContext();
+    }
+
+    @Override
+    public <T> ListenableFuture<RequestContext<T>> awaitRequestContext() {
+        final ListenableFuture<Boolean> acquired = tracker.acquire();
+        if (acquired == null) {
+            LOG.trace("Device queue {} at capacity, wait queue is full", this);
+            return null;
         }
 
+        LOG.trace("Device queue {} at capacity, {} requests waiting", this, tracker.getWaitQueueDepth());
+        return Futures.transform(acquired, (Function<Boolean, RequestContext<T>>) isAcquired -> {
+            if (!isAcquired) {
+                LOG.trace("Device queue {} still at capacity, request expired", this);
+                return null;
+            }
+            return newRequestContext();
+        }, MoreExecutors.directExecutor());
+    }
+
+    @Nullable
+    private <T> RequestContext<T> newRequestContext() {
         final Long xid = deviceInfo.reserveXidForDeviceMessage();
         if (xid == null) {
             LOG.warn("Xid cannot be reserved for new RequestContext, node:{}",
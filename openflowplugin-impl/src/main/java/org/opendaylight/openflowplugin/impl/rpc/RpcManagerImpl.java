@@ -9,9 +9,11 @@ package org.opendaylight.openflowplugin.impl.rpc;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Iterators;
+import io.netty.util.HashedWheelTimer;
 import java.util.Iterator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import javax.annotation.Nonnull;
 import org.opendaylight.controller.md.sal.binding.api.NotificationPublishService;
 import org.opendaylight.controller.sal.binding.api.RpcProviderRegistry;
@@ -34,17 +36,23 @@ public class RpcManagerImpl implements RpcManager {
     private final ExtensionConverterProvider extensionConverterProvider;
     private final ConvertorExecutor convertorExecutor;
     private final NotificationPublishService notificationPublishService;
+    private final HashedWheelTimer hashedWheelTimer;
+    private final Executor executor;
 
     public RpcManagerImpl(final OpenflowProviderConfig config,
                           final RpcProviderRegistry rpcProviderRegistry,
                           final ExtensionConverterProvider extensionConverterProvider,
                           final ConvertorExecutor convertorExecutor,
-                          final NotificationPublishService notificationPublishService) {
+                          final NotificationPublishService notificationPublishService,
+                          final HashedWheelTimer hashedWheelTimer,
+                          final Executor executor) {
         this.config = config;
         this.rpcProviderRegistry = rpcProviderRegistry;
         this.extensionConverterProvider = extensionConverterProvider;
         this.convertorExecutor = convertorExecutor;
         this.notificationPublishService = notificationPublishService;
+        this.hashedWheelTimer = hashedWheelTimer;
+        this.executor = executor;
     }
 
     @Override
@@ -70,6 +78,10 @@ public class RpcManagerImpl implements RpcManager {
         final RpcContextImpl rpcContext = new RpcContextImpl(
                 rpcProviderRegistry,
                 config.getRpcRequestsQuota().getValue(),
+                config.getRpcRequestsWaitQueueSize(),
+                config.getRpcRequestsWaitTimeout(),
+                hashedWheelTimer,
+                executor,
                 deviceContext,
                 extensionConverterProvider,
                 convertorExecutor,
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.rpc;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Quota of RPC requests outstanding to one device. Once the quota is exhausted, up to configured number of
+ * requests may wait for a permit, in the order they arrived, until their deadline passes. Permits released while
+ * requests are waiting are handed over to the oldest one directly. The waiting request is resumed on the executor,
+ * never in the thread which released the permit, as that is usually a Netty thread completing another request.
+ * Depth of the wait queue and wait time of every resumed or expired request are reported to the message spy.
+ */
+final class RpcRequestQuota {
+    private static final Logger LOG = LoggerFactory.getLogger(RpcRequestQuota.class);
+
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final long maxWaitMillis;
+    private final HashedWheelTimer timer;
+    private final Executor executor;
+    private final MessageSpy messageSpy;
+
+    @GuardedBy("this")
+    private final Queue<Waiter> waiters = new ArrayDeque<>();
+    @GuardedBy("this")
+    private boolean closed;
+    // Read without lock on fast path, so that new requests do not overtake waiting ones
+    private volatile int waiting;
+
+    /**
+     * @param maxRequests maximum number of outstanding requests
+     * @param maxWaiting maximum number of requests waiting for a permit, 0 disables waiting
+     * @param maxWaitMillis maximum time in milliseconds a request waits for a permit
+     * @param timer timer used to expire waiting requests, may be null if waiting is disabled
+     * @param executor executor used to resume waiting requests, may be null if waiting is disabled
+     * @param messageSpy message spy receiving wait queue depth and wait times
+     */
+    RpcRequestQuota(final int maxRequests, final int maxWaiting, final long maxWaitMillis,
+                    @Nullable final HashedWheelTimer timer, @Nullable final Executor executor,
+                    final MessageSpy messageSpy) {
+        Preconditions.checkArgument(maxWaiting >= 0, "Wait queue size %s must not be negative", maxWaiting);
+        Preconditions.checkArgument(maxWaiting == 0 || timer != null, "Timer is required to wait for permits");
+        Preconditions.checkArgument(maxWaiting == 0 || executor != null, "Executor is required to wait for permits");
+        this.permits = new Semaphore(maxRequests, true);
+        this.maxWaiting = maxWaiting;
+        this.maxWaitMillis = maxWaitMillis;
+        this.timer = timer;
+        this.executor = executor;
+        this.messageSpy = Preconditions.checkNotNull(messageSpy);
+    }
+
+    /**
+     * Acquire a permit if one is available and no request is waiting for it.
+     *
+     * @return true if permit was acquired
+     */
+    boolean tryAcquire() {
+        return waiting == 0 && permits.tryAcquire();
+    }
+
+    /**
+     * Wait for a permit.
+     *
+     * @return future completing with true once a permit is acquired, or with false if none was acquired before
+     *     the deadline or the quota was closed; null if the wait queue is full, waiting is disabled or the quota
+     *     is closed
+     */
+    @Nullable
+    ListenableFuture<Boolean> acquire() {
+        final int depth;
+        final Waiter waiter;
+        synchronized (this) {
+            // A permit may have been released since tryAcquire()
+            if (waiters.isEmpty() && permits.tryAcquire()) {
+                return Futures.immediateFuture(Boolean.TRUE);
+            }
+            if (closed || waiters.size() >= maxWaiting) {
+                return null;
+            }
+
+            waiter = new Waiter();
+            waiters.add(waiter);
+            depth = waiters.size();
+            waiting = depth;
+            waiter.timeout = timer.newTimeout(timeout -> expire(waiter), maxWaitMillis, TimeUnit.MILLISECONDS);
+        }
+
+        messageSpy.spyMessage(RpcRequestQuota.class, MessageSpy.StatisticsGroup.TO_SWITCH_POSTPONED, depth);
+        return waiter.future;
+    }
+
+    /**
+     * Release a permit, handing it over to the oldest waiting request if there is one.
+     */
+    void release() {
+        Waiter waiter;
+        do {
+            synchronized (this) {
+                waiter = waiters.poll();
+                if (waiter == null) {
+                    permits.release();
+                    return;
+                }
+                waiting = waiters.size();
+            }
+
+            waiter.timeout.cancel();
+        } while (!handOver(waiter));
+    }
+
+    /**
+     * Fail all waiting requests and refuse new ones from waiting.
+     */
+    void close() {
+        final List<Waiter> failed;
+        synchronized (this) {
+            closed = true;
+            failed = new ArrayList<>(waiters);
+            waiters.clear();
+            waiting = 0;
+        }
+
+        for (Waiter waiter : failed) {
+            waiter.timeout.cancel();
+            waiter.future.set(Boolean.FALSE);
+        }
+    }
+
+    private boolean handOver(final Waiter waiter) {
+        try {
+            executor.execute(() -> {
+                // Waiter cancelled by its caller does not take the permit
+                if (waiter.future.set(Boolean.TRUE)) {
+                    spyWaitTime(waiter, MessageSpy.StatisticsGroup.TO_SWITCH_POSTPONED_RESUMED);
+                } else {
+                    release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Executor rejected resuming of request waiting for quota", e);
+            waiter.future.set(Boolean.FALSE);
+            return false;
+        }
+    }
+
+    private void expire(final Waiter waiter) {
+        synchronized (this) {
+            // Waiter may have been handed a permit already
+            if (!waiters.remove(waiter)) {
+                return;
+            }
+            waiting = waiters.size();
+        }
+
+        if (waiter.future.set(Boolean.FALSE)) {
+            spyWaitTime(waiter, MessageSpy.StatisticsGroup.TO_SWITCH_POSTPONED_EXPIRED);
+        }
+    }
+
+    private void spyWaitTime(final Waiter waiter, final MessageSpy.StatisticsGroup statGroup) {
+        final long waitMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - waiter.enqueuedNanos);
+        messageSpy.spyMessage(RpcRequestQuota.class, statGroup, waitMicros);
+    }
+
+    int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * @return number of requests currently waiting for a permit
+     */
+    int getWaitQueueDepth() {
+        return waiting;
+    }
+
+    private static final class Waiter {
+        private final SettableFuture<Boolean> future = SettableFuture.create();
+        private final long enqueuedNanos = System.nanoTime();
+        private Timeout timeout;
+    }
+}
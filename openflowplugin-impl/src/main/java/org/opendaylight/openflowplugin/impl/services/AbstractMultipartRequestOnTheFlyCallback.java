@@ -20,6 +20,7 @@ import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.Event
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
 import org.opendaylight.openflowplugin.impl.common.MultipartReplyTranslatorUtil;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
+import org.opendaylight.openflowplugin.impl.datastore.multipart.AbstractMultipartWriter;
 import org.opendaylight.openflowplugin.impl.statistics.StatisticsGatheringUtils;
 import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.EventsTimeCounter;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
@@ -41,6 +42,7 @@ public abstract class AbstractMultipartRequestOnTheFlyCallback<T extends OfHeade
     private final MultipartWriterProvider statisticsWriterProvider;
     private final DeviceRegistry deviceRegistry;
     private volatile Service.State gatheringState = Service.State.NEW;
+    private volatile boolean writeFailed;
     private ConvertorExecutor convertorExecutor;
 
     public AbstractMultipartRequestOnTheFlyCallback(final RequestContext<List<T>> context, Class<?> requestType,
@@ -97,6 +99,7 @@ public abstract class AbstractMultipartRequestOnTheFlyCallback<T extends OfHeade
                             } catch (final Exception ex) {
                                 LOG.warn("Stats processing of type {} for node {} failed during write-to-tx step",
                                         getMultipartType(), deviceInfo, ex);
+                                writeFailed = true;
                             }
                         });
             } catch (final Exception ex) {
@@ -130,6 +133,15 @@ public abstract class AbstractMultipartRequestOnTheFlyCallback<T extends OfHeade
         EventsTimeCounter.markStart(doneEventIdentifier);
         gatheringState = Service.State.RUNNING;
 
+        final boolean isIncremental = statisticsWriterProvider
+                .lookup(getMultipartType())
+                .map(AbstractMultipartWriter::startSnapshot)
+                .orElse(false);
+
+        if (isIncremental) {
+            return;
+        }
+
         final InstanceIdentifier<FlowCapableNode> instanceIdentifier = deviceInfo
                 .getNodeInstanceIdentifier()
                 .augmentation(FlowCapableNode.class);
@@ -168,10 +180,14 @@ public abstract class AbstractMultipartRequestOnTheFlyCallback<T extends OfHeade
         EventsTimeCounter.markEnd(getEventIdentifier());
         spyMessage(MessageSpy.StatisticsGroup.FROM_SWITCH_TRANSLATE_OUT_SUCCESS);
 
+        // Snapshot has to be ended before result is set, so it is seen by whoever waits for the result. Snapshot
+        // with statistics which failed to be written is not complete, otherwise their flows would be removed.
+        final boolean isComplete = setResult && !writeFailed;
+        statisticsWriterProvider.lookup(getMultipartType()).ifPresent(writer -> writer.endSnapshot(isComplete));
+
         if (setResult) {
             setResult(RpcResultBuilder.success(Collections.<T>emptyList()).build());
         }
-
         txFacade.submitTransaction();
 
         switch (getMultipartType()) {
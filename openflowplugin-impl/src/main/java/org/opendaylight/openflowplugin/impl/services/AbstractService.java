@@ -12,6 +12,7 @@ import com.google.common.base.Verify;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.math.BigInteger;
 import java.util.Objects;
 import java.util.function.Function;
@@ -124,14 +125,31 @@ public abstract class AbstractService<I, O> {
         final RequestContext<O> requestContext = requestContextStack.createRequestContext();
 
         if (Objects.isNull(requestContext)) {
-            LOG.trace("Request context refused.");
-            getMessageSpy().spyMessage(AbstractService.class, MessageSpy.StatisticsGroup.TO_SWITCH_DISREGARDED);
-            return Futures.immediateFuture(RpcResultBuilder
-                    .<O>failed()
-                    .withError(RpcError.ErrorType.APPLICATION, "", "Request quota exceeded")
-                    .build());
+            final ListenableFuture<RequestContext<O>> awaitedContext = requestContextStack.awaitRequestContext();
+            if (Objects.isNull(awaitedContext)) {
+                return refuseServiceCall();
+            }
+
+            LOG.trace("Request context postponed, waiting for request quota.");
+            return Futures.transformAsync(awaitedContext, context -> Objects.isNull(context)
+                    ? refuseServiceCall()
+                    : submitServiceCall(context, input, requestType, isComplete), MoreExecutors.directExecutor());
         }
 
+        return submitServiceCall(requestContext, input, requestType, isComplete);
+    }
+
+    private ListenableFuture<RpcResult<O>> refuseServiceCall() {
+        LOG.trace("Request context refused.");
+        getMessageSpy().spyMessage(AbstractService.class, MessageSpy.StatisticsGroup.TO_SWITCH_DISREGARDED);
+        return Futures.immediateFuture(RpcResultBuilder
+                .<O>failed()
+                .withError(RpcError.ErrorType.APPLICATION, "", "Request quota exceeded")
+                .build());
+    }
+
+    private ListenableFuture<RpcResult<O>> submitServiceCall(final RequestContext<O> requestContext,
+            final I input, final Class<?> requestType, @Nullable final Function<OfHeader, Boolean> isComplete) {
         if (Objects.isNull(requestContext.getXid())) {
             getMessageSpy().spyMessage(requestContext.getClass(),
                                        MessageSpy.StatisticsGroup.TO_SWITCH_RESERVATION_REJECTED);
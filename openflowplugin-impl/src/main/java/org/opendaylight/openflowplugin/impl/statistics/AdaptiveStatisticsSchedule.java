@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.statistics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+
+/**
+ * Decides which multipart types of one device are gathered in each statistics polling iteration. Multipart type
+ * which did not change since its previous gathering is gathered twice less often than before, up to once per
+ * maximum polling delay. Multipart type which changed is gathered again in every polling iteration.
+ */
+final class AdaptiveStatisticsSchedule {
+
+    private final Map<MultipartType, TypeSchedule> schedules = new EnumMap<>(MultipartType.class);
+    private final int maximumInterval;
+
+    /**
+     * Creates adaptive statistics schedule.
+     *
+     * @param pollingInterval delay between two polling iterations
+     * @param maximumPollingDelay maximum delay between two gatherings of one multipart type
+     */
+    AdaptiveStatisticsSchedule(final long pollingInterval, final long maximumPollingDelay) {
+        this.maximumInterval = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maximumPollingDelay / pollingInterval));
+    }
+
+    /**
+     * Check if multipart type should be gathered in current polling iteration. Must be called exactly once
+     * for each multipart type in every polling iteration.
+     *
+     * @param type multipart type
+     * @return true if multipart type should be gathered
+     */
+    synchronized boolean isScheduled(final MultipartType type) {
+        final TypeSchedule schedule = schedules.computeIfAbsent(type, key -> new TypeSchedule());
+
+        if (schedule.skippedIterations > 0) {
+            schedule.skippedIterations--;
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Update schedule of multipart type after it was gathered.
+     *
+     * @param type multipart type
+     * @param changed true if gathered multipart data changed since previous gathering
+     */
+    synchronized void update(final MultipartType type, final boolean changed) {
+        final TypeSchedule schedule = schedules.computeIfAbsent(type, key -> new TypeSchedule());
+        schedule.interval = changed ? 1 : (int) Math.min(2L * schedule.interval, maximumInterval);
+        schedule.skippedIterations = schedule.interval - 1;
+    }
+
+    /**
+     * Get number of polling iterations between two gatherings of multipart type.
+     *
+     * @param type multipart type
+     * @return number of polling iterations
+     */
+    synchronized int getInterval(final MultipartType type) {
+        final TypeSchedule schedule = schedules.get(type);
+        return schedule == null ? 1 : schedule.interval;
+    }
+
+    private static final class TypeSchedule {
+        private int interval = 1;
+        private int skippedIterations;
+    }
+}
@@ -15,6 +15,7 @@ import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import io.netty.util.Timer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -37,6 +38,7 @@ import org.opendaylight.openflowplugin.api.openflow.lifecycle.ContextChainMaster
 import org.opendaylight.openflowplugin.api.openflow.lifecycle.ContextChainMastershipWatcher;
 import org.opendaylight.openflowplugin.api.openflow.statistics.StatisticsContext;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
+import org.opendaylight.openflowplugin.impl.datastore.multipart.AbstractMultipartWriter;
 import org.opendaylight.openflowplugin.impl.rpc.AbstractRequestContext;
 import org.opendaylight.openflowplugin.impl.services.util.RequestContextUtil;
 import org.opendaylight.openflowplugin.impl.statistics.services.dedicated.StatisticsGatheringOnTheFlyService;
@@ -56,6 +58,7 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
     private final DeviceContext deviceContext;
     private final DeviceState devState;
     private final ListeningExecutorService executorService;
+    private final Timer timer;
     private final boolean isStatisticsPollingOn;
     private final ConvertorExecutor convertorExecutor;
     private final MultipartWriterProvider statisticsWriterProvider;
@@ -67,6 +70,7 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
     private final AtomicBoolean schedulingEnabled = new AtomicBoolean(true);
     private final AtomicReference<ListenableFuture<Boolean>> lastDataGathering = new AtomicReference<>();
     private final AtomicReference<StatisticsPollingService> statisticsPollingService = new AtomicReference<>();
+    private final AdaptiveStatisticsSchedule adaptiveSchedule;
     private List<MultipartType> collectingStatType;
     private StatisticsGatheringService<T> statisticsGatheringService;
     private StatisticsGatheringOnTheFlyService<T> statisticsGatheringOnTheFlyService;
@@ -75,12 +79,14 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
     StatisticsContextImpl(@Nonnull final DeviceContext deviceContext,
                           @Nonnull final ConvertorExecutor convertorExecutor,
                           @Nonnull final MultipartWriterProvider statisticsWriterProvider,
-                          @Nonnull final ListeningExecutorService executorService, boolean isStatisticsPollingOn,
-                          boolean isUsingReconciliationFramework, long statisticsPollingInterval,
-                          long maximumPollingDelay) {
+                          @Nonnull final ListeningExecutorService executorService,
+                          @Nonnull final Timer timer, boolean isStatisticsPollingOn,
+                          boolean isUsingReconciliationFramework, boolean isAdaptiveStatisticsPolling,
+                          long statisticsPollingInterval, long maximumPollingDelay) {
         this.deviceContext = deviceContext;
         this.devState = Preconditions.checkNotNull(deviceContext.getDeviceState());
         this.executorService = executorService;
+        this.timer = timer;
         this.isStatisticsPollingOn = isStatisticsPollingOn;
         this.convertorExecutor = convertorExecutor;
         this.deviceInfo = deviceContext.getDeviceInfo();
@@ -88,6 +94,9 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
         this.maximumPollingDelay = maximumPollingDelay;
         this.statisticsWriterProvider = statisticsWriterProvider;
         this.isUsingReconciliationFramework = isUsingReconciliationFramework;
+        this.adaptiveSchedule = isAdaptiveStatisticsPolling
+                ? new AdaptiveStatisticsSchedule(statisticsPollingInterval, maximumPollingDelay)
+                : null;
 
         statisticsGatheringService = new StatisticsGatheringService<>(this, deviceContext);
         statisticsGatheringOnTheFlyService = new StatisticsGatheringOnTheFlyService<>(this, deviceContext,
@@ -177,6 +186,13 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
         }
 
         collectingStatType = ImmutableList.copyOf(statListForCollecting);
+
+        if (Objects.nonNull(adaptiveSchedule)) {
+            collectingStatType.forEach(type -> statisticsWriterProvider
+                    .lookup(type)
+                    .ifPresent(AbstractMultipartWriter::enableChangeTracking));
+        }
+
         Futures.addCallback(gatherDynamicData(), new InitialSubmitCallback());
     }
 
@@ -187,6 +203,7 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
 
     @Override
     public void close() {
+        statisticsWriterProvider.close();
         Futures.addCallback(stopGatheringData(), new FutureCallback<Void>() {
             @Override
             public void onSuccess(@Nullable final Void result) {
@@ -219,6 +236,7 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
 
             // build statistics gathering future
             final ListenableFuture<Boolean> newDataGathering = collectingStatType.stream()
+                    .filter(this::isGatheringScheduled)
                     .reduce(lastDataGathering, this::statChainFuture,
                         (listenableFuture, asyn) -> Futures.transformAsync(listenableFuture, result -> asyn));
 
@@ -260,14 +278,46 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
             final boolean supported = collectingStatType.contains(multipartType);
 
             // TODO: Refactor twice sending deviceContext into gatheringStatistics
-            return supported ? StatisticsGatheringUtils
+            final ListenableFuture<Boolean> gathering = supported ? StatisticsGatheringUtils
                     .gatherStatistics(onTheFly ? statisticsGatheringOnTheFlyService : statisticsGatheringService,
                                       getDeviceInfo(), multipartType, deviceContext, deviceContext, convertorExecutor,
                                       statisticsWriterProvider, executorService) : Futures
                     .immediateFuture(Boolean.FALSE);
+
+            if (Objects.isNull(adaptiveSchedule)) {
+                return gathering;
+            }
+
+            Futures.addCallback(gathering, new FutureCallback<Boolean>() {
+                @Override
+                public void onSuccess(final Boolean gathered) {
+                    // Failed or empty gathering does not produce new snapshot, so it counts as a change
+                    updateSchedule(multipartType, !Boolean.TRUE.equals(gathered) || statisticsWriterProvider
+                            .lookup(multipartType)
+                            .map(AbstractMultipartWriter::isSnapshotChanged)
+                            .orElse(true));
+                }
+
+                @Override
+                public void onFailure(final Throwable throwable) {
+                    updateSchedule(multipartType, true);
+                }
+            });
+
+            return gathering;
         });
     }
 
+    private void updateSchedule(final MultipartType multipartType, final boolean changed) {
+        adaptiveSchedule.update(multipartType, changed);
+        LOG.debug("Statistics of type {} for node {} will be gathered every {} polling iterations",
+                multipartType, deviceInfo, adaptiveSchedule.getInterval(multipartType));
+    }
+
+    private boolean isGatheringScheduled(final MultipartType multipartType) {
+        return Objects.isNull(adaptiveSchedule) || adaptiveSchedule.isScheduled(multipartType);
+    }
+
     private void startGatheringData() {
         if (!isStatisticsPollingOn) {
             return;
@@ -278,10 +328,12 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext {
                 new StatisticsPollingService(timeCounter,
                                              statisticsPollingInterval,
                                              maximumPollingDelay,
-                                             StatisticsContextImpl.this::gatherDynamicData);
+                                             StatisticsContextImpl.this::gatherDynamicData,
+                                             timer,
+                                             executorService);
 
         schedulingEnabled.set(true);
-        statisticsPollingService.startAsync();
+        statisticsPollingService.start();
         this.statisticsPollingService.set(statisticsPollingService);
     }
 
@@ -36,6 +36,7 @@ import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.Event
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.StatisticsGatherer;
 import org.opendaylight.openflowplugin.impl.common.MultipartReplyTranslatorUtil;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
+import org.opendaylight.openflowplugin.impl.datastore.multipart.AbstractMultipartWriter;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
@@ -112,18 +113,25 @@ public final class StatisticsGatheringUtils {
         final InstanceIdentifier<FlowCapableNode> instanceIdentifier = deviceInfo.getNodeInstanceIdentifier()
                 .augmentation(FlowCapableNode.class);
 
-        switch (type) {
-            case OFPMPFLOW:
-                deleteAllKnownFlows(txFacade, instanceIdentifier, deviceRegistry.getDeviceFlowRegistry());
-                break;
-            case OFPMPMETERCONFIG:
-                deleteAllKnownMeters(txFacade, instanceIdentifier, deviceRegistry.getDeviceMeterRegistry());
-                break;
-            case OFPMPGROUPDESC:
-                deleteAllKnownGroups(txFacade, instanceIdentifier, deviceRegistry.getDeviceGroupRegistry());
-                break;
-            default:
-                // no operation
+        final boolean isIncremental = statisticsWriterProvider
+                .lookup(type)
+                .map(AbstractMultipartWriter::startSnapshot)
+                .orElse(false);
+
+        if (!isIncremental) {
+            switch (type) {
+                case OFPMPFLOW:
+                    deleteAllKnownFlows(txFacade, instanceIdentifier, deviceRegistry.getDeviceFlowRegistry());
+                    break;
+                case OFPMPMETERCONFIG:
+                    deleteAllKnownMeters(txFacade, instanceIdentifier, deviceRegistry.getDeviceMeterRegistry());
+                    break;
+                case OFPMPGROUPDESC:
+                    deleteAllKnownGroups(txFacade, instanceIdentifier, deviceRegistry.getDeviceGroupRegistry());
+                    break;
+                default:
+                    // no operation
+            }
         }
 
         if (writeStatistics(type, statistics, deviceInfo, statisticsWriterProvider)) {
@@ -156,6 +164,7 @@ public final class StatisticsGatheringUtils {
                                            final DeviceInfo deviceInfo,
                                            final MultipartWriterProvider statisticsWriterProvider) {
         final AtomicBoolean result = new AtomicBoolean(false);
+        boolean isComplete = true;
 
         try {
             statistics.forEach(stat -> statisticsWriterProvider.lookup(type).ifPresent(p -> {
@@ -168,8 +177,13 @@ public final class StatisticsGatheringUtils {
         } catch (final Exception ex) {
             LOG.warn("Stats processing of type {} for node {} " + "failed during write-to-tx step", type, deviceInfo,
                      ex);
+            isComplete = false;
         }
 
+        // Partially written snapshot is still submitted, but it must not be used as a baseline of incremental
+        // snapshots, otherwise flows which were not written would be removed
+        final boolean isSnapshotComplete = isComplete && result.get();
+        statisticsWriterProvider.lookup(type).ifPresent(writer -> writer.endSnapshot(isSnapshotComplete));
         return result.get();
     }
 
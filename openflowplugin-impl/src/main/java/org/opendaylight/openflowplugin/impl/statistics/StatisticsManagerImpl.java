@@ -10,11 +10,13 @@ package org.opendaylight.openflowplugin.impl.statistics;
 
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import io.netty.util.Timer;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.controller.sal.binding.api.BindingAwareBroker;
 import org.opendaylight.controller.sal.binding.api.RpcProviderRegistry;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
@@ -47,18 +49,24 @@ public class StatisticsManagerImpl implements StatisticsManager, StatisticsManag
     private final Semaphore workModeGuard = new Semaphore(1, true);
     private final BindingAwareBroker.RpcRegistration<StatisticsManagerControlService> controlServiceRegistration;
     private final ListeningExecutorService executorService;
+    private final Timer timer;
+    private final DataBroker dataBroker;
     private StatisticsWorkMode workMode = StatisticsWorkMode.COLLECTALL;
     private boolean isStatisticsFullyDisabled;
 
     public StatisticsManagerImpl(@Nonnull final OpenflowProviderConfig config,
                                  @Nonnull final RpcProviderRegistry rpcProviderRegistry,
                                  final ConvertorExecutor convertorExecutor,
-                                 @Nonnull final ListeningExecutorService executorService) {
+                                 @Nonnull final ListeningExecutorService executorService,
+                                 @Nonnull final Timer timer,
+                                 @Nonnull final DataBroker dataBroker) {
         this.config = config;
         this.converterExecutor = convertorExecutor;
         this.controlServiceRegistration = Preconditions.checkNotNull(rpcProviderRegistry
                 .addRpcImplementation(StatisticsManagerControlService.class, this));
         this.executorService = executorService;
+        this.timer = timer;
+        this.dataBroker = dataBroker;
     }
 
     @Override
@@ -101,7 +109,7 @@ public class StatisticsManagerImpl implements StatisticsManager, StatisticsManag
     public StatisticsContext createContext(@Nonnull final DeviceContext deviceContext,
                                            final boolean useReconciliationFramework) {
         final MultipartWriterProvider statisticsWriterProvider = MultipartWriterProviderFactory
-                .createDefaultProvider(deviceContext);
+                .createDefaultProvider(deviceContext, dataBroker, config.isEnableIncrementalFlowStatistics());
 
         final StatisticsContext statisticsContext =
                 deviceContext.canUseSingleLayerSerialization()
@@ -110,8 +118,10 @@ public class StatisticsManagerImpl implements StatisticsManager, StatisticsManag
                                 converterExecutor,
                                 statisticsWriterProvider,
                                 executorService,
+                                timer,
                                 !isStatisticsFullyDisabled && config.isIsStatisticsPollingOn(),
                                 useReconciliationFramework,
+                                config.isEnableAdaptiveStatisticsPolling(),
                                 config.getBasicTimerDelay().getValue(),
                                 config.getMaximumTimerDelay().getValue()) :
                         new StatisticsContextImpl<org.opendaylight.yang.gen.v1.urn.opendaylight.openflow
@@ -120,8 +130,10 @@ public class StatisticsManagerImpl implements StatisticsManager, StatisticsManag
                                 converterExecutor,
                                 statisticsWriterProvider,
                                 executorService,
+                                timer,
                                 !isStatisticsFullyDisabled && config.isIsStatisticsPollingOn(),
                                 useReconciliationFramework,
+                                config.isEnableAdaptiveStatisticsPolling(),
                                 config.getBasicTimerDelay().getValue(),
                                 config.getMaximumTimerDelay().getValue());
 
@@ -7,78 +7,108 @@
  */
 package org.opendaylight.openflowplugin.impl.statistics;
 
-import com.google.common.util.concurrent.AbstractScheduledService;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
-import com.google.common.util.concurrent.Service;
 import com.google.common.util.concurrent.SettableFuture;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import java.util.Objects;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.openflowplugin.api.ConnectionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-public class StatisticsPollingService extends AbstractScheduledService {
+/**
+ * Periodically triggers statistics gathering of one device. Polling iterations are scheduled on timer shared
+ * by all devices and executed on shared executor, so no thread is held by device between or during iterations.
+ */
+public class StatisticsPollingService {
+    private static final Logger LOG = LoggerFactory.getLogger(StatisticsPollingService.class);
     private static final long DEFAULT_STATS_TIMEOUT = 50000;
 
     private final TimeCounter counter;
     private final long pollingInterval;
     private final long maximumTimerDelay;
     private final Supplier<ListenableFuture<Boolean>> gatheringSupplier;
+    private final Timer timer;
+    private final Executor executor;
     private final SettableFuture<Void> future = SettableFuture.create();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile Timeout nextIteration;
 
     StatisticsPollingService(@Nonnull final TimeCounter counter,
                              final long pollingInterval,
                              final long maximumTimerDelay,
-                             @Nonnull final Supplier<ListenableFuture<Boolean>> gatheringSupplier) {
+                             @Nonnull final Supplier<ListenableFuture<Boolean>> gatheringSupplier,
+                             @Nonnull final Timer timer,
+                             @Nonnull final Executor executor) {
         this.counter = counter;
         this.pollingInterval = pollingInterval;
         this.maximumTimerDelay = maximumTimerDelay;
         this.gatheringSupplier = gatheringSupplier;
-        this.addListener(new StatisticsPollingServiceListener(), MoreExecutors.directExecutor());
+        this.timer = timer;
+        this.executor = executor;
+    }
+
+    void start() {
+        if (running.compareAndSet(false, true)) {
+            counter.markStart();
+
+            // Spread first iterations of devices connected at the same time across whole polling interval
+            scheduleNextIteration(ThreadLocalRandom.current().nextLong(pollingInterval) + 1);
+        }
     }
 
     ListenableFuture<Void> stop() {
-        stopAsync();
+        terminate(null);
         return future;
     }
 
-    @Override
-    protected void startUp() throws Exception {
-        counter.markStart();
-    }
+    @VisibleForTesting
+    void runOneIteration() {
+        if (!running.get()) {
+            return;
+        }
 
-    @Override
-    protected void runOneIteration() throws Exception {
         final long averageTime = counter.getAverageTimeBetweenMarks();
         final long statsTimeout = averageTime > 0 ? 3 * averageTime : DEFAULT_STATS_TIMEOUT;
-        final CompletableFuture<Boolean> waitFuture = new CompletableFuture<>();
+        final ListenableFuture<Boolean> gatheringFuture = gatheringSupplier.get();
+        final Timeout gatheringTimeout = timer.newTimeout(timeout -> {
+            if (!gatheringFuture.isDone()) {
+                terminate(new TimeoutException("Statistics gathering timed out after " + statsTimeout + " ms"));
+            }
+        }, statsTimeout, TimeUnit.MILLISECONDS);
 
-        Futures.addCallback(gatheringSupplier.get(), new FutureCallback<Boolean>() {
+        Futures.addCallback(gatheringFuture, new FutureCallback<Boolean>() {
             @Override
             public void onSuccess(@Nullable final Boolean result) {
-                waitFuture.complete(result);
+                cancel(gatheringTimeout);
+                counter.addTimeMark();
+                scheduleNextIteration(computeTimerDelay());
             }
 
             @Override
             public void onFailure(@Nonnull final Throwable throwable) {
-                waitFuture.completeExceptionally(throwable);
+                cancel(gatheringTimeout);
+                counter.addTimeMark();
+                terminate(throwable);
             }
         }, MoreExecutors.directExecutor());
-
-        try {
-            waitFuture.get(statsTimeout, TimeUnit.MILLISECONDS);
-        } finally {
-            counter.addTimeMark();
-        }
     }
 
-    @Override
-    protected Scheduler scheduler() {
+    @VisibleForTesting
+    long computeTimerDelay() {
         final long averageStatisticsGatheringTime = counter.getAverageTimeBetweenMarks();
         long currentTimerDelay = pollingInterval;
 
@@ -90,24 +120,36 @@ public class StatisticsPollingService extends AbstractScheduledService {
             }
         }
 
-        return Scheduler.newFixedDelaySchedule(currentTimerDelay, currentTimerDelay, TimeUnit.MILLISECONDS);
+        return currentTimerDelay;
     }
 
-    private final class StatisticsPollingServiceListener extends Service.Listener {
-        @Override
-        public void terminated(final Service.State from) {
-            super.terminated(from);
+    private void scheduleNextIteration(final long delay) {
+        if (running.get()) {
+            nextIteration = timer.newTimeout(timeout -> executor.execute(this::runOneIteration),
+                    delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void terminate(@Nullable final Throwable failure) {
+        if (!running.getAndSet(false) && future.isDone()) {
+            return;
+        }
+
+        cancel(nextIteration);
+
+        if (Objects.nonNull(failure)
+                && !(failure instanceof CancellationException)
+                && !(failure instanceof ConnectionException)) {
+            LOG.warn("Statistics polling failed", failure);
+            future.setException(failure);
+        } else {
             future.set(null);
         }
+    }
 
-        @Override
-        public void failed(final Service.State from, final Throwable failure) {
-            super.failed(from, failure);
-            if (!(failure instanceof CancellationException) && !(failure instanceof ConnectionException)) {
-                future.setException(failure);
-            } else {
-                future.set(null);
-            }
+    private static void cancel(@Nullable final Timeout timeout) {
+        if (Objects.nonNull(timeout)) {
+            timeout.cancel();
         }
     }
-}
\ No newline at end of file
+}
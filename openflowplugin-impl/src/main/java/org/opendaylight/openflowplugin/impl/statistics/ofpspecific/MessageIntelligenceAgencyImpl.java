@@ -24,7 +24,8 @@ import org.slf4j.LoggerFactory;
 /**
  * Implementation of
  * {@link org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageIntelligenceAgency}.
- * Class counts message of {@link StatisticsGroup} type and provides info as debug log.
+ * Class counts message of {@link StatisticsGroup} type and provides info as debug log. For messages spied with
+ * a value, average and maximum of the values are provided as well.
  */
 public class MessageIntelligenceAgencyImpl implements MessageIntelligenceAgency, MessageIntelligenceAgencyMXBean {
 
@@ -36,6 +37,9 @@ public class MessageIntelligenceAgencyImpl implements MessageIntelligenceAgency,
         @SuppressWarnings("unused")
         private volatile long current;
         private long cumulative;
+        private long valueCount;
+        private long valueSum;
+        private long valueMax;
 
         public synchronized long accumulate() {
             final long inc = UPDATER.getAndSet(this, 0);
@@ -50,6 +54,24 @@ public class MessageIntelligenceAgencyImpl implements MessageIntelligenceAgency,
         public long increment() {
             return UPDATER.incrementAndGet(this);
         }
+
+        public synchronized void recordValue(final long value) {
+            valueCount++;
+            valueSum += value;
+            valueMax = Math.max(valueMax, value);
+        }
+
+        public synchronized long getValueCount() {
+            return valueCount;
+        }
+
+        public synchronized long getValueAverage() {
+            return valueCount == 0 ? 0 : valueSum / valueCount;
+        }
+
+        public synchronized long getValueMax() {
+            return valueMax;
+        }
     }
 
     private ConcurrentMap<StatisticsGroup, ConcurrentMap<Class<?>, MessageCounters>> inputStats =
@@ -61,6 +83,14 @@ public class MessageIntelligenceAgencyImpl implements MessageIntelligenceAgency,
         getCounters(message, statGroup).increment();
     }
 
+    @Override
+    public void spyMessage(@Nonnull final Class<?> message, final StatisticsGroup statGroup, final long value) {
+        Preconditions.checkNotNull(message, "Message can't be null.");
+        final MessageCounters counters = getCounters(message, statGroup);
+        counters.recordValue(value);
+        counters.increment();
+    }
+
     /**
      * Get counters.
      * @param message counted element
@@ -116,12 +146,21 @@ public class MessageIntelligenceAgencyImpl implements MessageIntelligenceAgency,
             Map<Class<?>, MessageCounters> groupData = inputStats.get(statGroup);
             if (groupData != null) {
                 for (Entry<Class<?>, MessageCounters> statEntry : groupData.entrySet()) {
-                    long amountPerInterval = statEntry.getValue().accumulate();
-                    long cumulativeAmount = statEntry.getValue().getCumulative();
-                    dump.add(String.format("%s: MSG[%s] -> +%d | %d",
-                            statGroup,
-                            statEntry.getKey().getSimpleName(),
-                            amountPerInterval, cumulativeAmount));
+                    final MessageCounters counters = statEntry.getValue();
+                    long amountPerInterval = counters.accumulate();
+                    long cumulativeAmount = counters.getCumulative();
+                    if (counters.getValueCount() == 0) {
+                        dump.add(String.format("%s: MSG[%s] -> +%d | %d",
+                                statGroup,
+                                statEntry.getKey().getSimpleName(),
+                                amountPerInterval, cumulativeAmount));
+                    } else {
+                        dump.add(String.format("%s: MSG[%s] -> +%d | %d, value avg %d | max %d",
+                                statGroup,
+                                statEntry.getKey().getSimpleName(),
+                                amountPerInterval, cumulativeAmount,
+                                counters.getValueAverage(), counters.getValueMax()));
+                    }
                 }
             } else {
                 dump.add(String.format("%s: no activity detected", statGroup));
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.translator;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.util.Arrays;
+import java.util.Objects;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorRef;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.ConnectionCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketInReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceived;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.packet.received.Match;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.TableId;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * {@link PacketReceived} backed by the {@link PacketInMessage} it was translated from. Match is converted
+ * on first access only and payload is not copied out of the message until a listener asks for it, so
+ * listeners interested only in the payload, or only in the ingress port, do not pay for the rest.
+ * Equality follows the binding contract, so an instance equals a built {@link PacketReceived} with the same
+ * content; comparing or hashing materializes the match and payload.
+ */
+final class LazyPacketReceived implements PacketReceived {
+    private final PacketInMessage input;
+    private final NodeConnectorRef ingress;
+    private final FlowCookie flowCookie;
+    private final TableId tableId;
+    private final Class<? extends PacketInReason> packetInReason;
+    private final Supplier<Match> match;
+
+    LazyPacketReceived(final PacketInMessage input, final NodeConnectorRef ingress, final FlowCookie flowCookie,
+                       final TableId tableId, final Class<? extends PacketInReason> packetInReason,
+                       final Supplier<Match> match) {
+        this.input = input;
+        this.ingress = ingress;
+        this.flowCookie = flowCookie;
+        this.tableId = tableId;
+        this.packetInReason = packetInReason;
+        this.match = Suppliers.memoize(match);
+    }
+
+    @Override
+    public ConnectionCookie getConnectionCookie() {
+        return null;
+    }
+
+    @Override
+    public FlowCookie getFlowCookie() {
+        return flowCookie;
+    }
+
+    @Override
+    public TableId getTableId() {
+        return tableId;
+    }
+
+    @Override
+    public Class<? extends PacketInReason> getPacketInReason() {
+        return packetInReason;
+    }
+
+    @Override
+    public NodeConnectorRef getIngress() {
+        return ingress;
+    }
+
+    @Override
+    public byte[] getPayload() {
+        return input.getData();
+    }
+
+    @Override
+    public Match getMatch() {
+        return match.get();
+    }
+
+    @Override
+    public <E extends Augmentation<PacketReceived>> E getAugmentation(final Class<E> augmentationType) {
+        return null;
+    }
+
+    @Override
+    public Class<? extends DataContainer> getImplementedInterface() {
+        return PacketReceived.class;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Objects.hashCode(getConnectionCookie());
+        result = prime * result + Objects.hashCode(flowCookie);
+        result = prime * result + Objects.hashCode(ingress);
+        result = prime * result + Objects.hashCode(getMatch());
+        result = prime * result + Objects.hashCode(packetInReason);
+        result = prime * result + Arrays.hashCode(getPayload());
+        result = prime * result + Objects.hashCode(tableId);
+        // No augmentations, same as an empty augmentation map
+        result = prime * result;
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DataObject)) {
+            return false;
+        }
+        if (!PacketReceived.class.equals(((DataObject) obj).getImplementedInterface())) {
+            return false;
+        }
+        final PacketReceived other = (PacketReceived) obj;
+        return Objects.equals(getConnectionCookie(), other.getConnectionCookie())
+                && Objects.equals(flowCookie, other.getFlowCookie())
+                && Objects.equals(ingress, other.getIngress())
+                && Objects.equals(packetInReason, other.getPacketInReason())
+                && Objects.equals(tableId, other.getTableId())
+                && Arrays.equals(getPayload(), other.getPayload())
+                && Objects.equals(getMatch(), other.getMatch());
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(PacketReceived.class).omitNullValues()
+                .add("ingress", ingress)
+                .add("flowCookie", flowCookie)
+                .add("tableId", tableId)
+                .add("packetInReason", packetInReason)
+                .toString();
+    }
+}
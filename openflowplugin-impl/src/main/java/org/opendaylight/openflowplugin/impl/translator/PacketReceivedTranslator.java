@@ -22,10 +22,8 @@ import org.opendaylight.openflowplugin.openflow.md.core.extension.MatchExtension
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.data.VersionDatapathIdConvertorData;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorRef;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceived;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceivedBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.packet.received.MatchBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.TableId;
 
@@ -39,40 +37,21 @@ public class PacketReceivedTranslator implements MessageTranslator<PacketInMessa
     @Override
     public PacketReceived translate(final PacketInMessage input, final DeviceInfo deviceInfo,
                                     final Object connectionDistinguisher) {
-
-        PacketReceivedBuilder packetReceivedBuilder = new PacketReceivedBuilder();
-        BigInteger datapathId = deviceInfo.getDatapathId();
-
         // TODO: connection cookie from connection distinguisher
-        packetReceivedBuilder.setPayload(input.getData());
+        final BigInteger datapathId = deviceInfo.getDatapathId();
 
         // get the Cookie if it exists
-        if (input.getCookie() != null) {
-            packetReceivedBuilder.setFlowCookie(new FlowCookie(input.getCookie()));
-        }
-
-        // Try to create the NodeConnectorRef
-        BigInteger dataPathId = deviceInfo.getDatapathId();
-        NodeConnectorRef nodeConnectorRef = NodeConnectorRefToPortTranslator.toNodeConnectorRef(input, dataPathId);
-
-        // If we was able to create NodeConnectorRef, use it
-        if (nodeConnectorRef != null) {
-            packetReceivedBuilder.setIngress(nodeConnectorRef);
-        }
-
-        packetReceivedBuilder.setPacketInReason(PacketInUtil.getMdSalPacketInReason(input.getReason()));
-
-        if (input.getTableId() != null) {
-            packetReceivedBuilder.setTableId(new TableId(input.getTableId().getValue().shortValue()));
-        }
-
-        if (input.getMatch() != null) {
-            org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.packet.received.Match packetInMatch
-                    = getPacketInMatch(input, datapathId);
-            packetReceivedBuilder.setMatch(packetInMatch);
-        }
-
-        return packetReceivedBuilder.build();
+        final FlowCookie flowCookie = input.getCookie() != null ? new FlowCookie(input.getCookie()) : null;
+        final TableId tableId = input.getTableId() != null
+                ? new TableId(input.getTableId().getValue().shortValue()) : null;
+
+        // Match conversion is deferred until a listener asks for it, payload is not copied until then either
+        return new LazyPacketReceived(input,
+                NodeConnectorRefToPortTranslator.toNodeConnectorRef(input, datapathId),
+                flowCookie,
+                tableId,
+                PacketInUtil.getMdSalPacketInReason(input.getReason()),
+                () -> input.getMatch() != null ? getPacketInMatch(input, datapathId) : null);
     }
 
     @VisibleForTesting
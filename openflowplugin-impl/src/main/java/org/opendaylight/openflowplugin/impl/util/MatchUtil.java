@@ -29,6 +29,8 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.ge
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlowWriteActionsSetField;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlowWriteActionsSetFieldBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNotifPacketIn;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNotifPacketInBatch;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNotifPacketInBatchBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNotifPacketInBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNotifSwitchFlowRemoved;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNotifSwitchFlowRemovedBuilder;
@@ -96,6 +98,21 @@ public final class MatchUtil {
                                             .setExtensionList(extensionLists)
                                             .build()));
 
+                    return matchBuilder.build();
+                })
+            .put(org.opendaylight.yang.gen.v1.urn.opendaylight.packet.batch.rev171018.packet.received.batch.packet
+                    .Match.class, (match) -> {
+                    final org.opendaylight.yang.gen.v1.urn.opendaylight.packet.batch.rev171018.packet.received.batch
+                            .packet.MatchBuilder matchBuilder =
+                            new org.opendaylight.yang.gen.v1.urn.opendaylight.packet.batch
+                            .rev171018.packet.received.batch.packet.MatchBuilder(match);
+
+                    resolveExtensions(match).ifPresent(extensionLists -> matchBuilder
+                            .addAugmentation(GeneralAugMatchNotifPacketInBatch.class,
+                                    new GeneralAugMatchNotifPacketInBatchBuilder()
+                                            .setExtensionList(extensionLists)
+                                            .build()));
+
                     return matchBuilder.build();
                 })
             .put(org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.packet.in.message
@@ -37,7 +37,7 @@ import org.osgi.service.cm.ConfigurationAdmin;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ConfigurationServiceFactoryImplTest {
-    private static final int CONFIG_PROP_COUNT = 16;
+    private static final int CONFIG_PROP_COUNT = 22;
     private static final boolean IS_STATISTICS_POLLING_ON = true;
     private static final int BARRIER_COUNT_LIMIT = 2000;
     private static final long BARRIER_INTERVAL_TIMEOUT_LIMIT = 3000;
@@ -55,6 +55,12 @@ public class ConfigurationServiceFactoryImplTest {
     private static final int THREAD_POOL_MIN_THREADS_UPDATE = 4;
     private static final int THREAD_POOL_MAX_THREADS = 1000;
     private static final long THREAD_POOL_TIMEOUT = 60;
+    private static final boolean ENABLE_INCREMENTAL_FLOW_STATISTICS = true;
+    private static final boolean ENABLE_ADAPTIVE_STATISTICS_POLLING = true;
+    private static final int PACKET_IN_BATCH_SIZE = 16;
+    private static final int PACKET_IN_BATCH_INTERVAL = 20;
+    private static final int RPC_REQUESTS_WAIT_QUEUE_SIZE = 10;
+    private static final long RPC_REQUESTS_WAIT_TIMEOUT = 500;
 
     @Mock
     private OpenflowProviderConfig config;
@@ -94,6 +100,12 @@ public class ConfigurationServiceFactoryImplTest {
         when(config.getThreadPoolMinThreads()).thenReturn(THREAD_POOL_MIN_THREADS);
         when(config.getThreadPoolMaxThreads()).thenReturn(new NonZeroUint16Type(THREAD_POOL_MAX_THREADS));
         when(config.getThreadPoolTimeout()).thenReturn(THREAD_POOL_TIMEOUT);
+        when(config.isEnableIncrementalFlowStatistics()).thenReturn(ENABLE_INCREMENTAL_FLOW_STATISTICS);
+        when(config.isEnableAdaptiveStatisticsPolling()).thenReturn(ENABLE_ADAPTIVE_STATISTICS_POLLING);
+        when(config.getPacketInBatchSize()).thenReturn(PACKET_IN_BATCH_SIZE);
+        when(config.getPacketInBatchInterval()).thenReturn(PACKET_IN_BATCH_INTERVAL);
+        when(config.getRpcRequestsWaitQueueSize()).thenReturn(RPC_REQUESTS_WAIT_QUEUE_SIZE);
+        when(config.getRpcRequestsWaitTimeout()).thenReturn(RPC_REQUESTS_WAIT_TIMEOUT);
 
         final Dictionary<String, Object> properties = new Hashtable<>();
         properties.put(ConfigurationProperty.IS_STATISTICS_POLLING_ON.toString(), IS_STATISTICS_POLLING_ON);
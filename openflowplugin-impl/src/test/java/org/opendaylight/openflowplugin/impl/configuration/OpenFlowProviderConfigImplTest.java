@@ -40,6 +40,12 @@ public class OpenFlowProviderConfigImplTest {
     private static final Integer THREAD_POOL_MIN_THREADS = 3;
     private static final Integer THREAD_POOL_MAX_THREADS = 1000;
     private static final Long THREAD_POOL_TIMEOUT = 60L;
+    private static final Boolean ENABLE_INCREMENTAL_FLOW_STATISTICS = true;
+    private static final Boolean ENABLE_ADAPTIVE_STATISTICS_POLLING = true;
+    private static final Integer PACKET_IN_BATCH_SIZE = 16;
+    private static final Integer PACKET_IN_BATCH_INTERVAL = 20;
+    private static final Integer RPC_REQUESTS_WAIT_QUEUE_SIZE = 10;
+    private static final Long RPC_REQUESTS_WAIT_TIMEOUT = 500L;
 
     @Mock
     private ConfigurationService configurationService;
@@ -79,6 +85,18 @@ public class OpenFlowProviderConfigImplTest {
                 .thenReturn(THREAD_POOL_MAX_THREADS);
         when(configurationService.getProperty(eq(ConfigurationProperty.THREAD_POOL_TIMEOUT.toString()), any()))
                 .thenReturn(THREAD_POOL_TIMEOUT);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_INCREMENTAL_FLOW_STATISTICS.toString()),
+                any())).thenReturn(ENABLE_INCREMENTAL_FLOW_STATISTICS);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ENABLE_ADAPTIVE_STATISTICS_POLLING.toString()),
+                any())).thenReturn(ENABLE_ADAPTIVE_STATISTICS_POLLING);
+        when(configurationService.getProperty(eq(ConfigurationProperty.PACKET_IN_BATCH_SIZE.toString()), any()))
+                .thenReturn(PACKET_IN_BATCH_SIZE);
+        when(configurationService.getProperty(eq(ConfigurationProperty.PACKET_IN_BATCH_INTERVAL.toString()), any()))
+                .thenReturn(PACKET_IN_BATCH_INTERVAL);
+        when(configurationService.getProperty(eq(ConfigurationProperty.RPC_REQUESTS_WAIT_QUEUE_SIZE.toString()), any()))
+                .thenReturn(RPC_REQUESTS_WAIT_QUEUE_SIZE);
+        when(configurationService.getProperty(eq(ConfigurationProperty.RPC_REQUESTS_WAIT_TIMEOUT.toString()), any()))
+                .thenReturn(RPC_REQUESTS_WAIT_TIMEOUT);
         openflowProviderConfig = new OpenFlowProviderConfigImpl(configurationService);
     }
 
@@ -168,4 +186,35 @@ public class OpenFlowProviderConfigImplTest {
         assertEquals(USE_SINGLE_LAYER_SERIALIZATION, openflowProviderConfig.isUseSingleLayerSerialization());
     }
 
+    @Test
+    public void isEnableIncrementalFlowStatistics() throws Exception {
+        assertEquals(ENABLE_INCREMENTAL_FLOW_STATISTICS,
+                openflowProviderConfig.isEnableIncrementalFlowStatistics());
+    }
+
+    @Test
+    public void isEnableAdaptiveStatisticsPolling() throws Exception {
+        assertEquals(ENABLE_ADAPTIVE_STATISTICS_POLLING, openflowProviderConfig.isEnableAdaptiveStatisticsPolling());
+    }
+
+    @Test
+    public void getPacketInBatchSize() throws Exception {
+        assertEquals(PACKET_IN_BATCH_SIZE, openflowProviderConfig.getPacketInBatchSize());
+    }
+
+    @Test
+    public void getPacketInBatchInterval() throws Exception {
+        assertEquals(PACKET_IN_BATCH_INTERVAL, openflowProviderConfig.getPacketInBatchInterval());
+    }
+
+    @Test
+    public void getRpcRequestsWaitQueueSize() throws Exception {
+        assertEquals(RPC_REQUESTS_WAIT_QUEUE_SIZE, openflowProviderConfig.getRpcRequestsWaitQueueSize());
+    }
+
+    @Test
+    public void getRpcRequestsWaitTimeout() throws Exception {
+        assertEquals(RPC_REQUESTS_WAIT_TIMEOUT, openflowProviderConfig.getRpcRequestsWaitTimeout());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.datastore.multipart;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.openflowplugin.api.openflow.device.TxFacade;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter32;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupStatisticsReply;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.group.statistics.reply.GroupStats;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.group.statistics.reply.GroupStatsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Test for change tracking of {@link AbstractMultipartWriter}, using {@link GroupStatsMultipartWriter}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GroupStatsMultipartWriterTest {
+    private static final InstanceIdentifier<Node> NODE_II = InstanceIdentifier.create(Nodes.class)
+            .child(Node.class, new NodeKey(new NodeId("openflow:1")));
+
+    @Mock
+    private TxFacade txFacade;
+
+    private GroupStatsMultipartWriter writer;
+
+    @Before
+    public void setUp() throws Exception {
+        writer = new GroupStatsMultipartWriter(txFacade, NODE_II);
+        writer.enableChangeTracking();
+    }
+
+    private boolean writeSnapshot(final List<GroupStats> stats) {
+        final GroupStatisticsReply reply = Mockito.mock(GroupStatisticsReply.class);
+        Mockito.when(reply.getGroupStats()).thenReturn(stats);
+
+        writer.startSnapshot();
+        writer.write(reply, false);
+        writer.endSnapshot(true);
+        return writer.isSnapshotChanged();
+    }
+
+    private static GroupStats createGroupStats(final long groupId, final long byteCount) {
+        return new GroupStatsBuilder()
+                .setGroupId(new GroupId(groupId))
+                .setRefCount(new Counter32(1L))
+                .setPacketCount(new Counter64(BigInteger.TEN))
+                .setByteCount(new Counter64(BigInteger.valueOf(byteCount)))
+                .build();
+    }
+
+    private static int sumOfHashes(final List<GroupStats> stats) {
+        return stats.stream()
+                .mapToInt(stat -> Objects.hash(
+                        stat.getGroupId(),
+                        stat.getRefCount(),
+                        stat.getPacketCount(),
+                        stat.getByteCount(),
+                        stat.getBuckets()))
+                .sum();
+    }
+
+    @Test
+    public void testUnchangedSnapshot() throws Exception {
+        Assert.assertTrue(writeSnapshot(Arrays.asList(createGroupStats(1, 100), createGroupStats(2, 200))));
+        Assert.assertFalse(writeSnapshot(Arrays.asList(createGroupStats(2, 200), createGroupStats(1, 100))));
+    }
+
+    @Test
+    public void testChangedSnapshotWithCollidingHashes() throws Exception {
+        final List<GroupStats> first = Arrays.asList(createGroupStats(1, 100), createGroupStats(2, 200));
+        final List<GroupStats> second = Arrays.asList(createGroupStats(1, 200), createGroupStats(2, 100));
+
+        // Byte counts swapped between groups cancel out in sum of hash codes of entries
+        Assert.assertEquals(sumOfHashes(first), sumOfHashes(second));
+
+        Assert.assertTrue(writeSnapshot(first));
+        Assert.assertTrue(writeSnapshot(second));
+    }
+}
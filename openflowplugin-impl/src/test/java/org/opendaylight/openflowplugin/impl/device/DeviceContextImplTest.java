@@ -14,6 +14,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -101,11 +102,13 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PortGrouping;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PortStatusMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.experimenter.core.ExperimenterDataOfChoice;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.batch.rev171018.PacketReceivedBatch;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceived;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceivedBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.role.service.rev150727.SalRoleService;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.Notification;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -244,7 +247,7 @@ public class DeviceContextImplTest {
                 convertorExecutor,
                 false, timer, false,
                 deviceInitializerProvider,
-                true, false);
+                true, false, 0, 10);
 
         ((DeviceContextImpl) deviceContext).lazyTransactionManagerInitialization();
         deviceContextSpy = Mockito.spy(deviceContext);
@@ -372,6 +375,29 @@ public class DeviceContextImplTest {
                 eq(MessageSpy.StatisticsGroup.FROM_SWITCH_NOTIFICATION_REJECTED));
     }
 
+    @Test
+    public void testProcessPacketInMessageBatched() {
+        final DeviceContext batchingDeviceContext = new DeviceContextImpl(connectionContext, dataBroker, messageSpy,
+                translatorLibrary, convertorExecutor, false, timer, false, deviceInitializerProvider, true, false,
+                2, 10);
+        final NotificationPublishService mockedNotificationPublishService = mock(NotificationPublishService.class);
+        final SettableFuture<Object> offerFuture = SettableFuture.create();
+
+        when(mockedNotificationPublishService.offerNotification(any(Notification.class))).thenReturn(offerFuture);
+        batchingDeviceContext.setNotificationPublishService(mockedNotificationPublishService);
+        batchingDeviceContext.processPacketInMessage(mock(PacketInMessage.class));
+        batchingDeviceContext.processPacketInMessage(mock(PacketInMessage.class));
+
+        // Batched packet-ins are published only once, as a batch holding a single permit
+        verify(mockedNotificationPublishService).offerNotification(any(Notification.class));
+        verify(mockedNotificationPublishService).offerNotification(isA(PacketReceivedBatch.class));
+        final PacketInRateLimiter limiter = ((DeviceContextImpl) batchingDeviceContext).getPacketInLimiter();
+        assertEquals(1, limiter.getOccupiedPermits());
+
+        offerFuture.set("dummy value");
+        assertEquals(0, limiter.getOccupiedPermits());
+    }
+
     @Test
     public void testTranslatorLibrary() {
         final TranslatorLibrary pickedTranslatorLibrary = deviceContext.oook();
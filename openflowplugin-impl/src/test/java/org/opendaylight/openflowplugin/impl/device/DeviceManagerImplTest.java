@@ -133,6 +133,8 @@ public class DeviceManagerImplTest {
                         .setEnableFlowRemovedNotification(true)
                         .setSkipTableFeatures(false)
                         .setUseSingleLayerSerialization(true)
+                        .setPacketInBatchSize(0)
+                        .setPacketInBatchInterval(10)
                         .build(),
                 dataBroker,
                 messageIntelligenceAgency,
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.device;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceived;
+
+/**
+ * Test for {@link PacketInBatcher}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PacketInBatcherTest {
+    private static final int BATCH_SIZE = 2;
+    private static final long BATCH_DELAY = 10;
+
+    @Mock
+    private HashedWheelTimer timer;
+    @Mock
+    private Timeout timeout;
+    @Mock
+    private PacketReceived first;
+    @Mock
+    private PacketReceived second;
+
+    private final List<List<PacketReceived>> batches = new ArrayList<>();
+    private PacketInBatcher batcher;
+
+    @Before
+    public void setUp() throws Exception {
+        Mockito.when(timer.newTimeout(Matchers.any(TimerTask.class), Matchers.anyLong(), Matchers.any(TimeUnit.class)))
+                .thenReturn(timeout);
+        batcher = new PacketInBatcher(BATCH_SIZE, BATCH_DELAY, timer, batches::add);
+    }
+
+    @Test
+    public void testFlushWhenFull() throws Exception {
+        batcher.add(first);
+        Assert.assertTrue(batches.isEmpty());
+
+        batcher.add(second);
+        Assert.assertEquals(Collections.singletonList(Arrays.asList(first, second)), batches);
+        Mockito.verify(timer).newTimeout(Matchers.any(TimerTask.class), Matchers.eq(BATCH_DELAY),
+                Matchers.eq(TimeUnit.MILLISECONDS));
+        Mockito.verify(timeout).cancel();
+    }
+
+    @Test
+    public void testFlushWhenExpired() throws Exception {
+        batcher.add(first);
+        captureTask().run(timeout);
+        Assert.assertEquals(Collections.singletonList(Collections.singletonList(first)), batches);
+
+        // Next packet-in starts a new batch
+        batcher.add(second);
+        Mockito.verify(timer, Mockito.times(2)).newTimeout(Matchers.any(TimerTask.class), Matchers.anyLong(),
+                Matchers.any(TimeUnit.class));
+    }
+
+    @Test
+    public void testStaleTimeoutIgnored() throws Exception {
+        batcher.add(first);
+        final TimerTask task = captureTask();
+        batcher.add(second);
+
+        task.run(timeout);
+        Assert.assertEquals(1, batches.size());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        batcher.add(first);
+        batcher.close();
+        Assert.assertEquals(Collections.singletonList(Collections.singletonList(first)), batches);
+
+        // Packet-ins are not held back once closed
+        batcher.add(second);
+        Assert.assertEquals(Collections.singletonList(second), batches.get(1));
+    }
+
+    private TimerTask captureTask() {
+        final ArgumentCaptor<TimerTask> task = ArgumentCaptor.forClass(TimerTask.class);
+        Mockito.verify(timer).newTimeout(task.capture(), Matchers.anyLong(), Matchers.any(TimeUnit.class));
+        return task.getValue();
+    }
+}
@@ -45,7 +45,7 @@ public class PacketInRateLimiterTest {
         rateLimiter.disableFlow();
 
         Mockito.verify(messageSpy).spyMessage(DeviceContext.class, MessageSpy.StatisticsGroup.OFJ_BACKPRESSURE_ON);
-        Mockito.verify(connectionAdapter).setPacketInFiltering(true);
+        Mockito.verify(connectionAdapter).setPacketInThrottling(true);
     }
 
     @Test
@@ -53,7 +53,7 @@ public class PacketInRateLimiterTest {
         rateLimiter.enableFlow();
 
         Mockito.verify(messageSpy).spyMessage(DeviceContext.class, MessageSpy.StatisticsGroup.OFJ_BACKPRESSURE_OFF);
-        Mockito.verify(connectionAdapter).setPacketInFiltering(false);
+        Mockito.verify(connectionAdapter).setPacketInThrottling(false);
     }
 
     @Test
@@ -73,7 +73,7 @@ public class PacketInRateLimiterTest {
         rateLimiter.drainLowWaterMark();
         Assert.assertEquals(4, rateLimiter.getOccupiedPermits());
         Assert.assertTrue(rateLimiter.isLimited());
-        caOrdered.verify(connectionAdapter).setPacketInFiltering(true);
+        caOrdered.verify(connectionAdapter).setPacketInThrottling(true);
 
         // release 1 permit ->  3 occupied but threshold = 2 -> stay limited
         rateLimiter.releasePermit();
@@ -84,14 +84,14 @@ public class PacketInRateLimiterTest {
         rateLimiter.releasePermit();
         Assert.assertEquals(2, rateLimiter.getOccupiedPermits());
         Assert.assertFalse(rateLimiter.isLimited());
-        caOrdered.verify(connectionAdapter).setPacketInFiltering(false);
+        caOrdered.verify(connectionAdapter).setPacketInThrottling(false);
 
         // lwm is reset
         acquirePermits(4);
         Assert.assertEquals(6, rateLimiter.getOccupiedPermits());
         Assert.assertFalse(rateLimiter.isLimited());
 
-        Mockito.verify(connectionAdapter, Mockito.times(2)).setPacketInFiltering(Matchers.anyBoolean());
+        Mockito.verify(connectionAdapter, Mockito.times(2)).setPacketInThrottling(Matchers.anyBoolean());
     }
 
     private void acquirePermits(int permits) {
@@ -123,7 +123,7 @@ public class PacketInRateLimiterTest {
         Assert.assertFalse(rateLimiter.acquirePermit());
         Assert.assertEquals(10, rateLimiter.getOccupiedPermits());
         Assert.assertTrue(rateLimiter.isLimited());
-        caOrdered.verify(connectionAdapter).setPacketInFiltering(true);
+        caOrdered.verify(connectionAdapter).setPacketInThrottling(true);
 
         // approach lwm
         releasePermits(5);
@@ -134,9 +134,9 @@ public class PacketInRateLimiterTest {
         rateLimiter.releasePermit();
         Assert.assertEquals(4, rateLimiter.getOccupiedPermits());
         Assert.assertFalse(rateLimiter.isLimited());
-        caOrdered.verify(connectionAdapter).setPacketInFiltering(false);
+        caOrdered.verify(connectionAdapter).setPacketInThrottling(false);
 
-        Mockito.verify(connectionAdapter, Mockito.times(2)).setPacketInFiltering(Matchers.anyBoolean());
+        Mockito.verify(connectionAdapter, Mockito.times(2)).setPacketInThrottling(Matchers.anyBoolean());
     }
 
     @Test
@@ -150,7 +150,7 @@ public class PacketInRateLimiterTest {
         Assert.assertFalse(rateLimiter.acquirePermit());
         Assert.assertEquals(4, rateLimiter.getOccupiedPermits());
         Assert.assertTrue(rateLimiter.isLimited());
-        caOrdered.verify(connectionAdapter).setPacketInFiltering(true);
+        caOrdered.verify(connectionAdapter).setPacketInThrottling(true);
 
         // approach lwm
         rateLimiter.releasePermit();
@@ -161,9 +161,9 @@ public class PacketInRateLimiterTest {
         rateLimiter.releasePermit();
         Assert.assertEquals(2, rateLimiter.getOccupiedPermits());
         Assert.assertFalse(rateLimiter.isLimited());
-        caOrdered.verify(connectionAdapter).setPacketInFiltering(false);
+        caOrdered.verify(connectionAdapter).setPacketInThrottling(false);
 
-        Mockito.verify(connectionAdapter, Mockito.times(2)).setPacketInFiltering(Matchers.anyBoolean());
+        Mockito.verify(connectionAdapter, Mockito.times(2)).setPacketInThrottling(Matchers.anyBoolean());
     }
 
     @Test
@@ -173,7 +173,7 @@ public class PacketInRateLimiterTest {
         rateLimiter.drainLowWaterMark();
         Assert.assertEquals(6, rateLimiter.getOccupiedPermits());
         Assert.assertTrue(rateLimiter.isLimited());
-        caOrdered.verify(connectionAdapter).setPacketInFiltering(true);
+        caOrdered.verify(connectionAdapter).setPacketInThrottling(true);
 
         rateLimiter.changeWaterMarks(7, 12);
         Assert.assertEquals(6, rateLimiter.getOccupiedPermits());
@@ -188,13 +188,13 @@ public class PacketInRateLimiterTest {
         rateLimiter.releasePermit();
         Assert.assertEquals(6, rateLimiter.getOccupiedPermits());
         Assert.assertFalse(rateLimiter.isLimited());
-        caOrdered.verify(connectionAdapter).setPacketInFiltering(false);
+        caOrdered.verify(connectionAdapter).setPacketInThrottling(false);
 
         // free to reach hwm of 12
         acquirePermits(6);
         Assert.assertEquals(12, rateLimiter.getOccupiedPermits());
         Assert.assertFalse(rateLimiter.isLimited());
 
-        Mockito.verify(connectionAdapter, Mockito.times(2)).setPacketInFiltering(Matchers.anyBoolean());
+        Mockito.verify(connectionAdapter, Mockito.times(2)).setPacketInThrottling(Matchers.anyBoolean());
     }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.registry.flow;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Concurrency test for {@link DeviceFlowRegistryImpl}. Writer threads store and remove the same flow registry keys
+ * in lockstep rounds, each thread using a different descriptor for a key and a descriptor which another thread
+ * uses for a different key, so that both same-key updates and descriptor conflicts race. The registry must remain
+ * a bijection after every round.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DeviceFlowRegistryImplContentionTest {
+    private static final short TABLE_ID = 1;
+    private static final int WRITERS = 4;
+    private static final int KEYS = 32;
+    private static final int ROUNDS = 200;
+
+    private final List<FlowRegistryKey> keys = new ArrayList<>();
+    private DeviceFlowRegistryImpl deviceFlowRegistry;
+    private ExecutorService executorService;
+    @Mock
+    private DataBroker dataBroker;
+
+    @Before
+    public void setUp() throws Exception {
+        deviceFlowRegistry = new DeviceFlowRegistryImpl(
+                OFConstants.OFP_VERSION_1_3,
+                dataBroker,
+                InstanceIdentifier.create(Nodes.class).child(Node.class, new NodeKey(new NodeId("openflow:1"))));
+        executorService = Executors.newFixedThreadPool(WRITERS);
+        for (int i = 0; i < KEYS; i++) {
+            keys.add(FlowRegistryKeyFactory.create(OFConstants.OFP_VERSION_1_3, new FlowBuilder()
+                    .setTableId(TABLE_ID)
+                    .setPriority(i)
+                    .setCookie(new FlowCookie(BigInteger.valueOf(i)))
+                    .build()));
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentWritersOfSameKeys() throws Exception {
+        final CyclicBarrier roundStart = new CyclicBarrier(WRITERS + 1);
+        final CyclicBarrier roundEnd = new CyclicBarrier(WRITERS + 1);
+        final List<Future<?>> writers = new ArrayList<>();
+
+        for (int writer = 0; writer < WRITERS; writer++) {
+            final int shift = writer;
+            writers.add(executorService.submit(() -> {
+                for (int round = 0; round < ROUNDS; round++) {
+                    roundStart.await();
+                    for (int i = 0; i < KEYS; i++) {
+                        deviceFlowRegistry.storeDescriptor(keys.get(i), createDescriptor((i + shift) % KEYS));
+                        if ((i + round) % 3 == 0) {
+                            deviceFlowRegistry.addMark(keys.get(i));
+                        }
+                    }
+                    roundEnd.await();
+                }
+                return null;
+            }));
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            roundStart.await(1, TimeUnit.MINUTES);
+            roundEnd.await(1, TimeUnit.MINUTES);
+            assertBijection(round);
+        }
+
+        for (final Future<?> writer : writers) {
+            writer.get(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private void assertBijection(final int round) {
+        final Map<FlowRegistryKey, FlowDescriptor> descriptors = deviceFlowRegistry.getAllFlowDescriptors();
+        final Map<FlowDescriptor, FlowRegistryKey> registryKeys = deviceFlowRegistry.getAllFlowRegistryKeys();
+
+        Assert.assertEquals("Registry sizes differ in round " + round, descriptors.size(), registryKeys.size());
+        descriptors.forEach((key, descriptor) ->
+                Assert.assertEquals("Flow descriptor is not assigned to its flow in round " + round,
+                        key, registryKeys.get(descriptor)));
+        registryKeys.forEach((descriptor, key) ->
+                Assert.assertEquals("Orphaned flow descriptor in round " + round,
+                        descriptor, descriptors.get(key)));
+    }
+
+    private static FlowDescriptor createDescriptor(final int index) {
+        return FlowDescriptorFactory.create(TABLE_ID, new FlowId("ut:" + index));
+    }
+}
@@ -13,6 +13,7 @@ import static org.junit.Assert.assertNotEquals;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import org.junit.Assert;
@@ -36,6 +37,11 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.f
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.MatchBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.layer._3.match.Ipv4MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.ExtensionKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.general.extension.list.grouping.ExtensionList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.general.extension.list.grouping.ExtensionListBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -187,4 +193,51 @@ public class FlowRegistryKeyFactoryTest {
             }
         }
     }
+
+    @Test
+    public void testEqualsExtensionOrder() throws Exception {
+        final ExtensionList extension1 = new ExtensionListBuilder().setExtensionKey(FirstExtensionKey.class).build();
+        final ExtensionList extension2 = new ExtensionListBuilder().setExtensionKey(SecondExtensionKey.class).build();
+
+        final FlowBuilder flow1Builder = createExtensionFlowBuilder(extension1, extension2);
+        final FlowBuilder flow2Builder = createExtensionFlowBuilder(extension2, extension1);
+
+        final FlowRegistryKey key1 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), flow1Builder.build());
+        final FlowRegistryKey key2 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(), flow2Builder.build());
+        assertEquals(key1, key2);
+        assertEquals(key2, key1);
+        assertEquals(key1.hashCode(), key2.hashCode());
+
+        final FlowRegistryKey key3 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(),
+                createExtensionFlowBuilder(extension1).build());
+        assertNotEquals(key1, key3);
+        assertNotEquals(key3, key1);
+
+        final FlowRegistryKey key4 = FlowRegistryKeyFactory.create(deviceInfo.getVersion(),
+                new FlowBuilder(flow1Builder.build()).setMatch(new MatchBuilder().build()).build());
+        assertNotEquals(key1, key4);
+        assertNotEquals(key4, key1);
+    }
+
+    private static FlowBuilder createExtensionFlowBuilder(final ExtensionList... extensions) {
+        final MatchBuilder matchBuilder = new MatchBuilder()
+                .addAugmentation(GeneralAugMatchNodesNodeTableFlow.class,
+                        new GeneralAugMatchNodesNodeTableFlowBuilder()
+                                .setExtensionList(Arrays.asList(extensions))
+                                .build());
+
+        return new FlowBuilder()
+                .setCookie(new FlowCookie(BigInteger.valueOf(483)))
+                .setMatch(matchBuilder.build())
+                .setPriority(2)
+                .setTableId((short) 0);
+    }
+
+    private static class FirstExtensionKey extends ExtensionKey {
+        // nobody
+    }
+
+    private static class SecondExtensionKey extends ExtensionKey {
+        // nobody
+    }
 }
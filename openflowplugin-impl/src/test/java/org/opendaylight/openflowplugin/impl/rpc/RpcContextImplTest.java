@@ -8,11 +8,20 @@
 package org.opendaylight.openflowplugin.impl.rpc;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -136,6 +145,58 @@ public class RpcContextImplTest {
         }
     }
 
+    @Test
+    public void testAwaitRequestContext() throws Exception {
+        final HashedWheelTimer timer = Mockito.mock(HashedWheelTimer.class);
+        when(timer.newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class)))
+                .thenReturn(Mockito.mock(Timeout.class));
+        try (RpcContextImpl rpcContext = new RpcContextImpl(
+                rpcProviderRegistry,
+                1,
+                1,
+                1000,
+                timer,
+                MoreExecutors.directExecutor(),
+                deviceContext,
+                extensionConverterProvider,
+                convertorExecutor,
+                notificationPublishService, true)) {
+            final RequestContext<?> requestContext = rpcContext.createRequestContext();
+            assertNotNull(requestContext);
+            assertNull(rpcContext.createRequestContext());
+
+            final ListenableFuture<RequestContext<Object>> awaited = rpcContext.awaitRequestContext();
+            assertFalse(awaited.isDone());
+
+            requestContext.close();
+            assertNotNull(awaited.get());
+        }
+    }
+
+    @Test
+    public void testCloseFailsAwaitedRequestContext() throws Exception {
+        final HashedWheelTimer timer = Mockito.mock(HashedWheelTimer.class);
+        when(timer.newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class)))
+                .thenReturn(Mockito.mock(Timeout.class));
+        final RpcContextImpl rpcContext = new RpcContextImpl(
+                rpcProviderRegistry,
+                1,
+                1,
+                1000,
+                timer,
+                MoreExecutors.directExecutor(),
+                deviceContext,
+                extensionConverterProvider,
+                convertorExecutor,
+                notificationPublishService, true);
+        assertNotNull(rpcContext.createRequestContext());
+
+        final ListenableFuture<RequestContext<Object>> awaited = rpcContext.awaitRequestContext();
+        rpcContext.close();
+        assertNull(awaited.get());
+        assertNull(rpcContext.awaitRequestContext());
+    }
+
     public void testRegisterRpcServiceImplementation() {
         rpcContext.registerRpcServiceImplementation(TestRpcService.class, serviceInstance);
         verify(rpcProviderRegistry, Mockito.times(1)).addRoutedRpcImplementation(TestRpcService.class,serviceInstance);
@@ -11,6 +11,8 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 
+import com.google.common.util.concurrent.MoreExecutors;
+import io.netty.util.HashedWheelTimer;
 import java.util.concurrent.ConcurrentMap;
 import org.junit.Before;
 import org.junit.Test;
@@ -61,6 +63,8 @@ public class RpcManagerImplTest {
     @Mock
     private MessageSpy messageSpy;
     @Mock
+    private HashedWheelTimer hashedWheelTimer;
+    @Mock
     private RpcContext removedContexts;
     @Mock
     private ConcurrentMap<DeviceInfo, RpcContext> contexts;
@@ -83,8 +87,11 @@ public class RpcManagerImplTest {
         rpcManager = new RpcManagerImpl(new OpenflowProviderConfigBuilder()
                 .setRpcRequestsQuota(new NonZeroUint16Type(QUOTA_VALUE))
                 .setIsStatisticsRpcEnabled(false)
+                .setRpcRequestsWaitQueueSize(0)
+                .setRpcRequestsWaitTimeout(1000L)
                 .build(),
-                rpcProviderRegistry, extensionConverterProvider, convertorExecutor, notificationPublishService);
+                rpcProviderRegistry, extensionConverterProvider, convertorExecutor, notificationPublishService,
+                hashedWheelTimer, MoreExecutors.directExecutor());
 
         FeaturesReply features = new GetFeaturesOutputBuilder()
                 .setVersion(OFConstants.OFP_VERSION_1_3)
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.rpc;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+
+/**
+ * Test for {@link RpcRequestQuota}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RpcRequestQuotaTest {
+    private static final long MAX_WAIT = 100;
+
+    @Mock
+    private HashedWheelTimer timer;
+    @Mock
+    private Timeout timeout;
+    @Mock
+    private MessageSpy messageSpy;
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private RpcRequestQuota quota;
+
+    @Before
+    public void setUp() throws Exception {
+        Mockito.when(timer.newTimeout(Matchers.any(TimerTask.class), Matchers.anyLong(), Matchers.any(TimeUnit.class)))
+                .thenReturn(timeout);
+        quota = new RpcRequestQuota(1, 1, MAX_WAIT, timer, tasks::add, messageSpy);
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @Test
+    public void testWaitingDisabled() throws Exception {
+        final RpcRequestQuota noWait = new RpcRequestQuota(1, 0, MAX_WAIT, null, null, messageSpy);
+        Assert.assertTrue(noWait.tryAcquire());
+        Assert.assertFalse(noWait.tryAcquire());
+        Assert.assertNull(noWait.acquire());
+    }
+
+    @Test
+    public void testHandOver() throws Exception {
+        Assert.assertTrue(quota.tryAcquire());
+
+        final ListenableFuture<Boolean> acquired = quota.acquire();
+        Assert.assertFalse(acquired.isDone());
+        Assert.assertEquals(1, quota.getWaitQueueDepth());
+        Mockito.verify(messageSpy).spyMessage(RpcRequestQuota.class, MessageSpy.StatisticsGroup.TO_SWITCH_POSTPONED, 1);
+        Mockito.verify(timer).newTimeout(Matchers.any(TimerTask.class), Matchers.eq(MAX_WAIT),
+                Matchers.eq(TimeUnit.MILLISECONDS));
+
+        // Wait queue is full
+        Assert.assertNull(quota.acquire());
+
+        quota.release();
+        Mockito.verify(timeout).cancel();
+        Assert.assertEquals(0, quota.getWaitQueueDepth());
+        Assert.assertEquals(0, quota.getAvailablePermits());
+
+        // Waiting request is resumed on the executor, not in the releasing thread
+        Assert.assertFalse(acquired.isDone());
+        runTasks();
+        Assert.assertTrue(acquired.get());
+        Mockito.verify(messageSpy).spyMessage(Matchers.eq(RpcRequestQuota.class),
+                Matchers.eq(MessageSpy.StatisticsGroup.TO_SWITCH_POSTPONED_RESUMED), Matchers.anyLong());
+        Mockito.verify(messageSpy, Mockito.never()).spyMessage(Matchers.eq(RpcRequestQuota.class),
+                Matchers.eq(MessageSpy.StatisticsGroup.TO_SWITCH_POSTPONED_EXPIRED), Matchers.anyLong());
+    }
+
+    @Test
+    public void testNoOvertaking() throws Exception {
+        Assert.assertTrue(quota.tryAcquire());
+        final ListenableFuture<Boolean> acquired = quota.acquire();
+        quota.release();
+        runTasks();
+        Assert.assertTrue(acquired.get());
+
+        // Released permit went to the waiting request
+        Assert.assertFalse(quota.tryAcquire());
+    }
+
+    @Test
+    public void testExpire() throws Exception {
+        Assert.assertTrue(quota.tryAcquire());
+        final ListenableFuture<Boolean> acquired = quota.acquire();
+
+        final ArgumentCaptor<TimerTask> task = ArgumentCaptor.forClass(TimerTask.class);
+        Mockito.verify(timer).newTimeout(task.capture(), Matchers.anyLong(), Matchers.any(TimeUnit.class));
+        task.getValue().run(timeout);
+
+        Assert.assertFalse(acquired.get());
+        Assert.assertEquals(0, quota.getWaitQueueDepth());
+        Mockito.verify(messageSpy).spyMessage(Matchers.eq(RpcRequestQuota.class),
+                Matchers.eq(MessageSpy.StatisticsGroup.TO_SWITCH_POSTPONED_EXPIRED), Matchers.anyLong());
+
+        // Expired request is not resumed again
+        task.getValue().run(timeout);
+        Mockito.verify(messageSpy).spyMessage(Matchers.eq(RpcRequestQuota.class),
+                Matchers.eq(MessageSpy.StatisticsGroup.TO_SWITCH_POSTPONED_EXPIRED), Matchers.anyLong());
+
+        quota.release();
+        Assert.assertEquals(1, quota.getAvailablePermits());
+    }
+
+    @Test
+    public void testCancelledWaiter() throws Exception {
+        Assert.assertTrue(quota.tryAcquire());
+        quota.acquire().cancel(false);
+
+        quota.release();
+        runTasks();
+        Assert.assertEquals(1, quota.getAvailablePermits());
+        Mockito.verify(messageSpy, Mockito.never()).spyMessage(Matchers.eq(RpcRequestQuota.class),
+                Matchers.eq(MessageSpy.StatisticsGroup.TO_SWITCH_POSTPONED_RESUMED), Matchers.anyLong());
+    }
+
+    @Test
+    public void testRejectedHandOver() throws Exception {
+        final RpcRequestQuota rejecting = new RpcRequestQuota(1, 1, MAX_WAIT, timer, task -> {
+            throw new RejectedExecutionException();
+        }, messageSpy);
+        Assert.assertTrue(rejecting.tryAcquire());
+        final ListenableFuture<Boolean> acquired = rejecting.acquire();
+
+        rejecting.release();
+        Assert.assertFalse(acquired.get());
+        Assert.assertEquals(1, rejecting.getAvailablePermits());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        Assert.assertTrue(quota.tryAcquire());
+        final ListenableFuture<Boolean> acquired = quota.acquire();
+
+        quota.close();
+        Assert.assertFalse(acquired.get());
+        Mockito.verify(timeout).cancel();
+        Assert.assertEquals(0, quota.getWaitQueueDepth());
+
+        // Requests must not wait for a closed quota
+        Assert.assertNull(quota.acquire());
+        quota.release();
+        Assert.assertEquals(1, quota.getAvailablePermits());
+    }
+}
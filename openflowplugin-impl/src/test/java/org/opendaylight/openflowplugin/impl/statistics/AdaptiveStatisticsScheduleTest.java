@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017 Pantheon Technologies s.r.o. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.openflowplugin.impl.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+
+public class AdaptiveStatisticsScheduleTest {
+    private AdaptiveStatisticsSchedule schedule;
+
+    @Before
+    public void setUp() throws Exception {
+        schedule = new AdaptiveStatisticsSchedule(3000, 12000);
+    }
+
+    @Test
+    public void testScheduledInitially() throws Exception {
+        assertTrue(schedule.isScheduled(MultipartType.OFPMPFLOW));
+        assertTrue(schedule.isScheduled(MultipartType.OFPMPFLOW));
+        assertEquals(1, schedule.getInterval(MultipartType.OFPMPFLOW));
+    }
+
+    @Test
+    public void testBackOffWhenNotChanged() throws Exception {
+        assertTrue(schedule.isScheduled(MultipartType.OFPMPFLOW));
+        schedule.update(MultipartType.OFPMPFLOW, false);
+        assertEquals(2, schedule.getInterval(MultipartType.OFPMPFLOW));
+        assertFalse(schedule.isScheduled(MultipartType.OFPMPFLOW));
+        assertTrue(schedule.isScheduled(MultipartType.OFPMPFLOW));
+
+        schedule.update(MultipartType.OFPMPFLOW, false);
+        assertEquals(4, schedule.getInterval(MultipartType.OFPMPFLOW));
+
+        // Interval is bounded by maximum polling delay
+        schedule.update(MultipartType.OFPMPFLOW, false);
+        assertEquals(4, schedule.getInterval(MultipartType.OFPMPFLOW));
+        assertFalse(schedule.isScheduled(MultipartType.OFPMPFLOW));
+        assertFalse(schedule.isScheduled(MultipartType.OFPMPFLOW));
+        assertFalse(schedule.isScheduled(MultipartType.OFPMPFLOW));
+        assertTrue(schedule.isScheduled(MultipartType.OFPMPFLOW));
+
+        // Other types are not affected
+        assertTrue(schedule.isScheduled(MultipartType.OFPMPPORTSTATS));
+    }
+
+    @Test
+    public void testResetWhenChanged() throws Exception {
+        schedule.update(MultipartType.OFPMPGROUP, false);
+        schedule.update(MultipartType.OFPMPGROUP, false);
+        assertEquals(4, schedule.getInterval(MultipartType.OFPMPGROUP));
+
+        schedule.update(MultipartType.OFPMPGROUP, true);
+        assertEquals(1, schedule.getInterval(MultipartType.OFPMPGROUP));
+        assertTrue(schedule.isScheduled(MultipartType.OFPMPGROUP));
+    }
+
+    @Test
+    public void testMaximumDelayShorterThanInterval() throws Exception {
+        schedule = new AdaptiveStatisticsSchedule(3000, 1000);
+        schedule.update(MultipartType.OFPMPTABLE, false);
+        assertEquals(1, schedule.getInterval(MultipartType.OFPMPTABLE));
+        assertTrue(schedule.isScheduled(MultipartType.OFPMPTABLE));
+    }
+}
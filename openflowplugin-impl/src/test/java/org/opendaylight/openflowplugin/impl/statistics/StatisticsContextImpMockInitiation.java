@@ -11,6 +11,7 @@ package org.opendaylight.openflowplugin.impl.statistics;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.netty.util.Timer;
 import java.math.BigInteger;
 import org.junit.Before;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
@@ -51,6 +52,7 @@ class StatisticsContextImpMockInitiation {
     DeviceInfo mockedDeviceInfo;
     StatisticsManager mockedStatisticsManager;
     ContextChainMastershipWatcher mockedMastershipWatcher;
+    Timer mockedTimer;
 
     static final KeyedInstanceIdentifier<Node, NodeKey> DUMMY_NODE_ID = InstanceIdentifier.create(Nodes.class)
             .child(Node.class, new NodeKey(new NodeId("dummyNodeId")));
@@ -65,6 +67,7 @@ class StatisticsContextImpMockInitiation {
         mockedDeviceInfo = mock(DeviceInfo.class);
         mockedStatisticsManager = mock(StatisticsManager.class);
         mockedMastershipWatcher = mock(ContextChainMastershipWatcher.class);
+        mockedTimer = mock(Timer.class);
 
         final FeaturesReply mockedFeatures = mock(FeaturesReply.class);
         final MessageSpy mockedMessageSpy = mock(MessageSpy.class);
@@ -57,8 +57,8 @@ public class StatisticsContextImplTest extends StatisticsContextImpMockInitiatio
         statisticsContext = new StatisticsContextImpl<>(mockedDeviceContext, convertorManager,
                                                         MultipartWriterProviderFactory
                                                                 .createDefaultProvider(mockedDeviceContext),
-                                                        MoreExecutors.newDirectExecutorService(), true, false, 3000,
-                                                        50000);
+                                                        MoreExecutors.newDirectExecutorService(), mockedTimer,
+                                                        true, false, false, 3000, 50000);
 
         statisticsContext.setStatisticsGatheringService(mockedStatisticsGatheringService);
         statisticsContext.setStatisticsGatheringOnTheFlyService(mockedStatisticsOnFlyGatheringService);
@@ -84,8 +84,10 @@ public class StatisticsContextImplTest extends StatisticsContextImpMockInitiatio
                                             MultipartWriterProviderFactory
                                                     .createDefaultProvider(mockedDeviceContext),
                                             MoreExecutors.newDirectExecutorService(),
+                                            mockedTimer,
                                             true,
                                             false,
+                                            false,
                                             3000,50000);
 
         final RequestContext<Object> requestContext = statisticsContext.createRequestContext();
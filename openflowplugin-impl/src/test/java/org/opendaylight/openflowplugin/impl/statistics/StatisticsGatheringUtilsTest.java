@@ -18,6 +18,7 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -33,6 +34,11 @@ import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.DataObjectModification;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeChangeListener;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeIdentifier;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeModification;
 import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
@@ -50,6 +56,8 @@ import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.Event
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.StatisticsGatherer;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProvider;
 import org.opendaylight.openflowplugin.impl.datastore.MultipartWriterProviderFactory;
+import org.opendaylight.openflowplugin.impl.datastore.multipart.AbstractMultipartWriter;
+import org.opendaylight.openflowplugin.impl.datastore.multipart.FlowStatsMultipartWriter;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorManagerFactory;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeBuilder;
@@ -130,6 +138,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.multipart.reply.multipart.reply.body.multipart.reply.table._case.multipart.reply.table.TableStatsBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.port.statistics.rev131214.FlowCapableNodeConnectorStatisticsData;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.port.statistics.rev131214.flow.capable.node.connector.statistics.FlowCapableNodeConnectorStatistics;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
@@ -162,6 +171,10 @@ public class StatisticsGatheringUtilsTest {
     @Mock
     private ReadOnlyTransaction readTx;
     @Mock
+    private DataBroker dataBroker;
+    @Mock
+    private ListenerRegistration<FlowStatsMultipartWriter> listenerRegistration;
+    @Mock
     private ConnectionContext connectionAdapter;
     @Mock
     private StatisticsGatherer<MultipartReply> statisticsService;
@@ -190,6 +203,8 @@ public class StatisticsGatheringUtilsTest {
         when(deviceInfo.getDatapathId()).thenReturn(BigInteger.ONE);
         when(deviceInfo.getNodeInstanceIdentifier()).thenReturn(dummyNodePath);
         when(deviceInfo.getNodeId()).thenReturn(DUMMY_NODE_ID);
+        Mockito.doReturn(listenerRegistration).when(dataBroker).registerDataTreeChangeListener(
+                Matchers.any(DataTreeIdentifier.class), Matchers.any(DataTreeChangeListener.class));
         provider = MultipartWriterProviderFactory.createDefaultProvider(deviceContext);
     }
 
@@ -209,6 +224,169 @@ public class StatisticsGatheringUtilsTest {
         Assert.assertEquals(42, flow.getValue().getTableId().intValue());
     }
 
+    @Test
+    public void testWriteFlowStatisticsIncremental() throws Exception {
+        final FlowId flowId = new FlowId("openflow:21");
+        when(flowDescriptor.getFlowId()).thenReturn(flowId);
+        final MultipartWriterProvider incrementalProvider = MultipartWriterProviderFactory
+                .createDefaultProvider(deviceContext, dataBroker, true);
+        final AbstractMultipartWriter writer = incrementalProvider.lookup(MultipartType.OFPMPFLOW).get();
+        final InstanceIdentifier<Flow> flowPath = deviceInfo.getNodeInstanceIdentifier()
+                .augmentation(FlowCapableNode.class)
+                .child(Table.class, new TableKey((short) 42))
+                .child(Flow.class, new FlowKey(flowId));
+
+        // first snapshot has no baseline, so it is written whole
+        Assert.assertFalse(writer.startSnapshot());
+        writer.write(prepareFlowStatisticsData().iterator().next(), false);
+        writer.endSnapshot(true);
+        verify(deviceContext, Mockito.times(1)).writeToTransaction(Matchers.eq(LogicalDatastoreType.OPERATIONAL),
+                Matchers.any(InstanceIdentifier.class), Matchers.any(Flow.class));
+        final ArgumentCaptor<DataTreeChangeListener> listener = ArgumentCaptor.forClass(DataTreeChangeListener.class);
+        verify(dataBroker).registerDataTreeChangeListener(Matchers.any(DataTreeIdentifier.class), listener.capture());
+
+        // unchanged flow is not written again and operational datastore is not read to find that out
+        Assert.assertTrue(writer.startSnapshot());
+        writer.write(prepareFlowStatisticsData().iterator().next(), false);
+        writer.endSnapshot(true);
+        verify(deviceContext, Mockito.times(1)).writeToTransaction(Matchers.eq(LogicalDatastoreType.OPERATIONAL),
+                Matchers.any(InstanceIdentifier.class), Matchers.any(Flow.class));
+        verify(deviceContext, Mockito.never()).getReadTransaction();
+
+        // unchanged flow removed from datastore by somebody else is written again with whole snapshot
+        listener.getValue().onDataTreeChanged(Collections.singletonList(mockFlowRemoval(flowPath)));
+        Assert.assertFalse(writer.startSnapshot());
+        writer.write(prepareFlowStatisticsData().iterator().next(), false);
+        writer.endSnapshot(true);
+        verify(deviceContext, Mockito.times(2)).writeToTransaction(Matchers.eq(LogicalDatastoreType.OPERATIONAL),
+                Matchers.any(InstanceIdentifier.class), Matchers.any(Flow.class));
+
+        // aborted snapshot does not remove missing flow and drops baseline
+        Assert.assertTrue(writer.startSnapshot());
+        writer.endSnapshot(false);
+        verify(deviceContext, Mockito.never()).addDeleteToTxChain(Matchers.eq(LogicalDatastoreType.OPERATIONAL),
+                Matchers.any(InstanceIdentifier.class));
+        Assert.assertFalse(writer.startSnapshot());
+        writer.write(prepareFlowStatisticsData().iterator().next(), false);
+        writer.endSnapshot(true);
+        verify(deviceContext, Mockito.times(3)).writeToTransaction(Matchers.eq(LogicalDatastoreType.OPERATIONAL),
+                Matchers.any(InstanceIdentifier.class), Matchers.any(Flow.class));
+
+        // flow missing from complete snapshot is removed, its removal does not drop baseline
+        Assert.assertTrue(writer.startSnapshot());
+        writer.endSnapshot(true);
+        verify(deviceContext).addDeleteToTxChain(Matchers.eq(LogicalDatastoreType.OPERATIONAL),
+                Matchers.eq(flowPath));
+        listener.getValue().onDataTreeChanged(Collections.singletonList(mockFlowRemoval(flowPath)));
+        Assert.assertTrue(writer.startSnapshot());
+        writer.endSnapshot(true);
+
+        incrementalProvider.close();
+        verify(listenerRegistration).close();
+        verify(dataBroker, Mockito.times(1)).registerDataTreeChangeListener(Matchers.any(DataTreeIdentifier.class),
+                Matchers.any(DataTreeChangeListener.class));
+    }
+
+    @Test
+    public void testWriteFlowStatisticsIncrementalFailure() throws Exception {
+        when(flowDescriptor.getFlowId()).thenReturn(new FlowId("openflow:21"));
+        final MultipartWriterProvider incrementalProvider = MultipartWriterProviderFactory
+                .createDefaultProvider(deviceContext, dataBroker, true);
+        final AbstractMultipartWriter writer = incrementalProvider.lookup(MultipartType.OFPMPFLOW).get();
+
+        Assert.assertFalse(writer.startSnapshot());
+        writer.write(prepareFlowStatisticsData().iterator().next(), false);
+        writer.endSnapshot(true);
+
+        // snapshot which failed to be written must not remove flows which were not processed
+        Mockito.doThrow(new IllegalStateException("Write failed")).when(deviceContext).writeToTransaction(
+                Matchers.eq(LogicalDatastoreType.OPERATIONAL), Matchers.any(InstanceIdentifier.class),
+                Matchers.any(Flow.class));
+        mockFlowStatisticsReplies(2);
+
+        final ListenableFuture<Boolean> gatherStatisticsResult = StatisticsGatheringUtils.gatherStatistics(
+                statisticsService,
+                deviceInfo,
+                MultipartType.OFPMPFLOW,
+                deviceContext,
+                deviceContext,
+                ConvertorManagerFactory.createDefaultManager(),
+                incrementalProvider,
+                MoreExecutors.newDirectExecutorService());
+
+        Assert.assertFalse(gatherStatisticsResult.get(1, TimeUnit.SECONDS));
+        verify(deviceContext, Mockito.never()).addDeleteToTxChain(Matchers.eq(LogicalDatastoreType.OPERATIONAL),
+                Matchers.any(InstanceIdentifier.class));
+
+        // baseline is dropped with failed snapshot
+        Assert.assertFalse(writer.startSnapshot());
+    }
+
+    @Test
+    public void testWriteFlowStatisticsPartialFailure() throws Exception {
+        when(flowDescriptor.getFlowId()).thenReturn(new FlowId("openflow:21"));
+
+        final InstanceIdentifier<FlowCapableNode> nodePath =
+                deviceInfo.getNodeInstanceIdentifier().augmentation(FlowCapableNode.class);
+        when(readTx.read(LogicalDatastoreType.OPERATIONAL, nodePath))
+                .thenReturn(Futures.immediateCheckedFuture(Optional.of(new FlowCapableNodeBuilder().build())));
+
+        // statistics written before failure are still submitted when flow statistics are not incremental
+        Mockito.doNothing().doThrow(new IllegalStateException("Write failed")).when(deviceContext)
+                .writeToTransaction(Matchers.eq(LogicalDatastoreType.OPERATIONAL),
+                        Matchers.any(InstanceIdentifier.class), Matchers.any(Flow.class));
+        mockFlowStatisticsReplies(2);
+
+        final ListenableFuture<Boolean> gatherStatisticsResult = StatisticsGatheringUtils.gatherStatistics(
+                statisticsService,
+                deviceInfo,
+                MultipartType.OFPMPFLOW,
+                deviceContext,
+                deviceContext,
+                ConvertorManagerFactory.createDefaultManager(),
+                provider,
+                MoreExecutors.newDirectExecutorService());
+
+        Assert.assertTrue(gatherStatisticsResult.get(1, TimeUnit.SECONDS));
+        verify(deviceContext).submitTransaction();
+    }
+
+    private void mockFlowStatisticsReplies(final int count) {
+        final List<MultipartReply> replies = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            final FlowStatsBuilder flowStatsBld = new FlowStatsBuilder()
+                    .setByteCount(BigInteger.valueOf(55L + i))
+                    .setPacketCount(BigInteger.valueOf(56L + i))
+                    .setDurationSec(57L)
+                    .setDurationNsec(58L)
+                    .setTableId((short) i)
+                    .setMatch(new org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping
+                            .MatchBuilder().setMatchEntry(Collections.<MatchEntry>emptyList()).build())
+                    .setFlags(new FlowModFlags(true, false, false, false, true));
+            replies.add(assembleMPReplyMessage(MultipartType.OFPMPFLOW, new MultipartReplyFlowCaseBuilder()
+                    .setMultipartReplyFlow(new MultipartReplyFlowBuilder()
+                            .setFlowStats(Lists.newArrayList(flowStatsBld.build()))
+                            .build())
+                    .build()));
+        }
+
+        when(statisticsService.getStatisticsOfType(Matchers.any(EventIdentifier.class),
+                Matchers.eq(MultipartType.OFPMPFLOW)))
+                .thenReturn(Futures.immediateFuture(RpcResultBuilder.success(replies).build()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataTreeModification<Flow> mockFlowRemoval(final InstanceIdentifier<Flow> flowPath) {
+        final DataObjectModification<Flow> rootNode = Mockito.mock(DataObjectModification.class);
+        when(rootNode.getModificationType()).thenReturn(DataObjectModification.ModificationType.DELETE);
+        final DataTreeModification<Flow> modification = Mockito.mock(DataTreeModification.class);
+        when(modification.getRootNode()).thenReturn(rootNode);
+        when(modification.getRootPath())
+                .thenReturn(new DataTreeIdentifier<>(LogicalDatastoreType.OPERATIONAL, flowPath));
+        return modification;
+    }
+
     private Iterable<FlowsStatisticsUpdate> prepareFlowStatisticsData() {
         final FlowAndStatisticsMapListBuilder flowAndStatsMapListBld = new FlowAndStatisticsMapListBuilder();
         flowAndStatsMapListBld.setTableId((short) 42);
@@ -12,6 +12,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.MoreExecutors;
+import io.netty.util.Timer;
 import java.lang.reflect.Field;
 import java.math.BigInteger;
 import java.util.List;
@@ -72,6 +73,8 @@ public class StatisticsManagerImplTest {
     @Mock
     private ConnectionContext mockedPrimConnectionContext;
     @Mock
+    private Timer timer;
+    @Mock
     private FeaturesReply mockedFeatures;
     @Mock
     private ConnectionAdapter mockedConnectionAdapter;
@@ -150,9 +153,13 @@ public class StatisticsManagerImplTest {
                         .setBasicTimerDelay(new NonZeroUint32Type(basicTimerDelay))
                         .setMaximumTimerDelay(new NonZeroUint32Type(maximumTimerDelay))
                         .setIsStatisticsPollingOn(false)
+                        .setEnableIncrementalFlowStatistics(false)
+                        .setEnableAdaptiveStatisticsPolling(false)
                         .build(), rpcProviderRegistry,
                 convertorManager,
-                MoreExecutors.newDirectExecutorService());
+                MoreExecutors.newDirectExecutorService(),
+                timer,
+                dataBroker);
     }
 
     private static Map<DeviceInfo, StatisticsContext> getContextsMap(final StatisticsManagerImpl statisticsManager)
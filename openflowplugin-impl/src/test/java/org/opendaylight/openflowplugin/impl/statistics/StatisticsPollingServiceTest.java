@@ -8,11 +8,23 @@
 
 package org.opendaylight.openflowplugin.impl.statistics;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.junit.Before;
 import org.junit.Test;
@@ -26,6 +38,12 @@ public class StatisticsPollingServiceTest {
     private TimeCounter timeCounter;
     @Mock
     private Supplier<ListenableFuture<Boolean>> gatheringSupplier;
+    @Mock
+    private Timer timer;
+    @Mock
+    private Executor executor;
+    @Mock
+    private Timeout timeout;
 
     private StatisticsPollingService statisticsPollingService;
 
@@ -33,28 +51,49 @@ public class StatisticsPollingServiceTest {
     public void setUp() throws Exception {
         when(timeCounter.getAverageTimeBetweenMarks()).thenReturn(15000L);
         when(gatheringSupplier.get()).thenReturn(Futures.immediateFuture(true));
+        when(timer.newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class))).thenReturn(timeout);
         statisticsPollingService = new StatisticsPollingService(
                 timeCounter, 10000, 12000,
-                gatheringSupplier);
+                gatheringSupplier, timer, executor);
     }
 
     @Test
-    public void startUp() throws Exception {
-        statisticsPollingService.startUp();
+    public void start() throws Exception {
+        statisticsPollingService.start();
         verify(timeCounter).markStart();
+        verify(timer).newTimeout(any(TimerTask.class), anyLong(), eq(TimeUnit.MILLISECONDS));
     }
 
     @Test
     public void runOneIteration() throws Exception {
+        statisticsPollingService.start();
         statisticsPollingService.runOneIteration();
         verify(gatheringSupplier).get();
         verify(timeCounter).addTimeMark();
+        verify(timer).newTimeout(any(TimerTask.class), eq(12000L), eq(TimeUnit.MILLISECONDS));
     }
 
     @Test
-    public void scheduler() throws Exception {
-        statisticsPollingService.scheduler();
+    public void runOneIterationFailed() throws Exception {
+        when(gatheringSupplier.get()).thenReturn(Futures.immediateFailedFuture(new IllegalStateException()));
+        statisticsPollingService.start();
+        statisticsPollingService.runOneIteration();
+        verify(timeCounter).addTimeMark();
+        verify(timeout, times(2)).cancel();
+        assertTrue(statisticsPollingService.stop().isDone());
+    }
+
+    @Test
+    public void computeTimerDelay() throws Exception {
+        assertEquals(12000L, statisticsPollingService.computeTimerDelay());
         verify(timeCounter).getAverageTimeBetweenMarks();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void stop() throws Exception {
+        statisticsPollingService.start();
+        assertNull(statisticsPollingService.stop().get());
+        verify(timeout).cancel();
+    }
+
+}
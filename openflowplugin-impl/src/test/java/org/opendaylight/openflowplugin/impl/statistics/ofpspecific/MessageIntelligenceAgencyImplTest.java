@@ -26,6 +26,19 @@ public class MessageIntelligenceAgencyImplTest {
                 "FROM_SWITCH: MSG[String] -> +1 | 1", "TO_SWITCH_ENTERED: MSG[Integer] -> +1 | 1");
     }
 
+    @Test
+    public void testMessageIntelligenceAgencyValues() {
+        final MessageIntelligenceAgencyImpl messageIntelligenceAgency = new MessageIntelligenceAgencyImpl();
+        messageIntelligenceAgency.spyMessage(String.class, MessageSpy.StatisticsGroup.TO_SWITCH_POSTPONED_RESUMED, 10);
+        messageIntelligenceAgency.spyMessage(String.class, MessageSpy.StatisticsGroup.TO_SWITCH_POSTPONED_RESUMED, 30);
+        findExpectedStatistics(messageIntelligenceAgency.provideIntelligence(),
+                "TO_SWITCH_POSTPONED_RESUMED: MSG[String] -> +2 | 2, value avg 20 | max 30");
+
+        messageIntelligenceAgency.spyMessage(String.class, MessageSpy.StatisticsGroup.TO_SWITCH_POSTPONED_RESUMED, 5);
+        findExpectedStatistics(messageIntelligenceAgency.provideIntelligence(),
+                "TO_SWITCH_POSTPONED_RESUMED: MSG[String] -> +1 | 3, value avg 15 | max 30");
+    }
+
     private void findExpectedStatistics(final List<String> statisticsInfo, String ... expectedValues) {
         for (String expectedValue : expectedValues) {
             assertTrue("Expected value " + expectedValue + "wasn't found.",
@@ -26,6 +26,7 @@ import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceState;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorManager;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorManagerFactory;
+import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.data.VersionDatapathIdConvertorData;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.node.NodeConnector;
@@ -48,6 +49,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessageBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.features.reply.PhyPort;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceived;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceivedBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.packet.received.Match;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
@@ -117,6 +119,39 @@ public class PacketReceivedTranslatorTest {
         Assert.assertEquals(42L, packetReceived.getTableId().getValue().longValue());
     }
 
+    @Test
+    public void testTranslateMatchLazily() throws Exception {
+        final ConvertorManager convertorSpy = Mockito.spy(convertorManager);
+        final PacketReceivedTranslator packetReceivedTranslator = new PacketReceivedTranslator(convertorSpy);
+        final PacketInMessage packetInMessage = createPacketInMessage(DATA.getBytes(), PORT_NO);
+
+        final PacketReceived packetReceived = packetReceivedTranslator.translate(packetInMessage, deviceInfo, null);
+        Mockito.verify(convertorSpy, Mockito.never()).convert(
+                Mockito.any(org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping
+                        .Match.class), Mockito.any(VersionDatapathIdConvertorData.class));
+
+        Assert.assertEquals("openflow:10:" + PORT_NO, packetReceived.getMatch().getInPort().getValue());
+        Assert.assertSame(packetReceived.getMatch(), packetReceived.getMatch());
+        Mockito.verify(convertorSpy).convert(
+                Mockito.any(org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping
+                        .Match.class), Mockito.any(VersionDatapathIdConvertorData.class));
+    }
+
+    @Test
+    public void testTranslatedEqualsBuilt() throws Exception {
+        final PacketReceivedTranslator packetReceivedTranslator = new PacketReceivedTranslator(convertorManager);
+        final PacketInMessage packetInMessage = createPacketInMessage(DATA.getBytes(), PORT_NO);
+
+        final PacketReceived packetReceived = packetReceivedTranslator.translate(packetInMessage, deviceInfo, null);
+        final PacketReceived built = new PacketReceivedBuilder(packetReceived).build();
+
+        Assert.assertEquals(built, packetReceived);
+        Assert.assertEquals(packetReceived, built);
+        Assert.assertEquals(built.hashCode(), packetReceived.hashCode());
+        Assert.assertEquals(packetReceived, packetReceivedTranslator.translate(packetInMessage, deviceInfo, null));
+        Assert.assertNotEquals(packetReceived, new PacketReceivedBuilder(built).setTableId(null).build());
+    }
+
     private static PacketInMessage createPacketInMessage(final byte[] data,
                                                          final long port) {
         final PacketInReason reason = PacketInReason.OFPRACTION;
@@ -10,11 +10,23 @@ package org.opendaylight.openflowplugin.impl.util;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Collections;
+import java.util.List;
 import org.junit.Test;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.MacAddress;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.FlowWildcardsV10;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeConnectorId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.v10.grouping.MatchV10Builder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.ExtensionKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNotifPacketIn;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNotifPacketInBatch;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNotifPacketInBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.general.extension.grouping.ExtensionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.general.extension.list.grouping.ExtensionList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.general.extension.list.grouping.ExtensionListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.batch.rev171018.packet.received.batch.packet.Match;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.packet.received.MatchBuilder;
 
 public class MatchUtilTest {
 
@@ -28,6 +40,26 @@ public class MatchUtilTest {
         assertEquals(expectedV10Match.build(),emptyV10Match.build());
     }
 
+    @Test
+    public void transformPacketReceivedMatchToBatchTest() {
+        final List<ExtensionList> extensionLists = Collections.singletonList(new ExtensionListBuilder()
+                .setExtensionKey(ExtensionKey.class)
+                .setExtension(new ExtensionBuilder().build())
+                .build());
+        final NodeConnectorId inPort = new NodeConnectorId("openflow:1:1");
+
+        final Match batchMatch = MatchUtil.transformMatch(new MatchBuilder()
+                .setInPort(inPort)
+                .addAugmentation(GeneralAugMatchNotifPacketIn.class, new GeneralAugMatchNotifPacketInBuilder()
+                        .setExtensionList(extensionLists)
+                        .build())
+                .build(), Match.class);
+
+        assertEquals(inPort, batchMatch.getInPort());
+        assertEquals(extensionLists, batchMatch.getAugmentation(GeneralAugMatchNotifPacketInBatch.class)
+                .getExtensionList());
+    }
+
     private MatchV10Builder expectedV10Match() {
         Short zeroShort = Short.valueOf("0");
         Integer zeroInteger = 0;